@@ -17,6 +17,7 @@ dependencies {
     implementation(libs.spotbugs.plugin)
     implementation(libs.helm.plugin)
     implementation(libs.helm.releases.plugin)
+    implementation(libs.jmh.plugin)
 
     implementation(files(libs.javaClass.superclass.protectionDomain.codeSource.location))
 
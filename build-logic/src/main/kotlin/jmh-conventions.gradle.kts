@@ -0,0 +1,37 @@
+import com.github.spotbugs.snom.SpotBugsTask
+import net.ltgt.gradle.errorprone.errorprone
+import org.gradle.accessors.dm.LibrariesForLibs
+
+plugins {
+    id("java-conventions")
+    id("me.champeau.jmh")
+}
+
+val libs = the<LibrariesForLibs>()
+
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    includeTests = false
+    resultFormat = "JSON"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+}
+
+dependencies {
+    jmhImplementation(platform(project(":platform")))
+    jmhImplementation(libs.jmh.core)
+
+    jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    options.errorprone {
+        disable("NullAway")
+        disableWarningsInGeneratedCode = true
+    }
+}
+
+tasks.withType<SpotBugsTask>().matching { it.name == "spotbugsJmh" }.configureEach {
+    enabled = false
+}
@@ -205,6 +205,17 @@ Internal HTTP URL of the query service (used by the API gateway to route request
     {{- printf "http://%s:%d" (include "axon-showcase.query-service.fullname" $) (.Values.queryService.containerPorts.server | int) }}
 {{- end }}
 
+{{- define "axon-showcase.command-service.headless.fullname" }}
+    {{- printf "%s-headless" (include "axon-showcase.command-service.fullname" $) | trunc 63 | trimSuffix "-" }}
+{{- end }}
+
+{{- /*
+RSocket members of the command bus: the headless service of the command service, whose DNS records list the ready pods.
+*/ -}}
+{{- define "axon-showcase.command-service.rsocket.members" }}
+    {{- printf "%s.%s.svc.%s:%d" (include "axon-showcase.command-service.headless.fullname" $) (include "common.names.namespace" $) .Values.clusterDomain (.Values.commandService.containerPorts.rsocket | int) }}
+{{- end }}
+
 {{- define "axon-showcase.api-gateway.fullname" }}
     {{- printf "%s-%s" (include "common.names.fullname" $) "api-gateway" | trunc 63 | trimSuffix "-" }}
 {{- end }}
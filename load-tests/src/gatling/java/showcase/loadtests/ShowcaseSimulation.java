@@ -24,6 +24,7 @@ import static io.gatling.javaapi.core.CoreDsl.randomSwitchOrElse;
 import static io.gatling.javaapi.core.CoreDsl.scenario;
 import static io.gatling.javaapi.core.CoreDsl.stressPeakUsers;
 import static io.gatling.javaapi.core.OpenInjectionStep.atOnceUsers;
+import static io.gatling.javaapi.http.HttpDsl.header;
 import static io.gatling.javaapi.http.HttpDsl.http;
 import static io.gatling.javaapi.http.HttpDsl.status;
 import static showcase.command.RandomCommandTestUtils.aShowcaseDuration;
@@ -56,7 +57,11 @@ public class ShowcaseSimulation extends Simulation {
     private static final HttpRequestActionBuilder fetchShowcases = http("FetchShowcases").get("/showcases");
 
     private static final HttpRequestActionBuilder fetchShowcase =
-            http("FetchShowcase").get(session -> "/showcases/%s".formatted(session.getString("showcaseId")));
+            http("FetchShowcase").get(session -> session.contains("consistencyToken")
+                                                 ? "/showcases/%s?consistencyToken=%s".formatted(
+                                                         session.getString("showcaseId"),
+                                                         session.getString("consistencyToken"))
+                                                 : "/showcases/%s".formatted(session.getString("showcaseId")));
 
     private static final ScenarioBuilder scenario =
             scenario("Showcase")
@@ -66,20 +71,29 @@ public class ShowcaseSimulation extends Simulation {
                                 exec(session -> session.set("title", aShowcaseTitle())
                                                        .set("startTime", aShowcaseStartTime(Instant.now()))
                                                        .set("duration", aShowcaseDuration())),
-                                scheduleShowcase.check(status().is(201), jsonPath("$.showcaseId").saveAs("showcaseId")),
+                                scheduleShowcase.check(
+                                        status().is(201),
+                                        jsonPath("$.showcaseId").saveAs("showcaseId"),
+                                        header("Consistency-Token").optional().saveAs("consistencyToken")),
                                 randomSwitchOrElse().on(percent(95).then(exitHere())).orElse(
                                         doWhileDuring("#{responseStatus} != 200", Duration.ofMinutes(5))
                                                 .on(pause(Duration.ofMillis(500)),
                                                     fetchShowcase.check(
                                                             status().in(200, 404).saveAs("responseStatus"))),
-                                        startShowcase.check(status().is(200)),
+                                        startShowcase.check(
+                                                status().is(200),
+                                                header("Consistency-Token").optional().saveAs("consistencyToken")),
                                         randomSwitchOrElse().on(percent(95).then(exitHere())).orElse(
                                                 doWhileDuring("#{showcaseStatus} != \"STARTED\"", Duration.ofMinutes(5))
                                                         .on(pause(Duration.ofMillis(500)),
                                                             fetchShowcase.check(
                                                                     status().in(200, 404),
                                                                     jsonPath("$.status").saveAs("showcaseStatus"))),
-                                                finishShowcase.check(status().is(200)),
+                                                finishShowcase.check(
+                                                        status().is(200),
+                                                        header("Consistency-Token")
+                                                                .optional()
+                                                                .saveAs("consistencyToken")),
                                                 randomSwitchOrElse().on(percent(95).then(exitHere())).orElse(
                                                         doWhileDuring("#{showcaseStatus} != \"FINISHED\"",
                                                                       Duration.ofMinutes(5))
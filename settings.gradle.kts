@@ -18,6 +18,10 @@ include(
     "showcase-identifier-extension",
     "showcase-mapstruct-extension",
     "showcase-resilience4j-extension",
+    "showcase-jgroups-extension",
+    "showcase-rsocket-extension",
+    "showcase-validation-extension",
+    "showcase-serialization-extension",
     "showcase-test",
     "showcase-command-api",
     "showcase-command-service",
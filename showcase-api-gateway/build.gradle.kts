@@ -14,13 +14,19 @@ dependencies {
 
     implementation(project(":showcase-command-client"))
     implementation(project(":showcase-query-client"))
+    implementation(project(":showcase-jgroups-extension"))
+    implementation(project(":showcase-rsocket-extension"))
+    implementation(project(":showcase-serialization-extension"))
 
     implementation(libs.axon.springBoot.starter) {
         exclude(group = libs.axon.serverConnector.get().group, module = libs.axon.serverConnector.get().name)
     }
     implementation(libs.axon.extensions.jgroups.springBootStarter)
+    implementation(libs.axon.extensions.kafka.springBootStarter)
     implementation(libs.axon.extensions.reactor.springBootStarter)
 
+    implementation(libs.reactor.kafka)
+
     implementation(libs.jgroups.kunernetes)
 
     implementation(libs.spring.boot.starter.aop)
@@ -74,10 +80,14 @@ testing {
                 implementation(libs.spring.boot.starter.security)
                 implementation(libs.spring.boot.starter.test)
                 implementation(libs.spring.boot.starter.webflux)
+                implementation(libs.axon.extensions.kafka)
                 implementation(libs.caffeine)
                 implementation(libs.streamex)
+                implementation(libs.micrometer.core)
                 implementation(libs.netty.resolver.dnsNativeMacos)
                 implementation(libs.reactor.blockhound)
+                implementation(libs.reactor.kafka)
+                implementation(libs.reactor.test)
                 implementation(libs.reactor.tools)
                 implementation(libs.resilience4j.all)
             }
@@ -100,6 +110,7 @@ testing {
             dependencies {
                 implementation(project(":showcase-command-client"))
                 implementation(project(":showcase-query-client"))
+                implementation(project(":showcase-serialization-extension"))
 
                 implementation(libs.axon.springBoot.starter) {
                     exclude(
@@ -108,6 +119,7 @@ testing {
                     )
                 }
                 implementation(libs.axon.extensions.jgroups.springBootStarter)
+                implementation(libs.axon.extensions.kafka.springBootStarter)
                 implementation(libs.axon.extensions.reactor.springBootStarter)
                 implementation(libs.axon.micrometer)
                 implementation(libs.axon.tracing.opentelemetry)
@@ -138,6 +150,7 @@ testing {
                 implementation(libs.micrometer.tracing.bridge.otel)
                 implementation(libs.opentelemetry.exporter.otlp)
 
+                implementation(libs.reactor.kafka)
                 implementation(libs.reactor.test)
                 implementation(libs.netty.resolver.dnsNativeMacos)
             }
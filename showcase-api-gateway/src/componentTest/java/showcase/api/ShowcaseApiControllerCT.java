@@ -8,6 +8,7 @@ import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
 import org.axonframework.commandhandling.NoHandlerForCommandException;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +19,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -30,8 +32,10 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity.CsrfSpec;
 import org.springframework.security.web.server.SecurityWebFilterChain;
@@ -57,11 +61,13 @@ import showcase.query.ShowcaseQueryErrorCode;
 import showcase.query.ShowcaseQueryErrorDetails;
 import showcase.query.ShowcaseQueryException;
 import showcase.query.ShowcaseQueryOperations;
+import showcase.query.ShowcaseStatus;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 
 import static io.github.resilience4j.circuitbreaker.CallNotPermittedException.createCallNotPermittedException;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -75,7 +81,9 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
 import static org.springframework.security.web.server.header.CacheControlServerHttpHeadersWriter.CACHE_CONTRTOL_VALUE;
+import static showcase.api.ShowcaseApi.CONSISTENCY_TOKEN_HEADER;
 import static showcase.api.ShowcaseApi.IDEMPOTENCY_KEY_HEADER;
 import static showcase.command.RandomCommandTestUtils.aShowcaseDuration;
 import static showcase.command.RandomCommandTestUtils.aShowcaseId;
@@ -83,6 +91,7 @@ import static showcase.command.RandomCommandTestUtils.aShowcaseStartTime;
 import static showcase.command.RandomCommandTestUtils.aShowcaseTitle;
 import static showcase.command.RandomCommandTestUtils.anInvalidShowcaseId;
 import static showcase.query.RandomQueryTestUtils.aShowcase;
+import static showcase.query.RandomQueryTestUtils.aShowcaseConsistencyToken;
 import static showcase.query.RandomQueryTestUtils.showcases;
 import static showcase.test.RandomTestUtils.anAlphabeticString;
 import static showcase.test.RandomTestUtils.anEnum;
@@ -188,6 +197,9 @@ class ShowcaseApiControllerCT {
     @MockitoBean
     private ShowcaseQueryOperations showcaseQueryOperations;
 
+    @MockitoBean
+    private ShowcaseStatusStream statusStream;
+
     @Autowired
     private AsyncCache<@NonNull FetchShowcaseListQuery, List<String>> fetchShowcaseListCache;
 
@@ -505,6 +517,31 @@ class ShowcaseApiControllerCT {
         verifyNoMoreInteractions(showcaseCommandOperations);
     }
 
+    @Test
+    @DisplayName("Starting a showcase responds with OK status and the consistency token answered by the command")
+    void startShowcase_successWithConsistencyToken_respondsWithOkStatusAndConsistencyTokenHeader() {
+        val showcaseId = aShowcaseId();
+
+        given(showcaseCommandOperations.start(any())).willReturn(Mono.just(1L));
+
+        webClient.put()
+                 .uri("/showcases/{showcaseId}/start", showcaseId)
+                 .exchange()
+                 .expectStatus()
+                 .isOk()
+                 .expectHeader()
+                 .valueEquals(CONSISTENCY_TOKEN_HEADER, showcaseId + ".1")
+                 .expectBody()
+                 .isEmpty();
+
+        verify(showcaseCommandOperations).start(
+                StartShowcaseCommand
+                        .builder()
+                        .showcaseId(showcaseId)
+                        .build());
+        verifyNoMoreInteractions(showcaseCommandOperations);
+    }
+
     @Test
     @DisplayName("Starting a showcase with an invalid showcase ID responds with bad request and a problem in the body")
     void startShowcase_invalidShowcaseId_respondsWithBadRequestStatusAndProblemInBody() {
@@ -1230,6 +1267,49 @@ class ShowcaseApiControllerCT {
         });
     }
 
+    @Test
+    @DisplayName("Fetching by ID with a consistency token passes it with the query and responds with the showcase")
+    void fetchShowcaseById_withConsistencyToken_passesConsistencyTokenAndRespondsWithOkStatusAndShowcaseInBody() {
+        val showcase = aShowcase();
+        val consistencyToken = aShowcaseConsistencyToken(showcase.showcaseId());
+        val query = FetchShowcaseByIdQuery
+                            .builder()
+                            .showcaseId(showcase.showcaseId())
+                            .consistencyToken(consistencyToken)
+                            .build();
+
+        given(showcaseQueryOperations.fetchById(query)).willReturn(Mono.just(showcase));
+
+        webClient.get()
+                 .uri("/showcases/{showcaseId}?consistencyToken={consistencyToken}",
+                      showcase.showcaseId(), consistencyToken.toString())
+                 .exchange()
+                 .expectStatus()
+                 .isOk()
+                 .expectBody(Showcase.class)
+                 .isEqualTo(showcase);
+
+        verify(showcaseQueryOperations).fetchById(query);
+        verifyNoMoreInteractions(showcaseQueryOperations);
+    }
+
+    @Test
+    @DisplayName("Fetching by ID with an invalid consistency token responds with bad request and a problem in the body")
+    void fetchShowcaseById_invalidConsistencyToken_respondsWithBadRequestStatusAndProblemInBody() {
+        webClient.get()
+                 .uri("/showcases/{showcaseId}?consistencyToken={consistencyToken}", aShowcaseId(), "invalid")
+                 .exchange()
+                 .expectStatus()
+                 .isBadRequest()
+                 .expectHeader()
+                 .contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON)
+                 .expectBody()
+                 .jsonPath("$.detail").isEqualTo("Invalid request.")
+                 .jsonPath("$.paramErrors.consistencyToken").isArray();
+
+        verifyNoInteractions(showcaseQueryOperations);
+    }
+
     @Test
     @DisplayName("Fetching by ID with an invalid showcase ID responds with bad request and a problem in the body")
     void fetchShowcaseById_invalidShowcaseId_respondsWithBadRequestStatusAndProblemInBody() {
@@ -1467,4 +1547,101 @@ class ShowcaseApiControllerCT {
         verify(showcaseQueryOperations).fetchById(query);
         verifyNoMoreInteractions(showcaseQueryOperations);
     }
+
+    @Test
+    @DisplayName("Streaming a showcase responds with its status changes as server-sent events until its removal")
+    void streamShowcaseById_success_respondsWithStatusChangesUntilRemoval() {
+        val showcaseId = aShowcaseId();
+        val started = aStatusChange(showcaseId, ShowcaseStatus.STARTED, 1);
+        val removed = aStatusChange(showcaseId, null, 2);
+
+        given(statusStream.events(any())).willReturn(Flux.just(
+                serverSentEvent(started), serverSentEvent(removed), serverSentEvent(started)));
+
+        val events =
+                webClient.get()
+                         .uri("/showcases/{showcaseId}/events", showcaseId)
+                         .accept(TEXT_EVENT_STREAM)
+                         .exchange()
+                         .expectStatus()
+                         .isOk()
+                         .expectHeader()
+                         .contentTypeCompatibleWith(TEXT_EVENT_STREAM)
+                         .expectBodyList(new ParameterizedTypeReference<ServerSentEvent<ShowcaseStatusChange>>() {
+                         })
+                         .returnResult()
+                         .getResponseBody();
+
+        assertThat(events).isNotNull();
+        assertThat(events).map(ServerSentEvent::data).containsExactly(started, removed);
+        assertThat(events).map(ServerSentEvent::event).containsExactly("STARTED", "REMOVED");
+
+        val filterCaptor = ArgumentCaptor.<Predicate<ShowcaseStatusChange>>captor();
+        verify(statusStream).events(filterCaptor.capture());
+        assertThat(filterCaptor.getValue()).accepts(started)
+                                           .rejects(aStatusChange(aShowcaseId(), ShowcaseStatus.STARTED, 1));
+        verifyNoInteractions(showcaseQueryOperations);
+    }
+
+    @Test
+    @DisplayName("Streaming a showcase with an invalid showcase ID responds with bad request and a problem in the body")
+    void streamShowcaseById_invalidShowcaseId_respondsWithBadRequestStatusAndProblemInBody() {
+        webClient.get()
+                 .uri("/showcases/{showcaseId}/events", anInvalidShowcaseId())
+                 .exchange()
+                 .expectStatus()
+                 .isBadRequest()
+                 .expectBody()
+                 .jsonPath("$.detail").isEqualTo("Invalid request.")
+                 .jsonPath("$.pathErrors.showcaseId").isArray();
+
+        verifyNoInteractions(statusStream);
+    }
+
+    @Test
+    @DisplayName("Streaming the list filters the status changes by the given statuses, letting the removals through")
+    void streamShowcaseList_withStatuses_filtersStatusChangesByStatuses() {
+        val started = aStatusChange(aShowcaseId(), ShowcaseStatus.STARTED, 1);
+
+        given(statusStream.events(any())).willReturn(Flux.just(serverSentEvent(started)));
+
+        webClient.get()
+                 .uri("/showcases/events?status=STARTED&status=FINISHED")
+                 .accept(TEXT_EVENT_STREAM)
+                 .exchange()
+                 .expectStatus()
+                 .isOk()
+                 .expectBodyList(new ParameterizedTypeReference<ServerSentEvent<ShowcaseStatusChange>>() {
+                 })
+                 .hasSize(1);
+
+        val filterCaptor = ArgumentCaptor.<Predicate<ShowcaseStatusChange>>captor();
+        verify(statusStream).events(filterCaptor.capture());
+        assertThat(filterCaptor.getValue())
+                .accepts(started,
+                         aStatusChange(aShowcaseId(), ShowcaseStatus.FINISHED, 2),
+                         aStatusChange(aShowcaseId(), null, 3))
+                .rejects(aStatusChange(aShowcaseId(), ShowcaseStatus.SCHEDULED, 0));
+    }
+
+    private static ShowcaseStatusChange aStatusChange(
+            String showcaseId, @Nullable ShowcaseStatus status, long sequenceNumber) {
+        return ShowcaseStatusChange
+                       .builder()
+                       .showcaseId(showcaseId)
+                       .status(status)
+                       .removed(status == null)
+                       .changedAt(Instant.now())
+                       .sequenceNumber(sequenceNumber)
+                       .build();
+    }
+
+    private static ServerSentEvent<ShowcaseStatusChange> serverSentEvent(ShowcaseStatusChange change) {
+        val status = change.status();
+        return ServerSentEvent
+                       .builder(change)
+                       .id(change.showcaseId() + "." + change.sequenceNumber())
+                       .event(status != null ? status.name() : ShowcaseStatusStream.REMOVED_EVENT_NAME)
+                       .build();
+    }
 }
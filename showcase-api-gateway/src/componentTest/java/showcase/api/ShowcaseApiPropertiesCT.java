@@ -14,6 +14,8 @@ import org.springframework.boot.test.context.ConfigDataApplicationContextInitial
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.SystemEnvironmentPropertySource;
+import showcase.api.ShowcaseApiProperties.CommandBusTransport;
+import showcase.api.ShowcaseApiProperties.RSocketDiscoveryMode;
 
 import java.time.Duration;
 import java.util.List;
@@ -52,6 +54,24 @@ class ShowcaseApiPropertiesCT {
                 assertThat(cache.getExpiresAfterAccess()).isEqualTo(Duration.ofMinutes(10));
                 assertThat(cache.getExpiresAfterWrite()).isEqualTo(Duration.ofMinutes(5));
             });
+            assertThat(properties.getCommandBusTransport()).isEqualTo(CommandBusTransport.JGROUPS);
+            assertThat(properties.getRsocket()).satisfies(rsocket -> {
+                assertThat(rsocket.getDiscovery()).isEqualTo(RSocketDiscoveryMode.STATIC);
+                assertThat(rsocket.getMembers()).containsExactly("localhost:7900");
+                assertThat(rsocket.getRefreshInterval()).isEqualTo(Duration.ofSeconds(5));
+                assertThat(rsocket.getMaxInFlight()).isEqualTo(256);
+                assertThat(rsocket.getQueueCapacity()).isEqualTo(1024);
+                assertThat(rsocket.getRequestTimeout()).isEqualTo(Duration.ofSeconds(30));
+            });
+            assertThat(properties.getCommandBatching()).satisfies(commandBatching -> {
+                assertThat(commandBatching.isEnabled()).isFalse();
+                assertThat(commandBatching.getMaxBatchSize()).isEqualTo(32);
+                assertThat(commandBatching.getMaxDelay()).isEqualTo(Duration.ofMillis(2));
+            });
+            assertThat(properties.getStatusStream()).satisfies(statusStream -> {
+                assertThat(statusStream.getBufferSize()).isEqualTo(256);
+                assertThat(statusStream.getHeartbeatInterval()).isEqualTo(Duration.ofSeconds(15));
+            });
         });
     }
 
@@ -71,6 +91,18 @@ class ShowcaseApiPropertiesCT {
                 assertThat(cache.getExpiresAfterAccess()).isEqualTo(Duration.ofMinutes(10));
                 assertThat(cache.getExpiresAfterWrite()).isEqualTo(Duration.ofMinutes(5));
             });
+            assertThat(properties.getCommandBusTransport()).isEqualTo(CommandBusTransport.JGROUPS);
+            assertThat(properties.getRsocket().getDiscovery()).isEqualTo(RSocketDiscoveryMode.STATIC);
+            assertThat(properties.getRsocket().getMembers()).containsExactly("localhost:7900");
+            assertThat(properties.getRsocket().getRefreshInterval()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(properties.getRsocket().getMaxInFlight()).isEqualTo(256);
+            assertThat(properties.getRsocket().getQueueCapacity()).isEqualTo(1024);
+            assertThat(properties.getRsocket().getRequestTimeout()).isEqualTo(Duration.ofSeconds(30));
+            assertThat(properties.getCommandBatching().isEnabled()).isFalse();
+            assertThat(properties.getCommandBatching().getMaxBatchSize()).isEqualTo(32);
+            assertThat(properties.getCommandBatching().getMaxDelay()).isEqualTo(Duration.ofMillis(2));
+            assertThat(properties.getStatusStream().getBufferSize()).isEqualTo(256);
+            assertThat(properties.getStatusStream().getHeartbeatInterval()).isEqualTo(Duration.ofSeconds(15));
             assertThat(context.getEnvironment().getProperty("showcase.query.api-url"))
                     .isEqualTo("http://localhost:8084");
         });
@@ -132,6 +164,72 @@ class ShowcaseApiPropertiesCT {
                             (Consumer<ShowcaseApiProperties>) properties -> {
                                 assertThat(cacheFor(properties, byIdCache).getExpiresAfterWrite())
                                         .isEqualTo(Duration.ofMinutes(15));
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BUS_TRANSPORT",
+                            Map.of("SHOWCASE_COMMAND_BUS_TRANSPORT", "rsocket"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getCommandBusTransport()).isEqualTo(CommandBusTransport.RSOCKET);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_DISCOVERY",
+                            Map.of("SHOWCASE_RSOCKET_DISCOVERY", "kubernetes"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getRsocket().getDiscovery())
+                                        .isEqualTo(RSocketDiscoveryMode.KUBERNETES);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_MEMBERS",
+                            Map.of("SHOWCASE_RSOCKET_MEMBERS", "host-a:7901,host-b:7902"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getRsocket().getMembers())
+                                        .containsExactly("host-a:7901", "host-b:7902");
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_REFRESH_INTERVAL",
+                            Map.of("SHOWCASE_RSOCKET_REFRESH_INTERVAL", "PT10S"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getRsocket().getRefreshInterval())
+                                        .isEqualTo(Duration.ofSeconds(10));
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_MAX_IN_FLIGHT",
+                            Map.of("SHOWCASE_RSOCKET_MAX_IN_FLIGHT", "512"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getRsocket().getMaxInFlight()).isEqualTo(512);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_QUEUE_CAPACITY",
+                            Map.of("SHOWCASE_RSOCKET_QUEUE_CAPACITY", "2048"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getRsocket().getQueueCapacity()).isEqualTo(2048);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_REQUEST_TIMEOUT",
+                            Map.of("SHOWCASE_RSOCKET_REQUEST_TIMEOUT", "PT5S"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getRsocket().getRequestTimeout())
+                                        .isEqualTo(Duration.ofSeconds(5));
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_ENABLED",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_ENABLED", "true"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getCommandBatching().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE", "64"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getCommandBatching().getMaxBatchSize()).isEqualTo(64);
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_DELAY",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_DELAY", "PT0.005S"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getCommandBatching().getMaxDelay())
+                                        .isEqualTo(Duration.ofMillis(5));
+                            }),
+                argumentSet("SHOWCASE_STATUS_STREAM_BUFFER_SIZE",
+                            Map.of("SHOWCASE_STATUS_STREAM_BUFFER_SIZE", "1024"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getStatusStream().getBufferSize()).isEqualTo(1024);
+                            }),
+                argumentSet("SHOWCASE_STATUS_STREAM_HEARTBEAT_INTERVAL",
+                            Map.of("SHOWCASE_STATUS_STREAM_HEARTBEAT_INTERVAL", "PT30S"),
+                            (Consumer<ShowcaseApiProperties>) properties -> {
+                                assertThat(properties.getStatusStream().getHeartbeatInterval())
+                                        .isEqualTo(Duration.ofSeconds(30));
                             })
         );
     }
@@ -158,7 +256,21 @@ class ShowcaseApiPropertiesCT {
                 argumentSet("FETCH_SHOWCASE_LIST_QUERY_CACHE_EXPIRES_AFTER_ACCESS",
                             Map.of("FETCH_SHOWCASE_LIST_QUERY_CACHE_EXPIRES_AFTER_ACCESS", "PT-1S")),
                 argumentSet("FETCH_SHOWCASE_BY_ID_QUERY_CACHE_EXPIRES_AFTER_ACCESS",
-                            Map.of("FETCH_SHOWCASE_BY_ID_QUERY_CACHE_EXPIRES_AFTER_ACCESS", "PT-1S"))
+                            Map.of("FETCH_SHOWCASE_BY_ID_QUERY_CACHE_EXPIRES_AFTER_ACCESS", "PT-1S")),
+                argumentSet("SHOWCASE_RSOCKET_MEMBERS", Map.of("SHOWCASE_RSOCKET_MEMBERS", "")),
+                argumentSet("SHOWCASE_RSOCKET_REFRESH_INTERVAL",
+                            Map.of("SHOWCASE_RSOCKET_REFRESH_INTERVAL", "PT0.01S")),
+                argumentSet("SHOWCASE_RSOCKET_MAX_IN_FLIGHT", Map.of("SHOWCASE_RSOCKET_MAX_IN_FLIGHT", "0")),
+                argumentSet("SHOWCASE_RSOCKET_QUEUE_CAPACITY", Map.of("SHOWCASE_RSOCKET_QUEUE_CAPACITY", "0")),
+                argumentSet("SHOWCASE_RSOCKET_REQUEST_TIMEOUT", Map.of("SHOWCASE_RSOCKET_REQUEST_TIMEOUT", "PT0S")),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE", "0")),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_DELAY",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_DELAY", "PT2S")),
+                argumentSet("SHOWCASE_STATUS_STREAM_BUFFER_SIZE",
+                            Map.of("SHOWCASE_STATUS_STREAM_BUFFER_SIZE", "0")),
+                argumentSet("SHOWCASE_STATUS_STREAM_HEARTBEAT_INTERVAL",
+                            Map.of("SHOWCASE_STATUS_STREAM_HEARTBEAT_INTERVAL", "PT0.5S"))
         );
     }
 
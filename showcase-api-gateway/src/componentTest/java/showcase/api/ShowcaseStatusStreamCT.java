@@ -0,0 +1,132 @@
+package showcase.api;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.extensions.kafka.KafkaProperties;
+import org.axonframework.extensions.kafka.eventhandling.KafkaMessageConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+import showcase.command.ShowcaseEvent;
+import showcase.command.ShowcaseRemovedEvent;
+import showcase.command.ShowcaseStartedEvent;
+import showcase.query.ShowcaseStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static showcase.command.RandomCommandTestUtils.aShowcaseDuration;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+
+@DisplayName("Showcase status stream component tests")
+class ShowcaseStatusStreamCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ShowcaseStatusStream statusStream = newStatusStream(2);
+
+    @Test
+    @DisplayName("A consumed showcase event is fanned out as a status change to every matching subscriber")
+    void publish_showcaseEvent_fansOutStatusChangeToMatchingSubscribers() {
+        val showcaseId = aShowcaseId();
+        val startedAt = Instant.now();
+
+        StepVerifier.create(statusStream.changes(change -> true)
+                                        .mergeWith(statusStream.changes(change -> change.showcaseId()
+                                                                                        .equals(showcaseId)))
+                                        .take(2))
+                    .then(() -> statusStream.publish(domainEvent(startedEvent(showcaseId, startedAt), 1)))
+                    .expectNext(ShowcaseStatusChange
+                                        .builder()
+                                        .showcaseId(showcaseId)
+                                        .status(ShowcaseStatus.STARTED)
+                                        .changedAt(startedAt)
+                                        .sequenceNumber(1)
+                                        .build())
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+        assertThat(meterRegistry.get("showcaseStatusStream.consumed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("showcaseStatusStream.delivered").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("showcaseStatusStream.subscriptions").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("A removal is streamed as a status change without status")
+    void publish_removedEvent_streamsRemovalWithoutStatus() {
+        val showcaseId = aShowcaseId();
+        val removedAt = Instant.now();
+
+        StepVerifier.create(statusStream.changes(change -> true).take(1))
+                    .then(() -> statusStream.publish(domainEvent(
+                            ShowcaseRemovedEvent
+                                    .builder()
+                                    .showcaseId(showcaseId)
+                                    .removedAt(removedAt)
+                                    .build(),
+                            2)))
+                    .assertNext(change -> {
+                        assertThat(change.status()).isNull();
+                        assertThat(change.removed()).isTrue();
+                        assertThat(change.changedAt()).isEqualTo(removedAt);
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("An event message that is not a showcase domain event is ignored")
+    void publish_otherMessage_isIgnored() {
+        StepVerifier.create(statusStream.changes(change -> true))
+                    .then(() -> statusStream.publish(GenericEventMessage.asEventMessage("event")))
+                    .expectNoEvent(Duration.ofMillis(100))
+                    .thenCancel()
+                    .verify();
+
+        assertThat(meterRegistry.get("showcaseStatusStream.consumed").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("A slow subscriber drops its oldest status changes beyond the buffer size")
+    void publish_slowSubscriber_dropsOldestStatusChanges() {
+        val showcaseId = aShowcaseId();
+
+        StepVerifier.create(statusStream.changes(change -> true), 0)
+                    .then(() -> {
+                        for (var sequenceNumber = 0; sequenceNumber < 4; sequenceNumber++) {
+                            statusStream.publish(domainEvent(startedEvent(showcaseId, Instant.now()), sequenceNumber));
+                        }
+                    })
+                    .thenRequest(2)
+                    .assertNext(change -> assertThat(change.sequenceNumber()).isEqualTo(2))
+                    .assertNext(change -> assertThat(change.sequenceNumber()).isEqualTo(3))
+                    .thenCancel()
+                    .verify();
+
+        assertThat(meterRegistry.get("showcaseStatusStream.dropped").counter().count()).isEqualTo(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ShowcaseStatusStream newStatusStream(int bufferSize) {
+        val apiProperties = new ShowcaseApiProperties();
+        apiProperties.setStatusStream(new ShowcaseApiProperties.StatusStream(bufferSize, Duration.ofSeconds(15)));
+        return new ShowcaseStatusStream(
+                apiProperties, new KafkaProperties(), mock(KafkaMessageConverter.class), meterRegistry);
+    }
+
+    private static ShowcaseStartedEvent startedEvent(String showcaseId, Instant startedAt) {
+        return ShowcaseStartedEvent
+                       .builder()
+                       .showcaseId(showcaseId)
+                       .duration(aShowcaseDuration())
+                       .startedAt(startedAt)
+                       .build();
+    }
+
+    private static GenericDomainEventMessage<ShowcaseEvent> domainEvent(ShowcaseEvent event, long sequenceNumber) {
+        return new GenericDomainEventMessage<>("ShowcaseAggregate", event.showcaseId(), sequenceNumber, event);
+    }
+}
@@ -15,12 +15,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import showcase.identifier.KSUID;
 import showcase.query.FetchShowcaseListQuery;
 import showcase.query.Showcase;
+import showcase.query.ShowcaseConsistencyToken;
 import showcase.query.ShowcaseQueryException;
 import showcase.query.ShowcaseStatus;
 
@@ -28,6 +31,7 @@ import java.util.List;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 /**
  * REST API for managing showcases.
@@ -35,6 +39,11 @@ import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
  * <p>Operations are split between command and query sides. Commands are handled asynchronously — if the operation
  * times out, a {@code 202} is returned with the idempotency key in the response header so the client can retry
  * safely. Queries are served from read-side projections backed by OpenSearch.
+ *
+ * <p>Commands changing a showcase return a consistency token in the {@code Consistency-Token} header. Passing it to a
+ * query as the {@code consistencyToken} parameter has the query answered once the projections reflect that change, so
+ * clients read their writes without polling. Clients following the showcases subscribe to the streams of their status
+ * changes instead.
  */
 @OpenAPIDefinition(
         info = @Info(
@@ -52,6 +61,16 @@ interface ShowcaseApi {
      */
     String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
+    /**
+     * The HTTP header name used for consistency tokens on write operations.
+     */
+    String CONSISTENCY_TOKEN_HEADER = "Consistency-Token";
+
+    /**
+     * The query parameter name used for consistency tokens on read operations.
+     */
+    String CONSISTENCY_TOKEN_PARAM = "consistencyToken";
+
     /**
      * Schedules a new showcase.
      *
@@ -84,11 +103,18 @@ interface ShowcaseApi {
                     @ApiResponse(
                             responseCode = "201",
                             description = "The showcase has been scheduled successfully.",
-                            headers = @Header(
-                                    name = "Location",
-                                    description = "The path by which the showcase details are accessible.",
-                                    examples = @ExampleObject("/showcases/33gkCN0UNn3Kzr3x7iuDaVT6sZi")
-                            ),
+                            headers = {
+                                    @Header(
+                                            name = "Location",
+                                            description = "The path by which the showcase details are accessible.",
+                                            examples = @ExampleObject("/showcases/33gkCN0UNn3Kzr3x7iuDaVT6sZi")
+                                    ),
+                                    @Header(
+                                            name = CONSISTENCY_TOKEN_HEADER,
+                                            description = "The token to read the scheduled showcase with.",
+                                            examples = @ExampleObject("33gkCN0UNn3Kzr3x7iuDaVT6sZi.0")
+                                    )
+                            },
                             content = @Content(
                                     mediaType = APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = ScheduleShowcaseResponse.class)
@@ -148,7 +174,11 @@ interface ShowcaseApi {
             responses = {
                     @ApiResponse(
                             responseCode = "200",
-                            description = "The requested showcase has been started successfully."
+                            description = "The requested showcase has been started successfully.",
+                            headers = @Header(
+                                    name = CONSISTENCY_TOKEN_HEADER,
+                                    description = "The token to read the started showcase with, if it was changed."
+                            )
                     ),
                     @ApiResponse(
                             responseCode = "202",
@@ -227,7 +257,11 @@ interface ShowcaseApi {
             responses = {
                     @ApiResponse(
                             responseCode = "200",
-                            description = "The requested showcase has been finished successfully."
+                            description = "The requested showcase has been finished successfully.",
+                            headers = @Header(
+                                    name = CONSISTENCY_TOKEN_HEADER,
+                                    description = "The token to read the finished showcase with, if it was changed."
+                            )
                     ),
                     @ApiResponse(
                             responseCode = "202",
@@ -321,10 +355,11 @@ interface ShowcaseApi {
      * Fetches the existing showcases, sorted by ID in reverse chronological order, optionally filtered by title and
      * status.
      *
-     * @param title    filter by full-text title match
-     * @param statuses filter by one or more statuses
-     * @param afterId  fetch only showcases with an ID after this one (for pagination)
-     * @param size     number of showcases to return (between 1 and 1000, default 20)
+     * @param title            filter by full-text title match
+     * @param statuses         filter by one or more statuses
+     * @param afterId          fetch only showcases with an ID after this one (for pagination)
+     * @param size             number of showcases to return (between 1 and 1000, default 20)
+     * @param consistencyToken the consistency token of a write the showcases must reflect, if any
      * @return the matching showcase list
      */
     @Operation(
@@ -351,6 +386,12 @@ interface ShowcaseApi {
                             name = "size",
                             description = "The number of showcases to fetch.",
                             in = ParameterIn.QUERY
+                    ),
+                    @Parameter(
+                            name = CONSISTENCY_TOKEN_PARAM,
+                            description = "The consistency token of a write the showcases must reflect.",
+                            in = ParameterIn.QUERY,
+                            example = "33gkCN0UNn3Kzr3x7iuDaVT6sZi.0"
                     )
             },
             responses = @ApiResponse(
@@ -366,25 +407,35 @@ interface ShowcaseApi {
             String title,
             List<ShowcaseStatus> statuses,
             @KSUID String afterId,
-            @Min(FetchShowcaseListQuery.MIN_SIZE) @Max(FetchShowcaseListQuery.MAX_SIZE) int size);
+            @Min(FetchShowcaseListQuery.MIN_SIZE) @Max(FetchShowcaseListQuery.MAX_SIZE) int size,
+            @Pattern(regexp = ShowcaseConsistencyToken.PATTERN) String consistencyToken);
 
     /**
      * Fetches a single showcase by its ID.
      *
-     * @param showcaseId the ID of the showcase
+     * @param showcaseId       the ID of the showcase
+     * @param consistencyToken the consistency token of a write the showcase must reflect, if any
      * @return the showcase if found
      * @throws ShowcaseQueryException with {@code NOT_FOUND} if the showcase does not exist
      */
     @Operation(
             description = "Fetches the showcase given by ID.",
             method = "GET",
-            parameters = @Parameter(
-                    name = "showcaseId",
-                    description = "The ID of the showcase to fetch.",
-                    in = ParameterIn.PATH,
-                    required = true,
-                    example = "33gkCN0UNn3Kzr3x7iuDaVT6sZi"
-            ),
+            parameters = {
+                    @Parameter(
+                            name = "showcaseId",
+                            description = "The ID of the showcase to fetch.",
+                            in = ParameterIn.PATH,
+                            required = true,
+                            example = "33gkCN0UNn3Kzr3x7iuDaVT6sZi"
+                    ),
+                    @Parameter(
+                            name = CONSISTENCY_TOKEN_PARAM,
+                            description = "The consistency token of a write the showcase must reflect.",
+                            in = ParameterIn.QUERY,
+                            example = "33gkCN0UNn3Kzr3x7iuDaVT6sZi.0"
+                    )
+            },
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -411,5 +462,65 @@ interface ShowcaseApi {
                     )
             }
     )
-    Mono<Showcase> fetchById(@KSUID String showcaseId);
+    Mono<Showcase> fetchById(
+            @KSUID String showcaseId,
+            @Pattern(regexp = ShowcaseConsistencyToken.PATTERN) String consistencyToken);
+
+    /**
+     * Streams the status changes of the showcases, optionally filtered by status, as server-sent events.
+     *
+     * <p>The events are named after the new status, or {@code REMOVED}, identified by the consistency token of the
+     * change, and interleaved with heartbeat comments. Only the changes made after the subscription are streamed.
+     *
+     * @param statuses filter by one or more statuses, the removals being always streamed
+     * @return the endless stream of the status changes
+     */
+    @Operation(
+            description = "Streams the status changes of the showcases, optionally filtering by the given status(es).",
+            method = "GET",
+            parameters = @Parameter(
+                    name = "status",
+                    description = "The status(es) to filter by.",
+                    in = ParameterIn.QUERY
+            ),
+            responses = @ApiResponse(
+                    responseCode = "200",
+                    description = "The stream of the status changes.",
+                    content = @Content(
+                            mediaType = TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ShowcaseStatusChange.class)
+                    )
+            )
+    )
+    Flux<ServerSentEvent<ShowcaseStatusChange>> streamList(List<ShowcaseStatus> statuses);
+
+    /**
+     * Streams the status changes of a single showcase as server-sent events, until its removal.
+     *
+     * <p>The events are named after the new status, or {@code REMOVED}, identified by the consistency token of the
+     * change, and interleaved with heartbeat comments. Only the changes made after the subscription are streamed.
+     *
+     * @param showcaseId the ID of the showcase
+     * @return the stream of the status changes, completing on the removal of the showcase
+     */
+    @Operation(
+            description = "Streams the status changes of the showcase given by ID until its removal.",
+            method = "GET",
+            parameters = @Parameter(
+                    name = "showcaseId",
+                    description = "The ID of the showcase to follow.",
+                    in = ParameterIn.PATH,
+                    required = true,
+                    example = "33gkCN0UNn3Kzr3x7iuDaVT6sZi"
+            ),
+            responses = @ApiResponse(
+                    responseCode = "200",
+                    description = "The stream of the status changes.",
+                    content = @Content(
+                            mediaType = TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ShowcaseStatusChange.class)
+                    )
+            )
+    )
+    Flux<ServerSentEvent<ShowcaseStatusChange>> streamById(@KSUID String showcaseId);
 }
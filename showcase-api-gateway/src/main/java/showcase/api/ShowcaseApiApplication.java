@@ -1,8 +1,10 @@
 package showcase.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.axonframework.commandhandling.CommandBus;
@@ -15,7 +17,11 @@ import org.axonframework.commandhandling.distributed.RoutingStrategy;
 import org.axonframework.config.Configuration;
 import org.axonframework.extensions.jgroups.DistributedCommandBusProperties;
 import org.axonframework.extensions.jgroups.commandhandling.JGroupsConnectorFactoryBean;
+import org.axonframework.extensions.kafka.KafkaProperties;
+import org.axonframework.extensions.kafka.eventhandling.DefaultKafkaMessageConverter;
+import org.axonframework.extensions.kafka.eventhandling.KafkaMessageConverter;
 import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.upcasting.event.EventUpcasterChain;
 import org.axonframework.springboot.autoconfig.UpdateCheckerAutoConfiguration;
 import org.axonframework.tracing.SpanFactory;
 import org.jspecify.annotations.NonNull;
@@ -24,6 +30,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -34,10 +41,16 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity.CsrfSpec;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import showcase.jgroups.BatchingCommandBusConnector;
 import showcase.query.FetchShowcaseListQuery;
 import showcase.query.Showcase;
+import showcase.rsocket.RSocketCommandBusConnector;
+import showcase.rsocket.RSocketDiscovery;
+import showcase.serialization.SerializationFormat;
+import showcase.serialization.SmileSerializer;
 
 import java.util.List;
+import java.util.Optional;
 
 import static showcase.api.ShowcaseApiConstants.FETCH_SHOWCASE_BY_ID_QUERY_CACHE_NAME;
 import static showcase.api.ShowcaseApiConstants.FETCH_SHOWCASE_LIST_QUERY_CACHE_NAME;
@@ -46,10 +59,10 @@ import static showcase.api.ShowcaseApiConstants.FETCH_SHOWCASE_LIST_QUERY_CACHE_
  * Application entry point for the showcase API gateway.
  *
  * <p>Boots the Spring application and declares the beans wiring the distributed command bus, query-side caches,
- * and security configuration.
+ * status stream consumption, and security configuration.
  */
 @SpringBootApplication(exclude = UpdateCheckerAutoConfiguration.class)
-@EnableConfigurationProperties(ShowcaseApiProperties.class)
+@EnableConfigurationProperties({ ShowcaseApiProperties.class, KafkaProperties.class })
 @EnableCaching
 @Slf4j
 class ShowcaseApiApplication {
@@ -69,7 +82,8 @@ class ShowcaseApiApplication {
      *
      * <p>Reads the discovery and binding settings from {@link DistributedCommandBusProperties} and the injected
      * values, applies them as system properties, and wires the local segment, serializer, routing strategy,
-     * and span factory into the connector.
+     * and span factory into the connector. Only created when JGroups is the command bus transport, which is the
+     * default.
      *
      * @param properties                   the JGroups distributed command bus properties
      * @param tcpPingHosts                 the initial TCP ping hosts
@@ -83,6 +97,12 @@ class ShowcaseApiApplication {
      * @return the configured JGroups connector factory bean
      */
     @Bean
+    @ConditionalOnProperty(
+            prefix = "showcase.api",
+            name = "command-bus-transport",
+            havingValue = "jgroups",
+            matchIfMissing = true
+    )
     JGroupsConnectorFactoryBean jgroupsConnectorFactoryBean(
             DistributedCommandBusProperties properties,
             @Value("${axon.distributed.jgroups.tcp-ping.hosts}") String tcpPingHosts,
@@ -112,29 +132,91 @@ class ShowcaseApiApplication {
         return jGroupsConnectorFactoryBean;
     }
 
+    /**
+     * Configures and exposes the RSocket connector used by the distributed command bus in place of JGroups.
+     *
+     * <p>The gateway runs without an RSocket server: it discovers the command service replicas from the configured
+     * static members or Kubernetes headless services and routes the commands to them.
+     *
+     * @param apiProperties                the API gateway properties
+     * @param messageSerializer            the Axon message serializer
+     * @param localSegment                 the local command bus segment
+     * @param routingStrategy              the routing strategy for commands
+     * @param consistentHashChangeListener the optional consistent hash change listener
+     * @param meterRegistry                the registry to which the connector metrics are registered
+     * @return the RSocket connector, serving as both the command router and the command bus connector
+     */
+    @Bean(initMethod = "connect", destroyMethod = "disconnect")
+    @ConditionalOnProperty(prefix = "showcase.api", name = "command-bus-transport", havingValue = "rsocket")
+    RSocketCommandBusConnector rsocketCommandBusConnector(
+            ShowcaseApiProperties apiProperties,
+            @Qualifier("messageSerializer") Serializer messageSerializer,
+            @Qualifier("localSegment") CommandBus localSegment,
+            RoutingStrategy routingStrategy,
+            ObjectProvider<ConsistentHashChangeListener> consistentHashChangeListener,
+            MeterRegistry meterRegistry) {
+        val rsocket = apiProperties.getRsocket();
+        val discovery =
+                switch (rsocket.getDiscovery()) {
+                    case STATIC -> RSocketDiscovery.staticMembers(rsocket.getMembers());
+                    case KUBERNETES -> RSocketDiscovery.kubernetes(rsocket.getMembers());
+                };
+        return RSocketCommandBusConnector
+                       .builder()
+                       .localSegment(localSegment)
+                       .serializer(messageSerializer)
+                       .routingStrategy(routingStrategy)
+                       .discovery(discovery)
+                       .consistentHashChangeListener(consistentHashChangeListener.getIfAvailable())
+                       .refreshInterval(rsocket.getRefreshInterval())
+                       .maxInFlight(rsocket.getMaxInFlight())
+                       .queueCapacity(rsocket.getQueueCapacity())
+                       .requestTimeout(rsocket.getRequestTimeout())
+                       .meterRegistry(meterRegistry)
+                       .build();
+    }
+
     /**
      * Builds the primary distributed command bus that routes commands to the connected segments.
      *
+     * <p>The connector is decorated with a {@link BatchingCommandBusConnector}, coalescing the commands sent to the
+     * same command service replica into batches when batching is enabled.
+     *
      * @param axonConfiguration               the Axon configuration providing the span factory and message monitor
+     * @param apiProperties                   the properties holding the command batching configuration
      * @param commandRouter                   the router distributing commands across segments
      * @param commandBusConnector             the connector to the given segments
      * @param distributedCommandBusProperties the properties holding the load factor
+     * @param messageSerializer               the Axon message serializer
+     * @param meterRegistry                   the registry to which the command batching metrics are registered
      * @return the configured distributed command bus
      */
     @Bean
     @Primary
     DistributedCommandBus distributedCommandBus(
             Configuration axonConfiguration,
+            ShowcaseApiProperties apiProperties,
             CommandRouter commandRouter,
             CommandBusConnector commandBusConnector,
-            DistributedCommandBusProperties distributedCommandBusProperties) {
+            DistributedCommandBusProperties distributedCommandBusProperties,
+            @Qualifier("messageSerializer") Serializer messageSerializer,
+            MeterRegistry meterRegistry) {
+        val commandBatching = apiProperties.getCommandBatching();
+        val batchingConnector =
+                new BatchingCommandBusConnector(
+                        commandBusConnector,
+                        messageSerializer,
+                        commandBatching.isEnabled(),
+                        commandBatching.getMaxBatchSize(),
+                        commandBatching.getMaxDelay(),
+                        meterRegistry);
         val spanFactory = axonConfiguration.getComponent(CommandBusSpanFactory.class);
         val messagedMonitor = axonConfiguration.messageMonitor(DistributedCommandBus.class, "distributedCommandBus");
         val commandBus =
                 DistributedCommandBus
                         .builder()
                         .commandRouter(commandRouter)
-                        .connector(commandBusConnector)
+                        .connector(batchingConnector)
                         .spanFactory(spanFactory)
                         .messageMonitor(messagedMonitor)
                         .build();
@@ -142,6 +224,38 @@ class ShowcaseApiApplication {
         return commandBus;
     }
 
+    /**
+     * Creates the serializer of the events consumed by the status stream, reading both the JSON and the Smile formats
+     * whichever format the command service writes.
+     *
+     * @param objectMapper the object mapper of the JSON format
+     * @return the event serializer
+     */
+    @Bean
+    @Qualifier("eventSerializer")
+    Serializer eventSerializer(ObjectMapper objectMapper) {
+        return new SmileSerializer(objectMapper, SerializationFormat.JSON);
+    }
+
+    /**
+     * Builds the Kafka message converter used by the status stream to deserialize the consumed event messages.
+     *
+     * @param eventSerializer   the Axon event serializer
+     * @param axonConfiguration the Axon configuration providing the upcaster chain
+     * @return the configured Kafka message converter
+     */
+    @Bean
+    KafkaMessageConverter<String, byte[]> kafkaMessageConverter(
+            @Qualifier("eventSerializer") Serializer eventSerializer,
+            Configuration axonConfiguration) {
+        return DefaultKafkaMessageConverter
+                       .builder()
+                       .serializer(eventSerializer)
+                       .upcasterChain(Optional.ofNullable(axonConfiguration.upcasterChain())
+                                              .orElseGet(EventUpcasterChain::new))
+                       .build();
+    }
+
     /**
      * Registers the Blackbird Jackson module for faster reflective serialization.
      *
@@ -8,9 +8,12 @@ import lombok.val;
 import org.apache.commons.lang3.function.Predicates;
 import org.axonframework.common.AxonException;
 import org.axonframework.common.IdentifierFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -38,10 +41,12 @@ import showcase.command.StartShowcaseCommand;
 import showcase.query.FetchShowcaseByIdQuery;
 import showcase.query.FetchShowcaseListQuery;
 import showcase.query.Showcase;
+import showcase.query.ShowcaseConsistencyToken;
 import showcase.query.ShowcaseQueryException;
 import showcase.query.ShowcaseQueryOperations;
 import showcase.query.ShowcaseStatus;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -51,13 +56,16 @@ import java.util.function.Predicate;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
 /**
  * REST controller implementing the showcase management API.
  *
  * <p>Coordinates command and query operations, with in-memory caching as a fallback layer when downstream calls fail
- * transiently.
+ * transiently. The consistency tokens answered by the commands are returned to the client in a header, and passed
+ * back by it to the queries, which then wait for the written state before answering. The status changes of the
+ * showcases are streamed to the subscribed clients as server-sent events.
  */
 @RestController
 @RequestMapping("/showcases")
@@ -89,6 +97,11 @@ final class ShowcaseApiController implements ShowcaseApi {
      */
     private final ShowcaseApiErrorResolver errorResolver;
 
+    /**
+     * The stream of the showcase status changes, fanned out to the subscribed clients.
+     */
+    private final ShowcaseStatusStream statusStream;
+
     /**
      * Schedules a new showcase.
      *
@@ -105,24 +118,26 @@ final class ShowcaseApiController implements ShowcaseApi {
                                                                            .generateIdentifier())
                                       .subscribeOn(Schedulers.boundedElastic()))
                    .flatMap(showcaseId ->
-                                    commandOperations
-                                            .schedule(ScheduleShowcaseCommand
-                                                              .builder()
-                                                              .showcaseId(showcaseId)
-                                                              .title(request.title())
-                                                              .startTime(request.startTime())
-                                                              .duration(request.duration())
-                                                              .build())
-                                            .thenReturn(
-                                                    ResponseEntity
-                                                            .created(fromUriString("/showcases/")
-                                                                             .path(showcaseId)
-                                                                             .build()
-                                                                             .toUri())
-                                                            .body(ScheduleShowcaseResponse
-                                                                          .builder()
-                                                                          .showcaseId(showcaseId)
-                                                                          .build()))
+                                    consistencyTokenHeaders(
+                                            showcaseId,
+                                            commandOperations.schedule(ScheduleShowcaseCommand
+                                                                               .builder()
+                                                                               .showcaseId(showcaseId)
+                                                                               .title(request.title())
+                                                                               .startTime(request.startTime())
+                                                                               .duration(request.duration())
+                                                                               .build()))
+                                            .map(headers ->
+                                                         ResponseEntity
+                                                                 .created(fromUriString("/showcases/")
+                                                                                  .path(showcaseId)
+                                                                                  .build()
+                                                                                  .toUri())
+                                                                 .headers(headers)
+                                                                 .body(ScheduleShowcaseResponse
+                                                                               .builder()
+                                                                               .showcaseId(showcaseId)
+                                                                               .build()))
                                             .onErrorReturn(
                                                     TimeoutException.class,
                                                     ResponseEntity
@@ -139,14 +154,14 @@ final class ShowcaseApiController implements ShowcaseApi {
     @PutMapping("/{showcaseId}/start")
     @Override
     public Mono<ResponseEntity<Void>> start(@PathVariable String showcaseId) {
-        return commandOperations
-                       .start(StartShowcaseCommand
-                                      .builder()
-                                      .showcaseId(showcaseId)
-                                      .build())
-                       .thenReturn(HttpStatus.OK)
-                       .onErrorReturn(TimeoutException.class, HttpStatus.ACCEPTED)
-                       .map(status -> ResponseEntity.status(status).build());
+        return consistencyTokenHeaders(
+                       showcaseId,
+                       commandOperations.start(StartShowcaseCommand
+                                                       .builder()
+                                                       .showcaseId(showcaseId)
+                                                       .build()))
+                       .map(headers -> ResponseEntity.ok().headers(headers).<Void>build())
+                       .onErrorReturn(TimeoutException.class, ResponseEntity.accepted().build());
     }
 
     /**
@@ -157,14 +172,14 @@ final class ShowcaseApiController implements ShowcaseApi {
     @PutMapping("/{showcaseId}/finish")
     @Override
     public Mono<ResponseEntity<Void>> finish(@PathVariable String showcaseId) {
-        return commandOperations
-                       .finish(FinishShowcaseCommand
-                                       .builder()
-                                       .showcaseId(showcaseId)
-                                       .build())
-                       .thenReturn(HttpStatus.OK)
-                       .onErrorReturn(TimeoutException.class, HttpStatus.ACCEPTED)
-                       .map(status -> ResponseEntity.status(status).build());
+        return consistencyTokenHeaders(
+                       showcaseId,
+                       commandOperations.finish(FinishShowcaseCommand
+                                                        .builder()
+                                                        .showcaseId(showcaseId)
+                                                        .build()))
+                       .map(headers -> ResponseEntity.ok().headers(headers).<Void>build())
+                       .onErrorReturn(TimeoutException.class, ResponseEntity.accepted().build());
     }
 
     /**
@@ -199,7 +214,8 @@ final class ShowcaseApiController implements ShowcaseApi {
             @RequestParam(required = false) String title,
             @RequestParam(name = "status", required = false) List<ShowcaseStatus> statuses,
             @RequestParam(required = false) String afterId,
-            @RequestParam(required = false, defaultValue = "" + FetchShowcaseListQuery.DEFAULT_SIZE) int size) {
+            @RequestParam(required = false, defaultValue = "" + FetchShowcaseListQuery.DEFAULT_SIZE) int size,
+            @RequestParam(name = CONSISTENCY_TOKEN_PARAM, required = false) String consistencyToken) {
         val query =
                 FetchShowcaseListQuery
                         .builder()
@@ -207,6 +223,7 @@ final class ShowcaseApiController implements ShowcaseApi {
                         .statuses(statuses)
                         .afterId(afterId)
                         .size(size)
+                        .consistencyToken(consistencyToken(consistencyToken))
                         .build();
         return queryOperations
                        .fetchList(query)
@@ -251,11 +268,14 @@ final class ShowcaseApiController implements ShowcaseApi {
     @GetMapping("/{showcaseId}")
     @Override
     @SuppressWarnings("FutureReturnValueIgnored")
-    public Mono<Showcase> fetchById(@PathVariable String showcaseId) {
+    public Mono<Showcase> fetchById(
+            @PathVariable String showcaseId,
+            @RequestParam(name = CONSISTENCY_TOKEN_PARAM, required = false) String consistencyToken) {
         val query =
                 FetchShowcaseByIdQuery
                         .builder()
                         .showcaseId(showcaseId)
+                        .consistencyToken(consistencyToken(consistencyToken))
                         .build();
         return queryOperations
                        .fetchById(query)
@@ -273,6 +293,86 @@ final class ShowcaseApiController implements ShowcaseApi {
                                         .doOnSuccess(__ -> log.warn("Fallback on {}", query, t)));
     }
 
+    /**
+     * Streams the status changes of the showcases with one of the given statuses, or of all of them if none.
+     */
+    @GetMapping(path = "/events", produces = TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public Flux<ServerSentEvent<ShowcaseStatusChange>> streamList(
+            @RequestParam(name = "status", required = false) List<ShowcaseStatus> statuses) {
+        return statusStream.events(statusFilter(statuses));
+    }
+
+    /**
+     * Streams the status changes of a single showcase, completing once it is removed.
+     */
+    @GetMapping(path = "/{showcaseId}/events", produces = TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public Flux<ServerSentEvent<ShowcaseStatusChange>> streamById(@PathVariable String showcaseId) {
+        return statusStream.events(change -> change.showcaseId().equals(showcaseId))
+                           .takeUntil(ShowcaseApiController::isRemoval);
+    }
+
+    /**
+     * Returns the filter of the status changes to the given statuses, letting the removals through.
+     *
+     * @param statuses the statuses to filter by, or {@code null} or empty for all of them
+     * @return the filter of the status changes
+     */
+    private static Predicate<ShowcaseStatusChange> statusFilter(@Nullable List<ShowcaseStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return Predicates.truePredicate();
+        }
+        val statusSet = EnumSet.copyOf(statuses);
+        return change -> {
+            val status = change.status();
+            return status == null || statusSet.contains(status);
+        };
+    }
+
+    /**
+     * Returns whether the given server-sent event reports the removal of a showcase.
+     *
+     * @param event the server-sent event
+     * @return {@code true} if the event carries the removal of its showcase
+     */
+    private static boolean isRemoval(ServerSentEvent<ShowcaseStatusChange> event) {
+        val change = event.data();
+        return change != null && change.removed();
+    }
+
+    /**
+     * Returns the headers carrying the consistency token of the showcase written by a command.
+     *
+     * @param showcaseId     the ID of the written showcase
+     * @param sequenceNumber the mono of the sequence number answered by the command
+     * @return a mono of the headers, empty if the command applied no event
+     */
+    private static Mono<HttpHeaders> consistencyTokenHeaders(String showcaseId, Mono<Long> sequenceNumber) {
+        return sequenceNumber
+                       .map(it -> {
+                           val headers = new HttpHeaders();
+                           headers.set(CONSISTENCY_TOKEN_HEADER, ShowcaseConsistencyToken
+                                                                         .builder()
+                                                                         .showcaseId(showcaseId)
+                                                                         .sequenceNumber(it)
+                                                                         .build()
+                                                                         .toString());
+                           return headers;
+                       })
+                       .defaultIfEmpty(HttpHeaders.EMPTY);
+    }
+
+    /**
+     * Parses the consistency token passed by the client, already validated against its pattern.
+     *
+     * @param text the textual form of the token, or {@code null} if none
+     * @return the token, or {@code null} if none
+     */
+    private static @Nullable ShowcaseConsistencyToken consistencyToken(@Nullable String text) {
+        return text != null ? ShowcaseConsistencyToken.parse(text) : null;
+    }
+
     /**
      * Maps {@link ShowcaseCommandException} to structured problem details.
      *
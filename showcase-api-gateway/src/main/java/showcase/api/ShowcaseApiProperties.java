@@ -1,16 +1,20 @@
 package showcase.api;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMax;
 import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 import static showcase.api.ShowcaseApiConstants.FETCH_SHOWCASE_BY_ID_QUERY_CACHE_NAME;
@@ -19,12 +23,44 @@ import static showcase.api.ShowcaseApiConstants.FETCH_SHOWCASE_LIST_QUERY_CACHE_
 /**
  * Configuration properties bound to the {@code showcase.api} prefix.
  *
- * <p>Configures the in-memory caches used by the showcase API gateway.
+ * <p>Configures the in-memory caches, the command bus transport, the command batching, and the status stream of the
+ * showcase API gateway.
  */
 @ConfigurationProperties("showcase.api")
 @Data
 @Validated
 final class ShowcaseApiProperties {
+    /**
+     * The transport of the distributed command bus.
+     */
+    enum CommandBusTransport {
+        /**
+         * The commands are exchanged over JGroups, whose configuration file drives the membership discovery.
+         */
+        JGROUPS,
+
+        /**
+         * The commands are exchanged over RSocket, with the command service replicas discovered as configured by
+         * {@link RSocket}.
+         */
+        RSOCKET
+    }
+
+    /**
+     * The source of the addresses of the command service replicas reached over RSocket.
+     */
+    enum RSocketDiscoveryMode {
+        /**
+         * The replicas are the configured {@code host:port} entries.
+         */
+        STATIC,
+
+        /**
+         * The replicas are the pods behind the configured {@code host:port} Kubernetes headless services.
+         */
+        KUBERNETES
+    }
+
     /**
      * Configuration for a single in-memory cache.
      */
@@ -52,6 +88,103 @@ final class ShowcaseApiProperties {
         private Duration expiresAfterWrite;
     }
 
+    /**
+     * Configuration for batching the commands sent to the same command service replica.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class CommandBatching {
+        /**
+         * Whether the commands sent to the same replica are coalesced into batches.
+         */
+        private boolean enabled;
+
+        /**
+         * The number of commands at which a pending batch is sent.
+         */
+        @Min(1)
+        @Max(1024)
+        private int maxBatchSize;
+
+        /**
+         * The time after which a pending batch is sent, counted from its oldest command.
+         */
+        @NotNull
+        @DurationMin(nanos = 1000)
+        @DurationMax(seconds = 1)
+        private Duration maxDelay;
+    }
+
+    /**
+     * Configuration for the RSocket transport of the distributed command bus.
+     *
+     * <p>The gateway runs as an RSocket client only: it routes the commands to the command service replicas, but takes
+     * none itself.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class RSocket {
+        /**
+         * The source of the addresses of the command service replicas.
+         */
+        @NotNull
+        private RSocketDiscoveryMode discovery;
+
+        /**
+         * The command service replicas, or their Kubernetes headless services, as {@code host:port} entries.
+         */
+        @NotEmpty
+        private List<@NotBlank String> members;
+
+        /**
+         * The interval at which the membership of the replicas is refreshed.
+         */
+        @NotNull
+        @DurationMin(millis = 100)
+        private Duration refreshInterval;
+
+        /**
+         * The maximum number of requests in flight to a single replica.
+         */
+        @Min(1)
+        private int maxInFlight;
+
+        /**
+         * The maximum number of requests queued for an in-flight slot to a single replica.
+         */
+        @Min(1)
+        private int queueCapacity;
+
+        /**
+         * The time after which a request to a replica fails.
+         */
+        @NotNull
+        @DurationMin(millis = 1)
+        private Duration requestTimeout;
+    }
+
+    /**
+     * Configuration for the server-sent event stream of the showcase status changes.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class StatusStream {
+        /**
+         * The maximum number of changes buffered for a slow client, beyond which its oldest ones are dropped.
+         */
+        @Min(1)
+        @Max(65536)
+        private int bufferSize;
+
+        /**
+         * The interval at which a heartbeat comment is sent to keep the idle connections open.
+         */
+        @NotNull
+        @DurationMin(seconds = 1)
+        @DurationMax(minutes = 5)
+        private Duration heartbeatInterval;
+    }
+
     /**
      * The caches configured by name, keyed by the cache name and holding its Cache settings.
      */
@@ -60,4 +193,33 @@ final class ShowcaseApiProperties {
     private Map<@NotBlank String, @NotNull @Valid Cache> caches = Map.of(
             FETCH_SHOWCASE_LIST_QUERY_CACHE_NAME, new Cache(10000, Duration.ofMinutes(10), Duration.ofMinutes(5)),
             FETCH_SHOWCASE_BY_ID_QUERY_CACHE_NAME, new Cache(100000, Duration.ofMinutes(10), Duration.ofMinutes(5)));
+
+    /**
+     * The transport of the distributed command bus.
+     */
+    @NotNull
+    private CommandBusTransport commandBusTransport = CommandBusTransport.JGROUPS;
+
+    /**
+     * The RSocket transport configuration.
+     */
+    @NotNull
+    @Valid
+    private RSocket rsocket =
+            new RSocket(RSocketDiscoveryMode.STATIC, List.of("localhost:7900"), Duration.ofSeconds(5), 256,
+                        Duration.ofSeconds(30));
+
+    /**
+     * The command batching configuration.
+     */
+    @NotNull
+    @Valid
+    private CommandBatching commandBatching = new CommandBatching(false, 32, Duration.ofMillis(2));
+
+    /**
+     * The status stream configuration.
+     */
+    @NotNull
+    @Valid
+    private StatusStream statusStream = new StatusStream(256, Duration.ofSeconds(15));
 }
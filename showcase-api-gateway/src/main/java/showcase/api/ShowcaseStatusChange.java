@@ -0,0 +1,77 @@
+package showcase.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.EqualsAndHashCode.CacheStrategy;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
+import showcase.identifier.KSUID;
+import showcase.query.ShowcaseStatus;
+
+import java.time.Instant;
+
+/**
+ * Payload of the server-sent events streaming the status changes of the showcases.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
+@Builder
+@Jacksonized
+@NullUnmarked
+@Schema(description = "Status change of a showcase.")
+@SuppressWarnings("ClassCanBeRecord")
+class ShowcaseStatusChange {
+    /**
+     * The ID of the changed showcase.
+     */
+    @NonNull
+    @KSUID
+    @Schema(
+            description = "The ID of the changed showcase.",
+            example = "33gkCN0UNn3Kzr3x7iuDaVT6sZi"
+    )
+    String showcaseId;
+
+    /**
+     * The status the showcase has changed to, or {@code null} if it has been removed.
+     */
+    @Nullable
+    @Schema(description = "The status the showcase has changed to, absent if it has been removed.")
+    ShowcaseStatus status;
+
+    /**
+     * Whether the showcase has been removed.
+     */
+    @Schema(description = "Whether the showcase has been removed.")
+    boolean removed;
+
+    /**
+     * The time of the change.
+     */
+    @NonNull
+    @Schema(
+            description = "The time of the change.",
+            example = "2026-10-19T10:00:00Z"
+    )
+    Instant changedAt;
+
+    /**
+     * The sequence number of the change on the showcase, as found in the consistency tokens.
+     */
+    @Min(0)
+    @Schema(
+            description = "The sequence number of the change on the showcase.",
+            example = "1"
+    )
+    long sequenceNumber;
+}
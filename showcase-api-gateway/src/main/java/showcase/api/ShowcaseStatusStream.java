@@ -0,0 +1,307 @@
+package showcase.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.extensions.kafka.KafkaProperties;
+import org.axonframework.extensions.kafka.eventhandling.KafkaMessageConverter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.util.retry.Retry;
+import showcase.command.ShowcaseEvent;
+import showcase.command.ShowcaseFinishedEvent;
+import showcase.command.ShowcaseRemovedEvent;
+import showcase.command.ShowcaseScheduledEvent;
+import showcase.command.ShowcaseStartedEvent;
+import showcase.query.ShowcaseConsistencyToken;
+import showcase.query.ShowcaseStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static org.apache.commons.lang3.time.DurationFormatUtils.formatDurationWords;
+
+/**
+ * Streams the status changes of the showcases to the clients of the API, as consumed from the events topic.
+ *
+ * <p>Every gateway replica consumes all the partitions of the topic from their end, under a consumer group of its own
+ * whose offsets are never committed, and fans each change out to its subscribers through a single multicast sink, so
+ * that a change is consumed once per replica whatever the number of clients. Each subscriber reads through a bounded
+ * buffer, which drops its oldest changes when the client reads slower than they come, rather than holding back the
+ * other subscribers or the consumption.
+ *
+ * <p>The open streams, the consumed changes, and the changes delivered to and dropped for the subscribers are recorded
+ * under the {@code showcaseStatusStream} meters.
+ */
+@Component
+@Slf4j
+final class ShowcaseStatusStream implements SmartLifecycle {
+
+    private static final String METER_NAME_PREFIX = "showcaseStatusStream";
+
+    /**
+     * The name of the server-sent events of the removed showcases.
+     */
+    static final String REMOVED_EVENT_NAME = "REMOVED";
+
+    /**
+     * The delay after which the consumption restarts on a failure.
+     */
+    private static final Duration RESTART_DELAY = Duration.ofSeconds(10);
+
+    /**
+     * The heartbeat sent as a comment to keep the idle connections open.
+     */
+    private static final ServerSentEvent<ShowcaseStatusChange> HEARTBEAT =
+            ServerSentEvent.<ShowcaseStatusChange>builder().comment("heartbeat").build();
+
+    /**
+     * The status stream configuration.
+     */
+    private final ShowcaseApiProperties.StatusStream streamProperties;
+
+    /**
+     * The Kafka receiver used to consume the event messages.
+     */
+    private final KafkaReceiver<String, byte[]> kafkaReceiver;
+
+    /**
+     * The converter used to deserialize the consumed Kafka messages.
+     */
+    private final KafkaMessageConverter<String, byte[]> kafkaMessageConverter;
+
+    /**
+     * The sink fanning the changes out to the subscribers, dropping them for the subscribers without demand.
+     */
+    private final Sinks.Many<ShowcaseStatusChange> changeSink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * The number of open subscriptions.
+     */
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    /**
+     * The counter of the consumed changes.
+     */
+    private final Counter consumedCounter;
+
+    /**
+     * The counter of the changes delivered to the subscribers.
+     */
+    private final Counter deliveredCounter;
+
+    /**
+     * The counter of the changes dropped for the slow subscribers.
+     */
+    private final Counter droppedCounter;
+
+    /**
+     * The current consumption subscription, if the stream is running.
+     */
+    private final AtomicReference<@Nullable Disposable> subscription = new AtomicReference<>();
+
+    ShowcaseStatusStream(
+            ShowcaseApiProperties apiProperties,
+            KafkaProperties kafkaProperties,
+            KafkaMessageConverter<String, byte[]> kafkaMessageConverter,
+            MeterRegistry meterRegistry) {
+        this.streamProperties = apiProperties.getStatusStream();
+        this.kafkaReceiver =
+                KafkaReceiver.create(
+                        ReceiverOptions.<String, byte[]>create(kafkaProperties.buildConsumerProperties())
+                                       .subscription(List.of(kafkaProperties.getDefaultTopic())));
+        this.kafkaMessageConverter = kafkaMessageConverter;
+        Gauge.builder(METER_NAME_PREFIX + ".subscriptions", subscriptionCount, AtomicInteger::get)
+             .description("Number of open status streams")
+             .register(meterRegistry);
+        this.consumedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".consumed")
+                       .description("Number of status changes consumed from the events topic")
+                       .register(meterRegistry);
+        this.deliveredCounter =
+                Counter.builder(METER_NAME_PREFIX + ".delivered")
+                       .description("Number of status changes delivered to the subscribers")
+                       .register(meterRegistry);
+        this.droppedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".dropped")
+                       .description("Number of status changes dropped for the slow subscribers")
+                       .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether the stream is currently consuming.
+     *
+     * @return {@code true} if the consumption subscription is active
+     */
+    @Override
+    public boolean isRunning() {
+        return subscription.get() != null;
+    }
+
+    /**
+     * Starts consuming the events topic, publishing the status changes to the subscribers.
+     */
+    @Override
+    public void start() {
+        this.subscription.updateAndGet(current -> {
+            if (current != null) {
+                return current;
+            }
+
+            log.info("Status stream is starting...");
+
+            return Flux.defer(kafkaReceiver::receive)
+                       .name("stream-showcase-status")
+                       .doOnSubscribe(subscription -> log.info("Status stream has started"))
+                       .doOnCancel(() -> log.info("Status stream has stopped"))
+                       .doOnNext(record -> kafkaMessageConverter.readKafkaMessage(record).ifPresent(this::publish))
+                       .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, RESTART_DELAY)
+                                       .doBeforeRetry(signal -> log.warn(
+                                               "Status stream has failed and will restart in {}...",
+                                               formatDurationWords(RESTART_DELAY.toMillis(), true, true),
+                                               signal.failure())))
+                       .subscribe();
+        });
+    }
+
+    /**
+     * Stops consuming the events topic, leaving the open streams with heartbeats only.
+     */
+    @Override
+    public void stop() {
+        val subscription = this.subscription.getAndSet(null);
+        if (subscription == null) {
+            return;
+        }
+
+        log.info("Status stream is stopping...");
+
+        subscription.dispose();
+    }
+
+    /**
+     * Returns the server-sent events of the status changes matching the given filter, interleaved with heartbeats.
+     *
+     * <p>The events are named after the new status of the showcase, or {@value #REMOVED_EVENT_NAME} on its removal,
+     * and identified by the consistency token of the change.
+     *
+     * @param filter the filter of the status changes to stream
+     * @return an endless flux of the server-sent events
+     */
+    Flux<ServerSentEvent<ShowcaseStatusChange>> events(Predicate<ShowcaseStatusChange> filter) {
+        return Flux.merge(changes(filter).map(ShowcaseStatusStream::serverSentEvent),
+                          Flux.interval(streamProperties.getHeartbeatInterval()).map(__ -> HEARTBEAT));
+    }
+
+    /**
+     * Returns the status changes matching the given filter, buffered for the subscriber up to the configured size.
+     *
+     * @param filter the filter of the status changes to stream
+     * @return an endless flux of the status changes
+     */
+    Flux<ShowcaseStatusChange> changes(Predicate<ShowcaseStatusChange> filter) {
+        return changeSink.asFlux()
+                         .filter(filter)
+                         .onBackpressureBuffer(streamProperties.getBufferSize(),
+                                               __ -> droppedCounter.increment(),
+                                               BufferOverflowStrategy.DROP_OLDEST)
+                         .doOnNext(__ -> deliveredCounter.increment())
+                         .doOnSubscribe(__ -> subscriptionCount.incrementAndGet())
+                         .doFinally(__ -> subscriptionCount.decrementAndGet());
+    }
+
+    /**
+     * Publishes the status change applied by the given event message to the subscribers.
+     *
+     * @param message the consumed event message
+     */
+    void publish(EventMessage<?> message) {
+        if (message instanceof DomainEventMessage<?> domainEvent
+                    && domainEvent.getPayload() instanceof ShowcaseEvent event) {
+            consumedCounter.increment();
+            changeSink.tryEmitNext(statusChange(event, domainEvent.getSequenceNumber()));
+        }
+    }
+
+    /**
+     * Maps a showcase event to the status change it applies.
+     *
+     * @param event          the showcase event
+     * @param sequenceNumber the sequence number of the event
+     * @return the status change
+     */
+    private static ShowcaseStatusChange statusChange(ShowcaseEvent event, long sequenceNumber) {
+        return switch (event) {
+            case ShowcaseScheduledEvent scheduledEvent -> statusChange(
+                    scheduledEvent.showcaseId(), ShowcaseStatus.SCHEDULED, scheduledEvent.scheduledAt(),
+                    sequenceNumber);
+            case ShowcaseStartedEvent startedEvent -> statusChange(
+                    startedEvent.showcaseId(), ShowcaseStatus.STARTED, startedEvent.startedAt(), sequenceNumber);
+            case ShowcaseFinishedEvent finishedEvent -> statusChange(
+                    finishedEvent.showcaseId(), ShowcaseStatus.FINISHED, finishedEvent.finishedAt(), sequenceNumber);
+            case ShowcaseRemovedEvent removedEvent -> ShowcaseStatusChange
+                                                              .builder()
+                                                              .showcaseId(removedEvent.showcaseId())
+                                                              .removed(true)
+                                                              .changedAt(removedEvent.removedAt())
+                                                              .sequenceNumber(sequenceNumber)
+                                                              .build();
+        };
+    }
+
+    /**
+     * Creates the status change of a showcase to the given status.
+     *
+     * @param showcaseId     the ID of the showcase
+     * @param status         the new status
+     * @param changedAt      the time of the change
+     * @param sequenceNumber the sequence number of the change
+     * @return the status change
+     */
+    private static ShowcaseStatusChange statusChange(
+            String showcaseId, ShowcaseStatus status, Instant changedAt, long sequenceNumber) {
+        return ShowcaseStatusChange
+                       .builder()
+                       .showcaseId(showcaseId)
+                       .status(status)
+                       .changedAt(changedAt)
+                       .sequenceNumber(sequenceNumber)
+                       .build();
+    }
+
+    /**
+     * Wraps a status change into its server-sent event.
+     *
+     * @param change the status change
+     * @return the server-sent event
+     */
+    private static ServerSentEvent<ShowcaseStatusChange> serverSentEvent(ShowcaseStatusChange change) {
+        val status = change.status();
+        return ServerSentEvent
+                       .builder(change)
+                       .id(ShowcaseConsistencyToken
+                                   .builder()
+                                   .showcaseId(change.showcaseId())
+                                   .sequenceNumber(change.sequenceNumber())
+                                   .build()
+                                   .toString())
+                       .event(status != null ? status.name() : REMOVED_EVENT_NAME)
+                       .build();
+    }
+}
@@ -111,7 +111,7 @@ class ShowcaseCommandClientIT {
     }
 
     @Test
-    @DisplayName("Scheduling a showcase with a valid command succeeds")
+    @DisplayName("Scheduling a showcase with a valid command succeeds with its consistency token")
     void scheduleShowcase_validCommand_succeeds() {
         val scheduleCommand =
                 ScheduleShowcaseCommand
@@ -125,6 +125,7 @@ class ShowcaseCommandClientIT {
         commandOperations
                 .schedule(scheduleCommand)
                 .as(StepVerifier::create)
+                .expectNext(0L)
                 .verifyComplete();
     }
 
@@ -266,7 +267,7 @@ class ShowcaseCommandClientIT {
     }
 
     @Test
-    @DisplayName("Starting a scheduled showcase succeeds")
+    @DisplayName("Starting a scheduled showcase succeeds with its consistency token")
     void startShowcase_scheduledShowcase_succeeds() {
         val showcaseId = aShowcaseId();
 
@@ -286,6 +287,7 @@ class ShowcaseCommandClientIT {
                                .showcaseId(showcaseId)
                                .build())
                 .as(StepVerifier::create)
+                .expectNext(1L)
                 .verifyComplete();
     }
 
@@ -422,7 +424,7 @@ class ShowcaseCommandClientIT {
     }
 
     @Test
-    @DisplayName("Finishing a started showcase succeeds")
+    @DisplayName("Finishing a started showcase succeeds with its consistency token")
     void finishShowcase_startedShowcase_succeeds() {
         val showcaseId = aShowcaseId();
 
@@ -449,6 +451,7 @@ class ShowcaseCommandClientIT {
                                 .showcaseId(showcaseId)
                                 .build())
                 .as(StepVerifier::create)
+                .expectNext(2L)
                 .verifyComplete();
     }
 
@@ -582,7 +585,7 @@ class ShowcaseCommandClientIT {
     }
 
     @Test
-    @DisplayName("Removing an existing showcase succeeds")
+    @DisplayName("Removing an existing showcase succeeds with its consistency token")
     void removeShowcase_existingShowcase_succeeds() {
         val showcaseId = aShowcaseId();
 
@@ -602,6 +605,7 @@ class ShowcaseCommandClientIT {
                                 .showcaseId(showcaseId)
                                 .build())
                 .as(StepVerifier::create)
+                .expectNext(1L)
                 .verifyComplete();
     }
 
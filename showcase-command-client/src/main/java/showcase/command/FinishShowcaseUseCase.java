@@ -10,7 +10,8 @@ public interface FinishShowcaseUseCase {
      * Finishes a started showcase.
      *
      * @param command the finish command to send
-     * @return a mono completing when the showcase is finished
+     * @return a mono of the consistency token of the showcase once it is finished, that is the sequence number of the
+     *         last event applied on it, or an empty mono if the command applied no event
      */
-    Mono<Void> finish(FinishShowcaseCommand command);
+    Mono<Long> finish(FinishShowcaseCommand command);
 }
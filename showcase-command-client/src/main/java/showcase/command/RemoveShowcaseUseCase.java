@@ -10,7 +10,8 @@ public interface RemoveShowcaseUseCase {
      * Removes a showcase.
      *
      * @param command the remove command to send
-     * @return a mono completing when the showcase is removed
+     * @return a mono of the consistency token of the showcase once it is removed, that is the sequence number of the
+     *         last event applied on it, or an empty mono if the command applied no event
      */
-    Mono<Void> remove(RemoveShowcaseCommand command);
+    Mono<Long> remove(RemoveShowcaseCommand command);
 }
@@ -10,7 +10,8 @@ public interface ScheduleShowcaseUseCase {
      * Schedules a new showcase.
      *
      * @param command the schedule command to send
-     * @return a mono completing when the showcase is scheduled
+     * @return a mono of the consistency token of the showcase once it is scheduled, that is the sequence number of the
+     *         last event applied on it, or an empty mono if the command applied no event
      */
-    Mono<Void> schedule(ScheduleShowcaseCommand command);
+    Mono<Long> schedule(ScheduleShowcaseCommand command);
 }
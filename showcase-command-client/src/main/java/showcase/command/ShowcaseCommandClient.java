@@ -31,10 +31,10 @@ class ShowcaseCommandClient implements ShowcaseCommandOperations {
      * Sends a schedule command.
      *
      * @param command the schedule command to send
-     * @return a mono completing when the command is handled
+     * @return a mono of the consistency token answered by the command service, if any
      */
     @Override
-    public Mono<Void> schedule(ScheduleShowcaseCommand command) {
+    public Mono<Long> schedule(ScheduleShowcaseCommand command) {
         return sendCommand(command).checkpoint("ShowcaseCommandClient.schedule(%s)".formatted(command));
     }
 
@@ -42,10 +42,10 @@ class ShowcaseCommandClient implements ShowcaseCommandOperations {
      * Sends a start command.
      *
      * @param command the start command to send
-     * @return a mono completing when the command is handled
+     * @return a mono of the consistency token answered by the command service, if any
      */
     @Override
-    public Mono<Void> start(StartShowcaseCommand command) {
+    public Mono<Long> start(StartShowcaseCommand command) {
         return sendCommand(command).checkpoint("ShowcaseCommandClient.start(%s)".formatted(command));
     }
 
@@ -53,10 +53,10 @@ class ShowcaseCommandClient implements ShowcaseCommandOperations {
      * Sends a finish command.
      *
      * @param command the finish command to send
-     * @return a mono completing when the command is handled
+     * @return a mono of the consistency token answered by the command service, if any
      */
     @Override
-    public Mono<Void> finish(FinishShowcaseCommand command) {
+    public Mono<Long> finish(FinishShowcaseCommand command) {
         return sendCommand(command).checkpoint("ShowcaseCommandClient.finish(%s)".formatted(command));
     }
 
@@ -64,10 +64,10 @@ class ShowcaseCommandClient implements ShowcaseCommandOperations {
      * Sends a remove command.
      *
      * @param command the remove command to send
-     * @return a mono completing when the command is handled
+     * @return a mono of the consistency token answered by the command service, if any
      */
     @Override
-    public Mono<Void> remove(RemoveShowcaseCommand command) {
+    public Mono<Long> remove(RemoveShowcaseCommand command) {
         return sendCommand(command).checkpoint("ShowcaseCommandClient.remove(%s)".formatted(command));
     }
 
@@ -76,11 +76,11 @@ class ShowcaseCommandClient implements ShowcaseCommandOperations {
      * {@link ShowcaseCommandErrorDetails} to {@link ShowcaseCommandException}s.
      *
      * @param command the command to send
-     * @return a mono completing when the command is handled
+     * @return a mono of the consistency token answered by the command service, if any
      */
-    private Mono<Void> sendCommand(ShowcaseCommand command) {
+    private Mono<Long> sendCommand(ShowcaseCommand command) {
         return commandGateway
-                       .<Void>send(command)
+                       .<Long>send(command)
                        .subscribeOn(Schedulers.boundedElastic())
                        .onErrorMap(CommandExecutionException.class, e -> {
                            if (e.getDetails().isPresent()
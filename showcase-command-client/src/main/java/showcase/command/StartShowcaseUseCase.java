@@ -10,7 +10,8 @@ public interface StartShowcaseUseCase {
      * Starts a scheduled showcase.
      *
      * @param command the start command to send
-     * @return a mono completing when the showcase is started
+     * @return a mono of the consistency token of the showcase once it is started, that is the sequence number of the
+     *         last event applied on it, or an empty mono if the command applied no event
      */
-    Mono<Void> start(StartShowcaseCommand command);
+    Mono<Long> start(StartShowcaseCommand command);
 }
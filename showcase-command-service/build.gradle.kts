@@ -13,6 +13,10 @@ dependencies {
     implementation(platform(project(":platform")))
 
     implementation(project(":showcase-command-api"))
+    implementation(project(":showcase-jgroups-extension"))
+    implementation(project(":showcase-rsocket-extension"))
+    implementation(project(":showcase-validation-extension"))
+    implementation(project(":showcase-serialization-extension"))
 
     implementation(libs.axon.springBoot.starter) {
         exclude(group = libs.axon.serverConnector.get().group, module = libs.axon.serverConnector.get().name)
@@ -1,6 +1,8 @@
 package showcase.command;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
+import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.axonframework.test.aggregate.AggregateTestFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,16 +38,28 @@ import static showcase.command.ShowcaseCommandMatchers.aCommandErrorDetailsWithM
 @DisplayName("Showcase aggregate component tests")
 class ShowcaseAggregateCT {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private AggregateTestFixture<ShowcaseAggregate> fixture;
 
     @Mock
     private ShowcaseTitleReservation showcaseTitleReservation;
 
+    @Mock
+    private CommandGateway commandGateway;
+
     @BeforeEach
     void initFixture() {
         fixture = new AggregateTestFixture<>(ShowcaseAggregate.class);
         fixture.registerCommandHandlerInterceptor(new ShowcaseCommandMessageInterceptor<>(true));
         fixture.registerInjectableResource(showcaseTitleReservation);
+        fixture.registerInjectableResource(commandGateway);
+        fixture.registerInjectableResource(
+                ShowcaseDeadlineScheduler
+                        .builder()
+                        .enabled(false)
+                        .meterRegistry(meterRegistry)
+                        .build());
     }
 
     @Test
@@ -82,7 +96,9 @@ class ShowcaseAggregateCT {
                    assertThat(it.getStatus()).isEqualTo(ShowcaseStatus.SCHEDULED);
                    assertThat(it.getStartedAt()).isNull();
                    assertThat(it.getFinishedAt()).isNull();
-               });
+                   assertThat(it.getStartDeadlineId()).isNull();
+               })
+               .expectNoScheduledDeadlines();
     }
 
     @Test
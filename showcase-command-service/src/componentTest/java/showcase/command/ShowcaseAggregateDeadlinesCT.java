@@ -0,0 +1,240 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.test.aggregate.AggregateTestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static showcase.command.RandomCommandTestUtils.aScheduleShowcaseCommand;
+import static showcase.command.ShowcaseCommandConstants.FINISH_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.START_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.TRIGGERING_DEADLINE_METADATA_KEY;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showcase aggregate-driven deadlines component tests")
+class ShowcaseAggregateDeadlinesCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AggregateTestFixture<ShowcaseAggregate> fixture;
+
+    @Mock
+    private ShowcaseTitleReservation showcaseTitleReservation;
+
+    @Mock
+    private CommandGateway commandGateway;
+
+    @BeforeEach
+    void initFixture() {
+        fixture = new AggregateTestFixture<>(ShowcaseAggregate.class);
+        fixture.registerCommandHandlerInterceptor(new ShowcaseCommandMessageInterceptor<>(true));
+        fixture.registerInjectableResource(showcaseTitleReservation);
+        fixture.registerInjectableResource(commandGateway);
+        fixture.registerInjectableResource(
+                ShowcaseDeadlineScheduler
+                        .builder()
+                        .enabled(true)
+                        .meterRegistry(meterRegistry)
+                        .build());
+    }
+
+    @Test
+    @DisplayName("Scheduling a showcase schedules a start-showcase deadline at its start time")
+    void scheduleShowcase_validCommand_schedulesStartShowcaseDeadline() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+
+        fixture.givenNoPriorActivity()
+               .when(command)
+               .expectSuccessfulHandlerExecution()
+               .expectScheduledDeadlineWithName(command.startTime(), START_SHOWCASE_DEADLINE_NAME)
+               .expectState(it -> assertThat(it.getStartDeadlineId()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("The start-showcase deadline dispatches a start command marked with the deadline name")
+    void startShowcaseDeadline_scheduledShowcase_dispatchesStartShowcaseCommand() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+
+        when(commandGateway.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        fixture.givenCommands(command)
+               .whenTimeAdvancesTo(command.startTime())
+               .expectTriggeredDeadlinesWithName(START_SHOWCASE_DEADLINE_NAME)
+               .expectNoEvents();
+
+        verify(commandGateway).send(argThat((CommandMessage<?> message) -> allOf(
+                hasProperty("payload", equalTo(StartShowcaseCommand
+                                                       .builder()
+                                                       .showcaseId(command.showcaseId())
+                                                       .build())),
+                hasProperty("metaData", hasEntry(TRIGGERING_DEADLINE_METADATA_KEY, START_SHOWCASE_DEADLINE_NAME)))
+                .matches(message)));
+    }
+
+    @Test
+    @DisplayName("The start-showcase deadline whose start command fails is counted as skipped")
+    void startShowcaseDeadline_failedStartShowcaseCommand_isCountedAsSkipped() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+        when(commandGateway.send(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Command bus unavailable")));
+
+        fixture.givenCommands(command)
+               .whenTimeAdvancesTo(command.startTime())
+               .expectTriggeredDeadlinesWithName(START_SHOWCASE_DEADLINE_NAME)
+               .expectNoEvents();
+
+        assertThat(meterRegistry
+                           .get("showcaseDeadlines.skipped")
+                           .tag("deadline", START_SHOWCASE_DEADLINE_NAME)
+                           .counter()
+                           .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Starting a showcase on its start-showcase deadline schedules a finish-showcase deadline")
+    void startShowcase_triggeredByStartDeadline_schedulesFinishShowcaseDeadline() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+
+        fixture.givenCommands(command)
+               .andGivenCurrentTime(command.startTime())
+               .when(StartShowcaseCommand
+                             .builder()
+                             .showcaseId(command.showcaseId())
+                             .build(),
+                     Map.of(TRIGGERING_DEADLINE_METADATA_KEY, START_SHOWCASE_DEADLINE_NAME))
+               .expectEvents(ShowcaseStartedEvent
+                                     .builder()
+                                     .showcaseId(command.showcaseId())
+                                     .duration(command.duration())
+                                     .startedAt(command.startTime())
+                                     .build())
+               .expectScheduledDeadlineWithName(
+                       command.startTime().plus(command.duration()), FINISH_SHOWCASE_DEADLINE_NAME)
+               .expectState(it -> {
+                   assertThat(it.getStatus()).isEqualTo(ShowcaseStatus.STARTED);
+                   assertThat(it.getStartDeadlineId()).isNull();
+                   assertThat(it.getFinishDeadlineId()).isNotNull();
+               });
+    }
+
+    @Test
+    @DisplayName("Starting a showcase manually cancels its start-showcase deadline")
+    void startShowcase_pendingStartDeadline_cancelsStartShowcaseDeadline() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+
+        fixture.givenCommands(command)
+               .when(StartShowcaseCommand
+                             .builder()
+                             .showcaseId(command.showcaseId())
+                             .build())
+               .expectSuccessfulHandlerExecution()
+               .expectNoScheduledDeadlineWithName(command.startTime(), START_SHOWCASE_DEADLINE_NAME)
+               .expectScheduledDeadlineWithName(
+                       fixture.currentTime().plus(command.duration()), FINISH_SHOWCASE_DEADLINE_NAME);
+    }
+
+    @Test
+    @DisplayName("The finish-showcase deadline dispatches a finish command marked with the deadline name")
+    void finishShowcaseDeadline_startedShowcase_dispatchesFinishShowcaseCommand() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+        val finishTime = fixture.currentTime().plus(command.duration());
+        when(commandGateway.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        fixture.givenCommands(
+                       command,
+                       StartShowcaseCommand
+                               .builder()
+                               .showcaseId(command.showcaseId())
+                               .build())
+               .whenTimeAdvancesTo(finishTime)
+               .expectTriggeredDeadlinesWithName(FINISH_SHOWCASE_DEADLINE_NAME)
+               .expectNoEvents();
+
+        verify(commandGateway).send(argThat((CommandMessage<?> message) -> allOf(
+                hasProperty("payload", equalTo(FinishShowcaseCommand
+                                                       .builder()
+                                                       .showcaseId(command.showcaseId())
+                                                       .build())),
+                hasProperty("metaData", hasEntry(TRIGGERING_DEADLINE_METADATA_KEY, FINISH_SHOWCASE_DEADLINE_NAME)))
+                .matches(message)));
+    }
+
+    @Test
+    @DisplayName("Finishing a showcase manually cancels its finish-showcase deadline")
+    void finishShowcase_pendingFinishDeadline_cancelsFinishShowcaseDeadline() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+
+        fixture.givenCommands(
+                       command,
+                       StartShowcaseCommand
+                               .builder()
+                               .showcaseId(command.showcaseId())
+                               .build())
+               .when(FinishShowcaseCommand
+                             .builder()
+                             .showcaseId(command.showcaseId())
+                             .build())
+               .expectSuccessfulHandlerExecution()
+               .expectNoScheduledDeadlines();
+    }
+
+    @Test
+    @DisplayName("Removing a scheduled showcase cancels its start-showcase deadline")
+    void removeShowcase_pendingStartDeadline_cancelsStartShowcaseDeadline() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+
+        fixture.givenCommands(command)
+               .when(RemoveShowcaseCommand
+                             .builder()
+                             .showcaseId(command.showcaseId())
+                             .build())
+               .expectSuccessfulHandlerExecution()
+               .expectNoScheduledDeadlines();
+
+        assertThat(meterRegistry
+                           .get("showcaseDeadlines.cancelled")
+                           .tag("deadline", START_SHOWCASE_DEADLINE_NAME)
+                           .counter()
+                           .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Removing a started showcase cancels its finish-showcase deadline")
+    void removeShowcase_pendingFinishDeadline_cancelsFinishShowcaseDeadline() {
+        val command = aScheduleShowcaseCommand(fixture.currentTime());
+
+        fixture.givenCommands(
+                       command,
+                       StartShowcaseCommand
+                               .builder()
+                               .showcaseId(command.showcaseId())
+                               .build())
+               .when(RemoveShowcaseCommand
+                             .builder()
+                             .showcaseId(command.showcaseId())
+                             .build())
+               .expectSuccessfulHandlerExecution()
+               .expectNoScheduledDeadlines();
+    }
+}
@@ -0,0 +1,173 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.commandhandling.callbacks.FutureCallback;
+import org.axonframework.modelling.command.ConcurrencyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showcase.command.ShowcaseCommandProperties.LocalSegment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
+
+@DisplayName("Showcase asynchronous command bus component tests")
+class ShowcaseAsyncCommandBusCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ShowcaseAsyncCommandBus commandBus =
+            new ShowcaseAsyncCommandBus(
+                    SimpleCommandBus.builder(),
+                    new LocalSegment(true, 1, 2),
+                    1,
+                    command -> command.getPayload().toString().substring(0, 1),
+                    meterRegistry);
+
+    private final List<String> handled = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        commandBus.close();
+    }
+
+    @Test
+    @DisplayName("The commands with the same routing key are handled in their order of arrival")
+    void dispatch_sameRoutingKey_isHandledInOrder() throws Exception {
+        subscribe(true);
+
+        val first = dispatch("a1");
+        val second = dispatch("a2");
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("a1");
+        assertThat(second.get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("a2");
+        assertThat(handled).containsExactly("a1", "a2");
+    }
+
+    @Test
+    @DisplayName("A command beyond the queue capacity is rejected")
+    void dispatch_fullQueue_isRejected() throws Exception {
+        subscribe(true);
+
+        val active = dispatch("a1");
+        awaitHandling("a1");
+        dispatch("b1");
+        dispatch("c1");
+        val rejected = dispatch("d1");
+
+        assertThat(rejected.get(5, TimeUnit.SECONDS).exceptionResult())
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.rejected").counter().count()).isOne();
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.active").gauge().value()).isOne();
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.queued").gauge().value()).isEqualTo(2);
+
+        release.countDown();
+        assertThat(active.get(5, TimeUnit.SECONDS).isExceptional()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A command whose routing key cannot be resolved takes no queue capacity")
+    void dispatch_failedRouting_takesNoQueueCapacity() throws Exception {
+        subscribe(false);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> dispatch("")).isInstanceOf(StringIndexOutOfBoundsException.class);
+        }
+        val result = dispatch("a1");
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("a1");
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("The handler interceptors apply on the virtual thread of the command")
+    void dispatch_handlerInterceptor_appliesOnVirtualThread() throws Exception {
+        val virtual = new AtomicBoolean();
+        commandBus.registerHandlerInterceptor((unitOfWork, interceptorChain) -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            return interceptorChain.proceed();
+        });
+        subscribe(false);
+
+        val result = dispatch("a1");
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("a1");
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    @DisplayName("A command failed with a conflict is handled again")
+    void dispatch_conflict_isRetried() throws Exception {
+        subscribeConflicting(1);
+
+        val result = dispatch("a1");
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("a1");
+        assertThat(handled).containsExactly("a1", "a1");
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.conflicts").counter().count()).isOne();
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.retries").counter().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("A command still conflicting once its retries are exhausted fails with the conflict")
+    void dispatch_conflictBeyondRetries_fails() throws Exception {
+        subscribeConflicting(2);
+
+        val result = dispatch("a1");
+
+        assertThat(result.get(5, TimeUnit.SECONDS).exceptionResult()).isInstanceOf(ConcurrencyException.class);
+        assertThat(handled).containsExactly("a1", "a1");
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.conflicts").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("showcaseAsyncCommandBus.retries").counter().count()).isOne();
+    }
+
+    private void subscribeConflicting(int conflicts) {
+        commandBus.subscribe(String.class.getName(), command -> {
+            val payload = (String) command.getPayload();
+            handled.add(payload);
+            if (handled.size() <= conflicts) {
+                throw new ConcurrencyException("Conflicting append");
+            }
+            return payload;
+        });
+    }
+
+    private void subscribe(boolean blockFirst) {
+        commandBus.subscribe(String.class.getName(), command -> {
+            val payload = (String) command.getPayload();
+            handled.add(payload);
+            if (blockFirst && handled.size() == 1) {
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return payload;
+        });
+    }
+
+    private void awaitHandling(String payload) throws InterruptedException {
+        while (!handled.contains(payload)) {
+            Thread.sleep(10);
+        }
+    }
+
+    private FutureCallback<String, Object> dispatch(String payload) {
+        val callback = new FutureCallback<String, Object>();
+        CommandMessage<String> command = asCommandMessage(payload);
+        commandBus.dispatch(command, callback);
+        return callback;
+    }
+}
@@ -0,0 +1,119 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showcase.command.ShowcaseCommandProperties.CommandOutcomeCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static showcase.command.RandomCommandTestUtils.aScheduleShowcaseCommand;
+
+@DisplayName("Showcase command outcome cache component tests")
+class ShowcaseCommandOutcomeCacheCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ShowcaseCommandOutcomeCache commandOutcomeCache =
+            new ShowcaseCommandOutcomeCache(new CommandOutcomeCache(true, 100, Duration.ofMinutes(5)), meterRegistry);
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Test
+    @DisplayName("A retry of the last completed command is answered without being handled")
+    void handle_retriedCommand_isAnsweredFromCache() {
+        val command = aScheduleShowcaseCommand();
+
+        val first = dispatch(command, () -> {
+            handled.incrementAndGet();
+            return command.showcaseId();
+        });
+        val retry = dispatch(command, this::fail);
+
+        assertThat(first.getPayload()).isEqualTo(command.showcaseId());
+        assertThat(retry.getPayload()).isEqualTo(command.showcaseId());
+        assertThat(handled).hasValue(1);
+        assertThat(meterRegistry.get("showcaseCommandOutcomeCache.hits").counter().count()).isOne();
+        assertThat(meterRegistry.get("showcaseCommandOutcomeCache.misses").counter().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("A command differing from the last completed one is handled")
+    void handle_differentCommand_isHandled() {
+        val command = aScheduleShowcaseCommand();
+        val other = command.toBuilder().title(command.title() + "!").build();
+
+        dispatch(command, this::succeed);
+        dispatch(other, this::succeed);
+
+        assertThat(handled).hasValue(2);
+        assertThat(meterRegistry.get("showcaseCommandOutcomeCache.hits").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("A retry after an event applied on the showcase is handled")
+    void handle_retryAfterAppliedEvent_isHandled() {
+        val command = aScheduleShowcaseCommand();
+        dispatch(command, this::succeed);
+        EventMessage<?> event = new GenericDomainEventMessage<>("ShowcaseAggregate", command.showcaseId(), 1, "event");
+
+        commandOutcomeCache.handle(List.of(event)).apply(0, event);
+        dispatch(command, this::succeed);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A retry of a failed command is handled")
+    void handle_retryOfFailedCommand_isHandled() {
+        val command = aScheduleShowcaseCommand();
+
+        val failed = dispatch(command, this::fail);
+        dispatch(command, this::succeed);
+
+        assertThat(failed.isExceptional()).isTrue();
+        assertThat(handled).hasValue(1);
+        assertThat(meterRegistry.get("showcaseCommandOutcomeCache.misses").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A retry after the cache is cleared is handled")
+    void handle_retryAfterClear_isHandled() {
+        val command = aScheduleShowcaseCommand();
+        dispatch(command, this::succeed);
+
+        commandOutcomeCache.clear();
+        dispatch(command, this::succeed);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    private Object succeed() {
+        handled.incrementAndGet();
+        return "handled";
+    }
+
+    private Object fail() {
+        throw new ShowcaseCommandException(
+                ShowcaseCommandErrorDetails
+                        .builder()
+                        .errorCode(ShowcaseCommandErrorCode.ILLEGAL_STATE)
+                        .errorMessage("Showcase cannot be rescheduled")
+                        .build());
+    }
+
+    private ResultMessage<?> dispatch(ShowcaseCommand command, InterceptorChain interceptorChain) {
+        val unitOfWork = DefaultUnitOfWork.startAndGet(GenericCommandMessage.asCommandMessage(command));
+        return unitOfWork.executeWithResult(() -> commandOutcomeCache.handle(unitOfWork, interceptorChain));
+    }
+}
@@ -14,6 +14,11 @@ import org.springframework.boot.test.context.ConfigDataApplicationContextInitial
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.SystemEnvironmentPropertySource;
+import showcase.command.ShowcaseCommandProperties.CommandBusTransport;
+import showcase.command.ShowcaseCommandProperties.DeadlineMode;
+import showcase.command.ShowcaseCommandProperties.LockingMode;
+import showcase.command.ShowcaseCommandProperties.RSocketDiscoveryMode;
+import showcase.serialization.SerializationFormat;
 
 import java.time.Duration;
 import java.util.List;
@@ -41,6 +46,90 @@ class ShowcaseCommandPropertiesCT {
             val properties = context.getBean(ShowcaseCommandProperties.class);
             assertThat(properties.isExitAfterFlywayMigration()).isFalse();
             assertThat(properties.isValidationEnabled()).isTrue();
+            assertThat(properties.getDeadlineMode()).isEqualTo(DeadlineMode.SAGA);
+            assertThat(properties.getCommandBusTransport()).isEqualTo(CommandBusTransport.JGROUPS);
+            assertThat(properties.getEventSerializationFormat()).isEqualTo(SerializationFormat.JSON);
+            assertThat(properties.getRsocket()).satisfies(rsocket -> {
+                assertThat(rsocket.getPort()).isEqualTo(7900);
+                assertThat(rsocket.getAdvertisedHost()).isEqualTo("localhost");
+                assertThat(rsocket.getDiscovery()).isEqualTo(RSocketDiscoveryMode.STATIC);
+                assertThat(rsocket.getMembers()).containsExactly("localhost:7900");
+                assertThat(rsocket.getRefreshInterval()).isEqualTo(Duration.ofSeconds(5));
+                assertThat(rsocket.getMaxInFlight()).isEqualTo(256);
+                assertThat(rsocket.getQueueCapacity()).isEqualTo(1024);
+                assertThat(rsocket.getRequestTimeout()).isEqualTo(Duration.ofSeconds(30));
+            });
+            assertThat(properties.getDeadlineTimer()).satisfies(deadlineTimer -> {
+                assertThat(deadlineTimer.isEnabled()).isFalse();
+                assertThat(deadlineTimer.getTickDuration()).isEqualTo(Duration.ofMillis(10));
+                assertThat(deadlineTimer.getWheelSize()).isEqualTo(64);
+                assertThat(deadlineTimer.getHorizon()).isEqualTo(Duration.ofMinutes(1));
+                assertThat(deadlineTimer.getCapacity()).isEqualTo(100000);
+            });
+            assertThat(properties.getLocalSegment()).satisfies(localSegment -> {
+                assertThat(localSegment.isAsync()).isFalse();
+                assertThat(localSegment.getMaxConcurrency()).isEqualTo(64);
+                assertThat(localSegment.getQueueCapacity()).isEqualTo(1024);
+            });
+            assertThat(properties.getAggregateLocking()).satisfies(aggregateLocking -> {
+                assertThat(aggregateLocking.getMode()).isEqualTo(LockingMode.PESSIMISTIC);
+                assertThat(aggregateLocking.getMaxRetries()).isEqualTo(3);
+            });
+            assertThat(properties.getCommandBatching()).satisfies(commandBatching -> {
+                assertThat(commandBatching.isEnabled()).isFalse();
+                assertThat(commandBatching.getMaxBatchSize()).isEqualTo(32);
+                assertThat(commandBatching.getMaxDelay()).isEqualTo(Duration.ofMillis(2));
+            });
+            assertThat(properties.getDynamicLoadFactor()).satisfies(dynamicLoadFactor -> {
+                assertThat(dynamicLoadFactor.isEnabled()).isFalse();
+                assertThat(dynamicLoadFactor.getInterval()).isEqualTo(Duration.ofSeconds(10));
+                assertThat(dynamicLoadFactor.getSmoothing()).isEqualTo(0.3);
+                assertThat(dynamicLoadFactor.getHysteresis()).isEqualTo(0.2);
+                assertThat(dynamicLoadFactor.getMinLoadFactor()).isEqualTo(10);
+                assertThat(dynamicLoadFactor.getCpuTarget()).isEqualTo(0.75);
+                assertThat(dynamicLoadFactor.getLatencyTarget()).isEqualTo(Duration.ofMillis(250));
+                assertThat(dynamicLoadFactor.getInFlightTarget()).isEqualTo(64);
+            });
+            assertThat(properties.getCommandOutcomeCache()).satisfies(commandOutcomeCache -> {
+                assertThat(commandOutcomeCache.isEnabled()).isFalse();
+                assertThat(commandOutcomeCache.getMaximumSize()).isEqualTo(10000);
+                assertThat(commandOutcomeCache.getExpiresAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+            });
+            assertThat(properties.getTombstoneCache()).satisfies(tombstoneCache -> {
+                assertThat(tombstoneCache.isEnabled()).isFalse();
+                assertThat(tombstoneCache.getMaximumSize()).isEqualTo(100000);
+                assertThat(tombstoneCache.getExpiresAfterWrite()).isEqualTo(Duration.ofHours(1));
+            });
+            assertThat(properties.getEventCompression()).satisfies(eventCompression -> {
+                assertThat(eventCompression.isEnabled()).isFalse();
+                assertThat(eventCompression.getThreshold()).isEqualTo(512);
+            });
+            assertThat(properties.getEventPublishing()).satisfies(eventPublishing -> {
+                assertThat(eventPublishing.isBatched()).isFalse();
+                assertThat(eventPublishing.getBatchSize()).isEqualTo(100);
+                assertThat(eventPublishing.getLinger()).isEqualTo(Duration.ofMillis(5));
+                assertThat(eventPublishing.getProducerBatchSize()).isEqualTo(131072);
+            });
+            assertThat(properties.getPostCommitPublishing()).satisfies(postCommitPublishing -> {
+                assertThat(postCommitPublishing.isEnabled()).isFalse();
+                assertThat(postCommitPublishing.getCatchUpDelay()).isEqualTo(Duration.ofSeconds(5));
+                assertThat(postCommitPublishing.getFlushInterval()).isEqualTo(Duration.ofMillis(500));
+                assertThat(postCommitPublishing.getWatermarkCacheSize()).isEqualTo(100000);
+            });
+            assertThat(properties.getEventNotification()).satisfies(eventNotification -> {
+                assertThat(eventNotification.isEnabled()).isFalse();
+                assertThat(eventNotification.getFallbackFetchDelay()).isEqualTo(Duration.ofSeconds(10));
+                assertThat(eventNotification.getReconnectDelay()).isEqualTo(Duration.ofSeconds(1));
+            });
+            assertThat(properties.getEventReplica()).satisfies(eventReplica -> {
+                assertThat(eventReplica.isEnabled()).isFalse();
+                assertThat(eventReplica.getUrl()).isEqualTo("jdbc:postgresql://localhost/showcase-events");
+                assertThat(eventReplica.getUsername()).isEqualTo("showcase");
+                assertThat(eventReplica.getPassword()).isEmpty();
+                assertThat(eventReplica.getMaximumPoolSize()).isEqualTo(10);
+                assertThat(eventReplica.getMaxLag()).isEqualTo(Duration.ofSeconds(5));
+                assertThat(eventReplica.getLagCheckInterval()).isEqualTo(Duration.ofSeconds(1));
+            });
             assertThat(properties.getShowcaseCache()).satisfies(cache -> {
                 assertThat(cache.getMaximumSize()).isEqualTo(1000);
                 assertThat(cache.getExpiresAfterAccess()).isEqualTo(Duration.ofMinutes(10));
@@ -56,8 +145,23 @@ class ShowcaseCommandPropertiesCT {
                 assertThat(cache.getExpiresAfterAccess()).isEqualTo(Duration.ofMinutes(10));
                 assertThat(cache.getExpiresAfterWrite()).isEqualTo(Duration.ofMinutes(5));
             });
-            assertThat(properties.getShowcaseSnapshotTrigger().getLoadTimeThreshold())
-                    .isEqualTo(Duration.ofMillis(500));
+            assertThat(properties.getSagaProcessor()).satisfies(sagaProcessor -> {
+                assertThat(sagaProcessor.isBalancingEnabled()).isFalse();
+                assertThat(sagaProcessor.getBalancingInterval()).isEqualTo(Duration.ofSeconds(10));
+                assertThat(sagaProcessor.getSplitLagThreshold()).isEqualTo(1000);
+                assertThat(sagaProcessor.getMergeLagThreshold()).isEqualTo(10);
+                assertThat(sagaProcessor.getMinSegmentCount()).isEqualTo(1);
+                assertThat(sagaProcessor.getMaxSegmentCount()).isEqualTo(16);
+            });
+            assertThat(properties.getShowcaseSnapshotTrigger()).satisfies(showcaseSnapshotTrigger -> {
+                assertThat(showcaseSnapshotTrigger.getLoadTimeThreshold()).isEqualTo(Duration.ofMillis(500));
+                assertThat(showcaseSnapshotTrigger.getLoadTimeMinEventCount()).isEqualTo(10);
+                assertThat(showcaseSnapshotTrigger.getEventCountThreshold()).isEqualTo(50);
+            });
+            assertThat(properties.getSnapshotExecutor()).satisfies(snapshotExecutor -> {
+                assertThat(snapshotExecutor.getMaxConcurrency()).isEqualTo(2);
+                assertThat(snapshotExecutor.getQueueCapacity()).isEqualTo(256);
+            });
         });
     }
 
@@ -66,14 +170,83 @@ class ShowcaseCommandPropertiesCT {
     void applicationYmlPlaceholdersBindDocumentedDefaults() {
         ymlContextRunner.run(context -> {
             val properties = context.getBean(ShowcaseCommandProperties.class);
+            assertThat(properties.getDeadlineMode()).isEqualTo(DeadlineMode.SAGA);
+            assertThat(properties.getCommandBusTransport()).isEqualTo(CommandBusTransport.JGROUPS);
+            assertThat(properties.getEventSerializationFormat()).isEqualTo(SerializationFormat.JSON);
+            assertThat(properties.getRsocket().getPort()).isEqualTo(7900);
+            assertThat(properties.getRsocket().getAdvertisedHost()).isEqualTo("localhost");
+            assertThat(properties.getRsocket().getDiscovery()).isEqualTo(RSocketDiscoveryMode.STATIC);
+            assertThat(properties.getRsocket().getMembers()).containsExactly("localhost:7900");
+            assertThat(properties.getRsocket().getRefreshInterval()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(properties.getRsocket().getMaxInFlight()).isEqualTo(256);
+            assertThat(properties.getRsocket().getQueueCapacity()).isEqualTo(1024);
+            assertThat(properties.getRsocket().getRequestTimeout()).isEqualTo(Duration.ofSeconds(30));
+            assertThat(properties.getDeadlineTimer().isEnabled()).isFalse();
+            assertThat(properties.getDeadlineTimer().getTickDuration()).isEqualTo(Duration.ofMillis(10));
+            assertThat(properties.getDeadlineTimer().getWheelSize()).isEqualTo(64);
+            assertThat(properties.getDeadlineTimer().getHorizon()).isEqualTo(Duration.ofMinutes(1));
+            assertThat(properties.getDeadlineTimer().getCapacity()).isEqualTo(100000);
+            assertThat(properties.getLocalSegment().isAsync()).isFalse();
+            assertThat(properties.getLocalSegment().getMaxConcurrency()).isEqualTo(64);
+            assertThat(properties.getLocalSegment().getQueueCapacity()).isEqualTo(1024);
+            assertThat(properties.getAggregateLocking().getMode()).isEqualTo(LockingMode.PESSIMISTIC);
+            assertThat(properties.getAggregateLocking().getMaxRetries()).isEqualTo(3);
+            assertThat(properties.getCommandBatching().isEnabled()).isFalse();
+            assertThat(properties.getCommandBatching().getMaxBatchSize()).isEqualTo(32);
+            assertThat(properties.getCommandBatching().getMaxDelay()).isEqualTo(Duration.ofMillis(2));
+            assertThat(properties.getDynamicLoadFactor().isEnabled()).isFalse();
+            assertThat(properties.getDynamicLoadFactor().getInterval()).isEqualTo(Duration.ofSeconds(10));
+            assertThat(properties.getDynamicLoadFactor().getSmoothing()).isEqualTo(0.3);
+            assertThat(properties.getDynamicLoadFactor().getHysteresis()).isEqualTo(0.2);
+            assertThat(properties.getDynamicLoadFactor().getMinLoadFactor()).isEqualTo(10);
+            assertThat(properties.getDynamicLoadFactor().getCpuTarget()).isEqualTo(0.75);
+            assertThat(properties.getDynamicLoadFactor().getLatencyTarget()).isEqualTo(Duration.ofMillis(250));
+            assertThat(properties.getDynamicLoadFactor().getInFlightTarget()).isEqualTo(64);
+            assertThat(properties.getCommandOutcomeCache().isEnabled()).isFalse();
+            assertThat(properties.getCommandOutcomeCache().getMaximumSize()).isEqualTo(10000);
+            assertThat(properties.getCommandOutcomeCache().getExpiresAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(properties.getTombstoneCache().isEnabled()).isFalse();
+            assertThat(properties.getTombstoneCache().getMaximumSize()).isEqualTo(100000);
+            assertThat(properties.getTombstoneCache().getExpiresAfterWrite()).isEqualTo(Duration.ofHours(1));
+            assertThat(properties.getEventCompression().isEnabled()).isFalse();
+            assertThat(properties.getEventCompression().getThreshold()).isEqualTo(512);
+            assertThat(properties.getEventPublishing().isBatched()).isFalse();
+            assertThat(properties.getEventPublishing().getBatchSize()).isEqualTo(100);
+            assertThat(properties.getEventPublishing().getLinger()).isEqualTo(Duration.ofMillis(5));
+            assertThat(properties.getEventPublishing().getProducerBatchSize()).isEqualTo(131072);
+            assertThat(properties.getPostCommitPublishing().isEnabled()).isFalse();
+            assertThat(properties.getPostCommitPublishing().getCatchUpDelay()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(properties.getPostCommitPublishing().getFlushInterval()).isEqualTo(Duration.ofMillis(500));
+            assertThat(properties.getPostCommitPublishing().getWatermarkCacheSize()).isEqualTo(100000);
+            assertThat(properties.getEventNotification().isEnabled()).isFalse();
+            assertThat(properties.getEventNotification().getFallbackFetchDelay()).isEqualTo(Duration.ofSeconds(10));
+            assertThat(properties.getEventNotification().getReconnectDelay()).isEqualTo(Duration.ofSeconds(1));
+            assertThat(properties.getEventReplica().isEnabled()).isFalse();
+            assertThat(properties.getEventReplica().getUrl())
+                    .isEqualTo("jdbc:postgresql://localhost/showcase-events?currentSchema=public&readOnly=true&");
+            assertThat(properties.getEventReplica().getUsername()).isEqualTo("showcase");
+            assertThat(properties.getEventReplica().getPassword()).isEmpty();
+            assertThat(properties.getEventReplica().getMaximumPoolSize()).isEqualTo(10);
+            assertThat(properties.getEventReplica().getMaxLag()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(properties.getEventReplica().getLagCheckInterval()).isEqualTo(Duration.ofSeconds(1));
             assertThat(properties.getSagaCache().getMaximumSize()).isEqualTo(1000);
             assertThat(properties.getSagaCache().getExpiresAfterAccess()).isEqualTo(Duration.ofMinutes(10));
             assertThat(properties.getSagaCache().getExpiresAfterWrite()).isEqualTo(Duration.ofMinutes(5));
             assertThat(properties.getSagaAssociationsCache().getMaximumSize()).isEqualTo(1000);
             assertThat(properties.getSagaAssociationsCache().getExpiresAfterAccess()).isEqualTo(Duration.ofMinutes(10));
             assertThat(properties.getSagaAssociationsCache().getExpiresAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(properties.getSagaProcessor().isBalancingEnabled()).isFalse();
+            assertThat(properties.getSagaProcessor().getBalancingInterval()).isEqualTo(Duration.ofSeconds(10));
+            assertThat(properties.getSagaProcessor().getSplitLagThreshold()).isEqualTo(1000);
+            assertThat(properties.getSagaProcessor().getMergeLagThreshold()).isEqualTo(10);
+            assertThat(properties.getSagaProcessor().getMinSegmentCount()).isEqualTo(1);
+            assertThat(properties.getSagaProcessor().getMaxSegmentCount()).isEqualTo(16);
             assertThat(properties.getShowcaseSnapshotTrigger().getLoadTimeThreshold()).isEqualTo(
                     Duration.ofMillis(500));
+            assertThat(properties.getShowcaseSnapshotTrigger().getLoadTimeMinEventCount()).isEqualTo(10);
+            assertThat(properties.getShowcaseSnapshotTrigger().getEventCountThreshold()).isEqualTo(50);
+            assertThat(properties.getSnapshotExecutor().getMaxConcurrency()).isEqualTo(2);
+            assertThat(properties.getSnapshotExecutor().getQueueCapacity()).isEqualTo(256);
         });
     }
 
@@ -101,6 +274,308 @@ class ShowcaseCommandPropertiesCT {
                             (Consumer<ShowcaseCommandProperties>) properties -> {
                                 assertThat(properties.isValidationEnabled()).isFalse();
                             }),
+                argumentSet("SHOWCASE_COMMAND_DEADLINE_MODE",
+                            Map.of("SHOWCASE_COMMAND_DEADLINE_MODE", "aggregate"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDeadlineMode()).isEqualTo(DeadlineMode.AGGREGATE);
+                            }),
+                argumentSet("SHOWCASE_DEADLINE_TIMER_ENABLED",
+                            Map.of("SHOWCASE_DEADLINE_TIMER_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDeadlineTimer().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_DEADLINE_TIMER_TICK_DURATION",
+                            Map.of("SHOWCASE_DEADLINE_TIMER_TICK_DURATION", "PT0.005S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDeadlineTimer().getTickDuration())
+                                        .isEqualTo(Duration.ofMillis(5));
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_ENABLED",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_INTERVAL",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_INTERVAL", "PT30S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().getInterval())
+                                        .isEqualTo(Duration.ofSeconds(30));
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_SMOOTHING",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_SMOOTHING", "0.5"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().getSmoothing()).isEqualTo(0.5);
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_HYSTERESIS",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_HYSTERESIS", "0.1"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().getHysteresis()).isEqualTo(0.1);
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_MIN_LOAD_FACTOR",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_MIN_LOAD_FACTOR", "5"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().getMinLoadFactor()).isEqualTo(5);
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_CPU_TARGET",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_CPU_TARGET", "0.9"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().getCpuTarget()).isEqualTo(0.9);
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_LATENCY_TARGET",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_LATENCY_TARGET", "PT0.5S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().getLatencyTarget())
+                                        .isEqualTo(Duration.ofMillis(500));
+                            }),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_IN_FLIGHT_TARGET",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_IN_FLIGHT_TARGET", "128"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDynamicLoadFactor().getInFlightTarget()).isEqualTo(128);
+                            }),
+                argumentSet("SHOWCASE_COMMAND_OUTCOME_CACHE_ENABLED",
+                            Map.of("SHOWCASE_COMMAND_OUTCOME_CACHE_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getCommandOutcomeCache().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_COMMAND_OUTCOME_CACHE_MAX_SIZE",
+                            Map.of("SHOWCASE_COMMAND_OUTCOME_CACHE_MAX_SIZE", "500"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getCommandOutcomeCache().getMaximumSize()).isEqualTo(500);
+                            }),
+                argumentSet("SHOWCASE_COMMAND_OUTCOME_CACHE_EXPIRES_AFTER_WRITE",
+                            Map.of("SHOWCASE_COMMAND_OUTCOME_CACHE_EXPIRES_AFTER_WRITE", "PT1M"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getCommandOutcomeCache().getExpiresAfterWrite())
+                                        .isEqualTo(Duration.ofMinutes(1));
+                            }),
+                argumentSet("SHOWCASE_TOMBSTONE_CACHE_ENABLED",
+                            Map.of("SHOWCASE_TOMBSTONE_CACHE_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getTombstoneCache().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_TOMBSTONE_CACHE_MAX_SIZE",
+                            Map.of("SHOWCASE_TOMBSTONE_CACHE_MAX_SIZE", "500"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getTombstoneCache().getMaximumSize()).isEqualTo(500);
+                            }),
+                argumentSet("SHOWCASE_TOMBSTONE_CACHE_EXPIRES_AFTER_WRITE",
+                            Map.of("SHOWCASE_TOMBSTONE_CACHE_EXPIRES_AFTER_WRITE", "PT10M"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getTombstoneCache().getExpiresAfterWrite())
+                                        .isEqualTo(Duration.ofMinutes(10));
+                            }),
+                argumentSet("SHOWCASE_EVENT_COMPRESSION_ENABLED",
+                            Map.of("SHOWCASE_EVENT_COMPRESSION_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventCompression().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_EVENT_COMPRESSION_THRESHOLD",
+                            Map.of("SHOWCASE_EVENT_COMPRESSION_THRESHOLD", "1024"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventCompression().getThreshold()).isEqualTo(1024);
+                            }),
+                argumentSet("SHOWCASE_EVENT_PUBLISHING_BATCHED",
+                            Map.of("SHOWCASE_EVENT_PUBLISHING_BATCHED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventPublishing().isBatched()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_EVENT_PUBLISHING_BATCH_SIZE",
+                            Map.of("SHOWCASE_EVENT_PUBLISHING_BATCH_SIZE", "500"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventPublishing().getBatchSize()).isEqualTo(500);
+                            }),
+                argumentSet("SHOWCASE_EVENT_PUBLISHING_LINGER",
+                            Map.of("SHOWCASE_EVENT_PUBLISHING_LINGER", "PT0.02S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventPublishing().getLinger())
+                                        .isEqualTo(Duration.ofMillis(20));
+                            }),
+                argumentSet("SHOWCASE_EVENT_PUBLISHING_PRODUCER_BATCH_SIZE",
+                            Map.of("SHOWCASE_EVENT_PUBLISHING_PRODUCER_BATCH_SIZE", "262144"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventPublishing().getProducerBatchSize()).isEqualTo(262144);
+                            }),
+                argumentSet("SHOWCASE_POST_COMMIT_PUBLISHING_ENABLED",
+                            Map.of("SHOWCASE_POST_COMMIT_PUBLISHING_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getPostCommitPublishing().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_POST_COMMIT_PUBLISHING_CATCH_UP_DELAY",
+                            Map.of("SHOWCASE_POST_COMMIT_PUBLISHING_CATCH_UP_DELAY", "PT10S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getPostCommitPublishing().getCatchUpDelay())
+                                        .isEqualTo(Duration.ofSeconds(10));
+                            }),
+                argumentSet("SHOWCASE_POST_COMMIT_PUBLISHING_FLUSH_INTERVAL",
+                            Map.of("SHOWCASE_POST_COMMIT_PUBLISHING_FLUSH_INTERVAL", "PT1S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getPostCommitPublishing().getFlushInterval())
+                                        .isEqualTo(Duration.ofSeconds(1));
+                            }),
+                argumentSet("SHOWCASE_POST_COMMIT_PUBLISHING_WATERMARK_CACHE_SIZE",
+                            Map.of("SHOWCASE_POST_COMMIT_PUBLISHING_WATERMARK_CACHE_SIZE", "5000"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getPostCommitPublishing().getWatermarkCacheSize())
+                                        .isEqualTo(5000);
+                            }),
+                argumentSet("SHOWCASE_EVENT_NOTIFICATION_ENABLED",
+                            Map.of("SHOWCASE_EVENT_NOTIFICATION_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventNotification().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_EVENT_NOTIFICATION_FALLBACK_FETCH_DELAY",
+                            Map.of("SHOWCASE_EVENT_NOTIFICATION_FALLBACK_FETCH_DELAY", "PT30S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventNotification().getFallbackFetchDelay())
+                                        .isEqualTo(Duration.ofSeconds(30));
+                            }),
+                argumentSet("SHOWCASE_EVENT_NOTIFICATION_RECONNECT_DELAY",
+                            Map.of("SHOWCASE_EVENT_NOTIFICATION_RECONNECT_DELAY", "PT5S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventNotification().getReconnectDelay())
+                                        .isEqualTo(Duration.ofSeconds(5));
+                            }),
+                argumentSet("SHOWCASE_EVENT_REPLICA_ENABLED",
+                            Map.of("SHOWCASE_EVENT_REPLICA_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventReplica().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_EVENT_REPLICA_HOSTS",
+                            Map.of("SHOWCASE_EVENT_REPLICA_HOSTS", "replica"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventReplica().getUrl())
+                                        .startsWith("jdbc:postgresql://replica/showcase-events?");
+                            }),
+                argumentSet("SHOWCASE_EVENT_REPLICA_POOL_MAX_SIZE",
+                            Map.of("SHOWCASE_EVENT_REPLICA_POOL_MAX_SIZE", "20"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventReplica().getMaximumPoolSize()).isEqualTo(20);
+                            }),
+                argumentSet("SHOWCASE_EVENT_REPLICA_MAX_LAG",
+                            Map.of("SHOWCASE_EVENT_REPLICA_MAX_LAG", "PT10S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventReplica().getMaxLag())
+                                        .isEqualTo(Duration.ofSeconds(10));
+                            }),
+                argumentSet("SHOWCASE_EVENT_REPLICA_LAG_CHECK_INTERVAL",
+                            Map.of("SHOWCASE_EVENT_REPLICA_LAG_CHECK_INTERVAL", "PT2S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventReplica().getLagCheckInterval())
+                                        .isEqualTo(Duration.ofSeconds(2));
+                            }),
+                argumentSet("SHOWCASE_DEADLINE_TIMER_WHEEL_SIZE",
+                            Map.of("SHOWCASE_DEADLINE_TIMER_WHEEL_SIZE", "128"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDeadlineTimer().getWheelSize()).isEqualTo(128);
+                            }),
+                argumentSet("SHOWCASE_DEADLINE_TIMER_HORIZON",
+                            Map.of("SHOWCASE_DEADLINE_TIMER_HORIZON", "PT5M"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDeadlineTimer().getHorizon())
+                                        .isEqualTo(Duration.ofMinutes(5));
+                            }),
+                argumentSet("SHOWCASE_DEADLINE_TIMER_CAPACITY",
+                            Map.of("SHOWCASE_DEADLINE_TIMER_CAPACITY", "5000"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getDeadlineTimer().getCapacity()).isEqualTo(5000);
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BUS_TRANSPORT",
+                            Map.of("SHOWCASE_COMMAND_BUS_TRANSPORT", "rsocket"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getCommandBusTransport()).isEqualTo(CommandBusTransport.RSOCKET);
+                            }),
+                argumentSet("SHOWCASE_EVENT_SERIALIZATION_FORMAT",
+                            Map.of("SHOWCASE_EVENT_SERIALIZATION_FORMAT", "smile"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getEventSerializationFormat())
+                                        .isEqualTo(SerializationFormat.SMILE);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_DISCOVERY",
+                            Map.of("SHOWCASE_RSOCKET_DISCOVERY", "kubernetes"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getDiscovery())
+                                        .isEqualTo(RSocketDiscoveryMode.KUBERNETES);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_MEMBERS",
+                            Map.of("SHOWCASE_RSOCKET_MEMBERS", "host-a:7901,host-b:7902"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getMembers())
+                                        .containsExactly("host-a:7901", "host-b:7902");
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_REFRESH_INTERVAL",
+                            Map.of("SHOWCASE_RSOCKET_REFRESH_INTERVAL", "PT10S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getRefreshInterval())
+                                        .isEqualTo(Duration.ofSeconds(10));
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_MAX_IN_FLIGHT",
+                            Map.of("SHOWCASE_RSOCKET_MAX_IN_FLIGHT", "512"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getMaxInFlight()).isEqualTo(512);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_QUEUE_CAPACITY",
+                            Map.of("SHOWCASE_RSOCKET_QUEUE_CAPACITY", "2048"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getQueueCapacity()).isEqualTo(2048);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_REQUEST_TIMEOUT",
+                            Map.of("SHOWCASE_RSOCKET_REQUEST_TIMEOUT", "PT5S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getRequestTimeout())
+                                        .isEqualTo(Duration.ofSeconds(5));
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_PORT",
+                            Map.of("SHOWCASE_RSOCKET_PORT", "7901"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getPort()).isEqualTo(7901);
+                            }),
+                argumentSet("SHOWCASE_RSOCKET_ADVERTISED_HOST",
+                            Map.of("SHOWCASE_RSOCKET_ADVERTISED_HOST", "10.0.0.1"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getRsocket().getAdvertisedHost()).isEqualTo("10.0.0.1");
+                            }),
+                argumentSet("SHOWCASE_LOCAL_SEGMENT_ASYNC",
+                            Map.of("SHOWCASE_LOCAL_SEGMENT_ASYNC", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getLocalSegment().isAsync()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_LOCAL_SEGMENT_MAX_CONCURRENCY",
+                            Map.of("SHOWCASE_LOCAL_SEGMENT_MAX_CONCURRENCY", "128"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getLocalSegment().getMaxConcurrency()).isEqualTo(128);
+                            }),
+                argumentSet("SHOWCASE_LOCAL_SEGMENT_QUEUE_CAPACITY",
+                            Map.of("SHOWCASE_LOCAL_SEGMENT_QUEUE_CAPACITY", "2048"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getLocalSegment().getQueueCapacity()).isEqualTo(2048);
+                            }),
+                argumentSet("SHOWCASE_AGGREGATE_LOCKING_MODE",
+                            Map.of("SHOWCASE_AGGREGATE_LOCKING_MODE", "optimistic"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getAggregateLocking().getMode())
+                                        .isEqualTo(LockingMode.OPTIMISTIC);
+                            }),
+                argumentSet("SHOWCASE_AGGREGATE_LOCKING_MAX_RETRIES",
+                            Map.of("SHOWCASE_AGGREGATE_LOCKING_MAX_RETRIES", "5"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getAggregateLocking().getMaxRetries()).isEqualTo(5);
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_ENABLED",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getCommandBatching().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE", "64"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getCommandBatching().getMaxBatchSize()).isEqualTo(64);
+                            }),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_DELAY",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_DELAY", "PT0.005S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getCommandBatching().getMaxDelay())
+                                        .isEqualTo(Duration.ofMillis(5));
+                            }),
                 argumentSet("SHOWCASE_CACHE_MAX_SIZE",
                             Map.of("SHOWCASE_CACHE_MAX_SIZE", "2000"),
                             (Consumer<ShowcaseCommandProperties>) properties -> {
@@ -152,11 +627,64 @@ class ShowcaseCommandPropertiesCT {
                                 assertThat(properties.getSagaAssociationsCache().getExpiresAfterWrite())
                                         .isEqualTo(Duration.ofMinutes(15));
                             }),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_BALANCING_ENABLED",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_BALANCING_ENABLED", "true"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSagaProcessor().isBalancingEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_BALANCING_INTERVAL",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_BALANCING_INTERVAL", "PT30S"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSagaProcessor().getBalancingInterval())
+                                        .isEqualTo(Duration.ofSeconds(30));
+                            }),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_SPLIT_LAG_THRESHOLD",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_SPLIT_LAG_THRESHOLD", "5000"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSagaProcessor().getSplitLagThreshold()).isEqualTo(5000);
+                            }),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_MERGE_LAG_THRESHOLD",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_MERGE_LAG_THRESHOLD", "50"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSagaProcessor().getMergeLagThreshold()).isEqualTo(50);
+                            }),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_MIN_SEGMENT_COUNT",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_MIN_SEGMENT_COUNT", "2"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSagaProcessor().getMinSegmentCount()).isEqualTo(2);
+                            }),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_MAX_SEGMENT_COUNT",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_MAX_SEGMENT_COUNT", "32"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSagaProcessor().getMaxSegmentCount()).isEqualTo(32);
+                            }),
                 argumentSet("SHOWCASE_SNAPSHOT_TRIGGER_LOAD_TIME_THRESHOLD",
                             Map.of("SHOWCASE_SNAPSHOT_TRIGGER_LOAD_TIME_THRESHOLD", "PT1S"),
                             (Consumer<ShowcaseCommandProperties>) properties -> {
                                 assertThat(properties.getShowcaseSnapshotTrigger().getLoadTimeThreshold())
                                         .isEqualTo(Duration.ofSeconds(1));
+                            }),
+                argumentSet("SHOWCASE_SNAPSHOT_TRIGGER_LOAD_TIME_MIN_EVENT_COUNT",
+                            Map.of("SHOWCASE_SNAPSHOT_TRIGGER_LOAD_TIME_MIN_EVENT_COUNT", "20"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getShowcaseSnapshotTrigger().getLoadTimeMinEventCount())
+                                        .isEqualTo(20);
+                            }),
+                argumentSet("SHOWCASE_SNAPSHOT_TRIGGER_EVENT_COUNT_THRESHOLD",
+                            Map.of("SHOWCASE_SNAPSHOT_TRIGGER_EVENT_COUNT_THRESHOLD", "100"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getShowcaseSnapshotTrigger().getEventCountThreshold())
+                                        .isEqualTo(100);
+                            }),
+                argumentSet("SHOWCASE_SNAPSHOT_EXECUTOR_MAX_CONCURRENCY",
+                            Map.of("SHOWCASE_SNAPSHOT_EXECUTOR_MAX_CONCURRENCY", "4"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSnapshotExecutor().getMaxConcurrency()).isEqualTo(4);
+                            }),
+                argumentSet("SHOWCASE_SNAPSHOT_EXECUTOR_QUEUE_CAPACITY",
+                            Map.of("SHOWCASE_SNAPSHOT_EXECUTOR_QUEUE_CAPACITY", "512"),
+                            (Consumer<ShowcaseCommandProperties>) properties -> {
+                                assertThat(properties.getSnapshotExecutor().getQueueCapacity()).isEqualTo(512);
                             })
         );
     }
@@ -176,9 +704,85 @@ class ShowcaseCommandPropertiesCT {
 
     static List<Arguments> invalidEnvVars() {
         return List.of(
+                argumentSet("SHOWCASE_DEADLINE_TIMER_TICK_DURATION",
+                            Map.of("SHOWCASE_DEADLINE_TIMER_TICK_DURATION", "PT0S")),
+                argumentSet("SHOWCASE_DEADLINE_TIMER_WHEEL_SIZE", Map.of("SHOWCASE_DEADLINE_TIMER_WHEEL_SIZE", "1")),
+                argumentSet("SHOWCASE_DEADLINE_TIMER_HORIZON", Map.of("SHOWCASE_DEADLINE_TIMER_HORIZON", "PT0.5S")),
+                argumentSet("SHOWCASE_RSOCKET_PORT", Map.of("SHOWCASE_RSOCKET_PORT", "0")),
+                argumentSet("SHOWCASE_RSOCKET_ADVERTISED_HOST", Map.of("SHOWCASE_RSOCKET_ADVERTISED_HOST", " ")),
+                argumentSet("SHOWCASE_RSOCKET_MEMBERS", Map.of("SHOWCASE_RSOCKET_MEMBERS", "")),
+                argumentSet("SHOWCASE_RSOCKET_REFRESH_INTERVAL",
+                            Map.of("SHOWCASE_RSOCKET_REFRESH_INTERVAL", "PT0.01S")),
+                argumentSet("SHOWCASE_RSOCKET_MAX_IN_FLIGHT", Map.of("SHOWCASE_RSOCKET_MAX_IN_FLIGHT", "0")),
+                argumentSet("SHOWCASE_RSOCKET_QUEUE_CAPACITY", Map.of("SHOWCASE_RSOCKET_QUEUE_CAPACITY", "0")),
+                argumentSet("SHOWCASE_RSOCKET_REQUEST_TIMEOUT", Map.of("SHOWCASE_RSOCKET_REQUEST_TIMEOUT", "PT0S")),
+                argumentSet("SHOWCASE_LOCAL_SEGMENT_MAX_CONCURRENCY",
+                            Map.of("SHOWCASE_LOCAL_SEGMENT_MAX_CONCURRENCY", "0")),
+                argumentSet("SHOWCASE_LOCAL_SEGMENT_QUEUE_CAPACITY",
+                            Map.of("SHOWCASE_LOCAL_SEGMENT_QUEUE_CAPACITY", "0")),
+                argumentSet("SHOWCASE_AGGREGATE_LOCKING_MAX_RETRIES",
+                            Map.of("SHOWCASE_AGGREGATE_LOCKING_MAX_RETRIES", "11")),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_BATCH_SIZE", "0")),
+                argumentSet("SHOWCASE_COMMAND_BATCHING_MAX_DELAY",
+                            Map.of("SHOWCASE_COMMAND_BATCHING_MAX_DELAY", "PT2S")),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_INTERVAL",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_INTERVAL", "PT0.5S")),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_SMOOTHING",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_SMOOTHING", "0")),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_HYSTERESIS",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_HYSTERESIS", "1.5")),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_MIN_LOAD_FACTOR",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_MIN_LOAD_FACTOR", "0")),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_CPU_TARGET",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_CPU_TARGET", "0")),
+                argumentSet("SHOWCASE_DYNAMIC_LOAD_FACTOR_IN_FLIGHT_TARGET",
+                            Map.of("SHOWCASE_DYNAMIC_LOAD_FACTOR_IN_FLIGHT_TARGET", "0")),
+                argumentSet("SHOWCASE_COMMAND_OUTCOME_CACHE_MAX_SIZE",
+                            Map.of("SHOWCASE_COMMAND_OUTCOME_CACHE_MAX_SIZE", "0")),
+                argumentSet("SHOWCASE_COMMAND_OUTCOME_CACHE_EXPIRES_AFTER_WRITE",
+                            Map.of("SHOWCASE_COMMAND_OUTCOME_CACHE_EXPIRES_AFTER_WRITE", "PT0S")),
+                argumentSet("SHOWCASE_TOMBSTONE_CACHE_MAX_SIZE",
+                            Map.of("SHOWCASE_TOMBSTONE_CACHE_MAX_SIZE", "0")),
+                argumentSet("SHOWCASE_TOMBSTONE_CACHE_EXPIRES_AFTER_WRITE",
+                            Map.of("SHOWCASE_TOMBSTONE_CACHE_EXPIRES_AFTER_WRITE", "PT0S")),
+                argumentSet("SHOWCASE_EVENT_COMPRESSION_THRESHOLD",
+                            Map.of("SHOWCASE_EVENT_COMPRESSION_THRESHOLD", "-1")),
+                argumentSet("SHOWCASE_EVENT_PUBLISHING_BATCH_SIZE",
+                            Map.of("SHOWCASE_EVENT_PUBLISHING_BATCH_SIZE", "0")),
+                argumentSet("SHOWCASE_EVENT_PUBLISHING_LINGER", Map.of("SHOWCASE_EVENT_PUBLISHING_LINGER", "PT2S")),
+                argumentSet("SHOWCASE_EVENT_PUBLISHING_PRODUCER_BATCH_SIZE",
+                            Map.of("SHOWCASE_EVENT_PUBLISHING_PRODUCER_BATCH_SIZE", "100")),
+                argumentSet("SHOWCASE_POST_COMMIT_PUBLISHING_CATCH_UP_DELAY",
+                            Map.of("SHOWCASE_POST_COMMIT_PUBLISHING_CATCH_UP_DELAY", "PT0.01S")),
+                argumentSet("SHOWCASE_POST_COMMIT_PUBLISHING_FLUSH_INTERVAL",
+                            Map.of("SHOWCASE_POST_COMMIT_PUBLISHING_FLUSH_INTERVAL", "PT1M")),
+                argumentSet("SHOWCASE_POST_COMMIT_PUBLISHING_WATERMARK_CACHE_SIZE",
+                            Map.of("SHOWCASE_POST_COMMIT_PUBLISHING_WATERMARK_CACHE_SIZE", "0")),
+                argumentSet("SHOWCASE_EVENT_NOTIFICATION_FALLBACK_FETCH_DELAY",
+                            Map.of("SHOWCASE_EVENT_NOTIFICATION_FALLBACK_FETCH_DELAY", "PT0.01S")),
+                argumentSet("SHOWCASE_EVENT_NOTIFICATION_RECONNECT_DELAY",
+                            Map.of("SHOWCASE_EVENT_NOTIFICATION_RECONNECT_DELAY", "PT2M")),
+                argumentSet("SHOWCASE_EVENT_REPLICA_POOL_MAX_SIZE",
+                            Map.of("SHOWCASE_EVENT_REPLICA_POOL_MAX_SIZE", "0")),
+                argumentSet("SHOWCASE_EVENT_REPLICA_MAX_LAG", Map.of("SHOWCASE_EVENT_REPLICA_MAX_LAG", "PT1M")),
+                argumentSet("SHOWCASE_EVENT_REPLICA_LAG_CHECK_INTERVAL",
+                            Map.of("SHOWCASE_EVENT_REPLICA_LAG_CHECK_INTERVAL", "PT0.01S")),
+                argumentSet("SHOWCASE_SNAPSHOT_TRIGGER_EVENT_COUNT_THRESHOLD",
+                            Map.of("SHOWCASE_SNAPSHOT_TRIGGER_EVENT_COUNT_THRESHOLD", "0")),
+                argumentSet("SHOWCASE_SNAPSHOT_EXECUTOR_MAX_CONCURRENCY",
+                            Map.of("SHOWCASE_SNAPSHOT_EXECUTOR_MAX_CONCURRENCY", "0")),
+                argumentSet("SHOWCASE_SNAPSHOT_EXECUTOR_QUEUE_CAPACITY",
+                            Map.of("SHOWCASE_SNAPSHOT_EXECUTOR_QUEUE_CAPACITY", "0")),
                 argumentSet("SHOWCASE_CACHE_MAX_SIZE", Map.of("SHOWCASE_CACHE_MAX_SIZE", "-1")),
                 argumentSet("SAGA_CACHE_MAX_SIZE", Map.of("SAGA_CACHE_MAX_SIZE", "-1")),
-                argumentSet("SAGA_ASSOCIATIONS_CACHE_MAX_SIZE", Map.of("SAGA_ASSOCIATIONS_CACHE_MAX_SIZE", "-1"))
+                argumentSet("SAGA_ASSOCIATIONS_CACHE_MAX_SIZE", Map.of("SAGA_ASSOCIATIONS_CACHE_MAX_SIZE", "-1")),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_BALANCING_INTERVAL",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_BALANCING_INTERVAL", "PT0.1S")),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_SPLIT_LAG_THRESHOLD",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_SPLIT_LAG_THRESHOLD", "0")),
+                argumentSet("SHOWCASE_SAGA_PROCESSOR_MAX_SEGMENT_COUNT",
+                            Map.of("SHOWCASE_SAGA_PROCESSOR_MAX_SEGMENT_COUNT", "0"))
         );
     }
 
@@ -0,0 +1,83 @@
+package showcase.command;
+
+import lombok.val;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static showcase.command.RandomCommandTestUtils.aScheduleShowcaseCommand;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+
+@DisplayName("Showcase consistency token interceptor component tests")
+class ShowcaseConsistencyTokenInterceptorCT {
+
+    private final ShowcaseConsistencyTokenInterceptor consistencyTokenInterceptor =
+            new ShowcaseConsistencyTokenInterceptor();
+
+    @Test
+    @DisplayName("A command applying events is answered with the sequence number of the last one")
+    void handle_commandApplyingEvents_isAnsweredWithLastSequenceNumber() {
+        val command = aScheduleShowcaseCommand();
+
+        val result = dispatch(command, () -> {
+            apply(command.showcaseId(), 3);
+            apply(command.showcaseId(), 4);
+            return command.showcaseId();
+        });
+
+        assertThat(result.getPayload()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("A command applying events on other aggregates only is answered with no token")
+    void handle_commandApplyingOtherEvents_isAnsweredWithNoToken() {
+        val command = aScheduleShowcaseCommand();
+
+        val result = dispatch(command, () -> {
+            apply(aShowcaseId(), 0);
+            return command.showcaseId();
+        });
+
+        assertThat(result.getPayload()).isNull();
+    }
+
+    @Test
+    @DisplayName("A command applying no event is answered with no token")
+    void handle_commandApplyingNoEvent_isAnsweredWithNoToken() {
+        val command = aScheduleShowcaseCommand();
+
+        val result = dispatch(command, command::showcaseId);
+
+        assertThat(result.getPayload()).isNull();
+    }
+
+    @Test
+    @DisplayName("A command other than a showcase one is answered with its result")
+    void handle_otherCommand_isAnsweredWithItsResult() {
+        val result = dispatch("command", () -> {
+            apply(aShowcaseId(), 0);
+            return "handled";
+        });
+
+        assertThat(result.getPayload()).isEqualTo("handled");
+    }
+
+    private void apply(String showcaseId, long sequenceNumber) {
+        EventMessage<?> event =
+                new GenericDomainEventMessage<>("ShowcaseAggregate", showcaseId, sequenceNumber, "event");
+        consistencyTokenInterceptor.handle(List.of(event)).apply(0, event);
+    }
+
+    private ResultMessage<?> dispatch(Object command, InterceptorChain interceptorChain) {
+        val unitOfWork = DefaultUnitOfWork.startAndGet(GenericCommandMessage.asCommandMessage(command));
+        return unitOfWork.executeWithResult(() -> consistencyTokenInterceptor.handle(unitOfWork, interceptorChain));
+    }
+}
@@ -0,0 +1,111 @@
+package showcase.command;
+
+import com.github.kagkarlsson.scheduler.Scheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.deadline.GenericDeadlineMessage;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import showcase.command.ShowcaseCommandProperties.DeadlineTimer;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static showcase.command.ShowcaseCommandConstants.START_SHOWCASE_DEADLINE_NAME;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showcase deadline timer component tests")
+class ShowcaseDeadlineTimerCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private Scheduler scheduler;
+
+    @Test
+    @DisplayName("A deadline due within the horizon wakes the scheduler up once its tick is reached")
+    void advanceTo_trackedDeadlineDue_wakesSchedulerUp() {
+        val timer = aTimer(true);
+        val triggerTime = Instant.now().plusMillis(500);
+        timer.handle(GenericDeadlineMessage.asDeadlineMessage(START_SHOWCASE_DEADLINE_NAME, "id", triggerTime));
+
+        timer.advanceTo(triggerTime.minusMillis(20));
+
+        verify(scheduler, never()).triggerCheckForDueExecutions();
+
+        timer.advanceTo(triggerTime.plusMillis(10));
+
+        verify(scheduler).triggerCheckForDueExecutions();
+        assertThat(meterRegistry.get("showcaseDeadlineTimer.wakeUps").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("showcaseDeadlineTimer.pendingTicks").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deadlines due in the same tick wake the scheduler up once")
+    void advanceTo_deadlinesDueInSameTick_wakeSchedulerUpOnce() {
+        val timer = aTimer(true);
+        val triggerTime = Instant.now().plusMillis(500);
+        timer.track(triggerTime, Instant.now());
+        timer.track(triggerTime, Instant.now());
+
+        timer.advanceTo(triggerTime.plusMillis(10));
+
+        verify(scheduler).triggerCheckForDueExecutions();
+    }
+
+    @Test
+    @DisplayName("A deadline due beyond the horizon is left to polling")
+    void track_deadlineBeyondHorizon_isNotTracked() {
+        val timer = aTimer(true);
+        val now = Instant.now();
+        val triggerTime = now.plus(Duration.ofMinutes(2));
+        timer.track(triggerTime, now);
+
+        timer.advanceTo(triggerTime.plusMillis(10));
+
+        verify(scheduler, never()).triggerCheckForDueExecutions();
+    }
+
+    @Test
+    @DisplayName("A deadline scheduled within a unit of work is tracked only once it is committed")
+    void handle_withinUnitOfWork_tracksDeadlineAfterCommit() {
+        val timer = aTimer(true);
+        val triggerTime = Instant.now().plusMillis(500);
+        val message = GenericDeadlineMessage.asDeadlineMessage(START_SHOWCASE_DEADLINE_NAME, "id", triggerTime);
+        val unitOfWork = DefaultUnitOfWork.startAndGet(message);
+
+        timer.handle(message);
+
+        assertThat(meterRegistry.get("showcaseDeadlineTimer.pendingTicks").gauge().value()).isZero();
+
+        unitOfWork.commit();
+
+        assertThat(meterRegistry.get("showcaseDeadlineTimer.pendingTicks").gauge().value()).isOne();
+    }
+
+    @Test
+    @DisplayName("A deadline is not tracked when the timer is disabled")
+    void handle_timerDisabled_doesNotTrackDeadline() {
+        val timer = aTimer(false);
+        val triggerTime = Instant.now().plusMillis(500);
+        timer.handle(GenericDeadlineMessage.asDeadlineMessage(START_SHOWCASE_DEADLINE_NAME, "id", triggerTime));
+
+        timer.advanceTo(triggerTime.plusMillis(10));
+
+        verify(scheduler, never()).triggerCheckForDueExecutions();
+    }
+
+    private ShowcaseDeadlineTimer aTimer(boolean enabled) {
+        return new ShowcaseDeadlineTimer(
+                scheduler,
+                new DeadlineTimer(enabled, Duration.ofMillis(10), 8, Duration.ofMinutes(1), 1000),
+                meterRegistry);
+    }
+}
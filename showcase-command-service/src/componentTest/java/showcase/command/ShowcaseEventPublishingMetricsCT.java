@@ -0,0 +1,70 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Showcase event publishing metrics component tests")
+class ShowcaseEventPublishingMetricsCT {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ShowcaseEventPublishingMetrics metrics = new ShowcaseEventPublishingMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        GenericEventMessage.clock = Clock.systemUTC();
+    }
+
+    @Test
+    @DisplayName("The events of a unit of work are recorded together once it commits")
+    void handle_committedBatch_recordsEventsTogether() {
+        val unitOfWork = new BatchingUnitOfWork<EventMessage<?>>(List.of(anEvent("a"), anEvent("b"), anEvent("c")));
+        GenericEventMessage.clock = Clock.fixed(CREATED_AT.plusMillis(100), ZoneOffset.UTC);
+
+        unitOfWork.executeWithResult(() -> metrics.handle(unitOfWork, () -> null));
+
+        assertThat(meterRegistry.get("showcaseEventPublishing.published").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("showcaseEventPublishing.batchSize").summary().count()).isOne();
+        assertThat(meterRegistry.get("showcaseEventPublishing.batchSize").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("showcaseEventPublishing.latency").timer()).satisfies(timer -> {
+            assertThat(timer.count()).isEqualTo(3);
+            assertThat(timer.max(TimeUnit.MILLISECONDS)).isEqualTo(Duration.ofMillis(100).toMillis());
+        });
+    }
+
+    @Test
+    @DisplayName("The events of a rolled back unit of work are not recorded")
+    void handle_rolledBackBatch_recordsNothing() {
+        val unitOfWork = new BatchingUnitOfWork<EventMessage<?>>(List.of(anEvent("a"), anEvent("b")));
+
+        unitOfWork.executeWithResult(() -> metrics.handle(unitOfWork, () -> {
+            throw new IllegalStateException("publication failed");
+        }));
+
+        assertThat(meterRegistry.get("showcaseEventPublishing.published").counter().count()).isZero();
+        assertThat(meterRegistry.get("showcaseEventPublishing.batchSize").summary().count()).isZero();
+        assertThat(meterRegistry.get("showcaseEventPublishing.latency").timer().count()).isZero();
+    }
+
+    private static EventMessage<?> anEvent(String payload) {
+        GenericEventMessage.clock = Clock.fixed(CREATED_AT, ZoneOffset.UTC);
+        return GenericEventMessage.asEventMessage(payload);
+    }
+}
@@ -0,0 +1,166 @@
+package showcase.command;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.axonframework.eventhandling.GapAwareTrackingToken;
+import org.axonframework.eventsourcing.eventstore.jdbc.EventSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import showcase.command.ShowcaseCommandProperties.EventReplica;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Showcase event replica component tests")
+class ShowcaseEventReplicaCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final JdbcTemplate primaryJdbcTemplate = mock(JdbcTemplate.class);
+
+    private final JdbcTemplate replicaJdbcTemplate = mock(JdbcTemplate.class);
+
+    private final ShowcaseEventReplica eventReplica =
+            new ShowcaseEventReplica(
+                    mock(HikariDataSource.class),
+                    primaryJdbcTemplate,
+                    replicaJdbcTemplate,
+                    EventSchema.builder().build(),
+                    new EventReplica(
+                            true,
+                            "jdbc:postgresql://localhost/showcase-events",
+                            "showcase",
+                            "",
+                            10,
+                            Duration.ofSeconds(5),
+                            Duration.ofSeconds(1)),
+                    meterRegistry);
+
+    @Test
+    @DisplayName("The replica covers no token before the lag is first measured")
+    void covers_notMeasured_isFalse() {
+        assertThat(eventReplica.covers(null)).isFalse();
+        assertThat(eventReplica.covers(aTrackingToken(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("The replica within the maximum lag covers the tokens up to its highest global index")
+    void covers_tokenUpToReplicaIndex_isTrue() throws SQLException {
+        givenPrimaryIndex(12L);
+        givenReplica(10L, 1.5);
+
+        eventReplica.measureLag();
+
+        assertThat(eventReplica.covers(null)).isTrue();
+        assertThat(eventReplica.covers(aTrackingToken(9))).isTrue();
+        assertThat(eventReplica.covers(aTrackingToken(10))).isTrue();
+        assertThat(meterRegistry.get("showcaseEventReplica.lagEvents").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("showcaseEventReplica.lagTime").timeGauge().value(TimeUnit.SECONDS))
+                .isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("A token read from the primary past the highest global index of the replica stays on the primary")
+    void covers_tokenPastReplicaIndex_isFalse() throws SQLException {
+        givenPrimaryIndex(12L);
+        givenReplica(10L, 1.5);
+
+        eventReplica.measureLag();
+
+        assertThat(eventReplica.covers(aTrackingToken(11))).isFalse();
+    }
+
+    @Test
+    @DisplayName("The replica lagging beyond the maximum covers no token")
+    void covers_lagAboveMaximum_isFalse() throws SQLException {
+        givenPrimaryIndex(12L);
+        givenReplica(10L, 5.001);
+
+        eventReplica.measureLag();
+
+        assertThat(eventReplica.covers(null)).isFalse();
+        assertThat(eventReplica.covers(aTrackingToken(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("The replica lagging by exactly the maximum still covers the tokens")
+    void covers_lagAtMaximum_isTrue() throws SQLException {
+        givenPrimaryIndex(12L);
+        givenReplica(10L, 5.0);
+
+        eventReplica.measureLag();
+
+        assertThat(eventReplica.covers(aTrackingToken(10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("The replay lag of a replica caught up with the primary is ignored")
+    void covers_caughtUpReplica_isTrue() throws SQLException {
+        givenPrimaryIndex(10L);
+        givenReplica(10L, 60.0);
+
+        eventReplica.measureLag();
+
+        assertThat(eventReplica.covers(aTrackingToken(10))).isTrue();
+        assertThat(meterRegistry.get("showcaseEventReplica.lagTime").timeGauge().value(TimeUnit.SECONDS)).isZero();
+    }
+
+    @Test
+    @DisplayName("The empty event store is covered from the tail only")
+    void covers_emptyEventStore_coversTailOnly() throws SQLException {
+        givenPrimaryIndex(null);
+        givenReplica(null, 0.0);
+
+        eventReplica.measureLag();
+
+        assertThat(eventReplica.covers(null)).isTrue();
+        assertThat(eventReplica.covers(aTrackingToken(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("A failed measure resets the lag, so that the replica no longer covers any token")
+    void measureLag_failure_resetsLag() throws SQLException {
+        givenPrimaryIndex(12L);
+        givenReplica(10L, 1.5);
+        eventReplica.measureLag();
+        when(replicaJdbcTemplate.queryForObject(anyString(), any(RowMapper.class)))
+                .thenThrow(new DataAccessResourceFailureException("Replica unavailable"));
+
+        eventReplica.measureLag();
+
+        assertThat(eventReplica.covers(null)).isFalse();
+        assertThat(eventReplica.covers(aTrackingToken(0))).isFalse();
+        assertThat(meterRegistry.get("showcaseEventReplica.lagEvents").gauge().value()).isZero();
+        assertThat(meterRegistry.get("showcaseEventReplica.lagTime").timeGauge().value(TimeUnit.SECONDS)).isZero();
+    }
+
+    private void givenPrimaryIndex(Long primaryIndex) {
+        when(primaryJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(primaryIndex);
+    }
+
+    private void givenReplica(Long replicaIndex, double seconds) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject(1)).thenReturn(replicaIndex);
+        when(resultSet.getLong(1)).thenReturn(replicaIndex != null ? replicaIndex : 0);
+        when(resultSet.getDouble(2)).thenReturn(seconds);
+        when(replicaJdbcTemplate.queryForObject(anyString(), any(RowMapper.class)))
+                .thenAnswer(invocation -> invocation.<RowMapper<?>>getArgument(1).mapRow(resultSet, 0));
+    }
+
+    private static GapAwareTrackingToken aTrackingToken(long index) {
+        return GapAwareTrackingToken.newInstance(index, List.of());
+    }
+}
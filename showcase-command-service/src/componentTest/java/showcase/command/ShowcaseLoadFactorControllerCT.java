@@ -0,0 +1,153 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.distributed.DistributedCommandBus;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import showcase.command.ShowcaseCommandProperties.DynamicLoadFactor;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showcase load factor controller component tests")
+class ShowcaseLoadFactorControllerCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private double cpuUsage;
+
+    private int queuedCommands;
+
+    @Mock
+    private DistributedCommandBus commandBus;
+
+    @Test
+    @DisplayName("A node under CPU pressure lowers its load factor in proportion")
+    void evaluate_cpuAboveTarget_lowersLoadFactor() {
+        val controller = aController(true, 1.0);
+        cpuUsage = 1.5;
+
+        controller.evaluate();
+
+        verify(commandBus).updateLoadFactor(50);
+        assertThat(meterRegistry.get("showcaseLoadFactor.current").gauge().value()).isEqualTo(50);
+        assertThat(meterRegistry.get("showcaseLoadFactor.pressure").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("showcaseLoadFactor.updates").counter().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("The load factor is not lowered below the minimum")
+    void evaluate_extremePressure_lowersLoadFactorToMinimum() {
+        val controller = aController(true, 1.0);
+        cpuUsage = 75;
+
+        controller.evaluate();
+
+        verify(commandBus).updateLoadFactor(10);
+    }
+
+    @Test
+    @DisplayName("A change smaller than the hysteresis is not republished")
+    void evaluate_changeBelowHysteresis_doesNotUpdateLoadFactor() {
+        val controller = aController(true, 1.0);
+        cpuUsage = 0.825;
+
+        controller.evaluate();
+
+        verify(commandBus, never()).updateLoadFactor(anyInt());
+        assertThat(meterRegistry.get("showcaseLoadFactor.current").gauge().value()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("A relieved node recovers its base load factor")
+    void evaluate_pressureRelieved_restoresBaseLoadFactor() {
+        val controller = aController(true, 1.0);
+        cpuUsage = 1.5;
+        controller.evaluate();
+        cpuUsage = 0.3;
+
+        controller.evaluate();
+
+        verify(commandBus).updateLoadFactor(100);
+        assertThat(meterRegistry.get("showcaseLoadFactor.updates").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A pressure spike is smoothed out")
+    void evaluate_pressureSpike_isSmoothed() {
+        val controller = aController(true, 0.5);
+        cpuUsage = 0;
+        controller.evaluate();
+        cpuUsage = 1.5;
+
+        controller.evaluate();
+
+        verify(commandBus, never()).updateLoadFactor(anyInt());
+        assertThat(meterRegistry.get("showcaseLoadFactor.pressure").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A node handling commands slower than the latency target lowers its load factor")
+    void evaluate_latencyAboveTarget_lowersLoadFactor() throws Exception {
+        val controller = aController(true, 1.0);
+        cpuUsage = -1;
+        val unitOfWork = new DefaultUnitOfWork<>(GenericCommandMessage.asCommandMessage("payload"));
+
+        controller.handle(unitOfWork, () -> {
+            Thread.sleep(50);
+            return null;
+        });
+        controller.evaluate();
+
+        verify(commandBus).updateLoadFactor(intThat(loadFactor -> loadFactor <= 50));
+    }
+
+    @Test
+    @DisplayName("A node with more commands queued in its local segment than the in-flight target sheds load")
+    void evaluate_queuedCommandsAboveTarget_lowersLoadFactor() {
+        val controller = aController(true, 1.0);
+        cpuUsage = -1;
+        queuedCommands = 128;
+
+        controller.evaluate();
+
+        verify(commandBus).updateLoadFactor(50);
+    }
+
+    @Test
+    @DisplayName("The pressure is published but the load factor is left unchanged when disabled")
+    void evaluate_disabled_publishesPressureOnly() {
+        val controller = aController(false, 1.0);
+        cpuUsage = 1.5;
+
+        controller.evaluate();
+
+        verify(commandBus, never()).updateLoadFactor(anyInt());
+        assertThat(meterRegistry.get("showcaseLoadFactor.pressure").gauge().value()).isEqualTo(2);
+    }
+
+    private ShowcaseLoadFactorController aController(boolean enabled, double smoothing) {
+        val dynamicLoadFactor =
+                new DynamicLoadFactor(
+                        enabled, Duration.ofSeconds(10), smoothing, 0.2, 10, 0.75, Duration.ofMillis(10), 64);
+        return new ShowcaseLoadFactorController(
+                commandBus,
+                dynamicLoadFactor,
+                100,
+                () -> cpuUsage,
+                () -> queuedCommands,
+                meterRegistry);
+    }
+}
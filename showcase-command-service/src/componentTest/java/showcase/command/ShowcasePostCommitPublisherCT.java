@@ -0,0 +1,262 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.extensions.kafka.eventhandling.KafkaMessageConverter;
+import org.axonframework.extensions.kafka.eventhandling.producer.ConfirmationMode;
+import org.axonframework.extensions.kafka.eventhandling.producer.ProducerFactory;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import showcase.command.ShowcaseCommandProperties.PostCommitPublishing;
+
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showcase post-commit publisher component tests")
+class ShowcasePostCommitPublisherCT {
+
+    private static final String TOPIC = "events";
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PostCommitPublishing postCommitPublishingProperties =
+            new PostCommitPublishing(true, Duration.ofMillis(100), Duration.ofMillis(500), 1000);
+
+    @Mock
+    private ProducerFactory<String, byte[]> producerFactory;
+
+    @Mock
+    private Producer<String, byte[]> producer;
+
+    @Mock
+    private KafkaMessageConverter<String, byte[]> messageConverter;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        GenericEventMessage.clock = Clock.systemUTC();
+    }
+
+    @Test
+    @DisplayName("A transactional producer factory is rejected")
+    void create_transactionalProducerFactory_isRejected() {
+        when(producerFactory.confirmationMode()).thenReturn(ConfirmationMode.TRANSACTIONAL);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new ShowcasePostCommitPublisher(
+                producerFactory, messageConverter, TOPIC, aWatermark(), postCommitPublishingProperties, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("An event acknowledged after its commit is skipped by the catch-up")
+    void handle_acknowledgedEvent_isSkippedByCatchUp() {
+        val publisher = aPublisher(aWatermark());
+        val event = anEvent("showcase-1", 0);
+
+        commit(publisher, event).onCompletion(aRecordMetadata(), null);
+        val proceeded = catchUp(publisher, event);
+
+        assertThat(proceeded).isFalse();
+        assertThat(meterRegistry.get("showcasePostCommitPublishing.published").counter().count()).isOne();
+        assertThat(meterRegistry.get("showcasePostCommitPublishing.latency").timer().count()).isOne();
+        assertThat(meterRegistry.get("showcasePostCommitPublishing.skipped").counter().count()).isOne();
+        assertThat(meterRegistry.get("showcasePostCommitPublishing.caughtUp").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("An event whose publication failed after its commit is published by the catch-up")
+    void handle_failedEvent_isPublishedByCatchUp() {
+        val publisher = aPublisher(aWatermark());
+        val first = anEvent("showcase-1", 0);
+        val second = anEvent("showcase-1", 1);
+
+        commit(publisher, first).onCompletion(aRecordMetadata(), null);
+        commit(publisher, second).onCompletion(null, new IllegalStateException("broker unavailable"));
+
+        assertThat(catchUp(publisher, first)).isFalse();
+        assertThat(catchUp(publisher, second)).isTrue();
+        assertThat(meterRegistry.get("showcasePostCommitPublishing.failed").counter().count()).isOne();
+        assertThat(meterRegistry.get("showcasePostCommitPublishing.caughtUp").counter().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("The watermarks changed since the last flush are written once")
+    void flush_pendingWatermarks_areWrittenOnce() {
+        val watermark = aWatermark();
+        watermark.confirm("showcase-1", 3);
+        watermark.confirm("showcase-2", 1);
+        watermark.fail("showcase-2", 2);
+
+        watermark.flush();
+        watermark.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Object[]>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), anyInt(),
+                                         any(ParameterizedPreparedStatementSetter.class));
+        assertThat(rows.getValue()).containsExactlyInAnyOrder(new Object[] {"showcase-1", 3L, null, -1L},
+                                                              new Object[] {"showcase-2", 1L, 2L, -1L});
+    }
+
+    @Test
+    @DisplayName("A failure recorded after the one being caught up is kept until the catch-up reaches it")
+    void caughtUp_newerFailureAndAcknowledgement_keepsNewerEventUnpublished() {
+        val watermark = aWatermark();
+        watermark.confirm("showcase-1", 0);
+        watermark.fail("showcase-1", 1);
+        watermark.fail("showcase-1", 2);
+        watermark.confirm("showcase-1", 3);
+
+        watermark.caughtUp("showcase-1", 1);
+
+        val caughtUpToFirst = watermark.lookUp(List.of("showcase-1")).get("showcase-1");
+        assertThat(caughtUpToFirst).isNotNull();
+        assertThat(caughtUpToFirst.covers(1)).isTrue();
+        assertThat(caughtUpToFirst.covers(2)).isFalse();
+        assertThat(caughtUpToFirst.covers(3)).isFalse();
+
+        watermark.caughtUp("showcase-1", 2);
+        watermark.caughtUp("showcase-1", 3);
+
+        val caughtUpToLast = watermark.lookUp(List.of("showcase-1")).get("showcase-1");
+        assertThat(caughtUpToLast).isNotNull();
+        assertThat(caughtUpToLast.covers(3)).isTrue();
+        assertThat(caughtUpToLast.failedSequenceNumber()).isNull();
+    }
+
+    @Test
+    @DisplayName("A failure recorded by another node that owned the aggregate meanwhile is published by the catch-up")
+    void handle_failureRecordedByFormerOwner_isPublishedByCatchUp() throws Exception {
+        val watermark = aWatermark();
+        for (var sequenceNumber = 0; sequenceNumber <= 5; sequenceNumber++) {
+            watermark.confirm("showcase-1", sequenceNumber);
+        }
+        watermark.confirm("showcase-1", 7);
+        givenRecordedWatermark("showcase-1", 7, 6);
+        val publisher = aPublisher(watermark);
+
+        assertThat(catchUp(publisher, anEvent("showcase-1", 5))).isFalse();
+        assertThat(catchUp(publisher, anEvent("showcase-1", 6))).isTrue();
+        assertThat(catchUp(publisher, anEvent("showcase-1", 7))).isTrue();
+    }
+
+    @Test
+    @DisplayName("A catch-up interrupted while waiting for the catch-up delay aborts its batch")
+    void handle_interruptedWhileWaiting_abortsBatch() {
+        val publisher = aPublisher(aWatermark());
+        val event = anEvent("showcase-1", 0);
+        GenericEventMessage.clock = Clock.fixed(CREATED_AT, ZoneOffset.UTC);
+        val proceeded = new AtomicBoolean();
+        val unitOfWork = new BatchingUnitOfWork<EventMessage<?>>(List.of(event));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatIllegalStateException().isThrownBy(() -> publisher.handle(unitOfWork, () -> {
+                proceeded.set(true);
+                return null;
+            }));
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+        assertThat(proceeded).isFalse();
+    }
+
+    private void givenRecordedWatermark(String aggregateIdentifier, long sequenceNumber, long failedSequenceNumber)
+            throws Exception {
+        val resultSet = mock(ResultSet.class);
+        when(resultSet.getString("aggregate_identifier")).thenReturn(aggregateIdentifier);
+        when(resultSet.getLong("sequence_number")).thenReturn(sequenceNumber);
+        when(resultSet.getLong("failed_sequence_number")).thenReturn(failedSequenceNumber);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private ShowcasePublicationWatermark aWatermark() {
+        return new ShowcasePublicationWatermark(jdbcTemplate, postCommitPublishingProperties);
+    }
+
+    private ShowcasePostCommitPublisher aPublisher(ShowcasePublicationWatermark watermark) {
+        when(producerFactory.confirmationMode()).thenReturn(ConfirmationMode.NONE);
+        return new ShowcasePostCommitPublisher(
+                producerFactory, messageConverter, TOPIC, watermark, postCommitPublishingProperties, meterRegistry);
+    }
+
+    private Callback commit(ShowcasePostCommitPublisher publisher, DomainEventMessage<?> event) {
+        val record = new ProducerRecord<String, byte[]>(TOPIC, event.getAggregateIdentifier(), new byte[0]);
+        when(producerFactory.createProducer()).thenReturn(producer);
+        when(messageConverter.createKafkaMessage(event, TOPIC)).thenReturn(record);
+
+        val unitOfWork = DefaultUnitOfWork.startAndGet(event);
+        publisher.handle(List.of(event)).apply(0, event);
+        unitOfWork.commit();
+
+        val callback = ArgumentCaptor.forClass(Callback.class);
+        verify(producer).send(eq(record), callback.capture());
+        return callback.getValue();
+    }
+
+    private static boolean catchUp(ShowcasePostCommitPublisher publisher, EventMessage<?> event) {
+        val proceeded = new AtomicBoolean();
+        val unitOfWork = new BatchingUnitOfWork<EventMessage<?>>(List.of(event));
+        unitOfWork.executeWithResult(() -> publisher.handle(unitOfWork, () -> {
+            proceeded.set(true);
+            return null;
+        }));
+        return proceeded.get();
+    }
+
+    private static DomainEventMessage<?> anEvent(String aggregateIdentifier, long sequenceNumber) {
+        GenericEventMessage.clock = Clock.fixed(CREATED_AT, ZoneOffset.UTC);
+        val event = new GenericDomainEventMessage<>("Showcase", aggregateIdentifier, sequenceNumber, "payload");
+        GenericEventMessage.clock = Clock.fixed(CREATED_AT.plusSeconds(1), ZoneOffset.UTC);
+        return event;
+    }
+
+    private static RecordMetadata aRecordMetadata() {
+        return new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, CREATED_AT.toEpochMilli(), 0, 0);
+    }
+}
@@ -0,0 +1,72 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.eventhandling.GapAwareTrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+
+@DisplayName("Showcase replica routing event storage engine component tests")
+class ShowcaseReplicaRoutingEventStorageEngineCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EventStorageEngine primaryEngine = mock(EventStorageEngine.class);
+
+    private final EventStorageEngine replicaEngine = mock(EventStorageEngine.class);
+
+    private final ShowcaseEventReplica eventReplica = mock(ShowcaseEventReplica.class);
+
+    private final ShowcaseReplicaRoutingEventStorageEngine storageEngine =
+            new ShowcaseReplicaRoutingEventStorageEngine(primaryEngine, replicaEngine, eventReplica, meterRegistry);
+
+    private final GapAwareTrackingToken trackingToken = GapAwareTrackingToken.newInstance(10, List.of());
+
+    @Test
+    @DisplayName("The event stream covered by the replica is read from the replica")
+    void readEvents_coveredToken_readsFromReplica() {
+        when(eventReplica.covers(trackingToken)).thenReturn(true);
+
+        storageEngine.readEvents(trackingToken, false);
+
+        verify(replicaEngine).readEvents(trackingToken, false);
+        verify(primaryEngine, never()).readEvents(trackingToken, false);
+        assertThat(meterRegistry.get("showcaseEventReplica.reads").tag("source", "replica").counter().count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("The event stream not covered by the replica is read from the primary")
+    void readEvents_uncoveredToken_readsFromPrimary() {
+        when(eventReplica.covers(trackingToken)).thenReturn(false);
+
+        storageEngine.readEvents(trackingToken, false);
+
+        verify(primaryEngine).readEvents(trackingToken, false);
+        verify(replicaEngine, never()).readEvents(trackingToken, false);
+        assertThat(meterRegistry.get("showcaseEventReplica.reads").tag("source", "primary").counter().count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("The aggregates are loaded from the primary")
+    void readEvents_aggregate_readsFromPrimary() {
+        when(eventReplica.covers(null)).thenReturn(true);
+        val showcaseId = aShowcaseId();
+
+        storageEngine.readEvents(showcaseId, 0);
+
+        verify(primaryEngine).readEvents(showcaseId, 0);
+        verify(replicaEngine, never()).readEvents(showcaseId, 0);
+    }
+}
@@ -1,27 +1,45 @@
 package showcase.command;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
+import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.test.saga.SagaTestFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.axonframework.test.matchers.Matchers.exactSequenceOf;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasProperty;
 import static showcase.command.RandomCommandTestUtils.aShowcaseDuration;
 import static showcase.command.RandomCommandTestUtils.aShowcaseId;
 import static showcase.command.RandomCommandTestUtils.aShowcaseStartTime;
 import static showcase.command.RandomCommandTestUtils.aShowcaseTitle;
+import static showcase.command.ShowcaseCommandConstants.FINISH_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.START_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.TRIGGERING_DEADLINE_METADATA_KEY;
 
 @DisplayName("Showcase saga component tests")
 class ShowcaseSagaCT {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private SagaTestFixture<ShowcaseSaga> fixture;
 
     @BeforeEach
     void initFixture() {
         fixture = new SagaTestFixture<>(ShowcaseSaga.class);
+        fixture.registerResource(
+                ShowcaseDeadlineScheduler
+                        .builder()
+                        .enabled(false)
+                        .meterRegistry(meterRegistry)
+                        .build());
     }
 
     @Test
@@ -228,4 +246,209 @@ class ShowcaseSagaCT {
                                .build())
                .expectActiveSagas(0);
     }
+
+    @Test
+    @DisplayName("The start-showcase deadline dispatches a start command marked with the deadline name")
+    void startShowcaseDeadline_success_marksStartShowcaseCommand() {
+        val showcaseId = aShowcaseId();
+        val scheduleTime = fixture.currentTime();
+        val startTime = aShowcaseStartTime(scheduleTime);
+
+        fixture.givenAggregate(showcaseId)
+               .published(ShowcaseScheduledEvent
+                                  .builder()
+                                  .showcaseId(showcaseId)
+                                  .title(aShowcaseTitle())
+                                  .startTime(startTime)
+                                  .duration(aShowcaseDuration())
+                                  .scheduledAt(scheduleTime)
+                                  .build())
+               .whenTimeAdvancesTo(startTime)
+               .expectDispatchedCommandsMatching(exactSequenceOf(allOf(
+                       hasProperty("payload", equalTo(StartShowcaseCommand
+                                                              .builder()
+                                                              .showcaseId(showcaseId)
+                                                              .build())),
+                       hasProperty("metaData",
+                                   hasEntry(TRIGGERING_DEADLINE_METADATA_KEY, START_SHOWCASE_DEADLINE_NAME)))));
+    }
+
+    @Test
+    @DisplayName("A started event ahead of the start-showcase deadline cancels it")
+    void showcaseStartedEvent_startedManually_cancelsStartShowcaseDeadline() {
+        val showcaseId = aShowcaseId();
+        val scheduleTime = fixture.currentTime();
+        val startTime = aShowcaseStartTime(scheduleTime);
+        val duration = aShowcaseDuration();
+
+        fixture.givenAggregate(showcaseId)
+               .published(ShowcaseScheduledEvent
+                                  .builder()
+                                  .showcaseId(showcaseId)
+                                  .title(aShowcaseTitle())
+                                  .startTime(startTime)
+                                  .duration(duration)
+                                  .scheduledAt(scheduleTime)
+                                  .build())
+               .whenPublishingA(ShowcaseStartedEvent
+                                        .builder()
+                                        .showcaseId(showcaseId)
+                                        .duration(duration)
+                                        .startedAt(scheduleTime)
+                                        .build())
+               .expectNoScheduledDeadlineWithName(startTime, START_SHOWCASE_DEADLINE_NAME)
+               .expectScheduledDeadlineWithName(scheduleTime.plus(duration), FINISH_SHOWCASE_DEADLINE_NAME);
+
+        assertThat(meterRegistry
+                           .get("showcaseDeadlines.cancelled")
+                           .tag("deadline", START_SHOWCASE_DEADLINE_NAME)
+                           .counter()
+                           .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A started event triggered by the start-showcase deadline does not cancel it")
+    void showcaseStartedEvent_triggeredByStartDeadline_doesNotCancelStartShowcaseDeadline() {
+        val showcaseId = aShowcaseId();
+        val scheduleTime = fixture.currentTime();
+        val startTime = aShowcaseStartTime(scheduleTime);
+        val duration = aShowcaseDuration();
+
+        fixture.givenAggregate(showcaseId)
+               .published(ShowcaseScheduledEvent
+                                  .builder()
+                                  .showcaseId(showcaseId)
+                                  .title(aShowcaseTitle())
+                                  .startTime(startTime)
+                                  .duration(duration)
+                                  .scheduledAt(scheduleTime)
+                                  .build())
+               .whenAggregate(showcaseId)
+               .publishes(GenericEventMessage
+                                  .asEventMessage(ShowcaseStartedEvent
+                                                          .builder()
+                                                          .showcaseId(showcaseId)
+                                                          .duration(duration)
+                                                          .startedAt(scheduleTime)
+                                                          .build())
+                                  .andMetaData(Map.of(TRIGGERING_DEADLINE_METADATA_KEY, START_SHOWCASE_DEADLINE_NAME)))
+               .expectScheduledDeadlineWithName(startTime, START_SHOWCASE_DEADLINE_NAME);
+
+        assertThat(meterRegistry.find("showcaseDeadlines.cancelled").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("A finished event ahead of the finish-showcase deadline cancels it")
+    void showcaseFinishedEvent_finishedManually_cancelsFinishShowcaseDeadline() throws Exception {
+        val showcaseId = aShowcaseId();
+        val scheduleTime = fixture.currentTime();
+        val startTime = aShowcaseStartTime(scheduleTime);
+        val duration = aShowcaseDuration();
+
+        fixture.givenAggregate(showcaseId)
+               .published(
+                       ShowcaseScheduledEvent
+                               .builder()
+                               .showcaseId(showcaseId)
+                               .title(aShowcaseTitle())
+                               .startTime(startTime)
+                               .duration(duration)
+                               .scheduledAt(scheduleTime)
+                               .build())
+               .andThenTimeAdvancesTo(startTime)
+               .andThenAPublished(
+                       ShowcaseStartedEvent
+                               .builder()
+                               .showcaseId(showcaseId)
+                               .duration(duration)
+                               .startedAt(startTime)
+                               .build())
+               .whenPublishingA(
+                       ShowcaseFinishedEvent
+                               .builder()
+                               .showcaseId(showcaseId)
+                               .finishedAt(startTime)
+                               .build())
+               .expectNoScheduledDeadlines()
+               .expectActiveSagas(0);
+
+        assertThat(meterRegistry
+                           .get("showcaseDeadlines.cancelled")
+                           .tag("deadline", FINISH_SHOWCASE_DEADLINE_NAME)
+                           .counter()
+                           .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A removed event cancels the pending start-showcase deadline")
+    void showcaseRemovedEvent_pendingStartDeadline_cancelsStartShowcaseDeadline() {
+        val showcaseId = aShowcaseId();
+        val scheduleTime = fixture.currentTime();
+        val startTime = aShowcaseStartTime(scheduleTime);
+
+        fixture.givenAggregate(showcaseId)
+               .published(
+                       ShowcaseScheduledEvent
+                               .builder()
+                               .showcaseId(showcaseId)
+                               .title(aShowcaseTitle())
+                               .startTime(startTime)
+                               .duration(aShowcaseDuration())
+                               .scheduledAt(scheduleTime)
+                               .build())
+               .whenPublishingA(
+                       ShowcaseRemovedEvent
+                               .builder()
+                               .showcaseId(showcaseId)
+                               .removedAt(scheduleTime)
+                               .build())
+               .expectNoScheduledDeadlines()
+               .expectActiveSagas(0);
+
+        assertThat(meterRegistry
+                           .get("showcaseDeadlines.cancelled")
+                           .tag("deadline", START_SHOWCASE_DEADLINE_NAME)
+                           .counter()
+                           .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A start-showcase deadline firing on an already started showcase is counted as skipped")
+    void startShowcaseDeadline_alreadyStarted_countsSkippedDeadline() {
+        val showcaseId = aShowcaseId();
+        val scheduleTime = fixture.currentTime();
+        val startTime = aShowcaseStartTime(scheduleTime);
+        val duration = aShowcaseDuration();
+
+        fixture.givenAggregate(showcaseId)
+               .published(ShowcaseScheduledEvent
+                                  .builder()
+                                  .showcaseId(showcaseId)
+                                  .title(aShowcaseTitle())
+                                  .startTime(startTime)
+                                  .duration(duration)
+                                  .scheduledAt(scheduleTime)
+                                  .build())
+               .andThenAggregate(showcaseId)
+               .published(GenericEventMessage
+                                  .asEventMessage(ShowcaseStartedEvent
+                                                          .builder()
+                                                          .showcaseId(showcaseId)
+                                                          .duration(duration)
+                                                          .startedAt(scheduleTime)
+                                                          .build())
+                                  .andMetaData(Map.of(TRIGGERING_DEADLINE_METADATA_KEY, START_SHOWCASE_DEADLINE_NAME)))
+               .whenTimeAdvancesTo(startTime)
+               .expectNoDispatchedCommands();
+
+        assertThat(meterRegistry
+                           .get("showcaseDeadlines.skipped")
+                           .tag("deadline", START_SHOWCASE_DEADLINE_NAME)
+                           .counter()
+                           .count())
+                .isEqualTo(1);
+    }
 }
@@ -0,0 +1,149 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import showcase.command.ShowcaseCommandProperties.SagaProcessor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static showcase.command.ShowcaseCommandConstants.SHOWCASE_SAGA_PROCESSING_GROUP;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showcase saga processor balancer component tests")
+class ShowcaseSagaProcessorBalancerCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private EventProcessingConfiguration eventProcessingConfiguration;
+
+    @Mock
+    private EventStore eventStore;
+
+    @Mock
+    private StreamingEventProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        when(eventProcessingConfiguration.eventProcessor(SHOWCASE_SAGA_PROCESSING_GROUP, StreamingEventProcessor.class))
+                .thenReturn(Optional.of(processor));
+        when(eventStore.createHeadToken()).thenReturn(new GlobalSequenceTrackingToken(1000));
+    }
+
+    @Test
+    @DisplayName("Balancing publishes the lag of each claimed segment")
+    void balance_claimedSegments_publishesSegmentLag() {
+        val segments = Segment.ROOT_SEGMENT.split();
+        when(processor.processingStatus()).thenReturn(Map.of(
+                0, aStatus(segments[0], 900),
+                1, aStatus(segments[1], 1000)));
+
+        aBalancer(false).balance();
+
+        assertThat(meterRegistry.get("showcaseSaga.segmentLag").tag("segment", "0").gauge().value())
+                .isEqualTo(100);
+        assertThat(meterRegistry.get("showcaseSaga.segmentLag").tag("segment", "1").gauge().value())
+                .isZero();
+        verify(processor, never()).splitSegment(anyInt());
+        verify(processor, never()).mergeSegment(anyInt());
+    }
+
+    @Test
+    @DisplayName("Balancing splits the most lagging segment above the split threshold")
+    void balance_segmentLagAboveSplitThreshold_splitsSegment() {
+        val segments = Segment.ROOT_SEGMENT.split();
+        when(processor.processingStatus()).thenReturn(Map.of(
+                0, aStatus(segments[0], 500),
+                1, aStatus(segments[1], 10)));
+        when(processor.splitSegment(1)).thenReturn(completedFuture(true));
+
+        aBalancer(true).balance();
+
+        verify(processor).splitSegment(1);
+        verify(processor, never()).mergeSegment(anyInt());
+        assertThat(meterRegistry.get("showcaseSaga.segmentSplits").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Balancing does not split a segment at the maximum segment count")
+    void balance_maxSegmentCountReached_doesNotSplitSegment() {
+        val segments = Segment.ROOT_SEGMENT.split()[0].split();
+        when(processor.processingStatus()).thenReturn(Map.of(0, aStatus(segments[0], 10)));
+
+        aBalancer(true, 4).balance();
+
+        verify(processor, never()).splitSegment(anyInt());
+        verify(processor, never()).mergeSegment(anyInt());
+    }
+
+    @Test
+    @DisplayName("Balancing merges the least lagging segment when all claimed segments are caught up")
+    void balance_allSegmentsCaughtUp_mergesSegment() {
+        val segments = Segment.ROOT_SEGMENT.split();
+        val status0 = aStatus(segments[0], 995);
+        val status1 = aStatus(segments[1], 1000);
+        when(status0.isCaughtUp()).thenReturn(true);
+        when(status1.isCaughtUp()).thenReturn(true);
+        when(processor.processingStatus()).thenReturn(Map.of(0, status0, 1, status1));
+        when(processor.mergeSegment(1)).thenReturn(completedFuture(true));
+
+        aBalancer(true).balance();
+
+        verify(processor).mergeSegment(1);
+        verify(processor, never()).splitSegment(anyInt());
+        assertThat(meterRegistry.get("showcaseSaga.segmentMerges").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Balancing does not merge the root segment")
+    void balance_rootSegmentCaughtUp_doesNotMergeSegment() {
+        val status = aStatus(Segment.ROOT_SEGMENT, 1000);
+        when(status.isCaughtUp()).thenReturn(true);
+        when(processor.processingStatus()).thenReturn(Map.of(0, status));
+
+        aBalancer(true).balance();
+
+        verify(processor, never()).mergeSegment(anyInt());
+    }
+
+    private ShowcaseSagaProcessorBalancer aBalancer(boolean balancingEnabled) {
+        return aBalancer(balancingEnabled, 16);
+    }
+
+    private ShowcaseSagaProcessorBalancer aBalancer(boolean balancingEnabled, int maxSegmentCount) {
+        return new ShowcaseSagaProcessorBalancer(
+                eventProcessingConfiguration,
+                eventStore,
+                new SagaProcessor(balancingEnabled, Duration.ofSeconds(10), 100, 10, 1, maxSegmentCount),
+                meterRegistry);
+    }
+
+    private static EventTrackerStatus aStatus(Segment segment, long position) {
+        val status = mock(EventTrackerStatus.class);
+        when(status.getSegment()).thenReturn(segment);
+        when(status.getCurrentPosition()).thenReturn(OptionalLong.of(position));
+        return status;
+    }
+}
@@ -0,0 +1,99 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showcase.command.ShowcaseCommandProperties.SnapshotExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+
+@DisplayName("Showcase snapshot scheduler component tests")
+class ShowcaseSnapshotSchedulerCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<String> snapshotted = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ShowcaseSnapshotScheduler snapshotScheduler =
+            new ShowcaseSnapshotScheduler(
+                    (aggregateType, aggregateIdentifier) -> {
+                        snapshotted.add(aggregateIdentifier);
+                        try {
+                            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    },
+                    new SnapshotExecutor(1, 1),
+                    meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        snapshotScheduler.close();
+    }
+
+    @Test
+    @DisplayName("A snapshot is taken on the snapshot executor and timed")
+    void scheduleSnapshot_isTakenAndTimed() throws Exception {
+        val showcaseId = aShowcaseId();
+        release.countDown();
+
+        snapshotScheduler.scheduleSnapshot(ShowcaseAggregate.class, showcaseId);
+
+        awaitUntil(() -> meterRegistry.get("showcaseSnapshotScheduler.snapshots").timer().count() == 1);
+        assertThat(snapshotted).containsExactly(showcaseId);
+    }
+
+    @Test
+    @DisplayName("A snapshot requested while another one of the same aggregate is pending is skipped")
+    void scheduleSnapshot_pendingAggregate_isSkipped() throws Exception {
+        val showcaseId = aShowcaseId();
+
+        snapshotScheduler.scheduleSnapshot(ShowcaseAggregate.class, showcaseId);
+        snapshotScheduler.scheduleSnapshot(ShowcaseAggregate.class, showcaseId);
+        release.countDown();
+
+        awaitUntil(() -> !snapshotted.isEmpty());
+        assertThat(snapshotted).containsExactly(showcaseId);
+        assertThat(meterRegistry.get("showcaseSnapshotScheduler.skipped").tag("reason", "duplicate").counter().count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("A snapshot requested while the queue is full is skipped")
+    void scheduleSnapshot_fullQueue_isSkipped() throws Exception {
+        val takenId = aShowcaseId();
+        val queuedId = aShowcaseId();
+
+        snapshotScheduler.scheduleSnapshot(ShowcaseAggregate.class, takenId);
+        awaitUntil(() -> snapshotted.contains(takenId));
+        snapshotScheduler.scheduleSnapshot(ShowcaseAggregate.class, queuedId);
+        snapshotScheduler.scheduleSnapshot(ShowcaseAggregate.class, aShowcaseId());
+        release.countDown();
+
+        awaitUntil(() -> snapshotted.size() == 2);
+        assertThat(snapshotted).containsExactly(takenId, queuedId);
+        assertThat(meterRegistry.get("showcaseSnapshotScheduler.skipped").tag("reason", "saturated").counter().count())
+                .isOne();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package showcase.command;
+
+import lombok.val;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.SnapshotTrigger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+
+@DisplayName("Showcase snapshot trigger definition component tests")
+class ShowcaseSnapshotTriggerDefinitionCT {
+
+    private final ShowcaseSnapshotScheduler snapshotScheduler = mock(ShowcaseSnapshotScheduler.class);
+
+    private final String showcaseId = aShowcaseId();
+
+    @Test
+    @DisplayName("An aggregate is snapshotted once the event count threshold is reached")
+    void eventHandled_eventCountThreshold_snapshotsAggregate() {
+        val trigger = prepareTrigger(Duration.ofHours(1), 1, 3);
+        trigger.initializationFinished();
+
+        handleEvents(trigger, 7);
+
+        verify(snapshotScheduler, times(2)).scheduleSnapshot(ShowcaseAggregate.class, showcaseId);
+    }
+
+    @Test
+    @DisplayName("An aggregate slow to load is snapshotted once enough events are replayed")
+    void eventHandled_slowLoadWithEnoughEvents_snapshotsAggregate() {
+        val trigger = prepareTrigger(Duration.ZERO, 2, 100);
+
+        handleEvents(trigger, 2);
+        trigger.initializationFinished();
+
+        verify(snapshotScheduler).scheduleSnapshot(ShowcaseAggregate.class, showcaseId);
+    }
+
+    @Test
+    @DisplayName("An aggregate slow to load with few replayed events is not snapshotted")
+    void eventHandled_slowLoadWithFewEvents_doesNotSnapshotAggregate() {
+        val trigger = prepareTrigger(Duration.ZERO, 5, 100);
+
+        handleEvents(trigger, 4);
+        trigger.initializationFinished();
+        handleEvents(trigger, 4);
+
+        verify(snapshotScheduler, never()).scheduleSnapshot(ShowcaseAggregate.class, showcaseId);
+    }
+
+    private SnapshotTrigger prepareTrigger(
+            Duration loadTimeThreshold, int loadTimeMinEventCount, int eventCountThreshold) {
+        return new ShowcaseSnapshotTriggerDefinition(
+                snapshotScheduler,
+                new ShowcaseCommandProperties.SnapshotTrigger(
+                        loadTimeThreshold, loadTimeMinEventCount, eventCountThreshold))
+                       .prepareTrigger(ShowcaseAggregate.class);
+    }
+
+    private void handleEvents(SnapshotTrigger trigger, int count) {
+        for (var sequenceNumber = 0; sequenceNumber < count; sequenceNumber++) {
+            trigger.eventHandled(
+                    new GenericDomainEventMessage<>("ShowcaseAggregate", showcaseId, sequenceNumber, "event"));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.AggregateDeletedException;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.modelling.command.AggregateNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showcase.command.ShowcaseCommandProperties.TombstoneCache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static showcase.command.RandomCommandTestUtils.aScheduleShowcaseCommand;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+
+@DisplayName("Showcase tombstone cache component tests")
+class ShowcaseTombstoneCacheCT {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ShowcaseTombstoneCache tombstoneCache =
+            new ShowcaseTombstoneCache(new TombstoneCache(true, 100, Duration.ofMinutes(5)), meterRegistry);
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Test
+    @DisplayName("A command for a showcase found missing is answered without being handled")
+    void handle_unknownShowcase_isAnsweredFromCache() {
+        val showcaseId = aShowcaseId();
+
+        val first = dispatch(startCommand(showcaseId), () -> notFound(showcaseId));
+        val retry = dispatch(finishCommand(showcaseId), this::succeed);
+
+        assertThat(first.exceptionResult()).isExactlyInstanceOf(AggregateNotFoundException.class);
+        assertThat(retry.exceptionResult()).isExactlyInstanceOf(AggregateNotFoundException.class);
+        assertThat(handled).hasValue(1);
+        assertThat(meterRegistry.get("showcaseTombstoneCache.hits").tag("state", "unknown").counter().count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("A command for a showcase removed on this node is answered without being handled")
+    void handle_removedShowcase_isAnsweredFromCache() {
+        val showcaseId = aShowcaseId();
+        dispatch(removeCommand(showcaseId), () -> {
+            apply(showcaseId, removedEvent(showcaseId));
+            return null;
+        });
+
+        val result = dispatch(startCommand(showcaseId), this::succeed);
+
+        assertThat(result.exceptionResult()).isInstanceOf(AggregateDeletedException.class);
+        assertThat(handled).hasValue(0);
+        assertThat(meterRegistry.get("showcaseTombstoneCache.hits").tag("state", "removed").counter().count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("A removal rolled back is not recorded")
+    void handle_removalRolledBack_isNotRecorded() {
+        val showcaseId = aShowcaseId();
+        dispatch(removeCommand(showcaseId), () -> {
+            apply(showcaseId, removedEvent(showcaseId));
+            throw new IllegalStateException("Rolled back");
+        });
+
+        dispatch(startCommand(showcaseId), this::succeed);
+
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("A command for a showcase scheduled after it was found missing is handled")
+    void handle_scheduledAfterMissing_isHandled() {
+        val showcaseId = aShowcaseId();
+        dispatch(startCommand(showcaseId), () -> notFound(showcaseId));
+
+        apply(showcaseId, "scheduled");
+        dispatch(startCommand(showcaseId), this::succeed);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A schedule command for a showcase found missing is handled")
+    void handle_scheduleCommand_isHandled() {
+        val command = aScheduleShowcaseCommand();
+        dispatch(startCommand(command.showcaseId()), () -> notFound(command.showcaseId()));
+
+        val result = dispatch(command, this::succeed);
+
+        assertThat(result.getPayload()).isEqualTo("handled");
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A command after the cache is cleared is handled")
+    void handle_afterClear_isHandled() {
+        val showcaseId = aShowcaseId();
+        dispatch(startCommand(showcaseId), () -> notFound(showcaseId));
+
+        tombstoneCache.clear();
+        dispatch(startCommand(showcaseId), this::succeed);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    private Object succeed() {
+        handled.incrementAndGet();
+        return "handled";
+    }
+
+    private Object notFound(String showcaseId) {
+        handled.incrementAndGet();
+        throw new AggregateNotFoundException(showcaseId, "Aggregate not found");
+    }
+
+    private void apply(String showcaseId, Object payload) {
+        EventMessage<?> event = new GenericDomainEventMessage<>("ShowcaseAggregate", showcaseId, 0, payload);
+        tombstoneCache.handle(List.of(event)).apply(0, event);
+    }
+
+    private ResultMessage<?> dispatch(ShowcaseCommand command, InterceptorChain interceptorChain) {
+        val unitOfWork = DefaultUnitOfWork.startAndGet(GenericCommandMessage.asCommandMessage(command));
+        return unitOfWork.executeWithResult(() -> tombstoneCache.handle(unitOfWork, interceptorChain));
+    }
+
+    private static StartShowcaseCommand startCommand(String showcaseId) {
+        return StartShowcaseCommand.builder().showcaseId(showcaseId).build();
+    }
+
+    private static FinishShowcaseCommand finishCommand(String showcaseId) {
+        return FinishShowcaseCommand.builder().showcaseId(showcaseId).build();
+    }
+
+    private static RemoveShowcaseCommand removeCommand(String showcaseId) {
+        return RemoveShowcaseCommand.builder().showcaseId(showcaseId).build();
+    }
+
+    private static ShowcaseRemovedEvent removedEvent(String showcaseId) {
+        return ShowcaseRemovedEvent.builder().showcaseId(showcaseId).removedAt(Instant.now()).build();
+    }
+}
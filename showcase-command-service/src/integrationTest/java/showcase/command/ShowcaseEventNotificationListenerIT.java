@@ -0,0 +1,96 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import showcase.command.ShowcaseCommandProperties.EventNotification;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static showcase.command.ShowcaseCommandConstants.EVENT_NOTIFICATION_CHANNEL;
+
+@Testcontainers
+@DisplayName("Showcase event notification listener integration tests")
+class ShowcaseEventNotificationListenerIT {
+
+    @Container
+    @SuppressWarnings("resource")
+    private static final PostgreSQLContainer dbEvents =
+            new PostgreSQLContainer("postgres:" + System.getProperty("postgres.image.version"))
+                    .waitingFor(Wait.forListeningPort());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ShowcaseNotifiedEventStore eventStore = mock(ShowcaseNotifiedEventStore.class);
+
+    private DriverManagerDataSource dataSource;
+
+    private ShowcaseEventNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        dataSource =
+                new DriverManagerDataSource(dbEvents.getJdbcUrl(), dbEvents.getUsername(), dbEvents.getPassword());
+        listener =
+                new ShowcaseEventNotificationListener(
+                        dataSource,
+                        eventStore,
+                        new EventNotification(true, Duration.ofSeconds(10), Duration.ofMillis(100)),
+                        meterRegistry);
+        listener.start();
+        verify(eventStore, timeout(5000)).wakeUp();
+        clearInvocations(eventStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    @DisplayName("A committed notification wakes up the event store")
+    void notify_committed_wakesUpEventStore() throws SQLException {
+        notifyEvents(true);
+
+        verify(eventStore, timeout(5000)).wakeUp();
+        assertThat(meterRegistry.get("showcaseEventNotification.received").counter().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("A rolled back notification does not wake up the event store")
+    void notify_rolledBack_doesNotWakeUpEventStore() throws SQLException {
+        notifyEvents(false);
+
+        verify(eventStore, after(2000).never()).wakeUp();
+    }
+
+    private void notifyEvents(boolean commit) throws SQLException {
+        try (val connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (val statement = connection.prepareStatement("SELECT pg_notify(?, '')")) {
+                statement.setString(1, EVENT_NOTIFICATION_CHANNEL);
+                statement.execute();
+            }
+            if (commit) {
+                connection.commit();
+            } else {
+                connection.rollback();
+            }
+        }
+    }
+}
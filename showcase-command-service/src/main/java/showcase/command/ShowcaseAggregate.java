@@ -5,8 +5,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.axonframework.commandhandling.CommandExecutionException;
 import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.annotation.DeadlineHandler;
 import org.axonframework.eventsourcing.EventSourcingHandler;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.annotation.MetaDataValue;
 import org.axonframework.modelling.command.AggregateCreationPolicy;
 import org.axonframework.modelling.command.AggregateIdentifier;
 import org.axonframework.modelling.command.CreationPolicy;
@@ -17,12 +24,19 @@ import showcase.command.ShowcaseTitleReservation.DuplicateTitleException;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
 
 import static com.google.common.base.Preconditions.checkState;
 import static org.axonframework.eventhandling.GenericEventMessage.clock;
 import static org.axonframework.modelling.command.AggregateLifecycle.apply;
 import static org.axonframework.modelling.command.AggregateLifecycle.markDeleted;
+import static showcase.command.ShowcaseCommandConstants.FINISH_DEADLINE_ID_METADATA_KEY;
+import static showcase.command.ShowcaseCommandConstants.FINISH_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.START_DEADLINE_ID_METADATA_KEY;
+import static showcase.command.ShowcaseCommandConstants.START_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.TRIGGERING_DEADLINE_METADATA_KEY;
 
 /**
  * Axon aggregate managing the lifecycle of a showcase.
@@ -30,9 +44,25 @@ import static org.axonframework.modelling.command.AggregateLifecycle.markDeleted
  * <p>Supports four commands: schedule, start, finish, and remove. Events are persisted via Axon's event sourcing
  * mechanism and also published to Kafka through the command service. The aggregate uses a title reservation service
  * to enforce uniqueness of showcase titles.
+ *
+ * <p>When the aggregate-driven deadline mode is enabled, the aggregate schedules its own start and finish deadlines
+ * through the {@link ShowcaseDeadlineScheduler}, cancels them when they become obsolete, and dispatches the lifecycle
+ * commands when they fire. The IDs of the pending deadlines travel in the event metadata, so they survive
+ * reloading the aggregate from the event store.
+ *
+ * <p>The aggregate is locked on the handling node while it handles a command, unless the optimistic locking mode is
+ * enabled, in which case its events are only appended with a sequence number check and the conflicting commands are
+ * retried by the asynchronous local segment.
+ *
+ * <p>The snapshots of the aggregate are serialized from its fields by the event serializer. Its revision identifies
+ * that snapshot format, so the snapshots of another revision are ignored and the aggregate is sourced from its events.
  */
-@Aggregate(cache = "showcaseCache", snapshotTriggerDefinition = "showcaseSnapshotTrigger")
-@Revision("1.0")
+@Aggregate(
+        cache = "showcaseCache",
+        snapshotTriggerDefinition = "showcaseSnapshotTrigger",
+        lockFactory = "showcaseLockFactory"
+)
+@Revision("2.0")
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter(AccessLevel.PACKAGE)
 @Slf4j
@@ -92,6 +122,18 @@ final class ShowcaseAggregate {
     @Nullable
     private Instant removedAt;
 
+    /**
+     * The ID of the pending deadline starting the showcase, if scheduled by the aggregate.
+     */
+    @Nullable
+    private String startDeadlineId;
+
+    /**
+     * The ID of the pending deadline finishing the showcase, if scheduled by the aggregate.
+     */
+    @Nullable
+    private String finishDeadlineId;
+
     /**
      * Schedules a new showcase.
      *
@@ -101,10 +143,16 @@ final class ShowcaseAggregate {
      *
      * @param command the schedule command to handle
      * @param showcaseTitleReservation the title reservation service
+     * @param deadlineScheduler the scheduler of the aggregate-driven deadlines
+     * @param deadlineManager the deadline manager used to schedule the start
      */
     @CommandHandler
     @CreationPolicy(AggregateCreationPolicy.CREATE_IF_MISSING)
-    void handle(ScheduleShowcaseCommand command, ShowcaseTitleReservation showcaseTitleReservation) {
+    void handle(
+            ScheduleShowcaseCommand command,
+            ShowcaseTitleReservation showcaseTitleReservation,
+            ShowcaseDeadlineScheduler deadlineScheduler,
+            DeadlineManager deadlineManager) {
         if (Objects.equals(showcaseId, command.showcaseId())) {
             if (Objects.equals(title, command.title())
                         && Objects.equals(status, ShowcaseStatus.SCHEDULED)
@@ -148,21 +196,33 @@ final class ShowcaseAggregate {
                         .scheduledAt(clock.instant())
                         .build();
 
+        val startDeadlineId =
+                deadlineScheduler.schedule(
+                        deadlineManager, START_SHOWCASE_DEADLINE_NAME, event.startTime(), event.showcaseId());
+
         log.trace("Showcase scheduled: {}", event);
 
-        apply(event);
+        apply(event, deadlineMetaData(START_DEADLINE_ID_METADATA_KEY, startDeadlineId));
     }
 
     /**
      * Starts a scheduled showcase.
      *
      * <p>The showcase must be in {@link ShowcaseStatus#SCHEDULED} state. Starting an already started showcase is
-     * a no-op (idempotent retry). Finishing an already finished showcase is rejected.
+     * a no-op (idempotent retry). Finishing an already finished showcase is rejected. A start deadline pending ahead
+     * of a manual start is cancelled.
      *
      * @param command the start command to handle
+     * @param triggeringDeadline the name of the deadline that triggered the command, if any, passed on to the event
+     * @param deadlineScheduler the scheduler of the aggregate-driven deadlines
+     * @param deadlineManager the deadline manager used to cancel the start and to schedule the finish
      */
     @CommandHandler
-    void handle(StartShowcaseCommand command) {
+    void handle(
+            StartShowcaseCommand command,
+            @MetaDataValue(TRIGGERING_DEADLINE_METADATA_KEY) @Nullable String triggeringDeadline,
+            ShowcaseDeadlineScheduler deadlineScheduler,
+            DeadlineManager deadlineManager) {
         checkState(Objects.equals(showcaseId, command.showcaseId()), "\"showcaseId\" must be same as command's one");
         checkState(Objects.nonNull(duration), "\"duration\" is required");
 
@@ -181,6 +241,10 @@ final class ShowcaseAggregate {
             return;
         }
 
+        if (!START_SHOWCASE_DEADLINE_NAME.equals(triggeringDeadline)) {
+            deadlineScheduler.cancel(deadlineManager, START_SHOWCASE_DEADLINE_NAME, startDeadlineId);
+        }
+
         val event =
                 ShowcaseStartedEvent
                         .builder()
@@ -189,21 +253,68 @@ final class ShowcaseAggregate {
                         .startedAt(clock.instant())
                         .build();
 
+        val finishDeadlineId =
+                deadlineScheduler.schedule(
+                        deadlineManager,
+                        FINISH_SHOWCASE_DEADLINE_NAME,
+                        event.startedAt().plus(event.duration()),
+                        event.showcaseId());
+
         log.trace("Showcase started: {}", event);
 
-        apply(event);
+        apply(event, deadlineMetaData(FINISH_DEADLINE_ID_METADATA_KEY, finishDeadlineId)
+                .mergedWith(triggeringDeadlineMetaData(triggeringDeadline)));
+    }
+
+    /**
+     * Dispatches a {@link StartShowcaseCommand} when the aggregate-driven start deadline fires.
+     *
+     * <p>If the showcase is no longer in {@link ShowcaseStatus#SCHEDULED} state, the deadline is skipped. The command
+     * goes through the command bus, so the transition is applied by the node owning the aggregate, whichever node the
+     * deadline fires on. It is sent without waiting for its result, which can only be handled once the aggregate lock
+     * held by this handler is released.
+     *
+     * @param showcaseId the ID of the showcase to start
+     * @param commandGateway the command gateway used to send the start command
+     * @param deadlineScheduler the scheduler counting the skipped deadlines
+     */
+    @DeadlineHandler(deadlineName = START_SHOWCASE_DEADLINE_NAME)
+    void onStartShowcaseDeadline(
+            String showcaseId, CommandGateway commandGateway, ShowcaseDeadlineScheduler deadlineScheduler) {
+        if (status != ShowcaseStatus.SCHEDULED) {
+            log.trace("On starting deadline, showcase with ID {} has status {}, so skipping", showcaseId, status);
+            deadlineScheduler.skipped(START_SHOWCASE_DEADLINE_NAME);
+            return;
+        }
+
+        sendOnDeadline(
+                commandGateway,
+                deadlineScheduler,
+                START_SHOWCASE_DEADLINE_NAME,
+                StartShowcaseCommand
+                        .builder()
+                        .showcaseId(showcaseId)
+                        .build());
     }
 
     /**
      * Finishes a started showcase.
      *
      * <p>The showcase must be in {@link ShowcaseStatus#STARTED} state. Finishing an already finished showcase is
-     * a no-op (idempotent retry). Finishing a not-yet-started showcase is rejected.
+     * a no-op (idempotent retry). Finishing a not-yet-started showcase is rejected. A finish deadline pending ahead
+     * of a manual finish is cancelled.
      *
      * @param command the finish command to handle
+     * @param triggeringDeadline the name of the deadline that triggered the command, if any, passed on to the event
+     * @param deadlineScheduler the scheduler of the aggregate-driven deadlines
+     * @param deadlineManager the deadline manager used to cancel the finish
      */
     @CommandHandler
-    void handle(FinishShowcaseCommand command) {
+    void handle(
+            FinishShowcaseCommand command,
+            @MetaDataValue(TRIGGERING_DEADLINE_METADATA_KEY) @Nullable String triggeringDeadline,
+            ShowcaseDeadlineScheduler deadlineScheduler,
+            DeadlineManager deadlineManager) {
         checkState(Objects.equals(showcaseId, command.showcaseId()), "\"showcaseId\" must be same as command's one");
 
         if (status == ShowcaseStatus.SCHEDULED) {
@@ -221,6 +332,10 @@ final class ShowcaseAggregate {
             return;
         }
 
+        if (!FINISH_SHOWCASE_DEADLINE_NAME.equals(triggeringDeadline)) {
+            deadlineScheduler.cancel(deadlineManager, FINISH_SHOWCASE_DEADLINE_NAME, finishDeadlineId);
+        }
+
         val event =
                 ShowcaseFinishedEvent
                         .builder()
@@ -230,25 +345,103 @@ final class ShowcaseAggregate {
 
         log.trace("Showcase finished: {}", event);
 
-        apply(event);
+        apply(event, triggeringDeadlineMetaData(triggeringDeadline));
+    }
+
+    /**
+     * Dispatches a {@link FinishShowcaseCommand} when the aggregate-driven finish deadline fires.
+     *
+     * <p>If the showcase is no longer in {@link ShowcaseStatus#STARTED} state, the deadline is skipped. The command
+     * goes through the command bus, so the transition is applied by the node owning the aggregate, whichever node the
+     * deadline fires on. It is sent without waiting for its result, which can only be handled once the aggregate lock
+     * held by this handler is released.
+     *
+     * @param showcaseId the ID of the showcase to finish
+     * @param commandGateway the command gateway used to send the finish command
+     * @param deadlineScheduler the scheduler counting the skipped deadlines
+     */
+    @DeadlineHandler(deadlineName = FINISH_SHOWCASE_DEADLINE_NAME)
+    void onFinishShowcaseDeadline(
+            String showcaseId, CommandGateway commandGateway, ShowcaseDeadlineScheduler deadlineScheduler) {
+        if (status != ShowcaseStatus.STARTED) {
+            log.trace("On finishing deadline, showcase with ID {} has status {}, so skipping", showcaseId, status);
+            deadlineScheduler.skipped(FINISH_SHOWCASE_DEADLINE_NAME);
+            return;
+        }
+
+        sendOnDeadline(
+                commandGateway,
+                deadlineScheduler,
+                FINISH_SHOWCASE_DEADLINE_NAME,
+                FinishShowcaseCommand
+                        .builder()
+                        .showcaseId(showcaseId)
+                        .build());
+    }
+
+    /**
+     * Sends the command of a fired aggregate-driven deadline, marking it with the deadline name, so its handler does
+     * not try to cancel the deadline being executed. A deadline whose command fails is counted as skipped.
+     *
+     * @param commandGateway the command gateway used to send the command
+     * @param deadlineScheduler the scheduler counting the skipped deadlines
+     * @param deadlineName the name of the fired deadline
+     * @param command the command to send
+     */
+    private static void sendOnDeadline(
+            CommandGateway commandGateway,
+            ShowcaseDeadlineScheduler deadlineScheduler,
+            String deadlineName,
+            ShowcaseCommand command) {
+        log.trace("Sending {} on deadline {}...", command, deadlineName);
+
+        commandGateway
+                .send(GenericCommandMessage
+                              .asCommandMessage(command)
+                              .andMetaData(Map.of(TRIGGERING_DEADLINE_METADATA_KEY, deadlineName)))
+                .whenComplete((result, error) -> {
+                    if (error == null) {
+                        log.trace("Sent {} on deadline {}", command, deadlineName);
+                        return;
+                    }
+
+                    val cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof CommandExecutionException e && e.getDetails().isPresent()) {
+                        log.error("Failed to send {} on deadline {}, details: {}",
+                                  command, deadlineName, e.getDetails().get());
+                    } else {
+                        log.error("Failed to send {} on deadline {}", command, deadlineName, cause);
+                    }
+                    deadlineScheduler.skipped(deadlineName);
+                });
     }
 
     /**
      * Removes a showcase, finishing it first if it has already started.
      *
      * <p>Releases the title reservation before applying events. If the showcase was started, a
-     * {@link ShowcaseFinishedEvent} is emitted first, followed by a {@link ShowcaseRemovedEvent}.
+     * {@link ShowcaseFinishedEvent} is emitted first, followed by a {@link ShowcaseRemovedEvent}. Any pending
+     * aggregate-driven deadline is cancelled.
      *
      * @param command the remove command to handle
      * @param showcaseTitleReservation the title reservation service
+     * @param deadlineScheduler the scheduler of the aggregate-driven deadlines
+     * @param deadlineManager the deadline manager used to cancel the pending deadlines
      */
     @CommandHandler
-    void handle(RemoveShowcaseCommand command, ShowcaseTitleReservation showcaseTitleReservation) {
+    void handle(
+            RemoveShowcaseCommand command,
+            ShowcaseTitleReservation showcaseTitleReservation,
+            ShowcaseDeadlineScheduler deadlineScheduler,
+            DeadlineManager deadlineManager) {
         checkState(Objects.equals(showcaseId, command.showcaseId()), "\"showcaseId\" must be same as command's one");
         checkState(Objects.nonNull(title), "\"title\" is required");
 
         showcaseTitleReservation.delete(title);
 
+        deadlineScheduler.cancel(deadlineManager, START_SHOWCASE_DEADLINE_NAME, startDeadlineId);
+        deadlineScheduler.cancel(deadlineManager, FINISH_SHOWCASE_DEADLINE_NAME, finishDeadlineId);
+
         val now = clock.instant();
 
         if (status == ShowcaseStatus.STARTED) {
@@ -277,31 +470,64 @@ final class ShowcaseAggregate {
         }
     }
 
+    /**
+     * Builds the metadata of an event carrying the ID of the deadline scheduled along with it.
+     *
+     * @param key the metadata key of the deadline ID
+     * @param deadlineId the ID of the scheduled deadline, or {@code null} if no deadline was scheduled
+     * @return the event metadata
+     */
+    private static MetaData deadlineMetaData(String key, @Nullable String deadlineId) {
+        return deadlineId != null ? MetaData.with(key, deadlineId) : MetaData.emptyInstance();
+    }
+
+    /**
+     * Builds the metadata of a lifecycle event carrying the name of the deadline that triggered it, so the saga knows
+     * not to cancel that deadline.
+     *
+     * @param triggeringDeadline the name of the deadline that triggered the command, or {@code null} if none did
+     * @return the event metadata
+     */
+    private static MetaData triggeringDeadlineMetaData(@Nullable String triggeringDeadline) {
+        return triggeringDeadline != null
+               ? MetaData.with(TRIGGERING_DEADLINE_METADATA_KEY, triggeringDeadline)
+               : MetaData.emptyInstance();
+    }
+
     /**
      * Applies the scheduled event to the aggregate state.
      *
      * @param event the event to apply
+     * @param startDeadlineId the ID of the start deadline scheduled by the aggregate, if any
      */
     @EventSourcingHandler
-    void on(ShowcaseScheduledEvent event) {
+    void on(
+            ShowcaseScheduledEvent event,
+            @MetaDataValue(START_DEADLINE_ID_METADATA_KEY) @Nullable String startDeadlineId) {
         this.showcaseId = event.showcaseId();
         this.title = event.title();
         this.startTime = event.startTime();
         this.duration = event.duration();
         this.status = ShowcaseStatus.SCHEDULED;
         this.scheduledAt = event.scheduledAt();
+        this.startDeadlineId = startDeadlineId;
     }
 
     /**
      * Applies the started event to the aggregate state.
      *
      * @param event the event to apply
+     * @param finishDeadlineId the ID of the finish deadline scheduled by the aggregate, if any
      */
     @EventSourcingHandler
-    void on(ShowcaseStartedEvent event) {
+    void on(
+            ShowcaseStartedEvent event,
+            @MetaDataValue(FINISH_DEADLINE_ID_METADATA_KEY) @Nullable String finishDeadlineId) {
         this.status = ShowcaseStatus.STARTED;
         this.duration = event.duration();
         this.startedAt = event.startedAt();
+        this.startDeadlineId = null;
+        this.finishDeadlineId = finishDeadlineId;
     }
 
     /**
@@ -313,6 +539,7 @@ final class ShowcaseAggregate {
     void on(ShowcaseFinishedEvent event) {
         this.status = ShowcaseStatus.FINISHED;
         this.finishedAt = event.finishedAt();
+        this.finishDeadlineId = null;
     }
 
     /**
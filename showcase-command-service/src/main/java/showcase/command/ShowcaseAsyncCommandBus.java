@@ -0,0 +1,298 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.GenericCommandResultMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.commandhandling.distributed.RoutingStrategy;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.modelling.command.ConcurrencyException;
+import org.jspecify.annotations.Nullable;
+import showcase.command.ShowcaseCommandProperties.LocalSegment;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Local segment of the distributed command bus handling each command on a virtual thread of its own, so that a command
+ * blocked on the event store or the database no longer holds the thread of the connector delivering the commands.
+ *
+ * <p>The commands of a showcase are handled one after another in their order of arrival, each virtual thread waiting
+ * for the completion of the previous command with the same routing key, while the commands of different showcases are
+ * handled concurrently, up to the configured number of permits. The commands waiting for their turn or for a permit are
+ * bounded by the configured queue capacity, beyond which the commands are rejected with a
+ * {@link RejectedExecutionException}, which the clients retry.
+ *
+ * <p>Handling itself, including the handler interceptors and the command handling span, is left to the
+ * {@link SimpleCommandBus}, and runs on the virtual thread. A command whose events conflict with events appended
+ * concurrently for the same aggregate, which fails with a {@link ConcurrencyException}, is handled again in a new unit
+ * of work up to the configured number of retries, still in its turn, the rolled back unit of work having evicted the
+ * aggregate from the cache.
+ *
+ * <p>The handled and queued commands are recorded as the {@code showcaseAsyncCommandBus.active} and
+ * {@code showcaseAsyncCommandBus.queued} gauges, the rejected ones as the {@code showcaseAsyncCommandBus.rejected}
+ * counter, and the conflicting and retried ones as the {@code showcaseAsyncCommandBus.conflicts} and
+ * {@code showcaseAsyncCommandBus.retries} counters.
+ */
+@Slf4j
+final class ShowcaseAsyncCommandBus extends SimpleCommandBus implements AutoCloseable {
+
+    private static final String METER_NAME_PREFIX = "showcaseAsyncCommandBus";
+
+    /**
+     * The routing strategy resolving the showcase of a command.
+     */
+    private final RoutingStrategy routingStrategy;
+
+    /**
+     * The maximum number of commands waiting for their turn or for a permit.
+     */
+    private final int queueCapacity;
+
+    /**
+     * The number of times a conflicting command is handled again.
+     */
+    private final int maxRetries;
+
+    /**
+     * The permits of the commands handled concurrently.
+     */
+    private final Semaphore permits;
+
+    /**
+     * The executor starting a virtual thread per command.
+     */
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("showcase-command-", 0).factory());
+
+    /**
+     * The completion of the last command queued per routing key, removed once completed.
+     */
+    private final ConcurrentMap<String, CompletableFuture<@Nullable Void>> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * The number of commands being handled.
+     */
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    /**
+     * The number of commands waiting for their turn or for a permit.
+     */
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    /**
+     * The counter of the rejected commands.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * The counter of the commands failed with a conflict.
+     */
+    private final Counter conflictsCounter;
+
+    /**
+     * The counter of the conflicting commands handled again.
+     */
+    private final Counter retriesCounter;
+
+    ShowcaseAsyncCommandBus(
+            Builder builder,
+            LocalSegment localSegmentProperties,
+            int maxRetries,
+            RoutingStrategy routingStrategy,
+            MeterRegistry meterRegistry) {
+        super(builder);
+        this.routingStrategy = routingStrategy;
+        this.queueCapacity = localSegmentProperties.getQueueCapacity();
+        this.maxRetries = maxRetries;
+        this.permits = new Semaphore(localSegmentProperties.getMaxConcurrency());
+        Gauge.builder(METER_NAME_PREFIX + ".active", activeCount, AtomicInteger::get)
+             .description("Number of commands being handled by the local segment")
+             .register(meterRegistry);
+        Gauge.builder(METER_NAME_PREFIX + ".queued", queuedCount, AtomicInteger::get)
+             .description("Number of commands waiting to be handled by the local segment")
+             .register(meterRegistry);
+        this.rejectedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".rejected")
+                       .description("Number of commands rejected by the local segment as its queue is full")
+                       .register(meterRegistry);
+        this.conflictsCounter =
+                Counter.builder(METER_NAME_PREFIX + ".conflicts")
+                       .description("Number of commands whose events conflicted with concurrently appended events")
+                       .register(meterRegistry);
+        this.retriesCounter =
+                Counter.builder(METER_NAME_PREFIX + ".retries")
+                       .description("Number of conflicting commands handled again by the local segment")
+                       .register(meterRegistry);
+    }
+
+    /**
+     * Returns the number of commands waiting for their turn or for a permit.
+     *
+     * @return the number of queued commands
+     */
+    int queuedCount() {
+        return queuedCount.get();
+    }
+
+    /**
+     * Queues the command behind the previous commands of its showcase, or rejects it if the queue is full.
+     *
+     * @param command  the command to handle
+     * @param handler  the handler of the command
+     * @param callback the callback notified of the result
+     * @param <C>      the payload type of the command
+     * @param <R>      the result type of the command
+     */
+    @Override
+    protected <C, R> void handle(
+            CommandMessage<C> command,
+            MessageHandler<? super CommandMessage<?>> handler,
+            CommandCallback<? super C, ? super R> callback) {
+        val routingKey = routingStrategy.getRoutingKey(command);
+        if (queuedCount.incrementAndGet() > queueCapacity) {
+            queuedCount.decrementAndGet();
+            rejectedCounter.increment();
+            callback.onResult(
+                    command,
+                    GenericCommandResultMessage.asCommandResultMessage(
+                            new RejectedExecutionException("Command queue of this node is full")));
+            return;
+        }
+
+        val completion = new CompletableFuture<@Nullable Void>();
+        val previous = lanes.put(routingKey, completion);
+        try {
+            executor.execute(() -> {
+                try {
+                    if (previous != null) {
+                        previous.join();
+                    }
+                    handleWithPermit(command, handler, callback);
+                } finally {
+                    complete(routingKey, completion);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedCount.decrementAndGet();
+            if (previous != null) {
+                previous.thenRun(() -> complete(routingKey, completion));
+            } else {
+                complete(routingKey, completion);
+            }
+            callback.onResult(command, GenericCommandResultMessage.asCommandResultMessage(e));
+        }
+    }
+
+    /**
+     * Completes the handling of a command, letting the next command of its showcase proceed.
+     *
+     * @param routingKey the routing key of the command
+     * @param completion the completion of the command handling
+     */
+    private void complete(String routingKey, CompletableFuture<@Nullable Void> completion) {
+        completion.complete(null);
+        lanes.remove(routingKey, completion);
+    }
+
+    /**
+     * Handles the command once a permit is acquired.
+     *
+     * @param command  the command to handle
+     * @param handler  the handler of the command
+     * @param callback the callback notified of the result
+     * @param <C>      the payload type of the command
+     * @param <R>      the result type of the command
+     */
+    private <C, R> void handleWithPermit(
+            CommandMessage<C> command,
+            MessageHandler<? super CommandMessage<?>> handler,
+            CommandCallback<? super C, ? super R> callback) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queuedCount.decrementAndGet();
+            callback.onResult(command, GenericCommandResultMessage.asCommandResultMessage(e));
+            return;
+        }
+
+        queuedCount.decrementAndGet();
+        activeCount.incrementAndGet();
+        try {
+            handleWithRetries(command, handler, callback);
+        } catch (RuntimeException e) {
+            log.error("Failed to handle command: {}", command.getCommandName(), e);
+            callback.onResult(command, GenericCommandResultMessage.asCommandResultMessage(e));
+        } finally {
+            activeCount.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * Handles the command, again in a new unit of work as long as it fails with a conflict and retries are left.
+     *
+     * @param command  the command to handle
+     * @param handler  the handler of the command
+     * @param callback the callback notified of the final result
+     * @param <C>      the payload type of the command
+     * @param <R>      the result type of the command
+     */
+    private <C, R> void handleWithRetries(
+            CommandMessage<C> command,
+            MessageHandler<? super CommandMessage<?>> handler,
+            CommandCallback<? super C, ? super R> callback) {
+        for (var attempt = 0; ; attempt++) {
+            val result = new AtomicReference<@Nullable CommandResultMessage<? extends R>>();
+            CommandCallback<C, R> resultCallback = (handledCommand, resultMessage) -> result.set(resultMessage);
+            super.handle(command, handler, resultCallback);
+            val resultMessage = Objects.requireNonNull(result.get());
+            if (!isConflict(resultMessage) || attempt >= maxRetries) {
+                if (isConflict(resultMessage)) {
+                    conflictsCounter.increment();
+                }
+                callback.onResult(command, resultMessage);
+                return;
+            }
+
+            conflictsCounter.increment();
+            retriesCounter.increment();
+            log.debug("Retrying command {} after a conflicting append", command.getCommandName());
+        }
+    }
+
+    /**
+     * Returns whether the result is a failure caused by events appended concurrently for the same aggregate.
+     *
+     * @param resultMessage the result of the command
+     * @return {@code true} if the command failed with a {@link ConcurrencyException}
+     */
+    private static boolean isConflict(CommandResultMessage<?> resultMessage) {
+        return resultMessage.isExceptional()
+                       && ExceptionUtils.indexOfType(resultMessage.exceptionResult(), ConcurrencyException.class) >= 0;
+    }
+
+    /**
+     * Stops accepting commands and waits for the queued ones to be handled.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -1,39 +1,67 @@
 package showcase.command;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
 import com.github.kagkarlsson.scheduler.Scheduler;
 import com.github.kagkarlsson.scheduler.boot.config.DbSchedulerCustomizer;
 import com.github.kagkarlsson.scheduler.boot.config.DbSchedulerProperties;
+import com.sun.management.OperatingSystemMXBean;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.record.CompressionType;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandBusSpanFactory;
+import org.axonframework.commandhandling.DuplicateCommandHandlerResolver;
+import org.axonframework.commandhandling.SimpleCommandBus;
 import org.axonframework.commandhandling.distributed.CommandBusConnector;
 import org.axonframework.commandhandling.distributed.CommandRouter;
 import org.axonframework.commandhandling.distributed.ConsistentHashChangeListener;
 import org.axonframework.commandhandling.distributed.DistributedCommandBus;
 import org.axonframework.commandhandling.distributed.RoutingStrategy;
+import org.axonframework.common.DirectExecutor;
 import org.axonframework.common.caching.Cache;
 import org.axonframework.common.caching.JCacheAdapter;
 import org.axonframework.common.jdbc.ConnectionProvider;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
+import org.axonframework.common.lock.LockFactory;
+import org.axonframework.common.lock.NullLockFactory;
+import org.axonframework.common.lock.PessimisticLockFactory;
+import org.axonframework.common.transaction.NoTransactionManager;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.config.Configuration;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.eventhandling.EventBusSpanFactory;
 import org.axonframework.eventhandling.EventMessage;
-import org.axonframework.eventsourcing.AggregateLoadTimeSnapshotTriggerDefinition;
+import org.axonframework.eventhandling.TrackingEventProcessorConfiguration;
 import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
 import org.axonframework.eventsourcing.Snapshotter;
 import org.axonframework.eventsourcing.SnapshotterSpanFactory;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
 import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.axonframework.eventsourcing.eventstore.jdbc.EventSchema;
+import org.axonframework.eventsourcing.eventstore.jdbc.JdbcEventStorageEngine;
 import org.axonframework.eventsourcing.eventstore.jpa.SQLStateResolver;
 import org.axonframework.extensions.jgroups.DistributedCommandBusProperties;
 import org.axonframework.extensions.jgroups.commandhandling.JGroupsConnectorFactoryBean;
+import org.axonframework.extensions.kafka.KafkaProperties;
+import org.axonframework.extensions.kafka.eventhandling.KafkaMessageConverter;
+import org.axonframework.extensions.kafka.eventhandling.producer.ConfirmationMode;
+import org.axonframework.extensions.kafka.eventhandling.producer.DefaultProducerFactory;
+import org.axonframework.extensions.kafka.eventhandling.producer.ProducerFactory;
 import org.axonframework.messaging.Message;
+import org.axonframework.messaging.StreamableMessageSource;
 import org.axonframework.messaging.annotation.HandlerDefinition;
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
+import org.axonframework.messaging.interceptors.CorrelationDataInterceptor;
 import org.axonframework.micrometer.GlobalMetricRegistry;
 import org.axonframework.micrometer.MessageCountingMonitor;
 import org.axonframework.micrometer.MessageTimerMonitor;
@@ -53,6 +81,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
@@ -61,13 +90,24 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showcase.command.ShowcaseCommandProperties.DeadlineMode;
+import showcase.command.ShowcaseCommandProperties.LockingMode;
+import showcase.jgroups.BatchUnpackingCommandBus;
+import showcase.jgroups.BatchingCommandBusConnector;
+import showcase.rsocket.RSocketCommandBusConnector;
+import showcase.rsocket.RSocketDiscovery;
+import showcase.serialization.CompressingSerializer;
+import showcase.serialization.SmileSerializer;
 
 import javax.cache.CacheManager;
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
 import java.util.Optional;
 import java.util.OptionalLong;
-import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static showcase.command.ShowcaseCommandConstants.SAGA_ASSOCIATIONS_CACHE_NAME;
@@ -147,6 +187,8 @@ class ShowcaseCommandApplication {
      * Creates the JGroups connector factory for distributed command bus, setting system properties for tunnel, bind
      * address, and Kubernetes discovery before instantiating the factory bean.
      *
+     * <p>Only created when JGroups is the command bus transport, which is the default.
+     *
      * @param properties                   the distributed command bus properties
      * @param tcpPingHosts                 the TCP ping hosts
      * @param kubePingNamespace            the Kubernetes namespace
@@ -159,6 +201,12 @@ class ShowcaseCommandApplication {
      * @return the JGroups connector factory bean
      */
     @Bean
+    @ConditionalOnProperty(
+            prefix = "showcase.command",
+            name = "command-bus-transport",
+            havingValue = "jgroups",
+            matchIfMissing = true
+    )
     JGroupsConnectorFactoryBean jgroupsConnectorFactoryBean(
             DistributedCommandBusProperties properties,
             @Value("${axon.distributed.jgroups.tcp-ping.hosts}") String tcpPingHosts,
@@ -179,7 +227,8 @@ class ShowcaseCommandApplication {
 
         JGroupsConnectorFactoryBean jGroupsConnectorFactoryBean = new JGroupsConnectorFactoryBean();
         jGroupsConnectorFactoryBean.setClusterName(properties.getJgroups().getClusterName());
-        jGroupsConnectorFactoryBean.setLocalSegment(localSegment);
+        jGroupsConnectorFactoryBean.setLocalSegment(
+                new BatchUnpackingCommandBus(localSegment, messageSerializer, routingStrategy));
         jGroupsConnectorFactoryBean.setSerializer(messageSerializer);
         jGroupsConnectorFactoryBean.setConfiguration(properties.getJgroups().getConfigurationFile());
         consistentHashChangeListener.ifAvailable(jGroupsConnectorFactoryBean::setConsistentHashChangeListener);
@@ -188,15 +237,114 @@ class ShowcaseCommandApplication {
         return jGroupsConnectorFactoryBean;
     }
 
+    /**
+     * Creates the RSocket connector, serving as both the command router and the command bus connector of the
+     * distributed command bus in place of JGroups.
+     *
+     * <p>This node binds an RSocket server on the configured port and announces itself under the advertised host, and
+     * discovers the other nodes from the configured static members or Kubernetes headless services.
+     *
+     * @param commandProperties            the command service properties
+     * @param messageSerializer            the message serializer
+     * @param localSegment                 the local command bus segment
+     * @param routingStrategy              the routing strategy
+     * @param consistentHashChangeListener the consistent hash change listener
+     * @param meterRegistry                the registry to which the connector metrics are registered
+     * @return the RSocket connector
+     */
+    @Bean(initMethod = "connect", destroyMethod = "disconnect")
+    @ConditionalOnProperty(prefix = "showcase.command", name = "command-bus-transport", havingValue = "rsocket")
+    RSocketCommandBusConnector rsocketCommandBusConnector(
+            ShowcaseCommandProperties commandProperties,
+            @Qualifier("messageSerializer") Serializer messageSerializer,
+            @Qualifier("localSegment") CommandBus localSegment,
+            RoutingStrategy routingStrategy,
+            ObjectProvider<ConsistentHashChangeListener> consistentHashChangeListener,
+            MeterRegistry meterRegistry) {
+        val rsocket = commandProperties.getRsocket();
+        val discovery =
+                switch (rsocket.getDiscovery()) {
+                    case STATIC -> RSocketDiscovery.staticMembers(rsocket.getMembers());
+                    case KUBERNETES -> RSocketDiscovery.kubernetes(rsocket.getMembers());
+                };
+        return RSocketCommandBusConnector
+                       .builder()
+                       .localSegment(new BatchUnpackingCommandBus(localSegment, messageSerializer, routingStrategy))
+                       .serializer(messageSerializer)
+                       .routingStrategy(routingStrategy)
+                       .discovery(discovery)
+                       .consistentHashChangeListener(consistentHashChangeListener.getIfAvailable())
+                       .serverPort(rsocket.getPort())
+                       .advertisedHost(rsocket.getAdvertisedHost())
+                       .refreshInterval(rsocket.getRefreshInterval())
+                       .maxInFlight(rsocket.getMaxInFlight())
+                       .queueCapacity(rsocket.getQueueCapacity())
+                       .requestTimeout(rsocket.getRequestTimeout())
+                       .meterRegistry(meterRegistry)
+                       .build();
+    }
+
+    /**
+     * Creates the local segment of the distributed command bus handling each command on a virtual thread, in place of
+     * the synchronous one, when enabled.
+     *
+     * <p>The segment is built as the default one, with the transaction manager, duplicate handler resolution, span
+     * factory, message monitor, and correlation data interceptor of the Axon configuration, so only the thread the
+     * commands are handled on changes. In the optimistic aggregate locking mode, the segment also retries the commands
+     * failed with a conflicting append.
+     *
+     * @param transactionManager              the transaction manager of the units of work
+     * @param axonConfiguration               the Axon configuration
+     * @param duplicateCommandHandlerResolver the resolver of the duplicate command handlers
+     * @param commandProperties               the command service properties
+     * @param routingStrategy                 the routing strategy resolving the showcase of a command
+     * @param meterRegistry                   the Micrometer meter registry
+     * @return the asynchronous local segment
+     */
+    @Bean
+    @Qualifier("localSegment")
+    @ConditionalOnProperty(prefix = "showcase.command", name = "local-segment.async", havingValue = "true")
+    SimpleCommandBus asyncLocalSegment(
+            TransactionManager transactionManager,
+            Configuration axonConfiguration,
+            DuplicateCommandHandlerResolver duplicateCommandHandlerResolver,
+            ShowcaseCommandProperties commandProperties,
+            RoutingStrategy routingStrategy,
+            MeterRegistry meterRegistry) {
+        val localSegment =
+                new ShowcaseAsyncCommandBus(
+                        SimpleCommandBus
+                                .builder()
+                                .transactionManager(transactionManager)
+                                .duplicateCommandHandlerResolver(duplicateCommandHandlerResolver)
+                                .spanFactory(axonConfiguration.getComponent(CommandBusSpanFactory.class))
+                                .messageMonitor(axonConfiguration.messageMonitor(CommandBus.class, "commandBus")),
+                        commandProperties.getLocalSegment(),
+                        commandProperties.getAggregateLocking().getMode() == LockingMode.OPTIMISTIC
+                                ? commandProperties.getAggregateLocking().getMaxRetries()
+                                : 0,
+                        routingStrategy,
+                        meterRegistry);
+        localSegment.registerHandlerInterceptor(
+                new CorrelationDataInterceptor<>(axonConfiguration.correlationDataProviders()));
+        return localSegment;
+    }
+
     /**
      * Builds the primary {@link DistributedCommandBus} with the command router, connector, span factory, and message
      * monitor. Registers a message interceptor for command handling.
      *
+     * <p>The connector is decorated with a {@link BatchingCommandBusConnector}, so this node batches the commands it
+     * sends itself when batching is enabled. The command batches sent by the other members are unpacked by the
+     * {@link BatchUnpackingCommandBus} the connector receives through.
+     *
      * @param axonConfiguration               the Axon configuration
      * @param commandProperties               the command service properties
      * @param commandRouter                   the command router
      * @param commandBusConnector             the command bus connector
      * @param distributedCommandBusProperties the distributed command bus properties
+     * @param messageSerializer               the message serializer
+     * @param meterRegistry                   the registry to which the command batching metrics are registered
      * @return the primary distributed command bus
      */
     @Bean
@@ -207,14 +355,25 @@ class ShowcaseCommandApplication {
             ShowcaseCommandProperties commandProperties,
             CommandRouter commandRouter,
             CommandBusConnector commandBusConnector,
-            DistributedCommandBusProperties distributedCommandBusProperties) {
+            DistributedCommandBusProperties distributedCommandBusProperties,
+            @Qualifier("messageSerializer") Serializer messageSerializer,
+            MeterRegistry meterRegistry) {
+        val commandBatching = commandProperties.getCommandBatching();
+        val batchingConnector =
+                new BatchingCommandBusConnector(
+                        commandBusConnector,
+                        messageSerializer,
+                        commandBatching.isEnabled(),
+                        commandBatching.getMaxBatchSize(),
+                        commandBatching.getMaxDelay(),
+                        meterRegistry);
         val spanFactory = axonConfiguration.getComponent(CommandBusSpanFactory.class);
         val messagedMonitor = axonConfiguration.messageMonitor(DistributedCommandBus.class, "distributedCommandBus");
         val commandBus =
                 DistributedCommandBus
                         .builder()
                         .commandRouter(commandRouter)
-                        .connector(commandBusConnector)
+                        .connector(batchingConnector)
                         .spanFactory(spanFactory)
                         .messageMonitor(messagedMonitor)
                         .build();
@@ -234,13 +393,170 @@ class ShowcaseCommandApplication {
         return new SQLStateResolver();
     }
 
+    /**
+     * Creates the serializer of the events, writing the configured format and reading both the JSON and the Smile
+     * formats.
+     *
+     * @param objectMapper      the object mapper of the JSON format
+     * @param commandProperties the command service properties
+     * @return the event serializer
+     */
+    @Bean
+    @Qualifier("eventSerializer")
+    Serializer eventSerializer(ObjectMapper objectMapper, ShowcaseCommandProperties commandProperties) {
+        return new SmileSerializer(objectMapper, commandProperties.getEventSerializationFormat());
+    }
+
+    /**
+     * Creates the JDBC event storage engine, which serializes the snapshots in the format of the events.
+     *
+     * <p>The snapshots are serialized from the fields of the aggregates, which expose no public accessors, rather than
+     * with the general serializer. When enabled, the stored payloads and metadata of the events and snapshots are
+     * compressed from the configured size, while the events published to Kafka are serialized uncompressed. When the
+     * event notifications are enabled, the appended events are notified on their commit. When the event replica is
+     * enabled, the event stream reads it covers are served by a storage engine of its own, without transactions.
+     *
+     * @param configuration                the Axon configuration providing the upcaster chain and snapshot filter
+     * @param eventSerializer              the event serializer
+     * @param objectMapper                 the object mapper of the JSON format
+     * @param commandProperties            the command service properties
+     * @param persistenceExceptionResolver the persistence exception resolver
+     * @param connectionProvider           the JDBC connection provider
+     * @param transactionManager           the transaction manager
+     * @param eventSchema                  the schema of the event tables
+     * @param eventReplica                 the event replica, if enabled
+     * @param meterRegistry                the registry to which the compression and replica metrics are registered
+     * @return the event storage engine
+     */
+    @Bean
+    EventStorageEngine eventStorageEngine(
+            Configuration configuration,
+            @Qualifier("eventSerializer") Serializer eventSerializer,
+            ObjectMapper objectMapper,
+            ShowcaseCommandProperties commandProperties,
+            PersistenceExceptionResolver persistenceExceptionResolver,
+            ConnectionProvider connectionProvider,
+            TransactionManager transactionManager,
+            EventSchema eventSchema,
+            ObjectProvider<ShowcaseEventReplica> eventReplica,
+            MeterRegistry meterRegistry) {
+        val snapshotMapper =
+                objectMapper.copy()
+                            .setVisibility(PropertyAccessor.ALL, Visibility.NONE)
+                            .setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+        Serializer storedEventSerializer = eventSerializer;
+        Serializer snapshotSerializer =
+                new SmileSerializer(snapshotMapper, commandProperties.getEventSerializationFormat());
+        val eventCompression = commandProperties.getEventCompression();
+        if (eventCompression.isEnabled()) {
+            storedEventSerializer =
+                    new CompressingSerializer(storedEventSerializer, eventCompression.getThreshold(), meterRegistry);
+            snapshotSerializer =
+                    new CompressingSerializer(snapshotSerializer, eventCompression.getThreshold(), meterRegistry);
+        }
+        val builder =
+                JdbcEventStorageEngine
+                        .builder()
+                        .snapshotSerializer(snapshotSerializer)
+                        .upcasterChain(configuration.upcasterChain())
+                        .persistenceExceptionResolver(persistenceExceptionResolver)
+                        .eventSerializer(storedEventSerializer)
+                        .snapshotFilter(configuration.snapshotFilter())
+                        .connectionProvider(connectionProvider)
+                        .transactionManager(transactionManager)
+                        .schema(eventSchema);
+        val primaryEngine =
+                commandProperties.getEventNotification().isEnabled()
+                        ? new ShowcaseNotifyingEventStorageEngine(builder, connectionProvider, transactionManager)
+                        : builder.build();
+        val replica = eventReplica.getIfAvailable();
+        if (replica == null) {
+            return primaryEngine;
+        }
+
+        val replicaDataSource = replica.dataSource();
+        val replicaEngine =
+                builder.connectionProvider(replicaDataSource::getConnection)
+                       .transactionManager(NoTransactionManager.INSTANCE)
+                       .build();
+        return new ShowcaseReplicaRoutingEventStorageEngine(primaryEngine, replicaEngine, replica, meterRegistry);
+    }
+
+    /**
+     * Creates the streaming replica serving the event stream reads of the tracking processors.
+     *
+     * @param dataSource        the data source of the primary
+     * @param eventSchema       the schema of the event tables
+     * @param commandProperties the command service properties
+     * @param meterRegistry     the Micrometer meter registry
+     * @return the event replica
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "showcase.command", name = "event-replica.enabled", havingValue = "true")
+    ShowcaseEventReplica showcaseEventReplica(
+            DataSource dataSource,
+            EventSchema eventSchema,
+            ShowcaseCommandProperties commandProperties,
+            MeterRegistry meterRegistry) {
+        return new ShowcaseEventReplica(dataSource, eventSchema, commandProperties.getEventReplica(), meterRegistry);
+    }
+
+    /**
+     * Creates the embedded event store woken up on the notifications of the events appended on any node, replacing the
+     * default one when the event notifications are enabled.
+     *
+     * <p>The tracking processors then only poll the storage engine at the fallback fetch delay.
+     *
+     * @param storageEngine     the event storage engine
+     * @param configuration     the Axon configuration providing the message monitor and span factory
+     * @param commandProperties the command service properties
+     * @return the notified event store
+     */
+    @Bean("eventBus")
+    @Qualifier("eventStore")
+    @ConditionalOnProperty(prefix = "showcase.command", name = "event-notification.enabled", havingValue = "true")
+    ShowcaseNotifiedEventStore notifiedEventStore(
+            EventStorageEngine storageEngine,
+            Configuration configuration,
+            ShowcaseCommandProperties commandProperties) {
+        return new ShowcaseNotifiedEventStore(
+                EmbeddedEventStore
+                        .builder()
+                        .storageEngine(storageEngine)
+                        .messageMonitor(configuration.messageMonitor(EventStore.class, "eventStore"))
+                        .spanFactory(configuration.getComponent(EventBusSpanFactory.class))
+                        .fetchDelay(commandProperties.getEventNotification().getFallbackFetchDelay().toMillis()));
+    }
+
+    /**
+     * Creates the listener waking up the tracking processors on the notifications of the appended events.
+     *
+     * @param dataSource        the data source providing the listening connection
+     * @param eventStore        the notified event store
+     * @param commandProperties the command service properties
+     * @param meterRegistry     the Micrometer meter registry
+     * @return the event notification listener
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "showcase.command", name = "event-notification.enabled", havingValue = "true")
+    ShowcaseEventNotificationListener showcaseEventNotificationListener(
+            DataSource dataSource,
+            ShowcaseNotifiedEventStore eventStore,
+            ShowcaseCommandProperties commandProperties,
+            MeterRegistry meterRegistry) {
+        return new ShowcaseEventNotificationListener(
+                dataSource, eventStore, commandProperties.getEventNotification(), meterRegistry);
+    }
+
     /**
      * Creates the snapshotter that periodically snapshots aggregates to reduce event store replay overhead.
      *
+     * <p>The snapshotter takes the snapshots on the calling thread, which is the dedicated bounded executor of the
+     * {@link ShowcaseSnapshotScheduler}.
+     *
      * @param configuration            the Axon configuration providing repositories
      * @param eventStore               the event store to snapshot from
      * @param transactionManager       the transaction manager
-     * @param executor                 the executor used for snapshotting
      * @param parameterResolverFactory the parameter resolver factory
      * @param handlerDefinition        the handler definition
      * @param spanFactory              the snapshotter span factory
@@ -251,7 +567,6 @@ class ShowcaseCommandApplication {
             Configuration configuration,
             EventStore eventStore,
             TransactionManager transactionManager,
-            Executor executor,
             ParameterResolverFactory parameterResolverFactory,
             HandlerDefinition handlerDefinition,
             SnapshotterSpanFactory spanFactory) {
@@ -260,7 +575,7 @@ class ShowcaseCommandApplication {
                        .repositoryProvider(configuration::repository)
                        .eventStore(eventStore)
                        .transactionManager(transactionManager)
-                       .executor(executor)
+                       .executor(DirectExecutor.INSTANCE)
                        .parameterResolverFactory(parameterResolverFactory)
                        .handlerDefinition(handlerDefinition)
                        .spanFactory(spanFactory)
@@ -382,31 +697,405 @@ class ShowcaseCommandApplication {
     /**
      * Clears all caches whenever the consistent hash ring changes (e.g., on node join/leave).
      *
-     * @param showcaseCache the showcase cache to clear
-     * @return the listener clearing the cache on ring changes
+     * @param showcaseCache       the showcase cache to clear
+     * @param commandOutcomeCache the provider of the command outcome cache to clear, if enabled
+     * @param tombstoneCache      the provider of the tombstone cache to clear, if enabled
+     * @return the listener clearing the caches on ring changes
+     */
+    @Bean
+    ConsistentHashChangeListener consistentHashChangeListener(
+            Cache showcaseCache,
+            ObjectProvider<ShowcaseCommandOutcomeCache> commandOutcomeCache,
+            ObjectProvider<ShowcaseTombstoneCache> tombstoneCache) {
+        return __ -> {
+            showcaseCache.removeAll();
+            commandOutcomeCache.ifAvailable(ShowcaseCommandOutcomeCache::clear);
+            tombstoneCache.ifAvailable(ShowcaseTombstoneCache::clear);
+        };
+    }
+
+    /**
+     * Creates the scheduler taking the requested snapshots on a dedicated bounded executor, skipping the duplicate
+     * requests and the requests beyond its queue capacity.
+     *
+     * @param snapshotter       the snapshotter taking the snapshots
+     * @param commandProperties the command service properties
+     * @param meterRegistry     the Micrometer meter registry
+     * @return the snapshot scheduler
      */
     @Bean
-    ConsistentHashChangeListener consistentHashChangeListener(Cache showcaseCache) {
-        return __ -> showcaseCache.removeAll();
+    ShowcaseSnapshotScheduler showcaseSnapshotScheduler(
+            Snapshotter snapshotter, ShowcaseCommandProperties commandProperties, MeterRegistry meterRegistry) {
+        return new ShowcaseSnapshotScheduler(snapshotter, commandProperties.getSnapshotExecutor(), meterRegistry);
+    }
+
+    /**
+     * Creates the lock factory of the showcase aggregates, locking them on the handling node in the pessimistic mode,
+     * and not at all in the optimistic mode.
+     *
+     * <p>The optimistic mode requires the asynchronous local segment, which handles the commands of a showcase one
+     * after another on its node and retries the conflicting ones, and the saga-driven deadlines. The deadlines handled
+     * by the aggregate itself load it in a unit of work of their own, outside the local segment, so without a lock
+     * they would read the cached showcase while a command of the same showcase is changing it.
+     *
+     * @param commandProperties the command service properties
+     * @return the aggregate lock factory
+     */
+    @Bean
+    LockFactory showcaseLockFactory(ShowcaseCommandProperties commandProperties) {
+        if (commandProperties.getAggregateLocking().getMode() == LockingMode.PESSIMISTIC) {
+            return PessimisticLockFactory.usingDefaults();
+        }
+
+        if (!commandProperties.getLocalSegment().isAsync()) {
+            throw new IllegalStateException("Optimistic aggregate locking requires the asynchronous local segment");
+        }
+        if (commandProperties.getDeadlineMode() == DeadlineMode.AGGREGATE) {
+            throw new IllegalStateException("Optimistic aggregate locking requires the saga deadline mode");
+        }
+        return NullLockFactory.INSTANCE;
     }
 
     /**
      * Defines the snapshot trigger that decides when aggregates should be snapshotted based on the number of events
-     * since the last snapshot.
+     * since the last snapshot and their load time.
      *
-     * @param snapshotter       the snapshotter used to take snapshots
+     * @param snapshotScheduler the scheduler taking the snapshots
      * @param commandProperties the command service properties
      * @return the snapshot trigger definition
      */
     @Bean
     SnapshotTriggerDefinition showcaseSnapshotTrigger(
-            Snapshotter snapshotter, ShowcaseCommandProperties commandProperties) {
-        return new AggregateLoadTimeSnapshotTriggerDefinition(
-                snapshotter,
-                commandProperties
-                        .getShowcaseSnapshotTrigger()
-                        .getLoadTimeThreshold()
-                        .toMillis());
+            ShowcaseSnapshotScheduler snapshotScheduler, ShowcaseCommandProperties commandProperties) {
+        return new ShowcaseSnapshotTriggerDefinition(snapshotScheduler, commandProperties.getShowcaseSnapshotTrigger());
+    }
+
+    /**
+     * Creates the scheduler through which {@link ShowcaseAggregate} drives its own deadlines when the aggregate-driven
+     * deadline mode is enabled, and through which both the aggregate and {@link ShowcaseSaga} cancel the obsolete
+     * deadlines.
+     *
+     * @param commandProperties the command service properties
+     * @param meterRegistry     the Micrometer meter registry
+     * @return the showcase deadline scheduler
+     */
+    @Bean
+    ShowcaseDeadlineScheduler showcaseDeadlineScheduler(
+            ShowcaseCommandProperties commandProperties, MeterRegistry meterRegistry) {
+        return ShowcaseDeadlineScheduler
+                       .builder()
+                       .enabled(commandProperties.getDeadlineMode() == DeadlineMode.AGGREGATE)
+                       .meterRegistry(meterRegistry)
+                       .build();
+    }
+
+    /**
+     * Creates the timer waking the DB Scheduler up when the deadlines scheduled on this node become due, and registers
+     * it as a dispatch interceptor of the deadline manager.
+     *
+     * @param scheduler         the DB Scheduler to wake up
+     * @param deadlineManager   the deadline manager whose scheduled deadlines are tracked
+     * @param commandProperties the command service properties
+     * @param meterRegistry     the Micrometer meter registry
+     * @return the deadline timer
+     */
+    @Bean
+    ShowcaseDeadlineTimer showcaseDeadlineTimer(
+            Scheduler scheduler,
+            DeadlineManager deadlineManager,
+            ShowcaseCommandProperties commandProperties,
+            MeterRegistry meterRegistry) {
+        val deadlineTimer =
+                new ShowcaseDeadlineTimer(scheduler, commandProperties.getDeadlineTimer(), meterRegistry);
+        deadlineManager.registerDispatchInterceptor(deadlineTimer);
+        return deadlineTimer;
+    }
+
+    /**
+     * Creates the balancer measuring the segment lag of the saga event processor and splitting or merging its
+     * segments.
+     *
+     * @param eventProcessingConfiguration the configuration providing the saga event processor
+     * @param eventStore                   the event store providing the head position
+     * @param commandProperties            the command service properties
+     * @param meterRegistry                the Micrometer meter registry
+     * @return the saga processor balancer
+     */
+    @Bean
+    ShowcaseSagaProcessorBalancer showcaseSagaProcessorBalancer(
+            EventProcessingConfiguration eventProcessingConfiguration,
+            EventStore eventStore,
+            ShowcaseCommandProperties commandProperties,
+            MeterRegistry meterRegistry) {
+        return new ShowcaseSagaProcessorBalancer(
+                eventProcessingConfiguration, eventStore, commandProperties.getSagaProcessor(), meterRegistry);
+    }
+
+    /**
+     * Creates the controller measuring the pressure on this node and republishing its load factor on the distributed
+     * command bus, and registers it as a handler interceptor of the command bus.
+     *
+     * <p>The CPU usage is the process CPU load reported by the platform, and is left out of the pressure where it is
+     * not available. The commands waiting in the asynchronous local segment, if enabled, count as in flight.
+     *
+     * @param distributedCommandBus           the distributed command bus whose load factor is controlled
+     * @param localSegment                    the local segment, whose queued commands count as in flight
+     * @param commandProperties               the command service properties
+     * @param distributedCommandBusProperties the distributed command bus properties providing the base load factor
+     * @param meterRegistry                   the Micrometer meter registry
+     * @return the load factor controller
+     */
+    @Bean
+    ShowcaseLoadFactorController showcaseLoadFactorController(
+            DistributedCommandBus distributedCommandBus,
+            @Qualifier("localSegment") CommandBus localSegment,
+            ShowcaseCommandProperties commandProperties,
+            DistributedCommandBusProperties distributedCommandBusProperties,
+            MeterRegistry meterRegistry) {
+        IntSupplier queuedCommands =
+                localSegment instanceof ShowcaseAsyncCommandBus asyncLocalSegment
+                ? asyncLocalSegment::queuedCount
+                : () -> 0;
+        val operatingSystem = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+        val loadFactorController =
+                new ShowcaseLoadFactorController(
+                        distributedCommandBus,
+                        commandProperties.getDynamicLoadFactor(),
+                        distributedCommandBusProperties.getLoadFactor(),
+                        operatingSystem::getProcessCpuLoad,
+                        queuedCommands,
+                        meterRegistry);
+        distributedCommandBus.registerHandlerInterceptor(loadFactorController);
+        return loadFactorController;
+    }
+
+    /**
+     * Creates the cache answering the retries of the last command completed per showcase.
+     *
+     * <p>The cache is registered as an interceptor along with the consistency token interceptor, by
+     * {@link #showcaseConsistencyTokenInterceptor}, which must run within it.
+     *
+     * @param commandProperties the command service properties
+     * @param meterRegistry     the Micrometer meter registry
+     * @return the command outcome cache
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "showcase.command",
+            name = "command-outcome-cache.enabled",
+            havingValue = "true"
+    )
+    ShowcaseCommandOutcomeCache showcaseCommandOutcomeCache(
+            ShowcaseCommandProperties commandProperties,
+            MeterRegistry meterRegistry) {
+        return new ShowcaseCommandOutcomeCache(commandProperties.getCommandOutcomeCache(), meterRegistry);
+    }
+
+    /**
+     * Creates the cache answering the commands targeting removed or unknown showcases, and registers it as a handler
+     * interceptor of the command bus and a dispatch interceptor of the event store.
+     *
+     * <p>Being registered after the command message interceptor, the cache has its failures translated into the
+     * errors the aggregate would have caused, and still answers before the aggregate is loaded.
+     *
+     * @param distributedCommandBus the distributed command bus whose commands are answered
+     * @param eventStore            the event store whose events record and invalidate the showcases
+     * @param commandProperties     the command service properties
+     * @param meterRegistry         the Micrometer meter registry
+     * @return the tombstone cache
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "showcase.command",
+            name = "tombstone-cache.enabled",
+            havingValue = "true"
+    )
+    ShowcaseTombstoneCache showcaseTombstoneCache(
+            DistributedCommandBus distributedCommandBus,
+            EventStore eventStore,
+            ShowcaseCommandProperties commandProperties,
+            MeterRegistry meterRegistry) {
+        val tombstoneCache = new ShowcaseTombstoneCache(commandProperties.getTombstoneCache(), meterRegistry);
+        distributedCommandBus.registerHandlerInterceptor(tombstoneCache);
+        eventStore.registerDispatchInterceptor(tombstoneCache);
+        return tombstoneCache;
+    }
+
+    /**
+     * Creates the interceptor answering the showcase commands with the consistency token of their showcase, and
+     * registers it, after the command outcome cache if enabled, as a handler interceptor of the command bus and a
+     * dispatch interceptor of the event store.
+     *
+     * <p>Both are registered here, after the command message interceptor, so the cache only answers commands that
+     * passed validation, still before the aggregate is loaded, and the interceptor running within the cache has it
+     * record the consistency token as the outcome of a command, and answer its retries with it.
+     *
+     * @param distributedCommandBus the distributed command bus whose commands are answered
+     * @param eventStore            the event store whose events are recorded and invalidate the outcomes
+     * @param commandOutcomeCache   the provider of the command outcome cache to register first, if enabled
+     * @return the consistency token interceptor
+     */
+    @Bean
+    ShowcaseConsistencyTokenInterceptor showcaseConsistencyTokenInterceptor(
+            DistributedCommandBus distributedCommandBus,
+            EventStore eventStore,
+            ObjectProvider<ShowcaseCommandOutcomeCache> commandOutcomeCache) {
+        commandOutcomeCache.ifAvailable(cache -> {
+            distributedCommandBus.registerHandlerInterceptor(cache);
+            eventStore.registerDispatchInterceptor(cache);
+        });
+        val consistencyTokenInterceptor = new ShowcaseConsistencyTokenInterceptor();
+        distributedCommandBus.registerHandlerInterceptor(consistencyTokenInterceptor);
+        eventStore.registerDispatchInterceptor(consistencyTokenInterceptor);
+        return consistencyTokenInterceptor;
+    }
+
+    /**
+     * Registers the metrics of the events published to Kafka on the event publishing processor and, in batched or
+     * post-commit publishing mode, configures that processor to read the events in batches of the configured size.
+     *
+     * <p>The batched processor starts from the head of the event store when it has no token yet, so switching to the
+     * batched mode does not publish the past events again. Batched and post-commit publishing require the publishing
+     * processor to be a tracking one, so that its token only advances once a whole batch is acknowledged, and so that
+     * it can catch up on the events not published right after their commit. The post-commit publisher is registered
+     * ahead of the metrics, so the events it skips are not recorded as published by the processor.
+     *
+     * @param processingGroup     the processing group of the Kafka publisher
+     * @param processorMode       the mode of the event publishing processor
+     * @param commandProperties   the command service properties
+     * @param postCommitPublisher the provider of the post-commit publisher, if enabled
+     * @param meterRegistry       the Micrometer meter registry
+     * @return the configurer module of the event publishing processor
+     * @throws IllegalStateException if batched or post-commit publishing is enabled with a non-tracking publishing
+     *                               processor
+     */
+    @Bean
+    ConfigurerModule eventPublishingConfigurerModule(
+            @Value("${axon.kafka.publisher.processing-group}") String processingGroup,
+            @Value("${axon.kafka.producer.event-processor-mode:subscribing}") String processorMode,
+            ShowcaseCommandProperties commandProperties,
+            ObjectProvider<ShowcasePostCommitPublisher> postCommitPublisher,
+            MeterRegistry meterRegistry) {
+        val eventPublishing = commandProperties.getEventPublishing();
+        val postCommitPublishing = commandProperties.getPostCommitPublishing();
+        val trackingRequired = eventPublishing.isBatched() || postCommitPublishing.isEnabled();
+        if (trackingRequired && !"tracking".equalsIgnoreCase(processorMode)) {
+            throw new IllegalStateException(
+                    "Batched and post-commit event publishing require a tracking publishing processor, but was "
+                    + processorMode);
+        }
+
+        val eventPublishingMetrics = new ShowcaseEventPublishingMetrics(meterRegistry);
+        return configurer -> {
+            if (postCommitPublishing.isEnabled()) {
+                configurer.eventProcessing()
+                          .registerHandlerInterceptor(processingGroup,
+                                                      configuration -> postCommitPublisher.getObject());
+            }
+            configurer.eventProcessing()
+                      .registerHandlerInterceptor(processingGroup, configuration -> eventPublishingMetrics);
+            if (trackingRequired) {
+                configurer.eventProcessing()
+                          .registerTrackingEventProcessorConfiguration(
+                                  processingGroup,
+                                  configuration -> TrackingEventProcessorConfiguration
+                                                           .forSingleThreadedProcessing()
+                                                           .andBatchSize(eventPublishing.getBatchSize())
+                                                           .andInitialTrackingToken(
+                                                                   StreamableMessageSource::createHeadToken));
+            }
+        };
+    }
+
+    /**
+     * Creates the Kafka producer factory of the batched publishing mode, replacing the default one.
+     *
+     * <p>The producer is idempotent, so the retried sends are not duplicated, compresses the record batches with LZ4,
+     * and lingers for the configured time to fill record batches of the configured size. The publisher sends the
+     * events of a processor batch asynchronously and waits for their acknowledgements before the batch commits.
+     *
+     * @param kafkaProperties   the Axon Kafka properties providing the base producer configuration
+     * @param commandProperties the command service properties
+     * @return the batched Kafka producer factory
+     */
+    @Bean("axonKafkaProducerFactory")
+    @ConditionalOnProperty(
+            prefix = "showcase.command",
+            name = "event-publishing.batched",
+            havingValue = "true"
+    )
+    ProducerFactory<String, byte[]> batchedKafkaProducerFactory(
+            KafkaProperties kafkaProperties, ShowcaseCommandProperties commandProperties) {
+        val eventPublishing = commandProperties.getEventPublishing();
+        val configuration = kafkaProperties.buildProducerProperties();
+        configuration.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configuration.put(ProducerConfig.ACKS_CONFIG, "all");
+        configuration.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configuration.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, CompressionType.LZ4.name);
+        configuration.put(ProducerConfig.LINGER_MS_CONFIG, (int) eventPublishing.getLinger().toMillis());
+        configuration.put(ProducerConfig.BATCH_SIZE_CONFIG, eventPublishing.getProducerBatchSize());
+        return DefaultProducerFactory
+                       .<String, byte[]>builder()
+                       .configuration(configuration)
+                       .confirmationMode(ConfirmationMode.WAIT_FOR_ACK)
+                       .build();
+    }
+
+    /**
+     * Creates the record of the events confirmed as published to Kafka by the post-commit publisher.
+     *
+     * @param jdbcTemplate      the JDBC template of the watermark table
+     * @param commandProperties the command service properties
+     * @return the publication watermark
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "showcase.command",
+            name = "post-commit-publishing.enabled",
+            havingValue = "true"
+    )
+    ShowcasePublicationWatermark showcasePublicationWatermark(
+            JdbcTemplate jdbcTemplate, ShowcaseCommandProperties commandProperties) {
+        return new ShowcasePublicationWatermark(jdbcTemplate, commandProperties.getPostCommitPublishing());
+    }
+
+    /**
+     * Creates the publisher sending the events to Kafka right after their commit, and registers it as a dispatch
+     * interceptor of the event store.
+     *
+     * @param eventStore            the event store whose events are published
+     * @param producerFactory       the Kafka producer factory
+     * @param kafkaMessageConverter the converter of the events to Kafka records
+     * @param topic                 the topic the events are published to
+     * @param watermark             the record of the events confirmed as published
+     * @param commandProperties     the command service properties
+     * @param meterRegistry         the Micrometer meter registry
+     * @return the post-commit publisher
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "showcase.command",
+            name = "post-commit-publishing.enabled",
+            havingValue = "true"
+    )
+    ShowcasePostCommitPublisher showcasePostCommitPublisher(
+            EventStore eventStore,
+            ProducerFactory<String, byte[]> producerFactory,
+            KafkaMessageConverter<String, byte[]> kafkaMessageConverter,
+            @Value("${axon.kafka.default-topic}") String topic,
+            ShowcasePublicationWatermark watermark,
+            ShowcaseCommandProperties commandProperties,
+            MeterRegistry meterRegistry) {
+        val postCommitPublisher =
+                new ShowcasePostCommitPublisher(
+                        producerFactory,
+                        kafkaMessageConverter,
+                        topic,
+                        watermark,
+                        commandProperties.getPostCommitPublishing(),
+                        meterRegistry);
+        eventStore.registerDispatchInterceptor(postCommitPublisher);
+        return postCommitPublisher;
     }
 
     /**
@@ -3,7 +3,7 @@ package showcase.command;
 import lombok.experimental.UtilityClass;
 
 /**
- * Holds the cache names used by the showcase command service.
+ * Holds the cache, deadline, metadata, and notification channel names used by the showcase command service.
  */
 @UtilityClass
 class ShowcaseCommandConstants {
@@ -21,4 +21,39 @@ class ShowcaseCommandConstants {
      * The name of the cache for saga associations.
      */
     static final String SAGA_ASSOCIATIONS_CACHE_NAME = "saga-associations-cache";
+
+    /**
+     * The name of the processing group, and event processor, of {@link ShowcaseSaga}.
+     */
+    static final String SHOWCASE_SAGA_PROCESSING_GROUP = "showcase-saga";
+
+    /**
+     * The name of the deadline starting a scheduled showcase.
+     */
+    static final String START_SHOWCASE_DEADLINE_NAME = "startShowcase";
+
+    /**
+     * The name of the deadline finishing a started showcase.
+     */
+    static final String FINISH_SHOWCASE_DEADLINE_NAME = "finishShowcase";
+
+    /**
+     * The event metadata key carrying the ID of the start deadline scheduled by the aggregate.
+     */
+    static final String START_DEADLINE_ID_METADATA_KEY = "startDeadlineId";
+
+    /**
+     * The event metadata key carrying the ID of the finish deadline scheduled by the aggregate.
+     */
+    static final String FINISH_DEADLINE_ID_METADATA_KEY = "finishDeadlineId";
+
+    /**
+     * The command and event metadata key carrying the name of the deadline that triggered a lifecycle transition.
+     */
+    static final String TRIGGERING_DEADLINE_METADATA_KEY = "triggeringDeadline";
+
+    /**
+     * The PostgreSQL notification channel on which the appended events are notified.
+     */
+    static final String EVENT_NOTIFICATION_CHANNEL = "showcase_events";
 }
@@ -3,6 +3,8 @@ package showcase.command;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import one.util.streamex.StreamEx;
@@ -16,6 +18,12 @@ import org.axonframework.messaging.interceptors.JSR303ViolationException;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.modelling.command.AggregateNotFoundException;
 import org.jspecify.annotations.Nullable;
+import showcase.identifier.KsuidValidator;
+import showcase.validation.CompiledValidators;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Intercepts command handling to translate Axon and validation failures into {@link ShowcaseCommandException}s.
@@ -25,9 +33,21 @@ import org.jspecify.annotations.Nullable;
 @RequiredArgsConstructor
 final class ShowcaseCommandMessageInterceptor<T extends Message<?>> implements MessageHandlerInterceptor<T> {
     /**
-     * The interceptor performing bean validation on the command payload.
+     * The factory of the validators resolving the constraints of the command payloads.
+     */
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+    /**
+     * The validators compiled from the constraints of the command payload types.
+     */
+    private final CompiledValidators compiledValidators =
+            new CompiledValidators(validatorFactory, Set.of(KsuidValidator.class));
+
+    /**
+     * The interceptor performing reflective bean validation on the command payloads without a compiled validator.
      */
-    private final BeanValidationInterceptor<T> beanValidationInterceptor = new BeanValidationInterceptor<>();
+    private final BeanValidationInterceptor<T> beanValidationInterceptor =
+            new BeanValidationInterceptor<>(validatorFactory);
 
     /**
      * Whether bean validation is applied to command payloads.
@@ -53,7 +73,16 @@ final class ShowcaseCommandMessageInterceptor<T extends Message<?>> implements M
             throws Exception {
         try {
             if (validationEnabled) {
-                return beanValidationInterceptor.handle(unitOfWork, interceptorChain);
+                val payload = unitOfWork.getMessage().getPayload();
+                val compiledValidator = compiledValidators.forType(payload.getClass());
+                if (compiledValidator.isEmpty()) {
+                    return beanValidationInterceptor.handle(unitOfWork, interceptorChain);
+                }
+
+                val fieldErrors = compiledValidator.get().validate(payload);
+                if (!fieldErrors.isEmpty()) {
+                    throw invalidCommand(fieldErrors, null);
+                }
             }
             return interceptorChain.proceed();
         } catch (JSR303ViolationException e) {
@@ -64,14 +93,7 @@ final class ShowcaseCommandMessageInterceptor<T extends Message<?>> implements M
                             .mapKeys(Path::toString)
                             .collapseKeys()
                             .toMap();
-            throw new ShowcaseCommandException(
-                    ShowcaseCommandErrorDetails
-                            .builder()
-                            .errorCode(ShowcaseCommandErrorCode.INVALID_COMMAND)
-                            .errorMessage("Given command is not valid")
-                            .metaData(MetaData.from(fieldErrors))
-                            .build(),
-                    e);
+            throw invalidCommand(fieldErrors, e);
         } catch (AggregateNotFoundException e) {
             if (unitOfWork.getMessage().getPayload() instanceof RemoveShowcaseCommand) {
                 return null;
@@ -94,4 +116,24 @@ final class ShowcaseCommandMessageInterceptor<T extends Message<?>> implements M
             }
         }
     }
+
+    /**
+     * Creates the exception reporting the given field errors of an invalid command.
+     *
+     * @param fieldErrors the messages of the violated constraints keyed by property path
+     * @param cause       the violation exception of the reflective validation, or {@code null} if compiled
+     * @return the {@link ShowcaseCommandErrorCode#INVALID_COMMAND} exception
+     */
+    private static ShowcaseCommandException invalidCommand(
+            Map<String, List<String>> fieldErrors,
+            @Nullable Throwable cause) {
+        return new ShowcaseCommandException(
+                ShowcaseCommandErrorDetails
+                        .builder()
+                        .errorCode(ShowcaseCommandErrorCode.INVALID_COMMAND)
+                        .errorMessage("Given command is not valid")
+                        .metaData(MetaData.from(fieldErrors))
+                        .build(),
+                cause);
+    }
 }
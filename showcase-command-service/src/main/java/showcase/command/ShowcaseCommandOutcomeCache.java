@@ -0,0 +1,148 @@
+package showcase.command;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.jspecify.annotations.Nullable;
+import showcase.command.ShowcaseCommandProperties.CommandOutcomeCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Answers the retries of the showcase commands recently completed on this node without loading the aggregate.
+ *
+ * <p>As a handler interceptor of the command bus, the cache keeps, per showcase, the name, payload, and result of the
+ * last command completed successfully on it, recorded once its unit of work commits. A command identical to that last
+ * one, that is with the same name and an equal payload, is answered with its result before the aggregate is loaded or
+ * locked: the aggregate would treat it as an idempotent retry anyway, as no other command changed the showcase since.
+ * Failed commands are not recorded, so their retries are always handled by the aggregate.
+ *
+ * <p>As a dispatch interceptor of the event store, the cache forgets a showcase as soon as an event is applied on it,
+ * so a showcase changed by any other means is no longer answered from the cache. As the commands of a showcase are
+ * routed to the node owning it in the consistent hash, the cache needs no coordination between nodes, and is cleared
+ * whenever the consistent hash changes.
+ *
+ * <p>The cache records the answered and the handled commands as the {@code showcaseCommandOutcomeCache.hits} and
+ * {@code showcaseCommandOutcomeCache.misses} counters.
+ */
+final class ShowcaseCommandOutcomeCache
+        implements MessageHandlerInterceptor<CommandMessage<?>>, MessageDispatchInterceptor<EventMessage<?>> {
+
+    private static final String METER_NAME_PREFIX = "showcaseCommandOutcomeCache";
+
+    /**
+     * The last command completed successfully on a showcase.
+     *
+     * @param commandName the name of the command
+     * @param payload     the payload of the command
+     * @param result      the result of the command
+     */
+    private record Outcome(String commandName, Object payload, @Nullable Object result) {
+        /**
+         * Returns whether the given command is identical to the completed one.
+         *
+         * @param command the command to compare
+         * @return {@code true} if the command has the same name and an equal payload
+         */
+        boolean matches(CommandMessage<?> command) {
+            return commandName.equals(command.getCommandName()) && Objects.equals(payload, command.getPayload());
+        }
+    }
+
+    /**
+     * The outcomes of the last commands completed on this node, keyed by showcase ID.
+     */
+    private final Cache<String, Outcome> outcomes;
+
+    /**
+     * The counter of the commands answered from the cache.
+     */
+    private final Counter hitCounter;
+
+    /**
+     * The counter of the commands handled by the aggregate.
+     */
+    private final Counter missCounter;
+
+    ShowcaseCommandOutcomeCache(CommandOutcomeCache commandOutcomeCacheProperties, MeterRegistry meterRegistry) {
+        this.outcomes =
+                Caffeine.newBuilder()
+                        .maximumSize(commandOutcomeCacheProperties.getMaximumSize())
+                        .expireAfterWrite(commandOutcomeCacheProperties.getExpiresAfterWrite())
+                        .build();
+        this.hitCounter =
+                Counter.builder(METER_NAME_PREFIX + ".hits")
+                       .description("Number of showcase commands answered from the outcome cache")
+                       .register(meterRegistry);
+        this.missCounter =
+                Counter.builder(METER_NAME_PREFIX + ".misses")
+                       .description("Number of showcase commands handled by the aggregate")
+                       .register(meterRegistry);
+    }
+
+    /**
+     * Answers a command identical to the last one completed on its showcase with its result, and proceeds with the
+     * others, recording their outcome once their unit of work commits.
+     *
+     * @param unitOfWork       the unit of work of the command
+     * @param interceptorChain the chain proceeding with the handling
+     * @return the result of the command
+     * @throws Exception if the command handling fails
+     */
+    @Override
+    public @Nullable Object handle(
+            UnitOfWork<? extends CommandMessage<?>> unitOfWork,
+            InterceptorChain interceptorChain) throws Exception {
+        val command = unitOfWork.getMessage();
+        if (!(command.getPayload() instanceof ShowcaseCommand showcaseCommand)) {
+            return interceptorChain.proceed();
+        }
+
+        val showcaseId = showcaseCommand.showcaseId();
+        val outcome = outcomes.getIfPresent(showcaseId);
+        if (outcome != null && outcome.matches(command)) {
+            hitCounter.increment();
+            return outcome.result();
+        }
+
+        missCounter.increment();
+        val result = interceptorChain.proceed();
+        unitOfWork.afterCommit(
+                committed -> outcomes.put(showcaseId, new Outcome(command.getCommandName(), showcaseCommand, result)));
+        return result;
+    }
+
+    /**
+     * Forgets the showcases of the applied events.
+     *
+     * @param messages the events being published on the event store
+     * @return the function forgetting the showcase of every domain event
+     */
+    @Override
+    public BiFunction<Integer, EventMessage<?>, EventMessage<?>> handle(List<? extends EventMessage<?>> messages) {
+        return (index, message) -> {
+            if (message instanceof DomainEventMessage<?> domainEvent) {
+                outcomes.invalidate(domainEvent.getAggregateIdentifier());
+            }
+            return message;
+        };
+    }
+
+    /**
+     * Forgets all the showcases, as their ownership may have moved to other nodes.
+     */
+    void clear() {
+        outcomes.invalidateAll();
+    }
+}
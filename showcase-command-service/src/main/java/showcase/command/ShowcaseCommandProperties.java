@@ -1,24 +1,100 @@
 package showcase.command;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.ToString;
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
+import showcase.serialization.SerializationFormat;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Configuration properties bound to the {@code showcase.command} prefix.
  *
- * <p>Configures caching, snapshotting, and the post-migration exit behavior of the command service.
+ * <p>Configures caching, snapshotting, aggregate locking, deadline handling and timing, saga processor balancing, the
+ * command bus transport, the local command bus segment, the event serialization format and compression, command
+ * batching, the dynamic load factor, the command outcome and tombstone caches, batched and post-commit event
+ * publishing, the event notifications waking up the tracking processors, the replica serving the event stream reads,
+ * and the post-migration exit behavior of the command service.
  */
 @ConfigurationProperties("showcase.command")
 @Data
 @Validated
 final class ShowcaseCommandProperties {
+    /**
+     * The component driving the showcase lifecycle deadlines.
+     */
+    enum DeadlineMode {
+        /**
+         * The deadlines are scheduled by {@link ShowcaseSaga}, which dispatches the lifecycle commands on their firing.
+         */
+        SAGA,
+
+        /**
+         * The deadlines are scheduled and cancelled by {@link ShowcaseAggregate} itself, which applies the lifecycle
+         * events on their firing, so no saga is involved.
+         */
+        AGGREGATE
+    }
+
+    /**
+     * The transport of the distributed command bus.
+     */
+    enum CommandBusTransport {
+        /**
+         * The commands are exchanged over JGroups, whose configuration file drives the membership discovery.
+         */
+        JGROUPS,
+
+        /**
+         * The commands are exchanged over RSocket, with the membership discovered as configured by {@link RSocket}.
+         */
+        RSOCKET
+    }
+
+    /**
+     * The locking of the showcase aggregates while they handle a command.
+     */
+    enum LockingMode {
+        /**
+         * The aggregate is locked on the handling node until the unit of work completes.
+         */
+        PESSIMISTIC,
+
+        /**
+         * The aggregate is not locked, its events being appended with a sequence number check, and the command retried
+         * on a conflicting append.
+         */
+        OPTIMISTIC
+    }
+
+    /**
+     * The source of the addresses of the RSocket members.
+     */
+    enum RSocketDiscoveryMode {
+        /**
+         * The members are the configured {@code host:port} entries.
+         */
+        STATIC,
+
+        /**
+         * The members are the pods behind the configured {@code host:port} Kubernetes headless services.
+         */
+        KUBERNETES
+    }
+
     /**
      * Configuration for a single in-memory cache.
      */
@@ -55,6 +131,536 @@ final class ShowcaseCommandProperties {
          */
         @NotNull
         private Duration loadTimeThreshold;
+
+        /**
+         * The number of replayed events below which a load slower than the threshold does not snapshot the aggregate.
+         */
+        @Min(1)
+        private int loadTimeMinEventCount;
+
+        /**
+         * The number of events since the last snapshot after which an aggregate is snapshotted.
+         */
+        @Min(1)
+        private int eventCountThreshold;
+    }
+
+    /**
+     * Configuration for the dedicated executor taking the aggregate snapshots.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class SnapshotExecutor {
+        /**
+         * The number of snapshots taken concurrently.
+         */
+        @Min(1)
+        @Max(64)
+        private int maxConcurrency;
+
+        /**
+         * The maximum number of snapshots waiting to be taken, beyond which the requests are skipped.
+         */
+        @Min(1)
+        private int queueCapacity;
+    }
+
+    /**
+     * Configuration for measuring the segment lag of the saga event processor and balancing its segments.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class SagaProcessor {
+        /**
+         * Whether the segments claimed by a node are split and merged automatically based on their lag.
+         */
+        private boolean balancingEnabled;
+
+        /**
+         * The interval at which the segment lag is measured and the segments are balanced.
+         */
+        @NotNull
+        @DurationMin(seconds = 1)
+        private Duration balancingInterval;
+
+        /**
+         * The lag, in events, above which a claimed segment is split.
+         */
+        @Min(1)
+        private long splitLagThreshold;
+
+        /**
+         * The lag, in events, at or below which all claimed segments must be for one of them to be merged.
+         */
+        @Min(0)
+        private long mergeLagThreshold;
+
+        /**
+         * The segment count below which no segment is merged.
+         */
+        @Min(1)
+        @Max(256)
+        private int minSegmentCount;
+
+        /**
+         * The segment count above which no segment is split.
+         */
+        @Min(1)
+        @Max(256)
+        private int maxSegmentCount;
+    }
+
+    /**
+     * Configuration for the in-memory timer waking the deadline scheduler up when deadlines become due.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class DeadlineTimer {
+        /**
+         * Whether the deadlines scheduled on a node wake its scheduler up when they become due.
+         */
+        private boolean enabled;
+
+        /**
+         * The duration of a timing wheel tick, bounding the precision of the wake-ups.
+         */
+        @NotNull
+        @DurationMin(millis = 1)
+        private Duration tickDuration;
+
+        /**
+         * The number of buckets in each level of the timing wheel.
+         */
+        @Min(2)
+        @Max(4096)
+        private int wheelSize;
+
+        /**
+         * The duration ahead within which a scheduled deadline must be due to be tracked in memory.
+         */
+        @NotNull
+        @DurationMin(seconds = 1)
+        private Duration horizon;
+
+        /**
+         * The maximum number of distinct ticks tracked in memory.
+         */
+        @Min(1)
+        private int capacity;
+    }
+
+    /**
+     * Configuration for the local segment of the distributed command bus, handling the commands routed to this node.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class LocalSegment {
+        /**
+         * Whether each command is handled on a virtual thread rather than on the thread delivering it.
+         */
+        private boolean async;
+
+        /**
+         * The maximum number of commands handled concurrently in asynchronous mode.
+         */
+        @Min(1)
+        private int maxConcurrency;
+
+        /**
+         * The maximum number of commands waiting to be handled in asynchronous mode, beyond which they are rejected.
+         */
+        @Min(1)
+        private int queueCapacity;
+    }
+
+    /**
+     * Configuration for the locking of the showcase aggregates.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class AggregateLocking {
+        /**
+         * The locking of the aggregates while they handle a command.
+         */
+        @NotNull
+        private LockingMode mode;
+
+        /**
+         * The number of times a command whose events conflict with those appended concurrently is retried.
+         */
+        @Min(0)
+        @Max(10)
+        private int maxRetries;
+    }
+
+    /**
+     * Configuration for batching the commands sent to the same member of the distributed command bus.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class CommandBatching {
+        /**
+         * Whether the commands sent to the same remote member are coalesced into batches.
+         */
+        private boolean enabled;
+
+        /**
+         * The number of commands at which a pending batch is sent.
+         */
+        @Min(1)
+        @Max(1024)
+        private int maxBatchSize;
+
+        /**
+         * The time after which a pending batch is sent, counted from its oldest command.
+         */
+        @NotNull
+        @DurationMin(nanos = 1000)
+        @DurationMax(seconds = 1)
+        private Duration maxDelay;
+    }
+
+    /**
+     * Configuration for the RSocket transport of the distributed command bus.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class RSocket {
+        /**
+         * The port the RSocket server binds to.
+         */
+        @Min(1)
+        @Max(65535)
+        private int port;
+
+        /**
+         * The host under which the other members reach this member.
+         */
+        @NotBlank
+        private String advertisedHost;
+
+        /**
+         * The source of the addresses of the members.
+         */
+        @NotNull
+        private RSocketDiscoveryMode discovery;
+
+        /**
+         * The members, or the Kubernetes headless services, as {@code host:port} entries.
+         */
+        @NotEmpty
+        private List<@NotBlank String> members;
+
+        /**
+         * The interval at which the membership of the members is refreshed.
+         */
+        @NotNull
+        @DurationMin(millis = 100)
+        private Duration refreshInterval;
+
+        /**
+         * The maximum number of requests in flight to a single member.
+         */
+        @Min(1)
+        private int maxInFlight;
+
+        /**
+         * The maximum number of requests queued for an in-flight slot to a single member.
+         */
+        @Min(1)
+        private int queueCapacity;
+
+        /**
+         * The time after which a request to a member fails.
+         */
+        @NotNull
+        @DurationMin(millis = 1)
+        private Duration requestTimeout;
+    }
+
+    /**
+     * Configuration for recomputing the load factor of a node on the distributed command bus from its live pressure.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class DynamicLoadFactor {
+        /**
+         * Whether the load factor is republished based on the pressure on the node.
+         */
+        private boolean enabled;
+
+        /**
+         * The interval at which the pressure is measured and the load factor recomputed. Every republished load factor
+         * clears the aggregate, command outcome, and tombstone caches of every node, so a short interval trades
+         * reactivity for cache misses.
+         */
+        @NotNull
+        @DurationMin(seconds = 1)
+        private Duration interval;
+
+        /**
+         * The weight of the latest measurement in the smoothed pressure.
+         */
+        @DecimalMin(value = "0", inclusive = false)
+        @DecimalMax("1")
+        private double smoothing;
+
+        /**
+         * The relative change below which a recomputed load factor is not republished, sparing the cluster the cache
+         * clearing of a republication.
+         */
+        @DecimalMin("0")
+        @DecimalMax("1")
+        private double hysteresis;
+
+        /**
+         * The load factor below which a node under pressure is not lowered.
+         */
+        @Min(1)
+        private int minLoadFactor;
+
+        /**
+         * The process CPU usage, between 0 and 1, at which the node is considered fully loaded.
+         */
+        @DecimalMin(value = "0", inclusive = false)
+        @DecimalMax("1")
+        private double cpuTarget;
+
+        /**
+         * The average command handling latency at which the node is considered fully loaded.
+         */
+        @NotNull
+        @DurationMin(millis = 1)
+        private Duration latencyTarget;
+
+        /**
+         * The number of commands in flight, being handled or waiting in the local segment, at which the node is
+         * considered fully loaded.
+         */
+        @Min(1)
+        private int inFlightTarget;
+    }
+
+    /**
+     * Configuration for the cache of the outcomes of the last commands completed per showcase.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class CommandOutcomeCache {
+        /**
+         * Whether the retries of the last command completed on a showcase are answered without loading the aggregate.
+         */
+        private boolean enabled;
+
+        /**
+         * The maximum number of showcases whose last command outcome is kept.
+         */
+        @Min(1)
+        private long maximumSize;
+
+        /**
+         * The duration after which an outcome is forgotten.
+         */
+        @NotNull
+        @DurationMin(seconds = 1)
+        private Duration expiresAfterWrite;
+    }
+
+    /**
+     * Configuration for compressing the payloads and metadata stored in the event store.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class EventCompression {
+        /**
+         * Whether the stored payloads and metadata are compressed with LZ4.
+         */
+        private boolean enabled;
+
+        /**
+         * The size in bytes from which a serialized payload or metadata is compressed.
+         */
+        @Min(0)
+        private int threshold;
+    }
+
+    /**
+     * Configuration for the cache of the removed and unknown showcases.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class TombstoneCache {
+        /**
+         * Whether the commands targeting removed or unknown showcases are answered without loading the aggregate.
+         */
+        private boolean enabled;
+
+        /**
+         * The maximum number of removed and unknown showcases kept.
+         */
+        @Min(1)
+        private long maximumSize;
+
+        /**
+         * The duration after which a removed or unknown showcase is forgotten.
+         */
+        @NotNull
+        @DurationMin(seconds = 1)
+        private Duration expiresAfterWrite;
+    }
+
+    /**
+     * Configuration for publishing the events to Kafka.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class EventPublishing {
+        /**
+         * Whether the events are published in the batches read by the tracking publishing processor, with a
+         * compressed idempotent producer whose sends are acknowledged before the processor token advances.
+         */
+        private boolean batched;
+
+        /**
+         * The number of events the publishing processor reads and publishes per batch.
+         */
+        @Min(1)
+        @Max(10000)
+        private int batchSize;
+
+        /**
+         * The time the producer waits for more records to fill a request.
+         */
+        @NotNull
+        @DurationMin(millis = 0)
+        @DurationMax(seconds = 1)
+        private Duration linger;
+
+        /**
+         * The size, in bytes, of the record batches of the producer per partition.
+         */
+        @Min(1024)
+        @Max(16 * 1024 * 1024)
+        private int producerBatchSize;
+    }
+
+    /**
+     * Configuration for publishing the events to Kafka once their unit of work commits.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class PostCommitPublishing {
+        /**
+         * Whether the committing node publishes the events right after the commit, the tracking publishing processor
+         * only catching up on the events not confirmed as published.
+         */
+        private boolean enabled;
+
+        /**
+         * The time the catch-up waits after the creation of an event before checking whether it was published.
+         */
+        @NotNull
+        @DurationMin(millis = 100)
+        @DurationMax(minutes = 5)
+        private Duration catchUpDelay;
+
+        /**
+         * The interval at which the publication watermarks are written to the database.
+         */
+        @NotNull
+        @DurationMin(millis = 10)
+        @DurationMax(seconds = 30)
+        private Duration flushInterval;
+
+        /**
+         * The maximum number of publication watermarks kept in memory.
+         */
+        @Min(1)
+        private long watermarkCacheSize;
+    }
+
+    /**
+     * Configuration for waking up the tracking processors on the notifications of the appended events.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class EventNotification {
+        /**
+         * Whether the appended events are notified through PostgreSQL {@code NOTIFY}, and the tracking processors
+         * woken up on the notifications.
+         */
+        private boolean enabled;
+
+        /**
+         * The time the tracking processors wait for a notification before polling the event store anyway.
+         */
+        @NotNull
+        @DurationMin(millis = 100)
+        @DurationMax(minutes = 1)
+        private Duration fallbackFetchDelay;
+
+        /**
+         * The time the listener waits before listening again after losing its connection.
+         */
+        @NotNull
+        @DurationMin(millis = 100)
+        @DurationMax(minutes = 1)
+        private Duration reconnectDelay;
+    }
+
+    /**
+     * Configuration for reading the event stream of the tracking processors from a streaming replica.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class EventReplica {
+        /**
+         * Whether the tracking processors read the event stream from the replica while it is not lagging too far.
+         */
+        private boolean enabled;
+
+        /**
+         * The JDBC URL of the replica.
+         */
+        @NotBlank
+        private String url;
+
+        /**
+         * The user connecting to the replica.
+         */
+        @NotBlank
+        private String username;
+
+        /**
+         * The password of the user connecting to the replica.
+         */
+        @NotNull
+        @ToString.Exclude
+        private String password;
+
+        /**
+         * The maximum number of connections to the replica.
+         */
+        @Min(1)
+        @Max(100)
+        private int maximumPoolSize;
+
+        /**
+         * The replication lag beyond which the event stream is read from the primary again, which must stay well below
+         * the gap timeout of the event storage engine.
+         */
+        @NotNull
+        @DurationMin(millis = 100)
+        @DurationMax(seconds = 30)
+        private Duration maxLag;
+
+        /**
+         * The interval at which the replication lag is measured.
+         */
+        @NotNull
+        @DurationMin(millis = 100)
+        @DurationMax(minutes = 1)
+        private Duration lagCheckInterval;
     }
 
     /**
@@ -67,6 +673,123 @@ final class ShowcaseCommandProperties {
      */
     private boolean validationEnabled = true;
 
+    /**
+     * The component driving the showcase lifecycle deadlines.
+     */
+    @NotNull
+    private DeadlineMode deadlineMode = DeadlineMode.SAGA;
+
+    /**
+     * The transport of the distributed command bus.
+     */
+    @NotNull
+    private CommandBusTransport commandBusTransport = CommandBusTransport.JGROUPS;
+
+    /**
+     * The format written by the serializer of the events and snapshots, which reads both formats regardless.
+     */
+    @NotNull
+    private SerializationFormat eventSerializationFormat = SerializationFormat.JSON;
+
+    /**
+     * The RSocket transport configuration.
+     */
+    @NotNull
+    @Valid
+    private RSocket rsocket =
+            new RSocket(7900, "localhost", RSocketDiscoveryMode.STATIC, List.of("localhost:7900"),
+                        Duration.ofSeconds(5), 256, Duration.ofSeconds(30));
+
+    /**
+     * The deadline timer configuration.
+     */
+    @NotNull
+    @Valid
+    private DeadlineTimer deadlineTimer =
+            new DeadlineTimer(false, Duration.ofMillis(10), 64, Duration.ofMinutes(1), 100000);
+
+    /**
+     * The local command bus segment configuration.
+     */
+    @NotNull
+    @Valid
+    private LocalSegment localSegment = new LocalSegment(false, 64, 1024);
+
+    /**
+     * The aggregate locking configuration.
+     */
+    @NotNull
+    @Valid
+    private AggregateLocking aggregateLocking = new AggregateLocking(LockingMode.PESSIMISTIC, 3);
+
+    /**
+     * The command batching configuration.
+     */
+    @NotNull
+    @Valid
+    private CommandBatching commandBatching = new CommandBatching(false, 32, Duration.ofMillis(2));
+
+    /**
+     * The event store compression configuration.
+     */
+    @NotNull
+    @Valid
+    private EventCompression eventCompression = new EventCompression(false, 512);
+
+    /**
+     * The dynamic load factor configuration.
+     */
+    @NotNull
+    @Valid
+    private DynamicLoadFactor dynamicLoadFactor =
+            new DynamicLoadFactor(false, Duration.ofSeconds(10), 0.3, 0.2, 10, 0.75, Duration.ofMillis(250), 64);
+
+    /**
+     * The command outcome cache configuration.
+     */
+    @NotNull
+    @Valid
+    private CommandOutcomeCache commandOutcomeCache = new CommandOutcomeCache(false, 10000, Duration.ofMinutes(5));
+
+    /**
+     * The tombstone cache configuration.
+     */
+    @NotNull
+    @Valid
+    private TombstoneCache tombstoneCache = new TombstoneCache(false, 100000, Duration.ofHours(1));
+
+    /**
+     * The event publishing configuration.
+     */
+    @NotNull
+    @Valid
+    private EventPublishing eventPublishing = new EventPublishing(false, 100, Duration.ofMillis(5), 128 * 1024);
+
+    /**
+     * The post-commit event publishing configuration.
+     */
+    @NotNull
+    @Valid
+    private PostCommitPublishing postCommitPublishing =
+            new PostCommitPublishing(false, Duration.ofSeconds(5), Duration.ofMillis(500), 100000);
+
+    /**
+     * The event notification configuration.
+     */
+    @NotNull
+    @Valid
+    private EventNotification eventNotification =
+            new EventNotification(false, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+    /**
+     * The event replica configuration.
+     */
+    @NotNull
+    @Valid
+    private EventReplica eventReplica =
+            new EventReplica(false, "jdbc:postgresql://localhost/showcase-events", "showcase", "", 10,
+                             Duration.ofSeconds(5), Duration.ofSeconds(1));
+
     /**
      * The aggregate cache configuration.
      */
@@ -88,10 +811,24 @@ final class ShowcaseCommandProperties {
     @Valid
     private Cache sagaAssociationsCache = new Cache(1000, Duration.ofMinutes(10), Duration.ofMinutes(5));
 
+    /**
+     * The saga processor balancing configuration.
+     */
+    @NotNull
+    @Valid
+    private SagaProcessor sagaProcessor = new SagaProcessor(false, Duration.ofSeconds(10), 1000, 10, 1, 16);
+
     /**
      * The showcase snapshot trigger configuration.
      */
     @NotNull
     @Valid
-    private SnapshotTrigger showcaseSnapshotTrigger = new SnapshotTrigger(Duration.ofMillis(500));
+    private SnapshotTrigger showcaseSnapshotTrigger = new SnapshotTrigger(Duration.ofMillis(500), 10, 50);
+
+    /**
+     * The snapshot executor configuration.
+     */
+    @NotNull
+    @Valid
+    private SnapshotExecutor snapshotExecutor = new SnapshotExecutor(2, 256);
 }
@@ -0,0 +1,84 @@
+package showcase.command;
+
+import lombok.val;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Answers the showcase commands with the consistency token of their showcase, so that clients can read their writes
+ * from the query side without polling it.
+ *
+ * <p>The consistency token is the sequence number of the last event applied on the showcase by the command, which the
+ * projection records on the showcase as it applies the event. As a dispatch interceptor of the event store, the
+ * interceptor records the sequence number of every domain event applied within a unit of work in its resources, and as
+ * a handler interceptor of the command bus, it replaces the result of a showcase command with the sequence number
+ * recorded for its showcase, or {@code null} if the command applied no event, as an idempotent retry does.
+ */
+final class ShowcaseConsistencyTokenInterceptor
+        implements MessageHandlerInterceptor<CommandMessage<?>>, MessageDispatchInterceptor<EventMessage<?>> {
+    /**
+     * The key of the unit of work resource holding the last sequence numbers applied, keyed by showcase ID.
+     */
+    private static final String SEQUENCE_NUMBERS_RESOURCE_KEY =
+            ShowcaseConsistencyTokenInterceptor.class.getName() + ".sequenceNumbers";
+
+    /**
+     * Proceeds with the command and answers it with the sequence number of the last event it applied on its showcase.
+     *
+     * @param unitOfWork       the unit of work of the command
+     * @param interceptorChain the chain proceeding with the handling
+     * @return the sequence number of the last event applied on the showcase, or {@code null} if none
+     * @throws Exception if the command handling fails
+     */
+    @Override
+    public @Nullable Object handle(
+            UnitOfWork<? extends CommandMessage<?>> unitOfWork,
+            InterceptorChain interceptorChain) throws Exception {
+        if (!(unitOfWork.getMessage().getPayload() instanceof ShowcaseCommand showcaseCommand)) {
+            return interceptorChain.proceed();
+        }
+
+        interceptorChain.proceed();
+        return sequenceNumbers(unitOfWork).get(showcaseCommand.showcaseId());
+    }
+
+    /**
+     * Records the sequence numbers of the applied domain events in the resources of the current unit of work.
+     *
+     * @param messages the events being published on the event store
+     * @return the function recording the sequence number of every domain event
+     */
+    @Override
+    public BiFunction<Integer, EventMessage<?>, EventMessage<?>> handle(List<? extends EventMessage<?>> messages) {
+        return (index, message) -> {
+            if (message instanceof DomainEventMessage<?> domainEvent && CurrentUnitOfWork.isStarted()) {
+                sequenceNumbers(CurrentUnitOfWork.get())
+                        .put(domainEvent.getAggregateIdentifier(), domainEvent.getSequenceNumber());
+            }
+            return message;
+        };
+    }
+
+    /**
+     * Returns the last sequence numbers applied within the given unit of work, keyed by showcase ID.
+     *
+     * @param unitOfWork the unit of work
+     * @return the mutable sequence numbers held by the root unit of work
+     */
+    private static Map<String, Long> sequenceNumbers(UnitOfWork<?> unitOfWork) {
+        val root = unitOfWork.root();
+        return root.getOrComputeResource(SEQUENCE_NUMBERS_RESOURCE_KEY, key -> new HashMap<String, Long>());
+    }
+}
@@ -0,0 +1,97 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.deadline.DeadlineManager;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+
+/**
+ * Schedules and cancels the showcase lifecycle deadlines, and counts the deadline executions that are avoided or
+ * wasted.
+ *
+ * <p>Scheduling acts only when the aggregate-driven deadline mode is enabled; otherwise, the deadlines are scheduled
+ * by {@link ShowcaseSaga} itself and {@link #schedule} is a no-op. Cancelling serves both {@link ShowcaseAggregate} and
+ * {@link ShowcaseSaga}, so a deadline made obsolete by a removal or an early transition leaves the scheduler table
+ * instead of firing only to be skipped. Must be called from within an aggregate or saga handler, so the deadlines are
+ * scoped to the handling aggregate or saga.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Slf4j
+final class ShowcaseDeadlineScheduler {
+    /**
+     * Whether the aggregate drives its own deadlines.
+     */
+    private final boolean enabled;
+
+    /**
+     * The registry to which the deadline metrics are registered.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Schedules a deadline for the showcase within the current aggregate scope.
+     *
+     * @param deadlineManager the deadline manager used to schedule the deadline
+     * @param deadlineName    the name of the deadline
+     * @param triggerTime     the date-time at which the deadline should fire
+     * @param showcaseId      the ID of the showcase, used as the deadline payload
+     * @return the ID of the scheduled deadline, or {@code null} if the aggregate does not drive its deadlines
+     */
+    @Nullable
+    String schedule(DeadlineManager deadlineManager, String deadlineName, Instant triggerTime, String showcaseId) {
+        if (!enabled) {
+            return null;
+        }
+
+        val deadlineId = deadlineManager.schedule(triggerTime, deadlineName, showcaseId);
+
+        log.trace("Scheduled deadline {} with ID {} for showcase with ID {} at {}",
+                  deadlineName, deadlineId, showcaseId, triggerTime);
+
+        return deadlineId;
+    }
+
+    /**
+     * Cancels a pending deadline and counts the cancellation.
+     *
+     * @param deadlineManager the deadline manager used to cancel the deadline
+     * @param deadlineName    the name of the deadline
+     * @param deadlineId      the ID of the deadline to cancel, or {@code null} if none is pending
+     */
+    void cancel(DeadlineManager deadlineManager, String deadlineName, @Nullable String deadlineId) {
+        if (deadlineId == null) {
+            return;
+        }
+
+        deadlineManager.cancelSchedule(deadlineName, deadlineId);
+
+        Counter.builder("showcaseDeadlines.cancelled")
+               .description("Number of showcase deadlines cancelled before firing")
+               .tag("deadline", deadlineName)
+               .register(meterRegistry)
+               .increment();
+
+        log.trace("Cancelled deadline {} with ID {}", deadlineName, deadlineId);
+    }
+
+    /**
+     * Counts a deadline that fired but was skipped because the showcase no longer needed it, or whose command failed.
+     *
+     * @param deadlineName the name of the deadline
+     */
+    void skipped(String deadlineName) {
+        Counter.builder("showcaseDeadlines.skipped")
+               .description("Number of showcase deadlines fired and skipped as obsolete or failed")
+               .tag("deadline", deadlineName)
+               .register(meterRegistry)
+               .increment();
+    }
+}
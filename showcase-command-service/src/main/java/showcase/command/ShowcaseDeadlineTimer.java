@@ -0,0 +1,247 @@
+package showcase.command;
+
+import com.github.kagkarlsson.scheduler.Scheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.deadline.DeadlineMessage;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+import showcase.command.ShowcaseCommandProperties.DeadlineTimer;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Wakes the DB Scheduler up exactly when the deadlines scheduled on this node become due, instead of leaving them to
+ * its next polling round.
+ *
+ * <p>Registered as a dispatch interceptor of the deadline manager, it tracks the trigger time of every deadline due
+ * within the configured horizon in a {@link ShowcaseTimingWheel}, once the scheduling unit of work is committed and
+ * the deadline is persisted. When a tick holding due deadlines expires, the scheduler is asked to check for due
+ * executions right away, so the node that scheduled a deadline, which is the node owning its scope, usually picks it
+ * up within a tick of its trigger time. The persisted task stays the single source of truth: it is executed under the
+ * scheduler's usual locking, and the deadlines not tracked in memory, because they are due beyond the horizon, were
+ * scheduled on another node, or were lost on restart, are still picked up by polling. Cancelled deadlines are not
+ * removed from the wheel and cost at most one extra check.
+ */
+@Slf4j
+final class ShowcaseDeadlineTimer implements MessageDispatchInterceptor<DeadlineMessage<?>>, SmartLifecycle {
+
+    private static final String METER_NAME_PREFIX = "showcaseDeadlineTimer";
+
+    /**
+     * The scheduler woken up when deadlines become due.
+     */
+    private final Scheduler scheduler;
+
+    /**
+     * The timer configuration.
+     */
+    private final DeadlineTimer deadlineTimerProperties;
+
+    /**
+     * The duration of a wheel tick, in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The wheel holding the ticks at which tracked deadlines become due, guarded by {@link #lock}.
+     */
+    private final ShowcaseTimingWheel wheel;
+
+    /**
+     * The lock guarding {@link #wheel}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The condition signalled when a tick is added to {@link #wheel}.
+     */
+    private final Condition tickAdded = lock.newCondition();
+
+    /**
+     * The counter of scheduler wake-ups.
+     */
+    private final Counter wakeUpCounter;
+
+    /**
+     * The thread advancing the wheel, if the timer is running.
+     */
+    private final AtomicReference<@Nullable Thread> thread = new AtomicReference<>();
+
+    ShowcaseDeadlineTimer(Scheduler scheduler, DeadlineTimer deadlineTimerProperties, MeterRegistry meterRegistry) {
+        this.scheduler = scheduler;
+        this.deadlineTimerProperties = deadlineTimerProperties;
+        this.tickMillis = deadlineTimerProperties.getTickDuration().toMillis();
+        this.wheel = new ShowcaseTimingWheel(
+                deadlineTimerProperties.getWheelSize(), Instant.now().toEpochMilli() / tickMillis);
+        this.wakeUpCounter =
+                Counter.builder(METER_NAME_PREFIX + ".wakeUps")
+                       .description("Number of scheduler wake-ups for due deadlines")
+                       .register(meterRegistry);
+        Gauge.builder(METER_NAME_PREFIX + ".pendingTicks", this, ShowcaseDeadlineTimer::pendingTicks)
+             .description("Number of wheel ticks holding deadlines not yet due")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Tracks the trigger time of the scheduled deadlines once their scheduling is committed.
+     *
+     * @param messages the deadline messages being scheduled, timestamped with their trigger time
+     * @return the function returning the messages unchanged
+     */
+    @Override
+    public BiFunction<Integer, DeadlineMessage<?>, DeadlineMessage<?>> handle(
+            List<? extends DeadlineMessage<?>> messages) {
+        return (index, message) -> {
+            if (deadlineTimerProperties.isEnabled()) {
+                val triggerTime = message.getTimestamp();
+                if (CurrentUnitOfWork.isStarted()) {
+                    CurrentUnitOfWork.get().afterCommit(__ -> track(triggerTime, Instant.now()));
+                } else {
+                    track(triggerTime, Instant.now());
+                }
+            }
+            return message;
+        };
+    }
+
+    /**
+     * Returns whether the wheel is being advanced.
+     *
+     * @return {@code true} if the advancing thread is active
+     */
+    @Override
+    public boolean isRunning() {
+        return thread.get() != null;
+    }
+
+    /**
+     * Starts advancing the wheel, if the timer is enabled.
+     */
+    @Override
+    public void start() {
+        if (!deadlineTimerProperties.isEnabled()) {
+            return;
+        }
+
+        thread.updateAndGet(current -> current != null
+                                       ? current
+                                       : Thread.ofVirtual()
+                                               .name("showcase-deadline-timer")
+                                               .start(this::run));
+    }
+
+    /**
+     * Stops advancing the wheel.
+     */
+    @Override
+    public void stop() {
+        val current = thread.getAndSet(null);
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * Tracks a deadline trigger time if it is due within the horizon and the wheel is not full.
+     *
+     * <p>An empty wheel is first moved to the current tick, so it never has to catch up on idle time tick by tick.
+     *
+     * @param triggerTime the date-time at which the deadline is due
+     * @param now         the current date-time
+     */
+    void track(Instant triggerTime, Instant now) {
+        if (triggerTime.isAfter(now.plus(deadlineTimerProperties.getHorizon()))) {
+            return;
+        }
+
+        val tick = Math.ceilDiv(triggerTime.toEpochMilli(), tickMillis);
+
+        lock.lock();
+        try {
+            if (wheel.size() == 0) {
+                wheel.advanceTo(now.toEpochMilli() / tickMillis);
+            }
+            if (wheel.size() < deadlineTimerProperties.getCapacity() && wheel.add(tick)) {
+                tickAdded.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the wheel up to the given date-time and wakes the scheduler up if deadlines became due.
+     *
+     * @param now the current date-time
+     */
+    void advanceTo(Instant now) {
+        int expired;
+        lock.lock();
+        try {
+            expired = wheel.advanceTo(now.toEpochMilli() / tickMillis);
+        } finally {
+            lock.unlock();
+        }
+
+        if (expired > 0) {
+            log.trace("Waking the scheduler up for deadlines due at {} tick(s)", expired);
+
+            scheduler.triggerCheckForDueExecutions();
+            wakeUpCounter.increment();
+        }
+    }
+
+    /**
+     * Advances the wheel tick by tick until interrupted, sleeping while it holds no pending ticks.
+     */
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            lock.lock();
+            try {
+                if (wheel.size() == 0) {
+                    tickAdded.await();
+                } else {
+                    val nextTickMillis = (wheel.currentTick() + 1) * tickMillis;
+                    tickAdded.await(Math.max(1, nextTickMillis - Instant.now().toEpochMilli()), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                advanceTo(Instant.now());
+            } catch (RuntimeException e) {
+                log.warn("Failed to wake the scheduler up for due deadlines", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of wheel ticks holding deadlines not yet due.
+     *
+     * @return the number of pending ticks
+     */
+    private int pendingTicks() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
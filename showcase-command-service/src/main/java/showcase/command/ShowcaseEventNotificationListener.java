@@ -0,0 +1,185 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.springframework.context.SmartLifecycle;
+import showcase.command.ShowcaseCommandProperties.EventNotification;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static showcase.command.ShowcaseCommandConstants.EVENT_NOTIFICATION_CHANNEL;
+
+/**
+ * Listener of the {@code showcase_events} PostgreSQL channel, waking up the tracking processors of this node once
+ * events are appended on any node.
+ *
+ * <p>The listener holds a connection of the pool, on which it blocks for the notifications issued by the
+ * {@link ShowcaseNotifyingEventStorageEngine}, and wakes up the {@link ShowcaseNotifiedEventStore} once per received
+ * batch of notifications. Having lost its connection, it listens again after the configured delay, and wakes up the
+ * event store on reconnecting, as the events appended meanwhile were not notified to it. The tracking processors still
+ * poll the event store at the fallback fetch delay, in case a notification is missed.
+ *
+ * <p>The received notifications are recorded as the {@code showcaseEventNotification.received} counter, and the lost
+ * connections as the {@code showcaseEventNotification.reconnects} counter.
+ */
+@Slf4j
+final class ShowcaseEventNotificationListener implements SmartLifecycle {
+
+    private static final String METER_NAME_PREFIX = "showcaseEventNotification";
+
+    /**
+     * The time, in milliseconds, the listener blocks for notifications before checking whether it is stopped.
+     */
+    private static final int RECEIVE_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * The data source providing the listening connection.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * The event store woken up on the notifications.
+     */
+    private final ShowcaseNotifiedEventStore eventStore;
+
+    /**
+     * The event notification configuration.
+     */
+    private final EventNotification eventNotificationProperties;
+
+    /**
+     * The counter of the received notifications.
+     */
+    private final Counter receivedCounter;
+
+    /**
+     * The counter of the lost listening connections.
+     */
+    private final Counter reconnectsCounter;
+
+    /**
+     * The thread listening for the notifications, if the listener is running.
+     */
+    private final AtomicReference<@Nullable Thread> listenerThread = new AtomicReference<>();
+
+    /**
+     * Creates the listener.
+     *
+     * @param dataSource                  the data source providing the listening connection
+     * @param eventStore                  the event store woken up on the notifications
+     * @param eventNotificationProperties the event notification configuration
+     * @param meterRegistry               the Micrometer meter registry
+     */
+    ShowcaseEventNotificationListener(
+            DataSource dataSource,
+            ShowcaseNotifiedEventStore eventStore,
+            EventNotification eventNotificationProperties,
+            MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.eventStore = eventStore;
+        this.eventNotificationProperties = eventNotificationProperties;
+        this.receivedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".received")
+                       .description("Number of event notifications received")
+                       .register(meterRegistry);
+        this.reconnectsCounter =
+                Counter.builder(METER_NAME_PREFIX + ".reconnects")
+                       .description("Number of event notification connections lost")
+                       .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether the listener is running.
+     *
+     * @return {@code true} if the listener is running
+     */
+    @Override
+    public boolean isRunning() {
+        return listenerThread.get() != null;
+    }
+
+    /**
+     * Starts listening for the notifications.
+     */
+    @Override
+    public void start() {
+        listenerThread.updateAndGet(current -> {
+            if (current != null) {
+                return current;
+            }
+
+            return Thread.ofPlatform()
+                         .name("showcase-event-notification")
+                         .daemon()
+                         .start(this::listen);
+        });
+    }
+
+    /**
+     * Stops listening for the notifications, releasing the listening connection.
+     */
+    @Override
+    public void stop() {
+        val thread = listenerThread.getAndSet(null);
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Listens for the notifications until interrupted, listening again after the configured delay on failures.
+     */
+    private void listen() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                receiveNotifications();
+            } catch (SQLException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+
+                reconnectsCounter.increment();
+                log.warn("Lost the event notification connection, polling until listening again", e);
+                try {
+                    Thread.sleep(eventNotificationProperties.getReconnectDelay());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Listens on a connection of the pool, and wakes up the event store on the received notifications.
+     *
+     * @throws SQLException if the connection fails
+     */
+    private void receiveNotifications() throws SQLException {
+        try (val connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            try (val statement = connection.createStatement()) {
+                statement.execute("LISTEN " + EVENT_NOTIFICATION_CHANNEL);
+            }
+            eventStore.wakeUp();
+
+            val pgConnection = connection.unwrap(PGConnection.class);
+            while (!Thread.currentThread().isInterrupted()) {
+                val notifications = pgConnection.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+                if (notifications != null && notifications.length > 0) {
+                    receivedCounter.increment(notifications.length);
+                    eventStore.wakeUp();
+                }
+            }
+
+            try (val statement = connection.createStatement()) {
+                statement.execute("UNLISTEN " + EVENT_NOTIFICATION_CHANNEL);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.val;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler interceptor of the event publishing processor measuring the events published to Kafka.
+ *
+ * <p>The events handled in the same unit of work, that is the batch read by a tracking processor or the events applied
+ * by a command for a subscribing one, are recorded together once the unit of work commits, which is once the Kafka
+ * publisher has been acknowledged when it waits for acknowledgements. The interceptor records the number of published
+ * events as the {@code showcaseEventPublishing.published} counter, the number of events per unit of work as the
+ * {@code showcaseEventPublishing.batchSize} distribution, and the time from the creation of every event to its
+ * publication as the {@code showcaseEventPublishing.latency} timer.
+ */
+final class ShowcaseEventPublishingMetrics implements MessageHandlerInterceptor<EventMessage<?>> {
+
+    private static final String METER_NAME_PREFIX = "showcaseEventPublishing";
+
+    /**
+     * The name of the unit of work resource collecting the timestamps of the events of the unit of work.
+     */
+    private static final String BATCH_RESOURCE = ShowcaseEventPublishingMetrics.class.getName() + ".batch";
+
+    /**
+     * The counter of the published events.
+     */
+    private final Counter publishedCounter;
+
+    /**
+     * The distribution of the number of events published per unit of work.
+     */
+    private final DistributionSummary batchSizeSummary;
+
+    /**
+     * The timer of the time from the creation of an event to its publication.
+     */
+    private final Timer latencyTimer;
+
+    ShowcaseEventPublishingMetrics(MeterRegistry meterRegistry) {
+        this.publishedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".published")
+                       .description("Number of events published to Kafka")
+                       .register(meterRegistry);
+        this.batchSizeSummary =
+                DistributionSummary.builder(METER_NAME_PREFIX + ".batchSize")
+                                   .description("Number of events published to Kafka per unit of work")
+                                   .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                                   .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                                   .register(meterRegistry);
+        this.latencyTimer =
+                Timer.builder(METER_NAME_PREFIX + ".latency")
+                     .description("Time from the creation of an event to its publication to Kafka")
+                     .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                     .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                     .register(meterRegistry);
+    }
+
+    /**
+     * Collects the timestamp of the event, to be recorded once its unit of work commits.
+     *
+     * @param unitOfWork       the unit of work publishing the event
+     * @param interceptorChain the chain proceeding with the publication
+     * @return the result of the publication
+     * @throws Exception if the publication fails
+     */
+    @Override
+    public Object handle(
+            UnitOfWork<? extends EventMessage<?>> unitOfWork,
+            InterceptorChain interceptorChain) throws Exception {
+        List<Instant> timestamps = unitOfWork.getOrComputeResource(BATCH_RESOURCE, resourceName -> {
+            val batch = new ArrayList<Instant>();
+            unitOfWork.afterCommit(committed -> record(batch));
+            return batch;
+        });
+        timestamps.add(unitOfWork.getMessage().getTimestamp());
+        return interceptorChain.proceed();
+    }
+
+    /**
+     * Records the publication of the events of a unit of work.
+     *
+     * @param timestamps the timestamps of the published events
+     */
+    private void record(List<Instant> timestamps) {
+        val now = GenericEventMessage.clock.instant();
+        publishedCounter.increment(timestamps.size());
+        batchSizeSummary.record(timestamps.size());
+        for (val timestamp : timestamps) {
+            latencyTimer.record(Duration.between(timestamp, now));
+        }
+    }
+}
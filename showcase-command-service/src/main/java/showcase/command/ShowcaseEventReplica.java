@@ -0,0 +1,272 @@
+package showcase.command;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.jdbc.EventSchema;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import showcase.command.ShowcaseCommandProperties.EventReplica;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Read-only PostgreSQL streaming replica of the event store, serving the event stream of the tracking processors while
+ * its replication lag stays within the configured maximum.
+ *
+ * <p>The replica has a connection pool of its own, so the event stream reads no longer take connections of the
+ * primary pool used by the appends, aggregate loads and token claims. At the configured interval, the highest global
+ * index visible on the replica is compared to that of the primary, and the replication lag is taken as the time since
+ * the last transaction replayed by the replica while it is behind.
+ *
+ * <p>The replica covers a tracking token, and so serves its reads, only if its lag was within the maximum at the last
+ * measure and the token has not advanced past the highest global index visible on the replica then: a token read from
+ * the primary meanwhile is kept on the primary until the replica catches up, so that its gaps are never checked
+ * against a replica missing the events filling them. The maximum lag must stay well below the gap timeout of the
+ * event storage engine, as the events read from a lagging replica look that much older to the gap cleaning.
+ *
+ * <p>The lag is recorded as the {@code showcaseEventReplica.lagEvents} gauge, in number of events, and the
+ * {@code showcaseEventReplica.lagTime} time gauge.
+ */
+@Slf4j
+final class ShowcaseEventReplica implements SmartLifecycle, AutoCloseable {
+
+    private static final String METER_NAME_PREFIX = "showcaseEventReplica";
+
+    private static final String PRIMARY_SQL = "SELECT MAX(%s) FROM %s";
+
+    private static final String REPLICA_SQL = """
+            SELECT (SELECT MAX(%s) FROM %s),
+                   COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            """;
+
+    /**
+     * The lag of the replica at the last measure.
+     *
+     * @param replicaIndex the highest global index visible on the replica, or {@code -1} if none
+     * @param events       the number of events visible on the primary but not on the replica
+     * @param seconds      the replication lag in seconds
+     * @param covering     whether the lag is within the maximum
+     */
+    private record Lag(long replicaIndex, long events, double seconds, boolean covering) {
+    }
+
+    /**
+     * The lag assumed until it is first measured, and after a failed measure.
+     */
+    private static final Lag UNKNOWN_LAG = new Lag(-1, 0, 0, false);
+
+    /**
+     * The connection pool of the replica.
+     */
+    private final HikariDataSource dataSource;
+
+    /**
+     * The JDBC template of the primary.
+     */
+    private final JdbcTemplate primaryJdbcTemplate;
+
+    /**
+     * The JDBC template of the replica.
+     */
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    /**
+     * The query of the highest global index on the primary.
+     */
+    private final String primarySql;
+
+    /**
+     * The query of the highest global index and the replay lag on the replica.
+     */
+    private final String replicaSql;
+
+    /**
+     * The event replica configuration.
+     */
+    private final EventReplica eventReplicaProperties;
+
+    /**
+     * The lag of the replica at the last measure.
+     */
+    private volatile Lag lag = UNKNOWN_LAG;
+
+    /**
+     * The executor measuring the lag, if the replica is running.
+     */
+    private final AtomicReference<@Nullable ScheduledExecutorService> executor = new AtomicReference<>();
+
+    /**
+     * Creates the replica and its connection pool.
+     *
+     * @param primaryDataSource      the data source of the primary
+     * @param eventSchema            the schema of the event tables
+     * @param eventReplicaProperties the event replica configuration
+     * @param meterRegistry          the Micrometer meter registry
+     */
+    ShowcaseEventReplica(
+            DataSource primaryDataSource,
+            EventSchema eventSchema,
+            EventReplica eventReplicaProperties,
+            MeterRegistry meterRegistry) {
+        this(replicaDataSource(eventReplicaProperties), primaryDataSource, eventSchema, eventReplicaProperties,
+             meterRegistry);
+    }
+
+    private ShowcaseEventReplica(
+            HikariDataSource dataSource,
+            DataSource primaryDataSource,
+            EventSchema eventSchema,
+            EventReplica eventReplicaProperties,
+            MeterRegistry meterRegistry) {
+        this(dataSource, new JdbcTemplate(primaryDataSource), new JdbcTemplate(dataSource), eventSchema,
+             eventReplicaProperties, meterRegistry);
+    }
+
+    /**
+     * Creates the replica on the given connection pool and JDBC templates.
+     *
+     * @param dataSource             the connection pool of the replica
+     * @param primaryJdbcTemplate    the JDBC template of the primary
+     * @param replicaJdbcTemplate    the JDBC template of the replica
+     * @param eventSchema            the schema of the event tables
+     * @param eventReplicaProperties the event replica configuration
+     * @param meterRegistry          the Micrometer meter registry
+     */
+    ShowcaseEventReplica(
+            HikariDataSource dataSource,
+            JdbcTemplate primaryJdbcTemplate,
+            JdbcTemplate replicaJdbcTemplate,
+            EventSchema eventSchema,
+            EventReplica eventReplicaProperties,
+            MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.primaryJdbcTemplate = primaryJdbcTemplate;
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.primarySql = PRIMARY_SQL.formatted(eventSchema.globalIndexColumn(), eventSchema.domainEventTable());
+        this.replicaSql = REPLICA_SQL.formatted(eventSchema.globalIndexColumn(), eventSchema.domainEventTable());
+        this.eventReplicaProperties = eventReplicaProperties;
+        Gauge.builder(METER_NAME_PREFIX + ".lagEvents", this, replica -> replica.lag.events())
+             .description("Number of events visible on the primary but not yet on the event replica")
+             .register(meterRegistry);
+        TimeGauge.builder(METER_NAME_PREFIX + ".lagTime", this, TimeUnit.SECONDS, replica -> replica.lag.seconds())
+                 .description("Replication lag of the event replica")
+                 .register(meterRegistry);
+    }
+
+    private static HikariDataSource replicaDataSource(EventReplica eventReplicaProperties) {
+        val dataSource = new HikariDataSource();
+        dataSource.setPoolName("showcase-event-replica");
+        dataSource.setJdbcUrl(eventReplicaProperties.getUrl());
+        dataSource.setUsername(eventReplicaProperties.getUsername());
+        dataSource.setPassword(eventReplicaProperties.getPassword());
+        dataSource.setMaximumPoolSize(eventReplicaProperties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Returns the data source of the replica.
+     *
+     * @return the replica data source
+     */
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Returns whether the replica may serve the reads of the event stream from the given token.
+     *
+     * @param trackingToken the token the event stream is read from, or {@code null} from the tail
+     * @return {@code true} if the lag is within the maximum and the token has not advanced past the replica
+     */
+    boolean covers(@Nullable TrackingToken trackingToken) {
+        val lag = this.lag;
+        if (!lag.covering()) {
+            return false;
+        }
+        return trackingToken == null || trackingToken.position().orElse(-1) <= lag.replicaIndex();
+    }
+
+    /**
+     * Measures the lag of the replica, which no longer covers any token if the measure fails.
+     */
+    void measureLag() {
+        try {
+            val primaryIndex =
+                    Objects.requireNonNullElse(primaryJdbcTemplate.queryForObject(primarySql, Long.class), -1L);
+            lag = Objects.requireNonNull(replicaJdbcTemplate.queryForObject(replicaSql, (resultSet, rowNum) -> {
+                val replicaIndex = resultSet.getObject(1) != null ? resultSet.getLong(1) : -1;
+                val events = Math.max(0, primaryIndex - replicaIndex);
+                val seconds = events > 0 ? resultSet.getDouble(2) : 0;
+                val covering = seconds <= eventReplicaProperties.getMaxLag().toNanos() / 1e9;
+                return new Lag(replicaIndex, events, seconds, covering);
+            }));
+        } catch (RuntimeException e) {
+            lag = UNKNOWN_LAG;
+            log.warn("Failed to measure the event replica lag, reading the event stream from the primary", e);
+        }
+    }
+
+    /**
+     * Returns whether the lag is measured periodically.
+     *
+     * @return {@code true} if the replica is running
+     */
+    @Override
+    public boolean isRunning() {
+        return executor.get() != null;
+    }
+
+    /**
+     * Starts measuring the lag at the configured interval.
+     */
+    @Override
+    public void start() {
+        executor.updateAndGet(current -> {
+            if (current != null) {
+                return current;
+            }
+
+            val interval = eventReplicaProperties.getLagCheckInterval().toMillis();
+            val scheduledExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofVirtual()
+                                  .name("showcase-event-replica")
+                                  .factory());
+            scheduledExecutor.scheduleWithFixedDelay(this::measureLag, 0, interval, TimeUnit.MILLISECONDS);
+            return scheduledExecutor;
+        });
+    }
+
+    /**
+     * Stops measuring the lag, so that the replica no longer covers any token.
+     */
+    @Override
+    public void stop() {
+        val scheduledExecutor = executor.getAndSet(null);
+        if (scheduledExecutor != null) {
+            scheduledExecutor.shutdownNow();
+            lag = UNKNOWN_LAG;
+        }
+    }
+
+    /**
+     * Closes the connection pool of the replica.
+     */
+    @Override
+    public void close() {
+        stop();
+        dataSource.close();
+    }
+}
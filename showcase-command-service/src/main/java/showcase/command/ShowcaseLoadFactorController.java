@@ -0,0 +1,265 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.distributed.DistributedCommandBus;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+import showcase.command.ShowcaseCommandProperties.DynamicLoadFactor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Measures the pressure on this node and, when enabled, republishes its load factor on the distributed command bus so
+ * that hot nodes shed aggregate ownership to the other members.
+ *
+ * <p>The pressure is the highest of three ratios, each of a live measurement to its configured target: the process
+ * CPU usage, the average command handling latency since the previous evaluation, and the number of commands in flight,
+ * that is being handled or waiting in the local segment to be handled. A pressure of {@code 1} or less leaves the
+ * configured base load factor; above that, the load factor is the base divided by the pressure, down to the configured
+ * minimum. The pressure is smoothed by an exponentially weighted moving average, and the load factor is republished
+ * only when it moves by at least the configured relative hysteresis.
+ *
+ * <p>Every republished load factor reshuffles the consistent hash of the cluster, on which every node clears its
+ * aggregate, command outcome, and tombstone caches, so the aggregates are loaded from the event store again. The
+ * interval and the hysteresis bound how often this happens.
+ */
+@Slf4j
+final class ShowcaseLoadFactorController implements MessageHandlerInterceptor<CommandMessage<?>>, SmartLifecycle {
+
+    private static final String METER_NAME_PREFIX = "showcaseLoadFactor";
+
+    /**
+     * The distributed command bus on which the load factor is published.
+     */
+    private final DistributedCommandBus commandBus;
+
+    /**
+     * The dynamic load factor configuration.
+     */
+    private final DynamicLoadFactor dynamicLoadFactorProperties;
+
+    /**
+     * The load factor published when the node is not under pressure.
+     */
+    private final int baseLoadFactor;
+
+    /**
+     * The supplier of the process CPU usage, between {@code 0} and {@code 1}, or negative if unavailable.
+     */
+    private final DoubleSupplier cpuUsage;
+
+    /**
+     * The supplier of the number of commands waiting in the local segment to be handled.
+     */
+    private final IntSupplier queuedCommands;
+
+    /**
+     * The number of commands being handled.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * The total handling time, in nanoseconds, of the commands handled since the previous evaluation.
+     */
+    private final LongAdder handlingNanos = new LongAdder();
+
+    /**
+     * The number of commands handled since the previous evaluation.
+     */
+    private final LongAdder handledCount = new LongAdder();
+
+    /**
+     * The counter of load factor updates.
+     */
+    private final Counter updateCounter;
+
+    /**
+     * The smoothed pressure, or {@code NaN} before the first evaluation.
+     */
+    private volatile double pressure = Double.NaN;
+
+    /**
+     * The load factor currently published.
+     */
+    private volatile int loadFactor;
+
+    /**
+     * The executor running the periodic evaluation, if the controller is running.
+     */
+    private final AtomicReference<@Nullable ScheduledExecutorService> executor = new AtomicReference<>();
+
+    ShowcaseLoadFactorController(
+            DistributedCommandBus commandBus,
+            DynamicLoadFactor dynamicLoadFactorProperties,
+            int baseLoadFactor,
+            DoubleSupplier cpuUsage,
+            IntSupplier queuedCommands,
+            MeterRegistry meterRegistry) {
+        this.commandBus = commandBus;
+        this.dynamicLoadFactorProperties = dynamicLoadFactorProperties;
+        this.baseLoadFactor = baseLoadFactor;
+        this.cpuUsage = cpuUsage;
+        this.queuedCommands = queuedCommands;
+        this.loadFactor = baseLoadFactor;
+        Gauge.builder(METER_NAME_PREFIX + ".current", this, controller -> controller.loadFactor)
+             .description("Load factor published by this node on the distributed command bus")
+             .register(meterRegistry);
+        Gauge.builder(METER_NAME_PREFIX + ".pressure", this, controller -> controller.pressure)
+             .description("Smoothed pressure on this node (1 at the configured targets)")
+             .register(meterRegistry);
+        this.updateCounter =
+                Counter.builder(METER_NAME_PREFIX + ".updates")
+                       .description("Number of load factor updates published by this node")
+                       .register(meterRegistry);
+    }
+
+    /**
+     * Measures the handling latency of the command and counts it in flight while it is handled.
+     *
+     * @param unitOfWork       the unit of work handling the command
+     * @param interceptorChain the chain proceeding with the handling
+     * @return the result of the handling
+     * @throws Exception if the handling fails
+     */
+    @Override
+    public Object handle(
+            UnitOfWork<? extends CommandMessage<?>> unitOfWork,
+            InterceptorChain interceptorChain) throws Exception {
+        inFlight.incrementAndGet();
+        val start = System.nanoTime();
+        try {
+            return interceptorChain.proceed();
+        } finally {
+            handlingNanos.add(System.nanoTime() - start);
+            handledCount.increment();
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns whether the periodic evaluation is running.
+     *
+     * @return {@code true} if the evaluation executor is active
+     */
+    @Override
+    public boolean isRunning() {
+        return executor.get() != null;
+    }
+
+    /**
+     * Starts the periodic evaluation at the configured interval.
+     */
+    @Override
+    public void start() {
+        executor.updateAndGet(current -> {
+            if (current != null) {
+                return current;
+            }
+
+            val interval = dynamicLoadFactorProperties.getInterval().toMillis();
+            val scheduledExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofVirtual()
+                                  .name("showcase-load-factor-controller")
+                                  .factory());
+            scheduledExecutor.scheduleWithFixedDelay(this::evaluate, interval, interval, TimeUnit.MILLISECONDS);
+            return scheduledExecutor;
+        });
+    }
+
+    /**
+     * Stops the periodic evaluation.
+     */
+    @Override
+    public void stop() {
+        val scheduledExecutor = executor.getAndSet(null);
+        if (scheduledExecutor != null) {
+            scheduledExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Measures the pressure on this node and republishes its load factor if needed.
+     */
+    void evaluate() {
+        try {
+            val smoothed = smooth(measurePressure());
+            pressure = smoothed;
+
+            if (!dynamicLoadFactorProperties.isEnabled()) {
+                return;
+            }
+
+            val target =
+                    Math.clamp(Math.round(baseLoadFactor / Math.max(1, smoothed)),
+                               dynamicLoadFactorProperties.getMinLoadFactor(),
+                               baseLoadFactor);
+            val current = loadFactor;
+            val change = Math.abs(target - current) / (double) current;
+            val reachesBound = target != current && (target == baseLoadFactor
+                                                     || target == dynamicLoadFactorProperties.getMinLoadFactor());
+            if (change < dynamicLoadFactorProperties.getHysteresis() && !reachesBound) {
+                return;
+            }
+
+            log.info("Updating the load factor from {} to {} under a pressure of {}", current, target, smoothed);
+
+            commandBus.updateLoadFactor(target);
+            loadFactor = target;
+            updateCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("Failed to update the load factor", e);
+        }
+    }
+
+    /**
+     * Measures the pressure on this node since the previous evaluation.
+     *
+     * @return the highest of the CPU, latency, and in-flight ratios to their targets, the commands waiting in the local
+     *         segment counting as in flight
+     */
+    private double measurePressure() {
+        val cpu = cpuUsage.getAsDouble();
+        val cpuPressure = cpu >= 0 ? cpu / dynamicLoadFactorProperties.getCpuTarget() : 0;
+
+        val count = handledCount.sumThenReset();
+        val nanos = handlingNanos.sumThenReset();
+        val latencyPressure =
+                count > 0 ? (double) nanos / count / dynamicLoadFactorProperties.getLatencyTarget().toNanos() : 0;
+
+        val inFlightPressure =
+                (double) (inFlight.get() + queuedCommands.getAsInt()) / dynamicLoadFactorProperties.getInFlightTarget();
+
+        return Math.max(cpuPressure, Math.max(latencyPressure, inFlightPressure));
+    }
+
+    /**
+     * Folds the given pressure into the smoothed pressure.
+     *
+     * @param measured the pressure measured since the previous evaluation
+     * @return the new smoothed pressure
+     */
+    private double smooth(double measured) {
+        val previous = pressure;
+        if (Double.isNaN(previous)) {
+            return measured;
+        }
+        val smoothing = dynamicLoadFactorProperties.getSmoothing();
+        return smoothing * measured + (1 - smoothing) * previous;
+    }
+}
@@ -0,0 +1,26 @@
+package showcase.command;
+
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+
+import java.util.List;
+
+/**
+ * Embedded event store whose tracking processors can be woken up when events are appended on another node.
+ *
+ * <p>The embedded event store wakes up its event producer, which feeds the tracking processors, after the commit of
+ * the events appended on this node only, and otherwise polls the storage engine at its fetch delay. Waking it up from
+ * the notifications of the {@link ShowcaseEventNotificationListener} lets that fetch delay be long, as a fallback.
+ */
+final class ShowcaseNotifiedEventStore extends EmbeddedEventStore {
+
+    ShowcaseNotifiedEventStore(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Wakes up the event producer if it waits for new events, as after the commit of events appended on this node.
+     */
+    void wakeUp() {
+        afterCommit(List.of());
+    }
+}
@@ -0,0 +1,81 @@
+package showcase.command;
+
+import lombok.val;
+import org.axonframework.common.jdbc.ConnectionProvider;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventsourcing.eventstore.EventStoreException;
+import org.axonframework.eventsourcing.eventstore.jdbc.JdbcEventStorageEngine;
+import org.axonframework.serialization.Serializer;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static showcase.command.ShowcaseCommandConstants.EVENT_NOTIFICATION_CHANNEL;
+
+/**
+ * JDBC event storage engine notifying the appended events on the {@code showcase_events} PostgreSQL channel, so that
+ * the {@link ShowcaseEventNotificationListener} of every node wakes up its tracking processors.
+ *
+ * <p>The notification is issued in the transaction appending the events, so PostgreSQL delivers it only once that
+ * transaction commits, when the events are visible to the woken up processors, and never for a rolled back append.
+ * The notifications carry no payload, so that those of a single transaction are folded into one by PostgreSQL. An
+ * append whose notification is delivered before that of a concurrent append with lower global indexes leaves a gap in
+ * the tracking tokens, which the fetch following the notification of the latter fills, as the gaps are fetched along
+ * with the new events.
+ */
+final class ShowcaseNotifyingEventStorageEngine extends JdbcEventStorageEngine {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, '')";
+
+    /**
+     * The provider of the connections of the appending transactions.
+     */
+    private final ConnectionProvider connectionProvider;
+
+    /**
+     * The transaction manager of the appending transactions.
+     */
+    private final TransactionManager transactionManager;
+
+    /**
+     * Creates the storage engine.
+     *
+     * @param builder            the builder of the JDBC storage engine
+     * @param connectionProvider the connection provider given to the builder
+     * @param transactionManager the transaction manager given to the builder
+     */
+    ShowcaseNotifyingEventStorageEngine(
+            Builder builder, ConnectionProvider connectionProvider, TransactionManager transactionManager) {
+        super(builder);
+        this.connectionProvider = connectionProvider;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Appends the events, and notifies them once their transaction commits.
+     *
+     * @param events     the events to append
+     * @param serializer the serializer of the events
+     */
+    @Override
+    protected void appendEvents(List<? extends EventMessage<?>> events, Serializer serializer) {
+        super.appendEvents(events, serializer);
+        if (!events.isEmpty()) {
+            transactionManager.executeInTransaction(this::notifyEvents);
+        }
+    }
+
+    /**
+     * Issues the notification of the appended events in the current transaction.
+     */
+    private void notifyEvents() {
+        try (val connection = connectionProvider.getConnection();
+             val statement = connection.prepareStatement(NOTIFY_SQL)) {
+            statement.setString(1, EVENT_NOTIFICATION_CHANNEL);
+            statement.execute();
+        } catch (SQLException e) {
+            throw new EventStoreException("Failed to notify the appended events", e);
+        }
+    }
+}
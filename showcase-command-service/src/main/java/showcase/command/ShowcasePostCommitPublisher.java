@@ -0,0 +1,282 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.kafka.clients.producer.Producer;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.extensions.kafka.eventhandling.KafkaMessageConverter;
+import org.axonframework.extensions.kafka.eventhandling.producer.ProducerFactory;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import showcase.command.ShowcaseCommandProperties.PostCommitPublishing;
+import showcase.command.ShowcasePublicationWatermark.Watermark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Publishes the domain events to Kafka as soon as their unit of work commits, from the committing node, with the
+ * tracking event publishing processor catching up on the events not confirmed as published.
+ *
+ * <p>As a dispatch interceptor of the event store, the publisher sends every domain event once the root unit of work
+ * applying it commits, and records its acknowledgement or failure in the {@link ShowcasePublicationWatermark}. As a
+ * handler interceptor of the event publishing processor, it waits until the newest event of the processor batch is
+ * older than the catch-up delay, looks the watermarks of the aggregates of the batch up at once, and skips the events
+ * they cover, letting the processor publish the others. The events are thus published at least once, and twice only
+ * when their acknowledgement is not recorded in time.
+ *
+ * <p>The publisher records the events sent right after their commit as the
+ * {@code showcasePostCommitPublishing.published} and {@code showcasePostCommitPublishing.failed} counters, the time
+ * from the creation of an event to its acknowledgement as the {@code showcasePostCommitPublishing.latency} timer, and
+ * the events skipped or published by the catch-up as the {@code showcasePostCommitPublishing.skipped} and
+ * {@code showcasePostCommitPublishing.caughtUp} counters.
+ */
+@Slf4j
+final class ShowcasePostCommitPublisher
+        implements MessageDispatchInterceptor<EventMessage<?>>, MessageHandlerInterceptor<EventMessage<?>> {
+
+    private static final String METER_NAME_PREFIX = "showcasePostCommitPublishing";
+
+    /**
+     * The name of the unit of work resource holding the watermarks of the aggregates of the processor batch.
+     */
+    private static final String WATERMARKS_RESOURCE = ShowcasePostCommitPublisher.class.getName() + ".watermarks";
+
+    /**
+     * The factory of the producer sending the events.
+     */
+    private final ProducerFactory<String, byte[]> producerFactory;
+
+    /**
+     * The converter of the events to Kafka records.
+     */
+    private final KafkaMessageConverter<String, byte[]> messageConverter;
+
+    /**
+     * The topic the events are published to.
+     */
+    private final String topic;
+
+    /**
+     * The record of the events confirmed as published.
+     */
+    private final ShowcasePublicationWatermark watermark;
+
+    /**
+     * The post-commit publishing configuration.
+     */
+    private final PostCommitPublishing postCommitPublishingProperties;
+
+    /**
+     * The counter of the events acknowledged after their commit.
+     */
+    private final Counter publishedCounter;
+
+    /**
+     * The counter of the events whose publication after their commit failed.
+     */
+    private final Counter failedCounter;
+
+    /**
+     * The counter of the events skipped by the catch-up.
+     */
+    private final Counter skippedCounter;
+
+    /**
+     * The counter of the events published by the catch-up.
+     */
+    private final Counter caughtUpCounter;
+
+    /**
+     * The timer of the time from the creation of an event to its acknowledgement after its commit.
+     */
+    private final Timer latencyTimer;
+
+    /**
+     * Creates the post-commit publisher.
+     *
+     * @param producerFactory                the factory of the producer sending the events
+     * @param messageConverter               the converter of the events to Kafka records
+     * @param topic                          the topic the events are published to
+     * @param watermark                      the record of the events confirmed as published
+     * @param postCommitPublishingProperties the post-commit publishing configuration
+     * @param meterRegistry                  the Micrometer meter registry
+     * @throws IllegalArgumentException if the producer factory is transactional
+     */
+    ShowcasePostCommitPublisher(
+            ProducerFactory<String, byte[]> producerFactory,
+            KafkaMessageConverter<String, byte[]> messageConverter,
+            String topic,
+            ShowcasePublicationWatermark watermark,
+            PostCommitPublishing postCommitPublishingProperties,
+            MeterRegistry meterRegistry) {
+        if (producerFactory.confirmationMode().isTransactional()) {
+            throw new IllegalArgumentException("Post-commit publishing requires a non-transactional producer factory");
+        }
+
+        this.producerFactory = producerFactory;
+        this.messageConverter = messageConverter;
+        this.topic = topic;
+        this.watermark = watermark;
+        this.postCommitPublishingProperties = postCommitPublishingProperties;
+        this.publishedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".published")
+                       .description("Number of events published to Kafka right after their commit")
+                       .register(meterRegistry);
+        this.failedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".failed")
+                       .description("Number of events whose publication to Kafka after their commit failed")
+                       .register(meterRegistry);
+        this.skippedCounter =
+                Counter.builder(METER_NAME_PREFIX + ".skipped")
+                       .description("Number of events skipped by the catch-up as already published")
+                       .register(meterRegistry);
+        this.caughtUpCounter =
+                Counter.builder(METER_NAME_PREFIX + ".caughtUp")
+                       .description("Number of events published to Kafka by the catch-up")
+                       .register(meterRegistry);
+        this.latencyTimer =
+                Timer.builder(METER_NAME_PREFIX + ".latency")
+                     .description("Time from the creation of an event to its acknowledgement after its commit")
+                     .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                     .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                     .register(meterRegistry);
+    }
+
+    /**
+     * Sends the domain events once the root unit of work applying them commits. The events applied outside a unit of
+     * work are left to the catch-up.
+     *
+     * @param messages the events being published on the event store
+     * @return the function scheduling the sending of every event
+     */
+    @Override
+    public BiFunction<Integer, EventMessage<?>, EventMessage<?>> handle(List<? extends EventMessage<?>> messages) {
+        return (index, message) -> {
+            if (message instanceof DomainEventMessage<?> domainEvent && CurrentUnitOfWork.isStarted()) {
+                CurrentUnitOfWork.get().root().afterCommit(__ -> publish(domainEvent));
+            }
+            return message;
+        };
+    }
+
+    /**
+     * Skips the events of the catch-up covered by the watermark of their aggregate, and proceeds with the publication
+     * of the others.
+     *
+     * @param unitOfWork       the unit of work of the event publishing processor
+     * @param interceptorChain the chain proceeding with the publication
+     * @return the result of the publication, or {@code null} if the event is skipped
+     * @throws Exception if the publication fails
+     */
+    @Override
+    public Object handle(
+            UnitOfWork<? extends EventMessage<?>> unitOfWork,
+            InterceptorChain interceptorChain) throws Exception {
+        if (!(unitOfWork.getMessage() instanceof DomainEventMessage<?> domainEvent)) {
+            return interceptorChain.proceed();
+        }
+
+        Map<String, Watermark> watermarks =
+                unitOfWork.getOrComputeResource(WATERMARKS_RESOURCE, resourceName -> lookUpWatermarks(unitOfWork));
+        val aggregateIdentifier = domainEvent.getAggregateIdentifier();
+        val sequenceNumber = domainEvent.getSequenceNumber();
+        val aggregateWatermark = watermarks.get(aggregateIdentifier);
+        if (aggregateWatermark != null && aggregateWatermark.covers(sequenceNumber)) {
+            skippedCounter.increment();
+            return null;
+        }
+
+        val result = interceptorChain.proceed();
+        unitOfWork.afterCommit(committed -> {
+            caughtUpCounter.increment();
+            watermark.caughtUp(aggregateIdentifier, sequenceNumber);
+        });
+        return result;
+    }
+
+    /**
+     * Sends the given event, recording its acknowledgement or failure.
+     *
+     * @param domainEvent the event to send
+     */
+    void publish(DomainEventMessage<?> domainEvent) {
+        val aggregateIdentifier = domainEvent.getAggregateIdentifier();
+        val sequenceNumber = domainEvent.getSequenceNumber();
+        try (Producer<String, byte[]> producer = producerFactory.createProducer()) {
+            producer.send(messageConverter.createKafkaMessage(domainEvent, topic), (metadata, exception) -> {
+                if (exception == null) {
+                    publishedCounter.increment();
+                    latencyTimer.record(
+                            Duration.between(domainEvent.getTimestamp(), GenericEventMessage.clock.instant()));
+                    watermark.confirm(aggregateIdentifier, sequenceNumber);
+                } else {
+                    failed(aggregateIdentifier, sequenceNumber, exception);
+                }
+            });
+        } catch (RuntimeException e) {
+            failed(aggregateIdentifier, sequenceNumber, e);
+        }
+    }
+
+    /**
+     * Records the failed publication of an event, leaving it to the catch-up.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate of the event
+     * @param sequenceNumber      the sequence number of the event
+     * @param exception           the failure
+     */
+    private void failed(String aggregateIdentifier, long sequenceNumber, Exception exception) {
+        log.debug("Failed to publish event {} of aggregate {}, leaving it to the catch-up",
+                  sequenceNumber, aggregateIdentifier, exception);
+        failedCounter.increment();
+        watermark.fail(aggregateIdentifier, sequenceNumber);
+    }
+
+    /**
+     * Waits until the newest event of the processor batch is older than the catch-up delay, so its acknowledgement
+     * had time to be recorded, and looks the watermarks of the aggregates of the batch up.
+     *
+     * @param unitOfWork the unit of work of the event publishing processor
+     * @return the watermarks of the aggregates of the batch, keyed by aggregate identifier
+     * @throws IllegalStateException if interrupted while waiting, aborting the batch so that the processor retries it
+     */
+    private Map<String, Watermark> lookUpWatermarks(UnitOfWork<? extends EventMessage<?>> unitOfWork) {
+        List<? extends EventMessage<?>> events =
+                unitOfWork instanceof BatchingUnitOfWork<? extends EventMessage<?>> batchingUnitOfWork
+                ? batchingUnitOfWork.getMessages()
+                : List.of(unitOfWork.getMessage());
+
+        val newest = events.stream().map(EventMessage::getTimestamp).max(Instant::compareTo).orElseThrow();
+        val wait = Duration.between(GenericEventMessage.clock.instant(),
+                                    newest.plus(postCommitPublishingProperties.getCatchUpDelay()));
+        if (wait.isPositive()) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the catch-up delay", e);
+            }
+        }
+
+        return watermark.lookUp(
+                events.stream()
+                      .filter(DomainEventMessage.class::isInstance)
+                      .map(event -> ((DomainEventMessage<?>) event).getAggregateIdentifier())
+                      .distinct()
+                      .toList());
+    }
+}
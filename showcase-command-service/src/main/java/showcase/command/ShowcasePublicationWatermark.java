@@ -0,0 +1,351 @@
+package showcase.command;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import showcase.command.ShowcaseCommandProperties.PostCommitPublishing;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Compact record of the events confirmed as published to Kafka, shared by the nodes of the command service.
+ *
+ * <p>The watermark of an aggregate is the highest sequence number of its events acknowledged by Kafka, along with the
+ * lowest sequence number whose publication failed since, if any: an event is published if its sequence number is at
+ * most the highest acknowledged one and below the failed one. The catch-up clears only the failures at or below the
+ * sequence number it has published, and the events above it remain unpublished until it reaches the highest
+ * acknowledged one, so a failure recorded meanwhile, and merged into the lower one, is not lost.
+ *
+ * <p>The watermarks are kept in a bounded local cache and flushed to the {@code showcase_publication_watermark} table
+ * at the configured interval, off the publishing path, so the catch-up running on another node finds them there. The
+ * table holds a single row per aggregate. A flush keeps the lowest of the failures of the row and of this node, unless
+ * the catch-up of this node has published past it. The catch-up always reads the table, and merges its row with the
+ * local watermark the same way, as the failures recorded by the other nodes that owned the aggregate meanwhile are
+ * only found there.
+ */
+@Slf4j
+final class ShowcasePublicationWatermark implements SmartLifecycle {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO showcase_publication_watermark (aggregate_identifier, sequence_number, failed_sequence_number)
+            VALUES (?, ?, ?)
+            ON CONFLICT (aggregate_identifier) DO UPDATE
+            SET sequence_number = GREATEST(showcase_publication_watermark.sequence_number, EXCLUDED.sequence_number),
+                failed_sequence_number = CASE
+                    WHEN showcase_publication_watermark.failed_sequence_number IS NULL
+                         AND EXCLUDED.failed_sequence_number IS NULL
+                        THEN NULL
+                    WHEN LEAST(showcase_publication_watermark.failed_sequence_number, EXCLUDED.failed_sequence_number)
+                         > ?
+                        THEN LEAST(showcase_publication_watermark.failed_sequence_number,
+                                   EXCLUDED.failed_sequence_number)
+                    WHEN ? < GREATEST(showcase_publication_watermark.sequence_number, EXCLUDED.sequence_number)
+                        THEN ? + 1
+                END
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT aggregate_identifier, sequence_number, failed_sequence_number
+            FROM showcase_publication_watermark
+            WHERE aggregate_identifier IN (:aggregateIdentifiers)
+            """;
+
+    /**
+     * The watermark of an aggregate.
+     *
+     * @param sequenceNumber         the highest acknowledged sequence number
+     * @param failedSequenceNumber   the lowest sequence number whose publication failed since, if any
+     * @param caughtUpSequenceNumber the highest sequence number published by the catch-up of this node, or -1
+     */
+    record Watermark(long sequenceNumber, @Nullable Long failedSequenceNumber, long caughtUpSequenceNumber) {
+        /**
+         * Returns whether the event with the given sequence number is published.
+         *
+         * @param eventSequenceNumber the sequence number of the event
+         * @return {@code true} if the event is acknowledged and not affected by a failure
+         */
+        boolean covers(long eventSequenceNumber) {
+            return eventSequenceNumber <= sequenceNumber
+                   && (failedSequenceNumber == null || eventSequenceNumber < failedSequenceNumber);
+        }
+
+        /**
+         * Returns the failed sequence number left once the catch-up has published up to the given sequence number.
+         *
+         * <p>A failure above the caught-up sequence number is kept. A failure at or below it is cleared, but the events
+         * above it are still considered unpublished until the catch-up reaches the highest acknowledged sequence
+         * number, as a failure among them may have been merged into the cleared one.
+         *
+         * @param failedSequenceNumber   the failed sequence number, if any
+         * @param caughtUpSequenceNumber the highest sequence number published by the catch-up
+         * @param sequenceNumber         the highest acknowledged sequence number
+         * @return the failed sequence number left, if any
+         */
+        static @Nullable Long clearCaughtUp(
+                @Nullable Long failedSequenceNumber, long caughtUpSequenceNumber, long sequenceNumber) {
+            if (failedSequenceNumber == null || failedSequenceNumber > caughtUpSequenceNumber) {
+                return failedSequenceNumber;
+            }
+            return caughtUpSequenceNumber < sequenceNumber ? caughtUpSequenceNumber + 1 : null;
+        }
+
+        /**
+         * Merges this watermark with the one recorded in the table, keeping the highest acknowledged sequence number
+         * and the lowest failure, unless the catch-up of this node has published past it.
+         *
+         * @param recordedSequenceNumber       the highest acknowledged sequence number recorded in the table
+         * @param recordedFailedSequenceNumber the failed sequence number recorded in the table, if any
+         * @return the merged watermark
+         */
+        Watermark merge(long recordedSequenceNumber, @Nullable Long recordedFailedSequenceNumber) {
+            val acknowledged = Math.max(sequenceNumber, recordedSequenceNumber);
+            @Nullable Long failed = failedSequenceNumber;
+            if (failed == null || recordedFailedSequenceNumber != null && recordedFailedSequenceNumber < failed) {
+                failed = recordedFailedSequenceNumber;
+            }
+            return new Watermark(acknowledged,
+                                 clearCaughtUp(failed, caughtUpSequenceNumber, acknowledged),
+                                 caughtUpSequenceNumber);
+        }
+    }
+
+    /**
+     * The template flushing the watermarks.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The template looking the watermarks up.
+     */
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * The post-commit publishing configuration.
+     */
+    private final PostCommitPublishing postCommitPublishingProperties;
+
+    /**
+     * The watermarks known to this node, keyed by aggregate identifier.
+     */
+    private final Cache<String, Watermark> watermarks;
+
+    /**
+     * The watermarks changed since the last flush, keyed by aggregate identifier.
+     */
+    private final Map<String, Watermark> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The executor running the periodic flush, if the watermark is running.
+     */
+    private final AtomicReference<@Nullable ScheduledExecutorService> executor = new AtomicReference<>();
+
+    ShowcasePublicationWatermark(JdbcTemplate jdbcTemplate, PostCommitPublishing postCommitPublishingProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.postCommitPublishingProperties = postCommitPublishingProperties;
+        this.watermarks =
+                Caffeine.newBuilder()
+                        .maximumSize(postCommitPublishingProperties.getWatermarkCacheSize())
+                        .build();
+    }
+
+    /**
+     * Records that the event with the given sequence number was acknowledged by Kafka.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate of the event
+     * @param sequenceNumber      the sequence number of the event
+     */
+    void confirm(String aggregateIdentifier, long sequenceNumber) {
+        update(aggregateIdentifier, current -> current == null
+                                               ? new Watermark(sequenceNumber, null, -1)
+                                               : new Watermark(Math.max(current.sequenceNumber(), sequenceNumber),
+                                                               current.failedSequenceNumber(),
+                                                               current.caughtUpSequenceNumber()));
+    }
+
+    /**
+     * Records that the publication of the event with the given sequence number failed.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate of the event
+     * @param sequenceNumber      the sequence number of the event
+     */
+    void fail(String aggregateIdentifier, long sequenceNumber) {
+        update(aggregateIdentifier, current -> {
+            if (current == null) {
+                return new Watermark(-1, sequenceNumber, -1);
+            }
+            val failed = current.failedSequenceNumber();
+            return new Watermark(current.sequenceNumber(),
+                                 failed == null ? sequenceNumber : Math.min(failed, sequenceNumber),
+                                 current.caughtUpSequenceNumber());
+        });
+    }
+
+    /**
+     * Records that the catch-up published the event with the given sequence number, clearing the failure of the
+     * aggregate if it is at or below that sequence number.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate of the event
+     * @param sequenceNumber      the sequence number of the event
+     */
+    void caughtUp(String aggregateIdentifier, long sequenceNumber) {
+        update(aggregateIdentifier, current -> {
+            val base = current != null ? current : new Watermark(-1, null, -1);
+            val acknowledged = Math.max(base.sequenceNumber(), sequenceNumber);
+            val caughtUp = Math.max(base.caughtUpSequenceNumber(), sequenceNumber);
+            return new Watermark(acknowledged,
+                                 Watermark.clearCaughtUp(base.failedSequenceNumber(), caughtUp, acknowledged),
+                                 caughtUp);
+        });
+    }
+
+    /**
+     * Looks the watermarks of the given aggregates up from the table, merged with the ones known to this node.
+     *
+     * <p>The table is read even for the aggregates known to this node, as another node that owned one of them in the
+     * meantime may have recorded a failure there that this node does not know of.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates
+     * @return the known watermarks, keyed by aggregate identifier
+     */
+    Map<String, Watermark> lookUp(Collection<String> aggregateIdentifiers) {
+        if (aggregateIdentifiers.isEmpty()) {
+            return Map.of();
+        }
+
+        val found = new HashMap<String, Watermark>();
+        for (val aggregateIdentifier : aggregateIdentifiers) {
+            val watermark = watermarks.getIfPresent(aggregateIdentifier);
+            if (watermark != null) {
+                found.put(aggregateIdentifier, watermark);
+            }
+        }
+
+        namedParameterJdbcTemplate.query(
+                SELECT_SQL,
+                new MapSqlParameterSource("aggregateIdentifiers", aggregateIdentifiers),
+                resultSet -> {
+                    val aggregateIdentifier = resultSet.getString("aggregate_identifier");
+                    val sequenceNumber = resultSet.getLong("sequence_number");
+                    val failed = resultSet.getLong("failed_sequence_number");
+                    val noFailure = resultSet.wasNull();
+                    found.merge(aggregateIdentifier,
+                                new Watermark(sequenceNumber, noFailure ? null : failed, -1),
+                                (known, recorded) -> known.merge(recorded.sequenceNumber(),
+                                                                 recorded.failedSequenceNumber()));
+                });
+        return found;
+    }
+
+    /**
+     * Writes the watermarks changed since the last flush to the table.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        val batch = new ArrayList<Object[]>(pending.size());
+        for (val aggregateIdentifier : pending.keySet()) {
+            val watermark = pending.remove(aggregateIdentifier);
+            if (watermark != null) {
+                batch.add(new Object[] {
+                        aggregateIdentifier,
+                        watermark.sequenceNumber(),
+                        watermark.failedSequenceNumber(),
+                        watermark.caughtUpSequenceNumber()
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (statement, row) -> {
+            statement.setString(1, (String) row[0]);
+            statement.setLong(2, (long) row[1]);
+            statement.setObject(3, row[2], Types.BIGINT);
+            statement.setLong(4, (long) row[3]);
+            statement.setLong(5, (long) row[3]);
+            statement.setLong(6, (long) row[3]);
+        });
+    }
+
+    /**
+     * Returns whether the periodic flush is running.
+     *
+     * @return {@code true} if the flush executor is active
+     */
+    @Override
+    public boolean isRunning() {
+        return executor.get() != null;
+    }
+
+    /**
+     * Starts flushing the watermarks at the configured interval.
+     */
+    @Override
+    public void start() {
+        executor.updateAndGet(current -> {
+            if (current != null) {
+                return current;
+            }
+
+            val interval = postCommitPublishingProperties.getFlushInterval().toMillis();
+            val scheduledExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofVirtual()
+                                  .name("showcase-publication-watermark")
+                                  .factory());
+            scheduledExecutor.scheduleWithFixedDelay(this::tryFlush, interval, interval, TimeUnit.MILLISECONDS);
+            return scheduledExecutor;
+        });
+    }
+
+    /**
+     * Stops the periodic flush, and flushes the pending watermarks one last time.
+     */
+    @Override
+    public void stop() {
+        val scheduledExecutor = executor.getAndSet(null);
+        if (scheduledExecutor != null) {
+            scheduledExecutor.shutdownNow();
+            tryFlush();
+        }
+    }
+
+    /**
+     * Flushes the pending watermarks, logging a failure, in which case the publications are caught up again.
+     */
+    private void tryFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush the publication watermarks", e);
+        }
+    }
+
+    /**
+     * Updates the watermark of the given aggregate and queues it for the next flush.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate
+     * @param update              the function computing the new watermark from the current one, if known
+     */
+    private void update(
+            String aggregateIdentifier, Function<@Nullable Watermark, Watermark> update) {
+        val watermark = watermarks.asMap().compute(aggregateIdentifier, (key, current) -> update.apply(current));
+        pending.put(aggregateIdentifier, watermark);
+    }
+}
@@ -0,0 +1,192 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.DomainEventStream;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Event storage engine reading the event stream of the tracking processors from the {@link ShowcaseEventReplica} when
+ * it covers their token, and doing everything else on the primary.
+ *
+ * <p>The appends, snapshots, aggregate loads and tokens go to the primary engine, as do the event stream reads the
+ * replica does not cover. The event stream reads are recorded as the {@code showcaseEventReplica.reads} counter, tagged
+ * with the {@code source} they were served from.
+ */
+final class ShowcaseReplicaRoutingEventStorageEngine implements EventStorageEngine {
+
+    private static final String METER_NAME_PREFIX = "showcaseEventReplica";
+
+    /**
+     * The storage engine of the primary.
+     */
+    private final EventStorageEngine primaryEngine;
+
+    /**
+     * The storage engine of the replica, only reading the event stream.
+     */
+    private final EventStorageEngine replicaEngine;
+
+    /**
+     * The replica deciding which token it covers.
+     */
+    private final ShowcaseEventReplica eventReplica;
+
+    /**
+     * The counter of the event stream reads served by the primary.
+     */
+    private final Counter primaryReadsCounter;
+
+    /**
+     * The counter of the event stream reads served by the replica.
+     */
+    private final Counter replicaReadsCounter;
+
+    /**
+     * Creates the routing storage engine.
+     *
+     * @param primaryEngine the storage engine of the primary
+     * @param replicaEngine the storage engine of the replica
+     * @param eventReplica  the replica deciding which token it covers
+     * @param meterRegistry the Micrometer meter registry
+     */
+    ShowcaseReplicaRoutingEventStorageEngine(
+            EventStorageEngine primaryEngine,
+            EventStorageEngine replicaEngine,
+            ShowcaseEventReplica eventReplica,
+            MeterRegistry meterRegistry) {
+        this.primaryEngine = primaryEngine;
+        this.replicaEngine = replicaEngine;
+        this.eventReplica = eventReplica;
+        this.primaryReadsCounter = readsCounter("primary", meterRegistry);
+        this.replicaReadsCounter = readsCounter("replica", meterRegistry);
+    }
+
+    /**
+     * Appends the events on the primary.
+     *
+     * @param events the events to append
+     */
+    @Override
+    public void appendEvents(List<? extends EventMessage<?>> events) {
+        primaryEngine.appendEvents(events);
+    }
+
+    /**
+     * Stores the snapshot on the primary.
+     *
+     * @param snapshot the snapshot to store
+     */
+    @Override
+    public void storeSnapshot(DomainEventMessage<?> snapshot) {
+        primaryEngine.storeSnapshot(snapshot);
+    }
+
+    /**
+     * Reads the event stream from the replica if it covers the token, or from the primary otherwise.
+     *
+     * @param trackingToken the token to read the events after, or {@code null} from the tail
+     * @param mayBlock      whether the stream may block waiting for new events
+     * @return the stream of the tracked events
+     */
+    @Override
+    public Stream<? extends TrackedEventMessage<?>> readEvents(
+            @Nullable TrackingToken trackingToken, boolean mayBlock) {
+        if (eventReplica.covers(trackingToken)) {
+            replicaReadsCounter.increment();
+            return replicaEngine.readEvents(trackingToken, mayBlock);
+        }
+
+        primaryReadsCounter.increment();
+        return primaryEngine.readEvents(trackingToken, mayBlock);
+    }
+
+    /**
+     * Reads the events of an aggregate from the primary, so that the aggregates are loaded with all their events.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate
+     * @param firstSequenceNumber the sequence number of the first event to read
+     * @return the stream of the domain events
+     */
+    @Override
+    public DomainEventStream readEvents(String aggregateIdentifier, long firstSequenceNumber) {
+        return primaryEngine.readEvents(aggregateIdentifier, firstSequenceNumber);
+    }
+
+    /**
+     * Reads the snapshot of an aggregate from the primary.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate
+     * @return the snapshot, if any
+     */
+    @Override
+    public Optional<DomainEventMessage<?>> readSnapshot(String aggregateIdentifier) {
+        return primaryEngine.readSnapshot(aggregateIdentifier);
+    }
+
+    /**
+     * Returns the last sequence number of an aggregate from the primary.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate
+     * @return the last sequence number, if any
+     */
+    @Override
+    public Optional<Long> lastSequenceNumberFor(String aggregateIdentifier) {
+        return primaryEngine.lastSequenceNumberFor(aggregateIdentifier);
+    }
+
+    /**
+     * Creates the tail token from the primary.
+     *
+     * @return the tail token
+     */
+    @Override
+    public TrackingToken createTailToken() {
+        return primaryEngine.createTailToken();
+    }
+
+    /**
+     * Creates the head token from the primary, which the replica covers once it catches up with it.
+     *
+     * @return the head token
+     */
+    @Override
+    public TrackingToken createHeadToken() {
+        return primaryEngine.createHeadToken();
+    }
+
+    /**
+     * Creates the token at the given time from the primary.
+     *
+     * @param dateTime the time of the token
+     * @return the token at the given time
+     */
+    @Override
+    public TrackingToken createTokenAt(Instant dateTime) {
+        return primaryEngine.createTokenAt(dateTime);
+    }
+
+    /**
+     * Registers the counter of the event stream reads served by the given source.
+     *
+     * @param source        the source serving the reads
+     * @param meterRegistry the Micrometer meter registry
+     * @return the registered counter
+     */
+    private static Counter readsCounter(String source, MeterRegistry meterRegistry) {
+        return Counter.builder(METER_NAME_PREFIX + ".reads")
+                      .description("Number of event stream reads")
+                      .tag("source", source)
+                      .register(meterRegistry);
+    }
+}
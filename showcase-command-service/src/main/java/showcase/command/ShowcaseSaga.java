@@ -4,25 +4,42 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
 import org.axonframework.commandhandling.CommandExecutionException;
+import org.axonframework.commandhandling.GenericCommandMessage;
 import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.axonframework.config.ProcessingGroup;
 import org.axonframework.deadline.DeadlineManager;
 import org.axonframework.deadline.annotation.DeadlineHandler;
+import org.axonframework.messaging.annotation.MetaDataValue;
 import org.axonframework.modelling.saga.EndSaga;
 import org.axonframework.modelling.saga.SagaEventHandler;
 import org.axonframework.modelling.saga.StartSaga;
 import org.axonframework.spring.stereotype.Saga;
 import org.jspecify.annotations.Nullable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.Map;
+
+import static showcase.command.ShowcaseCommandConstants.FINISH_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.SHOWCASE_SAGA_PROCESSING_GROUP;
+import static showcase.command.ShowcaseCommandConstants.START_SHOWCASE_DEADLINE_NAME;
+import static showcase.command.ShowcaseCommandConstants.TRIGGERING_DEADLINE_METADATA_KEY;
 
 /**
  * Saga that manages the automatic lifecycle of a showcase through deadlines.
  *
  * <p>When a showcase is scheduled, a deadline is set to start it at the scheduled time. When started, a second
  * deadline is set to finish it after the configured duration. The saga ends when the showcase is either finished or
- * removed.
+ * removed. The IDs of the pending deadlines are kept, so a deadline made obsolete by a removal or by a transition
+ * requested ahead of it is cancelled rather than left to fire and be skipped. A transition triggered by a deadline
+ * carries its name in the metadata, so that deadline, which is being executed, is not cancelled.
+ *
+ * <p>Registered only in the saga-driven deadline mode, which is the default. In the aggregate-driven mode, the
+ * deadlines are owned by {@link ShowcaseAggregate}, and neither the saga store nor the {@code showcase-saga} processor
+ * is involved.
  */
 @Saga
-@ProcessingGroup("showcase-saga")
+@ConditionalOnProperty(prefix = "showcase.command", name = "deadline-mode", havingValue = "saga", matchIfMissing = true)
+@ProcessingGroup(SHOWCASE_SAGA_PROCESSING_GROUP)
 @Slf4j
 public class ShowcaseSaga {
     /**
@@ -31,6 +48,18 @@ public class ShowcaseSaga {
     @Nullable
     private ShowcaseStatus showcaseStatus;
 
+    /**
+     * The ID of the pending deadline starting the showcase, if any.
+     */
+    @Nullable
+    private String startDeadlineId;
+
+    /**
+     * The ID of the pending deadline finishing the showcase, if any.
+     */
+    @Nullable
+    private String finishDeadlineId;
+
     /**
      * Handles the scheduling of a showcase by setting a deadline to start it at the configured start time.
      *
@@ -42,7 +71,7 @@ public class ShowcaseSaga {
     void handle(ShowcaseScheduledEvent event, DeadlineManager deadlineManager) {
         showcaseStatus = ShowcaseStatus.SCHEDULED;
 
-        deadlineManager.schedule(event.startTime(), "startShowcase", event.showcaseId());
+        startDeadlineId = deadlineManager.schedule(event.startTime(), START_SHOWCASE_DEADLINE_NAME, event.showcaseId());
 
         log.trace("Scheduled deadline to start showcase with ID {} at {}", event.showcaseId(), event.startTime());
     }
@@ -55,11 +84,13 @@ public class ShowcaseSaga {
      *
      * @param showcaseId the ID of the showcase to start
      * @param commandGateway the command gateway used to send the start command
+     * @param deadlineScheduler the scheduler counting the skipped deadlines
      */
-    @DeadlineHandler(deadlineName = "startShowcase")
-    void startShowcase(String showcaseId, CommandGateway commandGateway) {
+    @DeadlineHandler(deadlineName = START_SHOWCASE_DEADLINE_NAME)
+    void startShowcase(String showcaseId, CommandGateway commandGateway, ShowcaseDeadlineScheduler deadlineScheduler) {
         if (ObjectUtils.notEqual(showcaseStatus, ShowcaseStatus.SCHEDULED)) {
             log.trace("On starting deadline, showcase has status {}, so skipping", showcaseStatus);
+            deadlineScheduler.skipped(START_SHOWCASE_DEADLINE_NAME);
             return;
         }
 
@@ -67,10 +98,12 @@ public class ShowcaseSaga {
 
         try {
             commandGateway.sendAndWait(
-                    StartShowcaseCommand
-                            .builder()
-                            .showcaseId(showcaseId)
-                            .build());
+                    GenericCommandMessage
+                            .asCommandMessage(StartShowcaseCommand
+                                                      .builder()
+                                                      .showcaseId(showcaseId)
+                                                      .build())
+                            .andMetaData(Map.of(TRIGGERING_DEADLINE_METADATA_KEY, START_SHOWCASE_DEADLINE_NAME)));
 
             log.trace("Started showcase with ID {}", showcaseId);
         } catch (CommandExecutionException e) {
@@ -85,18 +118,29 @@ public class ShowcaseSaga {
 
     /**
      * Handles the {@link ShowcaseStartedEvent} by scheduling a deadline to finish the showcase after its configured
-     * duration.
+     * duration, and by cancelling the start deadline if the showcase was started ahead of it.
      *
      * @param event the started event
-     * @param deadlineManager the deadline manager used to schedule the finish
+     * @param triggeringDeadline the name of the deadline that triggered the start, if any
+     * @param deadlineManager the deadline manager used to cancel the start and to schedule the finish
+     * @param deadlineScheduler the scheduler cancelling the obsolete deadlines
      */
     @SagaEventHandler(associationProperty = "showcaseId")
-    void handle(ShowcaseStartedEvent event, DeadlineManager deadlineManager) {
+    void handle(
+            ShowcaseStartedEvent event,
+            @MetaDataValue(TRIGGERING_DEADLINE_METADATA_KEY) @Nullable String triggeringDeadline,
+            DeadlineManager deadlineManager,
+            ShowcaseDeadlineScheduler deadlineScheduler) {
         showcaseStatus = ShowcaseStatus.STARTED;
 
+        if (!START_SHOWCASE_DEADLINE_NAME.equals(triggeringDeadline)) {
+            deadlineScheduler.cancel(deadlineManager, START_SHOWCASE_DEADLINE_NAME, startDeadlineId);
+        }
+        startDeadlineId = null;
+
         val finishTime = event.startedAt().plus(event.duration());
 
-        deadlineManager.schedule(finishTime, "finishShowcase", event.showcaseId());
+        finishDeadlineId = deadlineManager.schedule(finishTime, FINISH_SHOWCASE_DEADLINE_NAME, event.showcaseId());
 
         log.trace("Scheduled deadline to finish showcase with ID {} at {}", event.showcaseId(), finishTime);
     }
@@ -109,11 +153,13 @@ public class ShowcaseSaga {
      *
      * @param showcaseId the ID of the showcase to finish
      * @param commandGateway the command gateway used to send the finish command
+     * @param deadlineScheduler the scheduler counting the skipped deadlines
      */
-    @DeadlineHandler(deadlineName = "finishShowcase")
-    void finishShowcase(String showcaseId, CommandGateway commandGateway) {
+    @DeadlineHandler(deadlineName = FINISH_SHOWCASE_DEADLINE_NAME)
+    void finishShowcase(String showcaseId, CommandGateway commandGateway, ShowcaseDeadlineScheduler deadlineScheduler) {
         if (ObjectUtils.notEqual(showcaseStatus, ShowcaseStatus.STARTED)) {
             log.trace("On finishing deadline, showcase has status {}, so skipping", showcaseStatus);
+            deadlineScheduler.skipped(FINISH_SHOWCASE_DEADLINE_NAME);
             return;
         }
 
@@ -121,10 +167,12 @@ public class ShowcaseSaga {
 
         try {
             commandGateway.sendAndWait(
-                    FinishShowcaseCommand
-                            .builder()
-                            .showcaseId(showcaseId)
-                            .build());
+                    GenericCommandMessage
+                            .asCommandMessage(FinishShowcaseCommand
+                                                      .builder()
+                                                      .showcaseId(showcaseId)
+                                                      .build())
+                            .andMetaData(Map.of(TRIGGERING_DEADLINE_METADATA_KEY, FINISH_SHOWCASE_DEADLINE_NAME)));
 
             log.trace("Finished showcase with ID {}", showcaseId);
         } catch (CommandExecutionException e) {
@@ -138,24 +186,45 @@ public class ShowcaseSaga {
     }
 
     /**
-     * Marks the showcase as finished and ends the saga.
+     * Marks the showcase as finished and ends the saga, cancelling the finish deadline if the showcase was finished
+     * ahead of it.
      *
      * @param event the finished event
+     * @param triggeringDeadline the name of the deadline that triggered the finish, if any
+     * @param deadlineManager the deadline manager used to cancel the finish
+     * @param deadlineScheduler the scheduler cancelling the obsolete deadlines
      */
     @EndSaga
     @SagaEventHandler(associationProperty = "showcaseId")
-    void handle(ShowcaseFinishedEvent event) {
+    void handle(
+            ShowcaseFinishedEvent event,
+            @MetaDataValue(TRIGGERING_DEADLINE_METADATA_KEY) @Nullable String triggeringDeadline,
+            DeadlineManager deadlineManager,
+            ShowcaseDeadlineScheduler deadlineScheduler) {
         showcaseStatus = ShowcaseStatus.FINISHED;
+
+        if (!FINISH_SHOWCASE_DEADLINE_NAME.equals(triggeringDeadline)) {
+            deadlineScheduler.cancel(deadlineManager, FINISH_SHOWCASE_DEADLINE_NAME, finishDeadlineId);
+        }
+        finishDeadlineId = null;
     }
 
     /**
-     * Clears the showcase status and ends the saga when a showcase is removed.
+     * Clears the showcase status, cancels the pending deadlines, and ends the saga when a showcase is removed.
      *
      * @param event the removed event
+     * @param deadlineManager the deadline manager used to cancel the pending deadlines
+     * @param deadlineScheduler the scheduler cancelling the obsolete deadlines
      */
     @EndSaga
     @SagaEventHandler(associationProperty = "showcaseId")
-    void handle(ShowcaseRemovedEvent event) {
+    void handle(
+            ShowcaseRemovedEvent event, DeadlineManager deadlineManager, ShowcaseDeadlineScheduler deadlineScheduler) {
         showcaseStatus = null;
+
+        deadlineScheduler.cancel(deadlineManager, START_SHOWCASE_DEADLINE_NAME, startDeadlineId);
+        deadlineScheduler.cancel(deadlineManager, FINISH_SHOWCASE_DEADLINE_NAME, finishDeadlineId);
+        startDeadlineId = null;
+        finishDeadlineId = null;
     }
 }
@@ -0,0 +1,256 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.MultiGauge.Row;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import one.util.streamex.EntryStream;
+import one.util.streamex.StreamEx;
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.SmartLifecycle;
+import showcase.command.ShowcaseCommandProperties.SagaProcessor;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static showcase.command.ShowcaseCommandConstants.SHOWCASE_SAGA_PROCESSING_GROUP;
+
+/**
+ * Measures the lag of the {@value ShowcaseCommandConstants#SHOWCASE_SAGA_PROCESSING_GROUP} processor segments claimed
+ * by this node and, when enabled, splits or merges them based on that lag.
+ *
+ * <p>The lag of a segment is the distance, in events, between the head of the event store and the position of the
+ * segment's token. On each run, the most lagging segment above the split threshold is split, as long as the segment
+ * count stays within the configured maximum; otherwise, when all claimed segments lag no more than the merge threshold,
+ * the least lagging one is merged with its sibling, as long as the segment count stays within the configured minimum.
+ * At most one segment is split or merged per run, and the gap between the two thresholds provides hysteresis.
+ */
+@Slf4j
+final class ShowcaseSagaProcessorBalancer implements SmartLifecycle {
+
+    private static final String METER_NAME_PREFIX = "showcaseSaga";
+
+    /**
+     * The configuration from which the saga event processor is resolved.
+     */
+    private final EventProcessingConfiguration eventProcessingConfiguration;
+
+    /**
+     * The event store whose head position the segment positions are compared with.
+     */
+    private final EventStore eventStore;
+
+    /**
+     * The balancing configuration.
+     */
+    private final SagaProcessor sagaProcessorProperties;
+
+    /**
+     * The gauge publishing the lag of each claimed segment.
+     */
+    private final MultiGauge segmentLagGauge;
+
+    /**
+     * The counter of segment splits.
+     */
+    private final Counter segmentSplitCounter;
+
+    /**
+     * The counter of segment merges.
+     */
+    private final Counter segmentMergeCounter;
+
+    /**
+     * The executor running the periodic balancing, if the balancer is running.
+     */
+    private final AtomicReference<@Nullable ScheduledExecutorService> executor = new AtomicReference<>();
+
+    ShowcaseSagaProcessorBalancer(
+            EventProcessingConfiguration eventProcessingConfiguration,
+            EventStore eventStore,
+            SagaProcessor sagaProcessorProperties,
+            MeterRegistry meterRegistry) {
+        this.eventProcessingConfiguration = eventProcessingConfiguration;
+        this.eventStore = eventStore;
+        this.sagaProcessorProperties = sagaProcessorProperties;
+        this.segmentLagGauge =
+                MultiGauge.builder(METER_NAME_PREFIX + ".segmentLag")
+                          .description("Lag of the claimed saga processor segments (in events)")
+                          .baseUnit("events")
+                          .register(meterRegistry);
+        this.segmentSplitCounter =
+                Counter.builder(METER_NAME_PREFIX + ".segmentSplits")
+                       .description("Number of saga processor segment splits")
+                       .register(meterRegistry);
+        this.segmentMergeCounter =
+                Counter.builder(METER_NAME_PREFIX + ".segmentMerges")
+                       .description("Number of saga processor segment merges")
+                       .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether the periodic balancing is running.
+     *
+     * @return {@code true} if the balancing executor is active
+     */
+    @Override
+    public boolean isRunning() {
+        return executor.get() != null;
+    }
+
+    /**
+     * Starts the periodic balancing at the configured interval.
+     */
+    @Override
+    public void start() {
+        executor.updateAndGet(current -> {
+            if (current != null) {
+                return current;
+            }
+
+            val interval = sagaProcessorProperties.getBalancingInterval().toMillis();
+            val scheduledExecutor =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofVirtual()
+                                  .name("showcase-saga-balancer")
+                                  .factory());
+            scheduledExecutor.scheduleWithFixedDelay(this::balance, interval, interval, TimeUnit.MILLISECONDS);
+            return scheduledExecutor;
+        });
+    }
+
+    /**
+     * Stops the periodic balancing.
+     */
+    @Override
+    public void stop() {
+        val scheduledExecutor = executor.getAndSet(null);
+        if (scheduledExecutor != null) {
+            scheduledExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Measures the lag of the claimed segments and splits or merges one of them if needed.
+     *
+     * <p>Does nothing if the saga event processor is not registered or is not a streaming one.
+     */
+    void balance() {
+        try {
+            val processor =
+                    eventProcessingConfiguration.eventProcessor(
+                            SHOWCASE_SAGA_PROCESSING_GROUP, StreamingEventProcessor.class);
+            if (processor.isPresent()) {
+                balance(processor.get());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to balance the saga processor segments", e);
+        }
+    }
+
+    /**
+     * Measures the lag of the segments claimed by the given processor and splits or merges one of them if needed.
+     *
+     * @param processor the saga event processor
+     */
+    private void balance(StreamingEventProcessor processor) {
+        val headPosition = position(eventStore.createHeadToken());
+        val lags =
+                StreamEx.of(processor.processingStatus().values())
+                        .mapToEntry(status -> lag(status, headPosition))
+                        .toMap();
+
+        segmentLagGauge.register(
+                EntryStream.of(lags)
+                           .mapKeyValue((status, lag) -> Row.of(
+                                   Tags.of("segment", Integer.toString(status.getSegment().getSegmentId())), lag))
+                           .toList(),
+                true);
+
+        if (!sagaProcessorProperties.isBalancingEnabled() || lags.isEmpty()) {
+            return;
+        }
+
+        val mostLagging = EntryStream.of(lags).maxBy(Map.Entry::getValue).orElseThrow();
+        if (mostLagging.getValue() > sagaProcessorProperties.getSplitLagThreshold()
+                    && segmentCount(mostLagging.getKey()) < sagaProcessorProperties.getMaxSegmentCount()) {
+            val segmentId = mostLagging.getKey().getSegment().getSegmentId();
+
+            log.info("Splitting saga processor segment {} lagging {} event(s) behind",
+                     segmentId, mostLagging.getValue());
+
+            processor.splitSegment(segmentId).thenAccept(split -> {
+                if (Boolean.TRUE.equals(split)) {
+                    segmentSplitCounter.increment();
+                }
+            });
+            return;
+        }
+
+        val allCaughtUp =
+                EntryStream.of(lags)
+                           .allMatch(entry -> entry.getKey().isCaughtUp()
+                                              && entry.getValue() <= sagaProcessorProperties.getMergeLagThreshold());
+        if (!allCaughtUp) {
+            return;
+        }
+
+        EntryStream.of(lags)
+                   .filterKeys(status -> segmentCount(status) > sagaProcessorProperties.getMinSegmentCount())
+                   .minBy(Map.Entry::getValue)
+                   .ifPresent(leastLagging -> {
+                       val segmentId = leastLagging.getKey().getSegment().getSegmentId();
+
+                       log.info("Merging saga processor segment {} lagging {} event(s) behind",
+                                segmentId, leastLagging.getValue());
+
+                       processor.mergeSegment(segmentId).thenAccept(merged -> {
+                           if (Boolean.TRUE.equals(merged)) {
+                               segmentMergeCounter.increment();
+                           }
+                       });
+                   });
+    }
+
+    /**
+     * Resolves the position of the given token.
+     *
+     * @param token the token to resolve the position of, or {@code null} for the beginning of the stream
+     * @return the position of the token, or {@code -1} if the token has no position
+     */
+    private static long position(@Nullable TrackingToken token) {
+        return token != null ? token.position().orElse(-1) : -1;
+    }
+
+    /**
+     * Computes the lag of the segment with the given status.
+     *
+     * @param status       the status of the segment
+     * @param headPosition the head position of the event store
+     * @return the number of events the segment is behind the head
+     */
+    private static long lag(EventTrackerStatus status, long headPosition) {
+        return Math.max(0, headPosition - status.getCurrentPosition().orElse(-1));
+    }
+
+    /**
+     * Computes the number of segments the processor has at the granularity of the given segment.
+     *
+     * @param status the status of the segment
+     * @return the segment count
+     */
+    private static int segmentCount(EventTrackerStatus status) {
+        return status.getSegment().getMask() + 1;
+    }
+}
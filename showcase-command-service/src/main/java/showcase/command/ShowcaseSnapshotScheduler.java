@@ -0,0 +1,141 @@
+package showcase.command;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.eventsourcing.Snapshotter;
+import showcase.command.ShowcaseCommandProperties.SnapshotExecutor;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes the snapshots requested by the snapshot triggers on a dedicated bounded executor, rather than on the executor
+ * shared with the rest of the service.
+ *
+ * <p>A snapshot requested while another one of the same aggregate is queued or being taken is skipped, as the pending
+ * one already covers its events. A snapshot requested while the queue is full is skipped too, so that snapshotting
+ * never piles up behind a struggling database: the aggregate is only replayed from an older snapshot until a later
+ * request succeeds.
+ *
+ * <p>The snapshots taken are recorded as the {@code showcaseSnapshotScheduler.snapshots} timer, and the skipped
+ * requests as the {@code showcaseSnapshotScheduler.skipped} counter, tagged with the {@code reason} they were skipped
+ * for.
+ */
+@Slf4j
+final class ShowcaseSnapshotScheduler implements AutoCloseable {
+
+    private static final String METER_NAME_PREFIX = "showcaseSnapshotScheduler";
+
+    /**
+     * The snapshotter taking the snapshots on the calling thread.
+     */
+    private final Snapshotter snapshotter;
+
+    /**
+     * The executor taking the snapshots, with a bounded queue.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The aggregates whose snapshot is queued or being taken, keyed by type and identifier.
+     */
+    private final Set<String> pendingAggregates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The timer of the snapshots taken.
+     */
+    private final Timer snapshotTimer;
+
+    /**
+     * The counter of the requests skipped as a snapshot of the aggregate is pending.
+     */
+    private final Counter duplicateCounter;
+
+    /**
+     * The counter of the requests skipped as the queue is full.
+     */
+    private final Counter saturatedCounter;
+
+    /**
+     * Creates the scheduler.
+     *
+     * @param snapshotter                the snapshotter taking the snapshots on the calling thread
+     * @param snapshotExecutorProperties the snapshot executor configuration
+     * @param meterRegistry              the Micrometer meter registry
+     */
+    ShowcaseSnapshotScheduler(
+            Snapshotter snapshotter, SnapshotExecutor snapshotExecutorProperties, MeterRegistry meterRegistry) {
+        this.snapshotter = snapshotter;
+        this.executor =
+                new ThreadPoolExecutor(
+                        snapshotExecutorProperties.getMaxConcurrency(),
+                        snapshotExecutorProperties.getMaxConcurrency(),
+                        0,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(snapshotExecutorProperties.getQueueCapacity()),
+                        Thread.ofPlatform().name("showcase-snapshot-", 0).daemon().factory());
+        this.snapshotTimer =
+                Timer.builder(METER_NAME_PREFIX + ".snapshots")
+                     .description("Time taken to snapshot the aggregates")
+                     .register(meterRegistry);
+        this.duplicateCounter = skippedCounter("duplicate", meterRegistry);
+        this.saturatedCounter = skippedCounter("saturated", meterRegistry);
+    }
+
+    /**
+     * Queues a snapshot of the given aggregate, unless one is already pending or the queue is full.
+     *
+     * @param aggregateType       the type of the aggregate
+     * @param aggregateIdentifier the identifier of the aggregate
+     */
+    void scheduleSnapshot(Class<?> aggregateType, String aggregateIdentifier) {
+        val pendingKey = aggregateType.getName() + ":" + aggregateIdentifier;
+        if (!pendingAggregates.add(pendingKey)) {
+            duplicateCounter.increment();
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    snapshotTimer.record(() -> snapshotter.scheduleSnapshot(aggregateType, aggregateIdentifier));
+                } finally {
+                    pendingAggregates.remove(pendingKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingAggregates.remove(pendingKey);
+            saturatedCounter.increment();
+            log.debug("Snapshot of {} skipped as the snapshot queue is full", pendingKey);
+        }
+    }
+
+    /**
+     * Stops taking snapshots, dropping the queued ones.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Registers the counter of the requests skipped for the given reason.
+     *
+     * @param reason        the reason the requests are skipped for
+     * @param meterRegistry the Micrometer meter registry
+     * @return the registered counter
+     */
+    private static Counter skippedCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder(METER_NAME_PREFIX + ".skipped")
+                      .description("Number of snapshot requests skipped")
+                      .tag("reason", reason)
+                      .register(meterRegistry);
+    }
+}
@@ -0,0 +1,198 @@
+package showcase.command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventsourcing.SnapshotTrigger;
+import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Snapshot trigger definition combining the number of events since the last snapshot with the load time of the
+ * aggregate.
+ *
+ * <p>An aggregate is snapshotted once the configured number of events has been applied or replayed since its last
+ * snapshot. While it is being loaded, it is also snapshotted when its load reaches the configured time, provided that
+ * enough events were replayed for a snapshot to shorten the next loads: an aggregate slow to load because of a
+ * struggling database, rather than of its events, is not snapshotted at the worst moment.
+ *
+ * <p>The snapshots are requested from the {@link ShowcaseSnapshotScheduler}, after the loading unit of work is cleaned
+ * up, or before the applying unit of work commits, as the Axon triggers do.
+ */
+@RequiredArgsConstructor
+final class ShowcaseSnapshotTriggerDefinition implements SnapshotTriggerDefinition {
+
+    /**
+     * The scheduler taking the requested snapshots.
+     */
+    private final ShowcaseSnapshotScheduler snapshotScheduler;
+
+    /**
+     * The snapshot trigger configuration.
+     */
+    private final ShowcaseCommandProperties.SnapshotTrigger snapshotTriggerProperties;
+
+    /**
+     * Creates the trigger of an aggregate instance about to be loaded or created.
+     *
+     * @param aggregateType the type of the aggregate
+     * @return the snapshot trigger of the instance
+     */
+    @Override
+    public SnapshotTrigger prepareTrigger(Class<?> aggregateType) {
+        return new Trigger(
+                snapshotScheduler,
+                aggregateType,
+                snapshotTriggerProperties.getEventCountThreshold(),
+                snapshotTriggerProperties.getLoadTimeThreshold().toNanos(),
+                snapshotTriggerProperties.getLoadTimeMinEventCount());
+    }
+
+    /**
+     * Restores the scheduler of a trigger deserialized with its cached aggregate.
+     *
+     * @param aggregateType the type of the aggregate
+     * @param trigger       the trigger to reconfigure
+     * @return the reconfigured trigger
+     */
+    @Override
+    public SnapshotTrigger reconfigure(Class<?> aggregateType, SnapshotTrigger trigger) {
+        if (trigger instanceof Trigger showcaseTrigger) {
+            showcaseTrigger.snapshotScheduler = snapshotScheduler;
+            return showcaseTrigger;
+        }
+        return prepareTrigger(aggregateType);
+    }
+
+    /**
+     * Snapshot trigger of a single aggregate instance.
+     */
+    private static final class Trigger implements SnapshotTrigger, Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The scheduler taking the requested snapshots, restored on reconfiguration after deserialization.
+         */
+        private transient @Nullable ShowcaseSnapshotScheduler snapshotScheduler;
+
+        /**
+         * The type of the aggregate.
+         */
+        private final Class<?> aggregateType;
+
+        /**
+         * The number of events since the last snapshot at which the aggregate is snapshotted.
+         */
+        private final int eventCountThreshold;
+
+        /**
+         * The load time, in nanoseconds, from which the aggregate being loaded is snapshotted.
+         */
+        private final long loadTimeThresholdNanos;
+
+        /**
+         * The number of replayed events below which a slow load does not snapshot the aggregate.
+         */
+        private final int loadTimeMinEventCount;
+
+        /**
+         * The time, in nanoseconds, at which the loading of the aggregate started.
+         */
+        private final long loadStartNanos = System.nanoTime();
+
+        /**
+         * The number of events applied or replayed since the last snapshot request.
+         */
+        private int eventCount;
+
+        /**
+         * Whether the aggregate has been loaded.
+         */
+        private boolean initialized;
+
+        Trigger(
+                ShowcaseSnapshotScheduler snapshotScheduler,
+                Class<?> aggregateType,
+                int eventCountThreshold,
+                long loadTimeThresholdNanos,
+                int loadTimeMinEventCount) {
+            this.snapshotScheduler = snapshotScheduler;
+            this.aggregateType = aggregateType;
+            this.eventCountThreshold = eventCountThreshold;
+            this.loadTimeThresholdNanos = loadTimeThresholdNanos;
+            this.loadTimeMinEventCount = loadTimeMinEventCount;
+        }
+
+        /**
+         * Counts a domain event applied or replayed, and requests a snapshot once a threshold is exceeded.
+         *
+         * @param message the handled event message
+         */
+        @Override
+        public void eventHandled(EventMessage<?> message) {
+            if (!(message instanceof DomainEventMessage<?> domainEvent)) {
+                return;
+            }
+
+            eventCount++;
+            if (exceedsThreshold()) {
+                eventCount = 0;
+                prepareSnapshot(domainEvent.getAggregateIdentifier());
+            }
+        }
+
+        /**
+         * Marks the aggregate as loaded, so that its load time no longer triggers snapshots.
+         */
+        @Override
+        public void initializationFinished() {
+            initialized = true;
+        }
+
+        /**
+         * Returns whether the aggregate should be snapshotted.
+         *
+         * @return {@code true} if enough events were handled, or the load is slow with enough replayed events
+         */
+        private boolean exceedsThreshold() {
+            return eventCount >= eventCountThreshold
+                           || !initialized
+                                      && eventCount >= loadTimeMinEventCount
+                                      && System.nanoTime() - loadStartNanos >= loadTimeThresholdNanos;
+        }
+
+        /**
+         * Requests a snapshot of the aggregate once the current unit of work allows it.
+         *
+         * @param aggregateIdentifier the identifier of the aggregate
+         */
+        private void prepareSnapshot(String aggregateIdentifier) {
+            if (!CurrentUnitOfWork.isStarted()) {
+                scheduleSnapshot(aggregateIdentifier);
+            } else if (initialized) {
+                CurrentUnitOfWork.get().onPrepareCommit(__ -> scheduleSnapshot(aggregateIdentifier));
+            } else {
+                CurrentUnitOfWork.get().onCleanup(__ -> scheduleSnapshot(aggregateIdentifier));
+            }
+        }
+
+        /**
+         * Requests a snapshot of the aggregate from the scheduler.
+         *
+         * @param aggregateIdentifier the identifier of the aggregate
+         */
+        private void scheduleSnapshot(String aggregateIdentifier) {
+            val snapshotScheduler = this.snapshotScheduler;
+            if (snapshotScheduler != null) {
+                snapshotScheduler.scheduleSnapshot(aggregateType, aggregateIdentifier);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package showcase.command;
+
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel tracking the ticks at which something is due.
+ *
+ * <p>Level {@code i} of the wheel has {@code wheelSize} buckets, each spanning {@code wheelSize^i} ticks, so adding a
+ * tick and expiring the current one are both constant-time regardless of how far ahead the tick is. A tick is placed
+ * in the lowest level whose window covers it and cascades down to the lower levels as the wheel advances into its
+ * bucket. Levels are added on demand. Several additions of the same tick are tracked once.
+ *
+ * <p>Not thread-safe: the callers must synchronize access to the wheel.
+ */
+final class ShowcaseTimingWheel {
+    /**
+     * The number of buckets in each level.
+     */
+    private final int wheelSize;
+
+    /**
+     * The buckets of each level, holding the pending ticks.
+     */
+    private final List<List<Set<Long>>> levels = new ArrayList<>();
+
+    /**
+     * The pending ticks, regardless of their level.
+     */
+    private final Set<Long> pendingTicks = new HashSet<>();
+
+    /**
+     * The tick the wheel has advanced to.
+     */
+    private long currentTick;
+
+    /**
+     * Creates a wheel starting at the given tick.
+     *
+     * @param wheelSize   the number of buckets in each level, at least two
+     * @param currentTick the tick the wheel starts at
+     */
+    ShowcaseTimingWheel(int wheelSize, long currentTick) {
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("Wheel size must be at least 2, but was " + wheelSize);
+        }
+
+        this.wheelSize = wheelSize;
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * Returns the tick the wheel has advanced to.
+     *
+     * @return the current tick
+     */
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of pending ticks.
+     *
+     * @return the number of distinct ticks added and not yet expired
+     */
+    int size() {
+        return pendingTicks.size();
+    }
+
+    /**
+     * Adds a tick to the wheel.
+     *
+     * @param tick the tick at which something is due
+     * @return {@code true} if the tick is newly pending, {@code false} if it is already pending or not after the
+     * current tick
+     */
+    boolean add(long tick) {
+        if (tick <= currentTick || !pendingTicks.add(tick)) {
+            return false;
+        }
+
+        place(tick);
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given tick, expiring the pending ticks on the way.
+     *
+     * @param targetTick the tick to advance to
+     * @return the number of expired ticks
+     */
+    int advanceTo(long targetTick) {
+        var expired = 0;
+        while (currentTick < targetTick) {
+            if (pendingTicks.isEmpty()) {
+                currentTick = targetTick;
+                break;
+            }
+
+            currentTick++;
+
+            var span = 1L;
+            for (int level = 1; level < levels.size(); level++) {
+                span *= wheelSize;
+                if (currentTick % span == 0) {
+                    val bucket = levels.get(level).get((int) ((currentTick / span) % wheelSize));
+                    val cascading = List.copyOf(bucket);
+                    bucket.clear();
+                    for (val tick : cascading) {
+                        if (tick <= currentTick) {
+                            pendingTicks.remove(tick);
+                            expired++;
+                        } else {
+                            place(tick);
+                        }
+                    }
+                }
+            }
+
+            if (!levels.isEmpty()) {
+                val bucket = levels.getFirst().get((int) (currentTick % wheelSize));
+                for (val tick : bucket) {
+                    pendingTicks.remove(tick);
+                    expired++;
+                }
+                bucket.clear();
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Places a pending tick in the bucket of the lowest level whose window covers it.
+     *
+     * @param tick the tick to place, after the current tick
+     */
+    private void place(long tick) {
+        var span = 1L;
+        for (int level = 0; ; level++) {
+            val windowStart = currentTick - currentTick % span;
+            if (tick < windowStart + span * wheelSize) {
+                bucketsOf(level).get((int) ((tick / span) % wheelSize)).add(tick);
+                return;
+            }
+            span *= wheelSize;
+        }
+    }
+
+    /**
+     * Returns the buckets of the given level, adding the missing levels up to it.
+     *
+     * @param level the level to return the buckets of
+     * @return the buckets of the level
+     */
+    private List<Set<Long>> bucketsOf(int level) {
+        while (levels.size() <= level) {
+            val buckets = new ArrayList<Set<Long>>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new HashSet<>());
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level);
+    }
+}
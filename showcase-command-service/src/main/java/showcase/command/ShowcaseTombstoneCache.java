@@ -0,0 +1,171 @@
+package showcase.command;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventsourcing.AggregateDeletedException;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.modelling.command.AggregateNotFoundException;
+import org.jspecify.annotations.Nullable;
+import showcase.command.ShowcaseCommandProperties.TombstoneCache;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+/**
+ * Answers the commands targeting removed or unknown showcases on this node without loading the aggregate.
+ *
+ * <p>As a handler interceptor of the command bus, the cache keeps the IDs of the showcases found removed or missing
+ * when loading their aggregate, and fails the start, finish, and remove commands targeting them with the same
+ * {@link AggregateDeletedException} or {@link AggregateNotFoundException} the repository would have thrown after
+ * reading their events, leaving their translation to the command message interceptor. Schedule commands are never
+ * answered from the cache, as they create the showcases.
+ *
+ * <p>As a dispatch interceptor of the event store, the cache records a showcase as removed once the unit of work
+ * applying its {@link ShowcaseRemovedEvent} commits, and forgets a showcase found missing as soon as an event is
+ * applied on it. As the aggregate lock is held while the cache is updated, and the commands of a showcase are routed to
+ * the node owning it in the consistent hash, the cache needs no coordination between nodes, and is cleared whenever the
+ * consistent hash changes.
+ *
+ * <p>The cache records the answered commands as the {@code showcaseTombstoneCache.hits} counter, tagged with the
+ * {@code state} of their showcase.
+ */
+final class ShowcaseTombstoneCache
+        implements MessageHandlerInterceptor<CommandMessage<?>>, MessageDispatchInterceptor<EventMessage<?>> {
+
+    private static final String METER_NAME_PREFIX = "showcaseTombstoneCache";
+
+    /**
+     * The state of a showcase known to have no live aggregate.
+     */
+    private enum State {
+        /**
+         * The showcase has been removed.
+         */
+        REMOVED,
+
+        /**
+         * The showcase has never been scheduled.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * The states of the showcases with no live aggregate on this node, keyed by showcase ID.
+     */
+    private final Cache<String, State> states;
+
+    /**
+     * The counter of the commands answered for removed showcases.
+     */
+    private final Counter removedHitCounter;
+
+    /**
+     * The counter of the commands answered for unknown showcases.
+     */
+    private final Counter unknownHitCounter;
+
+    ShowcaseTombstoneCache(TombstoneCache tombstoneCacheProperties, MeterRegistry meterRegistry) {
+        this.states =
+                Caffeine.newBuilder()
+                        .maximumSize(tombstoneCacheProperties.getMaximumSize())
+                        .expireAfterWrite(tombstoneCacheProperties.getExpiresAfterWrite())
+                        .build();
+        this.removedHitCounter = hitCounter(State.REMOVED, meterRegistry);
+        this.unknownHitCounter = hitCounter(State.UNKNOWN, meterRegistry);
+    }
+
+    /**
+     * Fails a command targeting a showcase known as removed or unknown, and proceeds with the others, recording their
+     * showcase if its aggregate is found removed or missing.
+     *
+     * @param unitOfWork       the unit of work of the command
+     * @param interceptorChain the chain proceeding with the handling
+     * @return the result of the command
+     * @throws Exception if the command handling fails
+     */
+    @Override
+    public @Nullable Object handle(
+            UnitOfWork<? extends CommandMessage<?>> unitOfWork,
+            InterceptorChain interceptorChain) throws Exception {
+        if (!(unitOfWork.getMessage().getPayload() instanceof ShowcaseCommand showcaseCommand)
+                    || showcaseCommand instanceof ScheduleShowcaseCommand) {
+            return interceptorChain.proceed();
+        }
+
+        val showcaseId = showcaseCommand.showcaseId();
+        val state = states.getIfPresent(showcaseId);
+        if (state == State.REMOVED) {
+            removedHitCounter.increment();
+            throw new AggregateDeletedException(
+                    showcaseId, "Aggregate with identifier [" + showcaseId + "] not found. It has been deleted.");
+        } else if (state == State.UNKNOWN) {
+            unknownHitCounter.increment();
+            throw new AggregateNotFoundException(
+                    showcaseId, "Aggregate with identifier [" + showcaseId + "] not found.");
+        }
+
+        try {
+            return interceptorChain.proceed();
+        } catch (AggregateDeletedException e) {
+            states.put(showcaseId, State.REMOVED);
+            throw e;
+        } catch (AggregateNotFoundException e) {
+            states.put(showcaseId, State.UNKNOWN);
+            throw e;
+        }
+    }
+
+    /**
+     * Records the showcases of the removal events as removed once committed, and forgets the showcases of the other
+     * applied events.
+     *
+     * @param messages the events being published on the event store
+     * @return the function recording the showcase of every domain event
+     */
+    @Override
+    public BiFunction<Integer, EventMessage<?>, EventMessage<?>> handle(List<? extends EventMessage<?>> messages) {
+        return (index, message) -> {
+            if (message instanceof DomainEventMessage<?> domainEvent) {
+                val showcaseId = domainEvent.getAggregateIdentifier();
+                if (domainEvent.getPayload() instanceof ShowcaseRemovedEvent && CurrentUnitOfWork.isStarted()) {
+                    CurrentUnitOfWork.get().afterCommit(__ -> states.put(showcaseId, State.REMOVED));
+                } else {
+                    states.invalidate(showcaseId);
+                }
+            }
+            return message;
+        };
+    }
+
+    /**
+     * Forgets all the showcases, as their ownership may have moved to other nodes.
+     */
+    void clear() {
+        states.invalidateAll();
+    }
+
+    /**
+     * Registers the counter of the commands answered for the showcases in the given state.
+     *
+     * @param state         the state of the showcases
+     * @param meterRegistry the Micrometer meter registry
+     * @return the registered counter
+     */
+    private static Counter hitCounter(State state, MeterRegistry meterRegistry) {
+        return Counter.builder(METER_NAME_PREFIX + ".hits")
+                      .description("Number of showcase commands answered from the tombstone cache")
+                      .tag("state", state.name().toLowerCase(Locale.ROOT))
+                      .register(meterRegistry);
+    }
+}
@@ -0,0 +1,6 @@
+CREATE TABLE showcase_publication_watermark
+(
+    aggregate_identifier   VARCHAR(255) PRIMARY KEY,
+    sequence_number        BIGINT NOT NULL,
+    failed_sequence_number BIGINT
+);
@@ -0,0 +1,90 @@
+package showcase.command;
+
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Showcase timing wheel unit tests")
+class ShowcaseTimingWheelTests {
+
+    @Test
+    @DisplayName("A wheel smaller than two buckets is rejected")
+    void new_wheelSizeBelowTwo_isRejected() {
+        assertThatThrownBy(() -> new ShowcaseTimingWheel(1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("A tick not after the current tick is not added")
+    void add_tickNotAfterCurrentTick_isNotAdded() {
+        val wheel = new ShowcaseTimingWheel(8, 100);
+
+        assertThat(wheel.add(100)).isFalse();
+        assertThat(wheel.add(99)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("The same tick is tracked once")
+    void add_sameTickTwice_isTrackedOnce() {
+        val wheel = new ShowcaseTimingWheel(8, 0);
+
+        assertThat(wheel.add(5)).isTrue();
+        assertThat(wheel.add(5)).isFalse();
+        assertThat(wheel.size()).isOne();
+        assertThat(wheel.advanceTo(5)).isOne();
+    }
+
+    @Test
+    @DisplayName("A tick within the first level expires exactly when the wheel reaches it")
+    void advanceTo_tickWithinFirstLevel_expiresAtItsTick() {
+        val wheel = new ShowcaseTimingWheel(8, 0);
+        wheel.add(3);
+
+        assertThat(wheel.advanceTo(2)).isZero();
+        assertThat(wheel.advanceTo(3)).isOne();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ticks beyond the first level cascade down and expire exactly when the wheel reaches them")
+    void advanceTo_ticksBeyondFirstLevel_expireAtTheirTicks() {
+        val wheel = new ShowcaseTimingWheel(4, 1);
+        val ticks = Set.of(2L, 4L, 5L, 7L, 16L, 17L, 63L, 64L, 65L, 300L);
+        ticks.forEach(wheel::add);
+
+        for (long tick = 2; tick <= 300; tick++) {
+            assertThat(wheel.advanceTo(tick))
+                    .as("expired at tick %d", tick)
+                    .isEqualTo(ticks.contains(tick) ? 1 : 0);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Advancing over several ticks at once expires all the ticks passed")
+    void advanceTo_severalTicksAtOnce_expiresAllPassedTicks() {
+        val wheel = new ShowcaseTimingWheel(4, 0);
+        wheel.add(1);
+        wheel.add(10);
+        wheel.add(100);
+
+        assertThat(wheel.advanceTo(50)).isEqualTo(2);
+        assertThat(wheel.size()).isOne();
+        assertThat(wheel.advanceTo(100)).isOne();
+    }
+
+    @Test
+    @DisplayName("An empty wheel jumps straight to the target tick")
+    void advanceTo_emptyWheel_jumpsToTargetTick() {
+        val wheel = new ShowcaseTimingWheel(8, 0);
+
+        assertThat(wheel.advanceTo(Long.MAX_VALUE / 2)).isZero();
+        assertThat(wheel.currentTick()).isEqualTo(Long.MAX_VALUE / 2);
+    }
+}
@@ -0,0 +1,19 @@
+plugins {
+    id("java-library-conventions")
+    id("code-coverage-conventions")
+}
+
+project.description = "Showcase JGroups Extension"
+
+dependencies {
+    implementation(platform(project(":platform")))
+
+    api(libs.axon.messaging)
+    api(libs.micrometer.core)
+    api(project(":showcase-serialization-extension"))
+
+    implementation(libs.jackson2.databind)
+
+    testImplementation(project(":showcase-test"))
+    testImplementation(libs.mockito.core)
+}
@@ -0,0 +1,216 @@
+package showcase.jgroups;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.distributed.RoutingStrategy;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.serialization.Serializer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+
+/**
+ * Local segment decorator unpacking the {@link CommandBatch} frames received from the other members.
+ *
+ * <p>Given to the connector of the distributed command bus in place of the local segment, so the received batches are
+ * unpacked on the receive path of the connector, before reaching the local segment: a batch takes no unit of work,
+ * transaction, interceptor, or permit of its own, only its commands do. The commands sharing a routing key are
+ * dispatched in the order they were sent, each once the previous one has completed, and the others in parallel, each
+ * on its own virtual thread. Once all of them have completed, the batch is replied with their results in order. No
+ * thread waits for the commands of a batch to complete.
+ *
+ * <p>Every other command is passed to the local segment as is, as are the handler subscriptions and the interceptor
+ * registrations.
+ */
+@Slf4j
+public final class BatchUnpackingCommandBus implements CommandBus {
+
+    /**
+     * The local segment the commands are dispatched on.
+     */
+    private final CommandBus localSegment;
+
+    /**
+     * The codec of the commands and results carried in batches.
+     */
+    private final CommandBatchCodec codec;
+
+    /**
+     * The routing strategy resolving the routing key of the batched commands.
+     */
+    private final RoutingStrategy routingStrategy;
+
+    /**
+     * The executor dispatching the commands of the received batches.
+     */
+    private final ExecutorService dispatchExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("showcase-batched-command-", 0).factory());
+
+    /**
+     * Creates a decorator of the given local segment.
+     *
+     * @param localSegment    the local segment the commands are dispatched on
+     * @param serializer      the serializer of the commands and results carried in batches
+     * @param routingStrategy the routing strategy resolving the routing key of the batched commands
+     */
+    public BatchUnpackingCommandBus(CommandBus localSegment, Serializer serializer, RoutingStrategy routingStrategy) {
+        this.localSegment = localSegment;
+        this.codec = new CommandBatchCodec(serializer);
+        this.routingStrategy = routingStrategy;
+    }
+
+    /**
+     * Dispatches the commands of the given batch, or the given command as is if it is not a batch.
+     *
+     * @param command  the command to dispatch
+     * @param callback the callback notified of the command result, or of the batch result
+     * @param <C>      the type of the command payload
+     * @param <R>      the type of the command result
+     */
+    @Override
+    public <C, R> void dispatch(CommandMessage<C> command, CommandCallback<? super C, ? super R> callback) {
+        if (!BatchingCommandBusConnector.BATCH_COMMAND_NAME.equals(command.getCommandName())) {
+            localSegment.dispatch(command, callback);
+            return;
+        }
+
+        val commands = ((CommandBatch) command.getPayload()).commands();
+        val results = new CommandResultMessage<?>[commands.size()];
+        val completions = new CompletableFuture<?>[commands.size()];
+        val lanes = new HashMap<String, CompletableFuture<?>>();
+        for (int i = 0; i < commands.size(); i++) {
+            val index = i;
+            CommandMessage<Object> batchedCommand;
+            String routingKey;
+            try {
+                batchedCommand = codec.deserialize(commands.get(index));
+                routingKey = routingStrategy.getRoutingKey(batchedCommand);
+            } catch (RuntimeException e) {
+                results[index] = asCommandResultMessage(e);
+                completions[index] = CompletableFuture.completedFuture(null);
+                continue;
+            }
+
+            val previous = lanes.getOrDefault(routingKey, CompletableFuture.completedFuture(null));
+            val completion =
+                    previous.thenComposeAsync(__ -> dispatchLocally(batchedCommand), dispatchExecutor)
+                            .thenAccept(result -> results[index] = result);
+            lanes.put(routingKey, completion);
+            completions[index] = completion;
+        }
+
+        CompletableFuture.allOf(completions)
+                         .whenComplete((__, e) -> reply(command, callback, results, e));
+    }
+
+    /**
+     * Subscribes the given handler to the local segment.
+     *
+     * @param commandName the name of the commands to handle
+     * @param handler     the handler of the commands
+     * @return the handle to unsubscribe the handler
+     */
+    @Override
+    public Registration subscribe(String commandName, MessageHandler<? super CommandMessage<?>> handler) {
+        return localSegment.subscribe(commandName, handler);
+    }
+
+    /**
+     * Registers the given handler interceptor to the local segment.
+     *
+     * @param handlerInterceptor the interceptor to register
+     * @return the handle to unregister the interceptor
+     */
+    @Override
+    public Registration registerHandlerInterceptor(
+            MessageHandlerInterceptor<? super CommandMessage<?>> handlerInterceptor) {
+        return localSegment.registerHandlerInterceptor(handlerInterceptor);
+    }
+
+    /**
+     * Registers the given dispatch interceptor to the local segment.
+     *
+     * @param dispatchInterceptor the interceptor to register
+     * @return the handle to unregister the interceptor
+     */
+    @Override
+    public Registration registerDispatchInterceptor(
+            MessageDispatchInterceptor<? super CommandMessage<?>> dispatchInterceptor) {
+        return localSegment.registerDispatchInterceptor(dispatchInterceptor);
+    }
+
+    /**
+     * Dispatches a batched command on the local segment.
+     *
+     * @param command the batched command
+     * @return the future completed with the command result, never exceptionally
+     */
+    private CompletableFuture<CommandResultMessage<?>> dispatchLocally(CommandMessage<Object> command) {
+        val future = new CompletableFuture<CommandResultMessage<?>>();
+        try {
+            CommandCallback<Object, Object> callback = (message, result) -> future.complete(result);
+            localSegment.dispatch(command, callback);
+        } catch (RuntimeException e) {
+            future.complete(asCommandResultMessage(e));
+        }
+        return future;
+    }
+
+    /**
+     * Replies to a batch with the results of its commands, in order.
+     *
+     * @param command   the command carrying the batch
+     * @param callback  the callback notified of the batch result
+     * @param results   the results of the commands of the batch, in order
+     * @param exception the failure of the dispatch of the commands, if any
+     */
+    @SuppressWarnings("unchecked")
+    private void reply(
+            CommandMessage<?> command,
+            CommandCallback<?, ?> callback,
+            @Nullable CommandResultMessage<?>[] results,
+            @Nullable Throwable exception) {
+        CommandResultMessage<?> batchResult;
+        if (exception != null) {
+            batchResult = asCommandResultMessage(exception);
+        } else {
+            try {
+                val commandBatchResult = CommandBatchResult.builder();
+                for (val result : results) {
+                    commandBatchResult.result(codec.serialize(requireResult(result)));
+                }
+                batchResult = asCommandResultMessage(commandBatchResult.build());
+            } catch (RuntimeException e) {
+                log.warn("Failed to reply to batch of {} commands", results.length, e);
+
+                batchResult = asCommandResultMessage(e);
+            }
+        }
+        ((CommandCallback<Object, Object>) callback).onResult(command, batchResult);
+    }
+
+    /**
+     * Returns the given result of a completed command.
+     *
+     * @param result the result, set once the command has completed
+     * @return the result
+     */
+    private static CommandResultMessage<?> requireResult(@Nullable CommandResultMessage<?> result) {
+        if (result == null) {
+            throw new IllegalStateException("Batched command completed without result");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,477 @@
+package showcase.jgroups;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandExecutionException;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.distributed.CommandBusConnector;
+import org.axonframework.commandhandling.distributed.Member;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.serialization.Serializer;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+
+/**
+ * Command bus connector coalescing the commands bound for the same member into a single {@link CommandBatch} frame.
+ *
+ * <p>Decorates the connector of a distributed command bus, typically the JGroups connector. When batching is enabled,
+ * a command sent to a remote member joins the pending batch of that member, which is sent once it holds the maximum
+ * batch size or its oldest command has waited the maximum delay, so the frame and its reply are serialized and
+ * transmitted once for all of its commands. A batch holding a single command is sent as is, and the commands sent to
+ * the local member are never batched.
+ *
+ * <p>The receiving member unpacks the batch with a {@link BatchUnpackingCommandBus} decorating its local segment, and
+ * replies with the results of its commands in order, which are demultiplexed to the callbacks of the original
+ * commands. The failure details are carried over, so a failed command reports a {@link CommandExecutionException} with
+ * the same details as when sent on its own. Every member must therefore receive through a
+ * {@link BatchUnpackingCommandBus} before any member enables batching.
+ *
+ * <p>The size of the sent batches is recorded as the {@code showcaseCommandBatching.batchSize} distribution and the
+ * time the commands wait in a pending batch as the {@code showcaseCommandBatching.queueingDelay} timer, both with
+ * percentile histograms.
+ */
+@Slf4j
+public final class BatchingCommandBusConnector implements CommandBusConnector {
+
+    private static final String METER_NAME_PREFIX = "showcaseCommandBatching";
+
+    /**
+     * The name of the command carrying a batch.
+     */
+    static final String BATCH_COMMAND_NAME = CommandBatch.class.getName();
+
+    /**
+     * The connector sending the batches and the commands not batched.
+     */
+    private final CommandBusConnector delegate;
+
+    /**
+     * The codec of the commands and results carried in batches.
+     */
+    private final CommandBatchCodec codec;
+
+    /**
+     * Whether the commands sent to remote members are batched.
+     */
+    private final boolean enabled;
+
+    /**
+     * The number of commands at which a pending batch is sent.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The time after which a pending batch is sent, counted from its oldest command.
+     */
+    private final Duration maxDelay;
+
+    /**
+     * The pending batches keyed by the name of their destination member, guarded by {@link #lock}.
+     */
+    private final Map<String, PendingBatch> pendingBatches = new HashMap<>();
+
+    /**
+     * The lock guarding {@link #pendingBatches}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The scheduler sending the pending batches whose maximum delay has elapsed.
+     */
+    private final ScheduledExecutorService flushScheduler;
+
+    /**
+     * The distribution of the sent batch sizes.
+     */
+    private final DistributionSummary batchSizeDistribution;
+
+    /**
+     * The timer of the time commands wait in a pending batch.
+     */
+    private final Timer queueingDelayTimer;
+
+    /**
+     * Creates a connector decorating the given one.
+     *
+     * @param delegate      the connector sending the batches and the commands not batched
+     * @param serializer    the serializer of the commands and results carried in batches
+     * @param enabled       whether the commands sent to remote members are batched
+     * @param maxBatchSize  the number of commands at which a pending batch is sent, at least one
+     * @param maxDelay      the time after which a pending batch is sent, counted from its oldest command
+     * @param meterRegistry the registry to which the batching metrics are registered
+     */
+    public BatchingCommandBusConnector(
+            CommandBusConnector delegate,
+            Serializer serializer,
+            boolean enabled,
+            int maxBatchSize,
+            Duration maxDelay,
+            MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1, but was " + maxBatchSize);
+        }
+
+        this.delegate = delegate;
+        this.codec = new CommandBatchCodec(serializer);
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("showcase-command-batcher").factory());
+        this.batchSizeDistribution =
+                DistributionSummary
+                        .builder(METER_NAME_PREFIX + ".batchSize")
+                        .description("Size of sent command batches (in commands)")
+                        .baseUnit("commands")
+                        .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                        .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1d)
+                        .maximumExpectedValue((double) maxBatchSize)
+                        .register(meterRegistry);
+        this.queueingDelayTimer =
+                Timer.builder(METER_NAME_PREFIX + ".queueingDelay")
+                     .description("Time commands wait in a pending batch before it is sent")
+                     .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                     .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                     .publishPercentileHistogram()
+                     .maximumExpectedValue(maxDelay.multipliedBy(2))
+                     .register(meterRegistry);
+    }
+
+    /**
+     * Sends the given command to the given member without expecting a reply, batching it if applicable.
+     *
+     * @param destination the member to send the command to
+     * @param command     the command to send
+     * @param <C>         the type of the command payload
+     * @throws Exception if the command is not batched and the delegate fails to send it
+     */
+    @Override
+    public <C> void send(Member destination, CommandMessage<? extends C> command) throws Exception {
+        if (batching(destination)) {
+            enqueue(destination, command, null);
+        } else {
+            delegate.send(destination, command);
+        }
+    }
+
+    /**
+     * Sends the given command to the given member, batching it if applicable.
+     *
+     * @param destination the member to send the command to
+     * @param command     the command to send
+     * @param callback    the callback notified of the command result
+     * @param <C>         the type of the command payload
+     * @param <R>         the type of the command result
+     * @throws Exception if the command is not batched and the delegate fails to send it
+     */
+    @Override
+    public <C, R> void send(Member destination, CommandMessage<C> command, CommandCallback<? super C, R> callback)
+            throws Exception {
+        if (batching(destination)) {
+            enqueue(destination, command, callback);
+        } else {
+            delegate.send(destination, command, callback);
+        }
+    }
+
+    /**
+     * Subscribes the given handler to the delegate.
+     *
+     * @param commandName the name of the commands to handle
+     * @param handler     the handler of the commands
+     * @return the handle to unsubscribe the handler
+     */
+    @Override
+    public Registration subscribe(String commandName, MessageHandler<? super CommandMessage<?>> handler) {
+        return delegate.subscribe(commandName, handler);
+    }
+
+    /**
+     * Returns the local segment of the delegate.
+     *
+     * @return the local segment, if any
+     */
+    @Override
+    public Optional<CommandBus> localSegment() {
+        return delegate.localSegment();
+    }
+
+    /**
+     * Registers the given handler interceptor to the delegate.
+     *
+     * @param handlerInterceptor the interceptor to register
+     * @return the handle to unregister the interceptor
+     */
+    @Override
+    public Registration registerHandlerInterceptor(
+            MessageHandlerInterceptor<? super CommandMessage<?>> handlerInterceptor) {
+        return delegate.registerHandlerInterceptor(handlerInterceptor);
+    }
+
+    /**
+     * Sends the pending batches right away, stops batching and shuts the delegate down.
+     *
+     * @return the future completed once the delegate is shut down
+     */
+    @Override
+    public CompletableFuture<Void> initiateShutdown() {
+        flushScheduler.shutdown();
+
+        List<PendingBatch> batches;
+        lock.lock();
+        try {
+            batches = List.copyOf(pendingBatches.values());
+            pendingBatches.clear();
+        } finally {
+            lock.unlock();
+        }
+        batches.forEach(this::dispatch);
+
+        return delegate.initiateShutdown();
+    }
+
+    /**
+     * Returns whether the commands sent to the given member are batched.
+     *
+     * @param destination the member the commands are sent to
+     * @return {@code true} if batching is enabled and running, and the member is remote
+     */
+    private boolean batching(Member destination) {
+        return enabled && !destination.local() && !flushScheduler.isShutdown();
+    }
+
+    /**
+     * Adds a command to the pending batch of the given member, and sends the batch if it becomes full.
+     *
+     * @param destination the member to send the command to
+     * @param command     the command to send
+     * @param callback    the callback notified of the command result, or {@code null} if no reply is expected
+     */
+    private void enqueue(Member destination, CommandMessage<?> command, @Nullable CommandCallback<?, ?> callback) {
+        val pendingCommand = new PendingCommand(command, callback, System.nanoTime());
+
+        PendingBatch fullBatch = null;
+        lock.lock();
+        try {
+            var batch = pendingBatches.get(destination.name());
+            if (batch == null) {
+                batch = new PendingBatch(destination);
+                pendingBatches.put(destination.name(), batch);
+
+                val scheduledBatch = batch;
+                flushScheduler.schedule(() -> flushExpired(scheduledBatch), maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            batch.commands.add(pendingCommand);
+            if (batch.commands.size() >= maxBatchSize) {
+                pendingBatches.remove(destination.name());
+                fullBatch = batch;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+    }
+
+    /**
+     * Sends the given batch if it is still pending once its maximum delay has elapsed.
+     *
+     * @param batch the batch to send
+     */
+    private void flushExpired(PendingBatch batch) {
+        boolean expired;
+        lock.lock();
+        try {
+            expired = pendingBatches.remove(batch.destination.name(), batch);
+        } finally {
+            lock.unlock();
+        }
+
+        if (expired) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Sends the given batch, or its command alone if it holds only one.
+     *
+     * @param batch the batch to send
+     */
+    private void dispatch(PendingBatch batch) {
+        val commands = batch.commands;
+        val now = System.nanoTime();
+        batchSizeDistribution.record(commands.size());
+        for (val pendingCommand : commands) {
+            queueingDelayTimer.record(now - pendingCommand.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+
+        if (commands.size() == 1) {
+            dispatchAlone(batch.destination, commands.getFirst());
+            return;
+        }
+
+        try {
+            val commandBatch = CommandBatch.builder();
+            for (val pendingCommand : commands) {
+                commandBatch.command(codec.serialize(pendingCommand.command()));
+            }
+            CommandCallback<CommandBatch, Object> callback =
+                    (message, batchResult) -> demultiplex(commands, batchResult);
+            delegate.send(batch.destination, GenericCommandMessage.asCommandMessage(commandBatch.build()), callback);
+
+            log.trace("Sent batch of {} commands to {}", commands.size(), batch.destination.name());
+        } catch (Exception e) {
+            log.warn("Failed to send batch of {} commands to {}", commands.size(), batch.destination.name(), e);
+
+            fail(commands, e);
+        }
+    }
+
+    /**
+     * Sends a command on its own.
+     *
+     * @param destination    the member to send the command to
+     * @param pendingCommand the command to send
+     */
+    private void dispatchAlone(Member destination, PendingCommand pendingCommand) {
+        try {
+            pendingCommand.send(delegate, destination);
+        } catch (Exception e) {
+            pendingCommand.complete(asCommandResultMessage(e));
+        }
+    }
+
+    /**
+     * Notifies the callbacks of the batched commands of their results.
+     *
+     * @param commands    the commands of the batch, in order
+     * @param batchResult the result of the batch
+     */
+    private void demultiplex(List<PendingCommand> commands, CommandResultMessage<?> batchResult) {
+        if (batchResult.isExceptional()) {
+            fail(commands, batchResult.exceptionResult());
+            return;
+        }
+
+        val results = ((CommandBatchResult) batchResult.getPayload()).results();
+        if (results.size() != commands.size()) {
+            fail(commands, new IllegalStateException(
+                    "Received %d results for a batch of %d commands".formatted(results.size(), commands.size())));
+            return;
+        }
+
+        for (int i = 0; i < commands.size(); i++) {
+            CommandResultMessage<?> result;
+            try {
+                result = codec.deserialize(results.get(i));
+            } catch (RuntimeException e) {
+                result = asCommandResultMessage(e);
+            }
+            commands.get(i).complete(result);
+        }
+    }
+
+    /**
+     * Notifies the callbacks of the given commands of a failure.
+     *
+     * @param commands  the failed commands
+     * @param exception the failure
+     */
+    private void fail(List<PendingCommand> commands, Throwable exception) {
+        for (val pendingCommand : commands) {
+            pendingCommand.complete(asCommandResultMessage(exception));
+        }
+    }
+
+    /**
+     * The commands pending to be sent to a member.
+     */
+    private static final class PendingBatch {
+        /**
+         * The member the commands are sent to.
+         */
+        private final Member destination;
+
+        /**
+         * The pending commands, in the order they were sent.
+         */
+        private final List<PendingCommand> commands = new ArrayList<>();
+
+        /**
+         * Creates an empty batch.
+         *
+         * @param destination the member the commands are sent to
+         */
+        private PendingBatch(Member destination) {
+            this.destination = destination;
+        }
+    }
+
+    /**
+     * A command pending in a batch.
+     *
+     * @param command    the command
+     * @param callback   the callback notified of the command result, or {@code null} if no reply is expected
+     * @param enqueuedAt the {@link System#nanoTime()} at which the command joined the batch
+     */
+    private record PendingCommand(
+            CommandMessage<?> command,
+            @Nullable CommandCallback<?, ?> callback,
+            long enqueuedAt) {
+        /**
+         * Sends the command on its own through the given connector.
+         *
+         * @param connector   the connector to send the command through
+         * @param destination the member to send the command to
+         * @throws Exception if the connector fails to send the command
+         */
+        @SuppressWarnings("unchecked")
+        void send(CommandBusConnector connector, Member destination) throws Exception {
+            if (callback == null) {
+                connector.send(destination, command);
+            } else {
+                connector.send(
+                        destination, (CommandMessage<Object>) command, (CommandCallback<Object, Object>) callback);
+            }
+        }
+
+        /**
+         * Notifies the callback of the command result, if any.
+         *
+         * @param result the command result
+         */
+        @SuppressWarnings("unchecked")
+        void complete(CommandResultMessage<?> result) {
+            if (callback != null) {
+                ((CommandCallback<Object, Object>) callback).onResult(command, result);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package showcase.jgroups;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import org.jspecify.annotations.NullUnmarked;
+import showcase.serialization.SerializedValue;
+
+import java.util.List;
+
+/**
+ * Frame carrying the commands bound for the same member, sent as a single command.
+ *
+ * <p>The commands are carried serialized, so a frame is serialized once for all of them, and are unpacked by the
+ * {@link BatchUnpackingCommandBus} of the receiving member.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@Builder
+@Jacksonized
+@NullUnmarked
+@SuppressWarnings("ClassCanBeRecord")
+public class CommandBatch {
+    /**
+     * A command carried in a batch.
+     */
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Accessors(fluent = true)
+    @Builder
+    @Jacksonized
+    @NullUnmarked
+    @SuppressWarnings("ClassCanBeRecord")
+    public static class Command {
+        /**
+         * The identifier of the command message.
+         */
+        @NonNull
+        String messageIdentifier;
+
+        /**
+         * The name of the command.
+         */
+        @NonNull
+        String commandName;
+
+        /**
+         * The serialized payload of the command.
+         */
+        @NonNull
+        SerializedValue payload;
+
+        /**
+         * The serialized metadata of the command.
+         */
+        @NonNull
+        SerializedValue metaData;
+    }
+
+    /**
+     * The commands of the batch, in the order they were sent.
+     */
+    @NonNull
+    @Singular
+    List<Command> commands;
+}
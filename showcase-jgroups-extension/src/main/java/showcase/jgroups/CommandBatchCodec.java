@@ -0,0 +1,105 @@
+package showcase.jgroups;
+
+import lombok.val;
+import org.axonframework.commandhandling.CommandExecutionException;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.GenericCommandResultMessage;
+import org.axonframework.messaging.GenericMessage;
+import org.axonframework.messaging.HandlerExecutionException;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.Serializer;
+import showcase.serialization.SerializedValue;
+
+import static java.util.Objects.requireNonNullElse;
+
+/**
+ * Serializes the commands carried in a {@link CommandBatch} and the results carried in a {@link CommandBatchResult},
+ * on both the sending and the receiving member.
+ */
+final class CommandBatchCodec {
+
+    /**
+     * The serializer of the commands and results carried in batches.
+     */
+    private final Serializer serializer;
+
+    /**
+     * Creates a codec.
+     *
+     * @param serializer the serializer of the commands and results carried in batches
+     */
+    CommandBatchCodec(Serializer serializer) {
+        this.serializer = serializer;
+    }
+
+    /**
+     * Serializes a command to be carried in a batch.
+     *
+     * @param command the command to serialize
+     * @return the serialized command
+     */
+    CommandBatch.Command serialize(CommandMessage<?> command) {
+        return CommandBatch.Command
+                       .builder()
+                       .messageIdentifier(command.getIdentifier())
+                       .commandName(command.getCommandName())
+                       .payload(SerializedValue.serialize(command.getPayload(), serializer))
+                       .metaData(SerializedValue.serialize(command.getMetaData(), serializer))
+                       .build();
+    }
+
+    /**
+     * Deserializes a command carried in a batch.
+     *
+     * @param command the serialized command
+     * @return the command message, with its original identifier and metadata
+     */
+    CommandMessage<Object> deserialize(CommandBatch.Command command) {
+        Object payload = command.payload().deserialize(serializer);
+        MetaData metaData = requireNonNullElse(command.metaData().deserialize(serializer), MetaData.emptyInstance());
+        return new GenericCommandMessage<>(
+                new GenericMessage<>(command.messageIdentifier(), payload, metaData), command.commandName());
+    }
+
+    /**
+     * Serializes a command result to be carried in a batch result.
+     *
+     * @param result the result to serialize
+     * @return the serialized result, carrying the failure message and details if the command failed
+     */
+    CommandBatchResult.Result serialize(CommandResultMessage<?> result) {
+        val serializedResult =
+                CommandBatchResult.Result
+                        .builder()
+                        .metaData(SerializedValue.serialize(result.getMetaData(), serializer));
+        if (result.isExceptional()) {
+            val exception = result.exceptionResult();
+            serializedResult.exceptional(true)
+                            .exceptionMessage(exception.getMessage());
+            HandlerExecutionException.resolveDetails(exception)
+                                     .ifPresent(details -> serializedResult.payload(
+                                             SerializedValue.serialize(details, serializer)));
+        } else if (result.getPayload() != null) {
+            serializedResult.payload(SerializedValue.serialize(result.getPayload(), serializer));
+        }
+        return serializedResult.build();
+    }
+
+    /**
+     * Deserializes a command result carried in a batch result.
+     *
+     * @param result the serialized result
+     * @return the result message, exceptional with a {@link CommandExecutionException} if the command failed
+     */
+    CommandResultMessage<?> deserialize(CommandBatchResult.Result result) {
+        MetaData metaData = requireNonNullElse(result.metaData().deserialize(serializer), MetaData.emptyInstance());
+        Object payload = result.payload() != null ? result.payload().deserialize(serializer) : null;
+        if (result.exceptional()) {
+            return new GenericCommandResultMessage<Object>(
+                    new CommandExecutionException(result.exceptionMessage(), null, payload), metaData);
+        }
+        return new GenericCommandResultMessage<>(payload, metaData);
+    }
+}
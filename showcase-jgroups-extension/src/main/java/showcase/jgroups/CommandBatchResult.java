@@ -0,0 +1,66 @@
+package showcase.jgroups;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import org.jspecify.annotations.NullUnmarked;
+import showcase.serialization.SerializedValue;
+
+import java.util.List;
+
+/**
+ * Reply to a {@link CommandBatch}, carrying the result of each of its commands.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@Builder
+@Jacksonized
+@NullUnmarked
+@SuppressWarnings("ClassCanBeRecord")
+public class CommandBatchResult {
+    /**
+     * The result of a command carried in a batch.
+     */
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Accessors(fluent = true)
+    @Builder
+    @Jacksonized
+    @NullUnmarked
+    @SuppressWarnings("ClassCanBeRecord")
+    public static class Result {
+        /**
+         * Whether the command failed.
+         */
+        boolean exceptional;
+
+        /**
+         * The serialized result of the command, or the serialized details of its failure, if any.
+         */
+        SerializedValue payload;
+
+        /**
+         * The serialized metadata of the result.
+         */
+        @NonNull
+        SerializedValue metaData;
+
+        /**
+         * The message of the failure, if the command failed.
+         */
+        String exceptionMessage;
+    }
+
+    /**
+     * The results of the commands, in the order of the commands in the batch.
+     */
+    @NonNull
+    @Singular
+    List<Result> results;
+}
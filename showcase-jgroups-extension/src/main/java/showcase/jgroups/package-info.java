@@ -0,0 +1,7 @@
+/**
+ * JGroups extension: command bus connector batching the commands sent to the same member.
+ */
+@NullMarked
+package showcase.jgroups;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,97 @@
+package showcase.jgroups;
+
+import lombok.val;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Batch unpacking command bus tests")
+class BatchUnpackingCommandBusTests {
+
+    private final JacksonSerializer serializer = JacksonSerializer.defaultSerializer();
+
+    private final CommandBatchCodec codec = new CommandBatchCodec(serializer);
+
+    private final SimpleCommandBus localSegment = SimpleCommandBus.builder().build();
+
+    private final List<String> handledPayloads = new CopyOnWriteArrayList<>();
+
+    private final List<String> interceptedCommandNames = new CopyOnWriteArrayList<>();
+
+    private final BatchUnpackingCommandBus commandBus =
+            new BatchUnpackingCommandBus(
+                    localSegment, serializer, command -> command.getPayload().toString().substring(0, 1));
+
+    @BeforeEach
+    void setUp() {
+        localSegment.subscribe("record", message -> {
+            val payload = (String) message.getPayload();
+            if (payload.endsWith("1")) {
+                Thread.sleep(50);
+            }
+            handledPayloads.add(payload);
+            return "recorded:" + payload;
+        });
+        MessageHandlerInterceptor<CommandMessage<?>> interceptor = (unitOfWork, chain) -> {
+            interceptedCommandNames.add(unitOfWork.getMessage().getCommandName());
+            return chain.proceed();
+        };
+        commandBus.registerHandlerInterceptor(interceptor);
+    }
+
+    @Test
+    @DisplayName("The commands of a batch sharing a routing key are handled in the order they were sent")
+    void dispatch_batchOfSameRoutingKey_handlesCommandsInOrder() throws Exception {
+        val batchResult = dispatch(aBatch("a1", "a2", "a3"));
+
+        assertThat(batchResult.isExceptional()).isFalse();
+        assertThat(handledPayloads).containsExactly("a1", "a2", "a3");
+    }
+
+    @Test
+    @DisplayName("The batch is replied with the results of its commands in order")
+    void dispatch_batch_repliesWithResultsInOrder() throws Exception {
+        val batchResult = dispatch(aBatch("a1", "b1", "a2"));
+
+        val results = ((CommandBatchResult) batchResult.getPayload()).results();
+        assertThat(results).extracting(result -> codec.deserialize(result).getPayload())
+                           .containsExactly("recorded:a1", "recorded:b1", "recorded:a2");
+    }
+
+    @Test
+    @DisplayName("The batch itself is not handled by the local segment, only its commands are")
+    void dispatch_batch_isNotHandledByLocalSegment() throws Exception {
+        dispatch(aBatch("a1", "b1"));
+
+        assertThat(interceptedCommandNames).containsExactly("record", "record");
+    }
+
+    private CommandMessage<CommandBatch> aBatch(String... payloads) {
+        val commandBatch = CommandBatch.builder();
+        for (val payload : payloads) {
+            commandBatch.command(codec.serialize(new GenericCommandMessage<>(payload, "record")));
+        }
+        return GenericCommandMessage.asCommandMessage(commandBatch.build());
+    }
+
+    private CommandResultMessage<?> dispatch(CommandMessage<CommandBatch> batch) throws Exception {
+        val future = new CompletableFuture<CommandResultMessage<?>>();
+        CommandCallback<CommandBatch, Object> callback = (message, result) -> future.complete(result);
+        commandBus.dispatch(batch, callback);
+        return future.get(1, TimeUnit.SECONDS);
+    }
+}
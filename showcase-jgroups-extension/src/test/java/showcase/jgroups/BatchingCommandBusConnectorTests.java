@@ -0,0 +1,201 @@
+package showcase.jgroups;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandExecutionException;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.commandhandling.distributed.CommandBusConnector;
+import org.axonframework.commandhandling.distributed.Member;
+import org.axonframework.messaging.GenericMessage;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Batching command bus connector tests")
+class BatchingCommandBusConnectorTests {
+
+    private final JacksonSerializer serializer = JacksonSerializer.defaultSerializer();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SimpleCommandBus localSegment = SimpleCommandBus.builder().build();
+
+    private final BatchUnpackingCommandBus receivingSegment =
+            new BatchUnpackingCommandBus(localSegment, serializer, command -> command.getCommandName());
+
+    private final CommandBusConnector delegate = mock(CommandBusConnector.class);
+
+    private final Member remoteMember = mock(Member.class);
+
+    private final List<CommandMessage<?>> sentMessages = new CopyOnWriteArrayList<>();
+
+    private BatchingCommandBusConnector connector;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(remoteMember.name()).thenReturn("remote");
+        doAnswer(invocation -> {
+            CommandMessage<Object> message = invocation.getArgument(1);
+            CommandCallback<Object, Object> callback = invocation.getArgument(2);
+            sentMessages.add(message);
+            CommandCallback<Object, Object> remoteCallback =
+                    (remoteMessage, result) -> callback.onResult(message, overTheWire(result));
+            receivingSegment.dispatch(overTheWire(message), remoteCallback);
+            return null;
+        }).when(delegate).send(eq(remoteMember), any(), any());
+
+        localSegment.subscribe("echo", message -> "echo:" + message.getPayload());
+        localSegment.subscribe("fail", message -> {
+            throw new CommandExecutionException("failed", null, "FAILED");
+        });
+    }
+
+    @Test
+    @DisplayName("A max batch size below one is rejected")
+    void new_maxBatchSizeBelowOne_isRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BatchingCommandBusConnector(
+                        delegate, serializer, true, 0, Duration.ofMillis(5), meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Commands to the same member are sent as one batch once it is full and their results demultiplexed")
+    void send_commandsToSameMember_areSentAsOneBatchAndResultsDemultiplexed() throws Exception {
+        connector = aConnector(true, 3, Duration.ofMinutes(1));
+
+        val results = List.of(send("echo", "a"), send("echo", "b"), send("echo", "c"));
+
+        assertThat(sentMessages).singleElement().satisfies(message -> {
+            assertThat(message.getCommandName()).isEqualTo(BatchingCommandBusConnector.BATCH_COMMAND_NAME);
+            assertThat(((CommandBatch) message.getPayload()).commands()).hasSize(3);
+        });
+        assertThat(results).extracting(result -> result.get(1, TimeUnit.SECONDS).getPayload())
+                           .containsExactly("echo:a", "echo:b", "echo:c");
+        assertThat(meterRegistry.get("showcaseCommandBatching.batchSize").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("showcaseCommandBatching.queueingDelay").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A pending command is sent on its own once the max delay has elapsed")
+    void send_singlePendingCommand_isSentAloneAfterMaxDelay() throws Exception {
+        connector = aConnector(true, 10, Duration.ofMillis(20));
+
+        val result = send("echo", "a");
+
+        verify(delegate, timeout(1000)).send(eq(remoteMember), any(), any());
+        assertThat(sentMessages).singleElement()
+                                .extracting(CommandMessage::getCommandName)
+                                .isEqualTo("echo");
+        assertThat(result.get(1, TimeUnit.SECONDS).getPayload()).isEqualTo("echo:a");
+    }
+
+    @Test
+    @DisplayName("A failed command of a batch fails only its own callback, with its failure details")
+    void send_failedCommandInBatch_failsOnlyItsCallbackWithDetails() throws Exception {
+        connector = aConnector(true, 2, Duration.ofMinutes(1));
+
+        val failed = send("fail", "a");
+        val succeeded = send("echo", "b");
+
+        assertThat(succeeded.get(1, TimeUnit.SECONDS).getPayload()).isEqualTo("echo:b");
+        assertThat(failed.get(1, TimeUnit.SECONDS).exceptionResult())
+                .isInstanceOfSatisfying(CommandExecutionException.class, e -> {
+                    assertThat(e).hasMessage("failed");
+                    assertThat(e.getDetails()).contains("FAILED");
+                });
+    }
+
+    @Test
+    @DisplayName("Commands to the local member are not batched")
+    void send_localMember_isNotBatched() throws Exception {
+        connector = aConnector(true, 2, Duration.ofMinutes(1));
+        val localMember = mock(Member.class);
+        when(localMember.local()).thenReturn(true);
+        val command = GenericCommandMessage.asCommandMessage("a");
+        CommandCallback<Object, Object> callback = (message, result) -> {
+        };
+
+        connector.send(localMember, command, callback);
+
+        verify(delegate).send(localMember, command, callback);
+        assertThat(meterRegistry.get("showcaseCommandBatching.batchSize").summary().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Commands are not batched when batching is disabled")
+    void send_batchingDisabled_isNotBatched() throws Exception {
+        connector = aConnector(false, 2, Duration.ofMinutes(1));
+
+        val result = send("echo", "a");
+
+        assertThat(sentMessages).singleElement()
+                                .extracting(CommandMessage::getCommandName)
+                                .isEqualTo("echo");
+        assertThat(result.get(1, TimeUnit.SECONDS).getPayload()).isEqualTo("echo:a");
+        assertThat(meterRegistry.get("showcaseCommandBatching.batchSize").summary().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Pending commands are sent on shutdown")
+    void initiateShutdown_pendingCommands_areSent() throws Exception {
+        when(delegate.initiateShutdown()).thenReturn(CompletableFuture.completedFuture(null));
+        connector = aConnector(true, 10, Duration.ofMinutes(1));
+
+        val result = send("echo", "a");
+
+        verify(delegate, never()).send(eq(remoteMember), any(), any());
+
+        connector.initiateShutdown().get(1, TimeUnit.SECONDS);
+
+        assertThat(result.get(1, TimeUnit.SECONDS).getPayload()).isEqualTo("echo:a");
+    }
+
+    private BatchingCommandBusConnector aConnector(boolean enabled, int maxBatchSize, Duration maxDelay) {
+        return new BatchingCommandBusConnector(delegate, serializer, enabled, maxBatchSize, maxDelay, meterRegistry);
+    }
+
+    private CompletableFuture<CommandResultMessage<?>> send(String commandName, String payload) throws Exception {
+        val future = new CompletableFuture<CommandResultMessage<?>>();
+        CommandCallback<Object, Object> callback = (message, result) -> future.complete(result);
+        connector.send(remoteMember, new GenericCommandMessage<>(payload, commandName), callback);
+        return future;
+    }
+
+    private CommandMessage<Object> overTheWire(CommandMessage<?> message) {
+        Object payload = serializer.deserialize(serializer.serialize(message.getPayload(), byte[].class));
+        return new GenericCommandMessage<>(
+                new GenericMessage<>(message.getIdentifier(), payload, message.getMetaData()),
+                message.getCommandName());
+    }
+
+    private CommandResultMessage<?> overTheWire(CommandResultMessage<?> result) {
+        if (result.isExceptional()) {
+            return result;
+        }
+        Object payload = serializer.deserialize(serializer.serialize(result.getPayload(), byte[].class));
+        return asCommandResultMessage(payload);
+    }
+}
@@ -52,6 +52,7 @@ class ShowcaseEntityJacksonCT {
                                           .duration(duration)
                                           .status(ShowcaseStatus.SCHEDULED)
                                           .scheduledAt(scheduledAt)
+                                          .sequenceNumber(0L)
                                           .build()),
                 argumentSet("Started showcase",
                             ShowcaseEntity.builder()
@@ -62,6 +63,7 @@ class ShowcaseEntityJacksonCT {
                                           .status(ShowcaseStatus.STARTED)
                                           .scheduledAt(scheduledAt)
                                           .startedAt(startedAt)
+                                          .sequenceNumber(1L)
                                           .build()),
                 argumentSet("Finished showcase",
                             ShowcaseEntity.builder()
@@ -73,6 +75,7 @@ class ShowcaseEntityJacksonCT {
                                           .scheduledAt(scheduledAt)
                                           .startedAt(startedAt)
                                           .finishedAt(finishedAt)
+                                          .sequenceNumber(2L)
                                           .build()));
     }
 
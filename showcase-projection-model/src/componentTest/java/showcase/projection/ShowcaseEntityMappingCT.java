@@ -48,6 +48,7 @@ class ShowcaseEntityMappingCT {
         assertThat(mapping.at("/properties/startedAt/format").asText()).isEqualTo("strict_date_optional_time_nanos");
         assertThat(mapping.at("/properties/finishedAt/type").asText()).isEqualTo("date_nanos");
         assertThat(mapping.at("/properties/finishedAt/format").asText()).isEqualTo("strict_date_optional_time_nanos");
+        assertThat(mapping.at("/properties/sequenceNumber/type").asText()).isEqualTo("long");
     }
 
     @Test
@@ -57,7 +58,7 @@ class ShowcaseEntityMappingCT {
         val properties = objectMapper.readTree(new MappingBuilder(converter).buildPropertyMapping(ShowcaseEntity.class))
                                      .path("properties");
 
-        assertThat(properties.size()).isEqualTo(9);
+        assertThat(properties.size()).isEqualTo(10);
         assertThat(properties.has("_class")).isTrue();
         assertThat(properties.has("duration")).isTrue();
     }
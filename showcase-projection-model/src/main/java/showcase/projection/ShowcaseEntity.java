@@ -88,4 +88,11 @@ public class ShowcaseEntity {
     @Field(type = FieldType.Date_Nanos, format = DateFormat.strict_date_optional_time_nanos)
     @Nullable
     Instant finishedAt;
+
+    /**
+     * The sequence number of the last event applied on the showcase, as its consistency token.
+     */
+    @Field(type = FieldType.Long)
+    @Nullable
+    Long sequenceNumber;
 }
@@ -14,6 +14,7 @@ dependencies {
 
     implementation(project(":showcase-command-api"))
     implementation(project(":showcase-projection-model"))
+    implementation(project(":showcase-serialization-extension"))
 
     implementation(libs.axon.springBoot.starter) {
         exclude(group = libs.axon.serverConnector.get().group, module = libs.axon.serverConnector.get().name)
@@ -103,7 +103,7 @@ class ShowcaseProjectorIT {
     }
 
     @Test
-    @DisplayName("A scheduled event inserts the showcase into the database")
+    @DisplayName("A scheduled event inserts the showcase into the database with its sequence number")
     void showcaseScheduledEvent_singleEvent_insertsShowcaseIntoDatabase() {
         val showcaseId = aShowcaseId();
         val scheduleTime = Instant.now();
@@ -120,6 +120,7 @@ class ShowcaseProjectorIT {
 
         await().until(() -> Optional.ofNullable(openSearchTemplate.get(showcaseId, ShowcaseEntity.class))
                                     .filter(showcase -> showcase.status() == ShowcaseStatus.SCHEDULED)
+                                    .filter(showcase -> Long.valueOf(0).equals(showcase.sequenceNumber()))
                                     .isPresent());
     }
 
@@ -146,7 +147,7 @@ class ShowcaseProjectorIT {
     }
 
     @Test
-    @DisplayName("A started event updates the showcase in the database")
+    @DisplayName("A started event updates the showcase in the database with its sequence number")
     void showcaseStartedEvent_singleEvent_updatesShowcaseInDatabase() {
         val showcaseId = aShowcaseId();
         val scheduleTime = Instant.now();
@@ -175,6 +176,7 @@ class ShowcaseProjectorIT {
 
         await().until(() -> Optional.ofNullable(openSearchTemplate.get(showcaseId, ShowcaseEntity.class))
                                     .filter(showcase -> showcase.status() == ShowcaseStatus.STARTED)
+                                    .filter(showcase -> Long.valueOf(1).equals(showcase.sequenceNumber()))
                                     .isPresent());
     }
 
@@ -1,5 +1,6 @@
 package showcase.projection;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.core5.util.TimeValue;
@@ -17,6 +18,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import showcase.serialization.SerializationFormat;
+import showcase.serialization.SmileSerializer;
 
 import java.time.Duration;
 import java.util.Optional;
@@ -40,6 +43,19 @@ class ShowcaseProjectionApplication {
         SpringApplication.run(ShowcaseProjectionApplication.class, args);
     }
 
+    /**
+     * Creates the serializer of the consumed events, reading both the JSON and the Smile formats whichever format the
+     * command service writes.
+     *
+     * @param objectMapper the object mapper of the JSON format
+     * @return the event serializer
+     */
+    @Bean
+    @Qualifier("eventSerializer")
+    Serializer eventSerializer(ObjectMapper objectMapper) {
+        return new SmileSerializer(objectMapper, SerializationFormat.JSON);
+    }
+
     /**
      * Builds the Kafka message converter used to deserialize consumed event messages.
      *
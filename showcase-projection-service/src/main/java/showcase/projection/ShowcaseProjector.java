@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.extensions.kafka.KafkaProperties;
 import org.axonframework.extensions.kafka.eventhandling.KafkaMessageConverter;
@@ -345,7 +346,8 @@ class ShowcaseProjector implements SmartLifecycle {
                        }
                    })
                    .flatMapIterable(Function.identity())
-                   .map(eventMessage -> Tuples.of(eventMessage, messageMonitor.onMessageIngested(eventMessage)))
+                   .map(eventMessage -> Tuples.<EventMessage<?>, MonitorCallback>of(
+                           eventMessage, messageMonitor.onMessageIngested(eventMessage)))
                    .filter(TupleUtils.predicate((eventMessage, monitorCallback) -> {
                        if (eventMessage.getPayload() instanceof ShowcaseEvent) {
                            return true;
@@ -355,8 +357,6 @@ class ShowcaseProjector implements SmartLifecycle {
                            return false;
                        }
                    }))
-                   .map(it -> it.mapT1(EventMessage::getPayload))
-                   .map(it -> it.mapT1(ShowcaseEvent.class::cast))
                    .collectList()
                    .filter(events -> {
                        if (events.isEmpty()) {
@@ -374,12 +374,14 @@ class ShowcaseProjector implements SmartLifecycle {
     /**
      * Writes the given events to OpenSearch as a bulk operation and reports their outcome.
      *
-     * @param events the events paired with their monitor callbacks
+     * @param events the showcase event messages paired with their monitor callbacks
      * @return a {@link Mono} completing once the batch is processed
      */
-    private Mono<Void> processEvents(List<Tuple2<ShowcaseEvent, MonitorCallback>> events) {
+    private Mono<Void> processEvents(List<Tuple2<EventMessage<?>, MonitorCallback>> events) {
         return Flux.zip(Flux.fromIterable(events)
-                            .map(Tuple2::getT1),
+                            .map(Tuple2::getT1)
+                            .map(EventMessage::getPayload)
+                            .cast(ShowcaseEvent.class),
                         Flux.fromIterable(events)
                             .map(Tuple2::getT2),
                         Flux.fromIterable(events)
@@ -419,13 +421,20 @@ class ShowcaseProjector implements SmartLifecycle {
     }
 
     /**
-     * Maps a showcase event to the corresponding OpenSearch bulk operation.
+     * Maps a showcase event message to the corresponding OpenSearch bulk operation.
+     *
+     * <p>The operations creating or updating a showcase record the sequence number of the event, as the consistency
+     * token reached by the showcase.
      *
-     * @param event the event to map
+     * @param eventMessage the showcase event message to map
      * @return the bulk operation applying the event to the showcase index
      */
-    private BulkOperation eventToBulkOperation(ShowcaseEvent event) {
-        return switch (event) {
+    private BulkOperation eventToBulkOperation(EventMessage<?> eventMessage) {
+        val sequenceNumber =
+                eventMessage instanceof DomainEventMessage<?> domainEventMessage
+                        ? Long.valueOf(domainEventMessage.getSequenceNumber())
+                        : null;
+        return switch ((ShowcaseEvent) eventMessage.getPayload()) {
             case ShowcaseScheduledEvent scheduledEvent -> BulkOperation.of(operation -> operation.create(
                     request -> request.id(scheduledEvent.showcaseId())
                                       .document(elasticsearchConverter.mapObject(
@@ -437,6 +446,7 @@ class ShowcaseProjector implements SmartLifecycle {
                                                       .duration(scheduledEvent.duration())
                                                       .status(ShowcaseStatus.SCHEDULED)
                                                       .scheduledAt(scheduledEvent.scheduledAt())
+                                                      .sequenceNumber(sequenceNumber)
                                                       .build()))
                                       .index(showcaseIndex.getIndexName())
                                       .routing(scheduledEvent.showcaseId())));
@@ -448,6 +458,7 @@ class ShowcaseProjector implements SmartLifecycle {
                                                       .duration(startedEvent.duration())
                                                       .status(ShowcaseStatus.STARTED)
                                                       .startedAt(startedEvent.startedAt())
+                                                      .sequenceNumber(sequenceNumber)
                                                       .build()))
                                       .index(showcaseIndex.getIndexName())
                                       .routing(startedEvent.showcaseId())));
@@ -458,6 +469,7 @@ class ShowcaseProjector implements SmartLifecycle {
                                                       .builder()
                                                       .status(ShowcaseStatus.FINISHED)
                                                       .finishedAt(finishedEvent.finishedAt())
+                                                      .sequenceNumber(sequenceNumber)
                                                       .build()))
                                       .index(showcaseIndex.getIndexName())
                                       .routing(finishedEvent.showcaseId())));
@@ -10,6 +10,7 @@ import lombok.Value;
 import lombok.experimental.Accessors;
 import lombok.extern.jackson.Jacksonized;
 import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
 import showcase.identifier.KSUID;
 
 /**
@@ -30,4 +31,10 @@ public class FetchShowcaseByIdQuery {
     @NonNull
     @KSUID
     String showcaseId;
+
+    /**
+     * The consistency token of a write of the showcase, which the fetched showcase must reflect, if any.
+     */
+    @Nullable
+    ShowcaseConsistencyToken consistencyToken;
 }
@@ -67,4 +67,10 @@ public class FetchShowcaseListQuery {
     @Max(MAX_SIZE)
     @Builder.Default
     int size = DEFAULT_SIZE;
+
+    /**
+     * The consistency token of a write of a showcase, which the fetched showcases must reflect, if any.
+     */
+    @Nullable
+    ShowcaseConsistencyToken consistencyToken;
 }
@@ -0,0 +1,79 @@
+package showcase.query;
+
+import jakarta.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.EqualsAndHashCode.CacheStrategy;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import lombok.val;
+import org.jspecify.annotations.NullUnmarked;
+import showcase.identifier.KSUID;
+
+/**
+ * Token of a showcase state written by a command, which the showcases fetched after it must reflect.
+ *
+ * <p>The token is the sequence number of the last event applied on the showcase by the command, as answered by the
+ * command service. In its textual form, as exchanged with clients, the showcase ID and the sequence number are joined
+ * with a dot.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
+@Builder
+@Jacksonized
+@NullUnmarked
+@SuppressWarnings("ClassCanBeRecord")
+public class ShowcaseConsistencyToken {
+    /**
+     * The regular expression matching the textual form of a token.
+     */
+    public static final String PATTERN = "[0-9A-Za-z]{27}\\.[0-9]{1,18}";
+
+    /**
+     * The ID of the written showcase.
+     */
+    @NonNull
+    @KSUID
+    String showcaseId;
+
+    /**
+     * The sequence number of the last event applied on the showcase by the command.
+     */
+    @Min(0)
+    long sequenceNumber;
+
+    /**
+     * Parses a token from its textual form.
+     *
+     * @param text the textual form of the token, matching {@link #PATTERN}
+     * @return the parsed token
+     * @throws IllegalArgumentException if the text is not a token
+     */
+    public static ShowcaseConsistencyToken parse(@NonNull String text) {
+        if (!text.matches(PATTERN)) {
+            throw new IllegalArgumentException("Invalid consistency token: " + text);
+        }
+        val separator = text.indexOf('.');
+        return ShowcaseConsistencyToken
+                       .builder()
+                       .showcaseId(text.substring(0, separator))
+                       .sequenceNumber(Long.parseLong(text.substring(separator + 1)))
+                       .build();
+    }
+
+    /**
+     * Returns the textual form of the token.
+     *
+     * @return the showcase ID and the sequence number joined with a dot
+     */
+    @Override
+    public String toString() {
+        return showcaseId + "." + sequenceNumber;
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+import static showcase.query.RandomQueryTestUtils.aShowcaseConsistencyToken;
 
 @DisplayName("Fetch showcase by ID query tests")
 class FetchShowcaseByIdQueryTests {
@@ -15,14 +16,17 @@ class FetchShowcaseByIdQueryTests {
     @DisplayName("A query with all params specified creates an instance with all fields set")
     void construction_allParamsSpecified_createsInstanceWithAllFieldsSet() {
         val showcaseId = aShowcaseId();
+        val consistencyToken = aShowcaseConsistencyToken(showcaseId);
 
         val query =
                 FetchShowcaseByIdQuery
                         .builder()
                         .showcaseId(showcaseId)
+                        .consistencyToken(consistencyToken)
                         .build();
         assertThat(query).isNotNull();
         assertThat(query.showcaseId()).isEqualTo(showcaseId);
+        assertThat(query.consistencyToken()).isEqualTo(consistencyToken);
     }
 
     @Test
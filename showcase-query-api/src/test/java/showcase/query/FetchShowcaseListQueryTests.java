@@ -11,6 +11,7 @@ import java.util.stream.IntStream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static showcase.command.RandomCommandTestUtils.aShowcaseId;
 import static showcase.command.RandomCommandTestUtils.aShowcaseTitle;
+import static showcase.query.RandomQueryTestUtils.aShowcaseConsistencyToken;
 import static showcase.query.RandomQueryTestUtils.aShowcaseStatus;
 
 @DisplayName("Fetch showcase list query tests")
@@ -26,6 +27,7 @@ class FetchShowcaseListQueryTests {
         assertThat(query.statuses()).isEmpty();
         assertThat(query.afterId()).isNull();
         assertThat(query.size()).isEqualTo(FetchShowcaseListQuery.DEFAULT_SIZE);
+        assertThat(query.consistencyToken()).isNull();
     }
 
     @Test
@@ -37,6 +39,7 @@ class FetchShowcaseListQueryTests {
         val afterId = aShowcaseId();
         val size = RandomUtils.secure().randomInt(
                 FetchShowcaseListQuery.MIN_SIZE, FetchShowcaseListQuery.MAX_SIZE + 1);
+        val consistencyToken = aShowcaseConsistencyToken();
 
         val query =
                 FetchShowcaseListQuery
@@ -46,12 +49,14 @@ class FetchShowcaseListQueryTests {
                         .status(status2)
                         .afterId(afterId)
                         .size(size)
+                        .consistencyToken(consistencyToken)
                         .build();
         assertThat(query).isNotNull();
         assertThat(query.title()).isEqualTo(title);
         assertThat(query.statuses()).containsExactly(status1, status2);
         assertThat(query.afterId()).isEqualTo(afterId);
         assertThat(query.size()).isEqualTo(size);
+        assertThat(query.consistencyToken()).isEqualTo(consistencyToken);
     }
 
     @Test
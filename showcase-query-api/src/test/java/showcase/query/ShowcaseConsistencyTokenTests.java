@@ -0,0 +1,54 @@
+package showcase.query;
+
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+import static showcase.query.RandomQueryTestUtils.aShowcaseConsistencyToken;
+
+@DisplayName("Showcase consistency token tests")
+class ShowcaseConsistencyTokenTests {
+
+    @Test
+    @DisplayName("A token with all params specified creates an instance with all fields set")
+    void construction_allParamsSpecified_createsInstanceWithAllFieldsSet() {
+        val showcaseId = aShowcaseId();
+
+        val consistencyToken =
+                ShowcaseConsistencyToken
+                        .builder()
+                        .showcaseId(showcaseId)
+                        .sequenceNumber(3)
+                        .build();
+        assertThat(consistencyToken.showcaseId()).isEqualTo(showcaseId);
+        assertThat(consistencyToken.sequenceNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A token without a showcase ID throws a null pointer exception")
+    void construction_missingShowcaseId_throwsNullPointerException() {
+        assertThatNullPointerException().isThrownBy(() -> ShowcaseConsistencyToken.builder().build());
+    }
+
+    @Test
+    @DisplayName("Parsing the textual form of a token returns an equal token")
+    void parse_textualForm_returnsEqualToken() {
+        val consistencyToken = aShowcaseConsistencyToken();
+
+        val text = consistencyToken.toString();
+
+        assertThat(text).matches(ShowcaseConsistencyToken.PATTERN);
+        assertThat(ShowcaseConsistencyToken.parse(text)).isEqualTo(consistencyToken);
+    }
+
+    @Test
+    @DisplayName("Parsing a malformed text throws an illegal argument exception")
+    void parse_malformedText_throwsIllegalArgumentException() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ShowcaseConsistencyToken.parse(aShowcaseId()));
+        assertThatIllegalArgumentException().isThrownBy(() -> ShowcaseConsistencyToken.parse(aShowcaseId() + ".-1"));
+    }
+}
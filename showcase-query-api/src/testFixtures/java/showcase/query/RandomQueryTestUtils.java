@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -76,6 +77,29 @@ public class RandomQueryTestUtils {
                        .build();
     }
 
+    /**
+     * Generates a random consistency token of a random showcase.
+     *
+     * @return a random consistency token
+     */
+    public static ShowcaseConsistencyToken aShowcaseConsistencyToken() {
+        return aShowcaseConsistencyToken(aShowcaseId());
+    }
+
+    /**
+     * Generates a random consistency token of the given showcase.
+     *
+     * @param showcaseId the ID of the showcase
+     * @return a random consistency token
+     */
+    public static ShowcaseConsistencyToken aShowcaseConsistencyToken(String showcaseId) {
+        return ShowcaseConsistencyToken
+                       .builder()
+                       .showcaseId(showcaseId)
+                       .sequenceNumber(ThreadLocalRandom.current().nextLong(0, 10))
+                       .build();
+    }
+
     /**
      * Generates a random showcase with a random status.
      *
@@ -35,12 +35,14 @@ import org.wiremock.spring.EnableWireMock;
 import reactor.blockhound.BlockHound;
 import reactor.test.StepVerifier;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
@@ -52,6 +54,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
+import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROTOBUF_VALUE;
@@ -107,6 +110,35 @@ class ShowcaseQueryClientIT {
         wireMockServer.verify(1, postRequestedFor(urlEqualTo("/streaming-query")));
     }
 
+    @Test
+    @DisplayName("Fetching the list with a length-delimited protobuf response succeeds")
+    void fetchList_protobufResponse_succeeds() throws Exception {
+        val query = FetchShowcaseListQuery.builder().build();
+        val showcases = showcases();
+
+        val showcasePayloadMapper = new ShowcasePayloadMapper();
+        val body = new ByteArrayOutputStream();
+        for (val showcase : showcases) {
+            showcasePayloadMapper.showcaseToPayload(showcase).writeDelimitedTo(body);
+        }
+
+        wireMockServer.stubFor(
+                post("/streaming-query")
+                        .withHeader(CONTENT_TYPE, equalTo(APPLICATION_PROTOBUF_VALUE))
+                        .withHeader(ACCEPT, containing(APPLICATION_PROTOBUF_VALUE))
+                        .willReturn(ok()
+                                            .withHeader(CONTENT_TYPE, APPLICATION_PROTOBUF_VALUE)
+                                            .withBody(body.toByteArray())));
+
+        showcaseQueryOperations
+                .fetchList(query)
+                .as(StepVerifier::create)
+                .expectNextSequence(showcases)
+                .verifyComplete();
+
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/streaming-query")));
+    }
+
     @Test
     @DisplayName("Fetching the list propagates metadata from the reactive context into the request")
     void fetchList_propagatesMetadataFromContext() throws Exception {
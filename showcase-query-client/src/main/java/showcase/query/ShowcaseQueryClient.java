@@ -11,6 +11,7 @@ import org.axonframework.serialization.Serializer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
@@ -20,6 +21,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
+import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
 import static org.springframework.http.MediaType.APPLICATION_PROTOBUF;
 import static showcase.query.ShowcaseQueryOperations.SHOWCASE_QUERY_SERVICE;
@@ -34,6 +36,11 @@ import static showcase.query.ShowcaseQueryOperations.SHOWCASE_QUERY_SERVICE;
 @Retry(name = SHOWCASE_QUERY_SERVICE)
 @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
 class ShowcaseQueryClient implements ShowcaseQueryOperations {
+    /**
+     * The JSON media type accepted with a lower quality than protobuf, for the query services not streaming protobuf.
+     */
+    private static final MediaType APPLICATION_JSON_FALLBACK = APPLICATION_JSON.withQuality(0.5);
+
     /**
      * The WebClient used to call the query service.
      */
@@ -44,6 +51,11 @@ class ShowcaseQueryClient implements ShowcaseQueryOperations {
      */
     private final QueryMessageRequestMapper queryMessageRequestMapper;
 
+    /**
+     * The mapper converting protobuf showcase payloads to showcases.
+     */
+    private final ShowcasePayloadMapper showcasePayloadMapper = new ShowcasePayloadMapper();
+
     /**
      * Creates the client, configuring the WebClient base URL and the message mapper.
      *
@@ -63,7 +75,8 @@ class ShowcaseQueryClient implements ShowcaseQueryOperations {
     }
 
     /**
-     * Fetches a filtered list of showcases via the streaming query endpoint.
+     * Fetches a filtered list of showcases via the streaming query endpoint, accepting them preferably as
+     * length-delimited protobuf, otherwise as JSON.
      *
      * @param query the list query to send
      * @return a flux of matching showcases
@@ -75,13 +88,34 @@ class ShowcaseQueryClient implements ShowcaseQueryOperations {
                                () -> webClient.post()
                                               .uri("/streaming-query")
                                               .contentType(APPLICATION_PROTOBUF)
+                                              .accept(APPLICATION_PROTOBUF,
+                                                      APPLICATION_PROBLEM_JSON,
+                                                      APPLICATION_JSON_FALLBACK)
                                               .bodyValue(queryRequest)
-                                              .retrieve()
-                                              .onStatus(HttpStatusCode::isError, this::handleError)
-                                              .bodyToFlux(Showcase.class)))
+                                              .exchangeToFlux(this::showcasesFrom)))
                        .checkpoint("ShowcaseQueryClient.fetchList(%s)".formatted(query));
     }
 
+    /**
+     * Decodes the showcases of a streaming query response, from length-delimited protobuf or from JSON depending on its
+     * content type, or fails with the mapped exception of an error response.
+     *
+     * @param response the streaming query response
+     * @return a flux of the decoded showcases
+     */
+    private Flux<Showcase> showcasesFrom(ClientResponse response) {
+        if (response.statusCode().isError()) {
+            return handleError(response).flatMapMany(Flux::error);
+        }
+        if (response.headers()
+                    .contentType()
+                    .filter(contentType -> contentType.isCompatibleWith(APPLICATION_PROTOBUF))
+                    .isPresent()) {
+            return response.bodyToFlux(ShowcasePayload.class).map(showcasePayloadMapper::payloadToShowcase);
+        }
+        return response.bodyToFlux(Showcase.class);
+    }
+
     /**
      * Fetches a single showcase by ID via the query endpoint.
      *
@@ -4,11 +4,19 @@ plugins {
     id("java-library-conventions")
     id("protobuf-conventions")
     id("code-coverage-conventions")
+    id("jmh-conventions")
 }
 
 extra["coverage.generatedClassExcludes"] = listOf(
     "**/QueryProto*.class",
-    "**/QueryRequest*.class"
+    "**/QueryRequest*.class",
+    "**/FetchShowcaseListQueryPayload*.class",
+    "**/FetchShowcaseByIdQueryPayload*.class",
+    "**/ConsistencyTokenPayload*.class",
+    "**/ShowcaseStatusValue*.class",
+    "**/ShowcasePayload.class",
+    "**/ShowcasePayload$*.class",
+    "**/ShowcasePayloadOrBuilder.class"
 )
 
 project.description = "Showcase Query Protocol"
@@ -19,7 +27,12 @@ dependencies {
     api(libs.axon.messaging)
     api(libs.protobuf.java)
 
+    implementation(project(":showcase-query-api"))
+
     implementation(libs.commons.lang3)
+
+    jmhImplementation(project(":showcase-query-api"))
+    jmhImplementation(libs.jackson2.jsr310)
 }
 
 testing {
@@ -36,6 +49,8 @@ testing {
 
         register<JvmTestSuite>("componentTest") {
             dependencies {
+                implementation(project(":showcase-query-api"))
+                implementation(testFixtures(project(":showcase-query-api")))
                 implementation(libs.jackson2.databind)
                 implementation(libs.jackson2.jsr310)
             }
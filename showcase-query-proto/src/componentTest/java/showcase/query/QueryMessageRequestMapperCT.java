@@ -12,11 +12,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import showcase.query.QueryRequest.PayloadCase;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+import static showcase.query.RandomQueryTestUtils.aShowcaseConsistencyToken;
+import static showcase.query.RandomQueryTestUtils.aShowcaseStatus;
 import static showcase.test.RandomTestUtils.anAlphabeticString;
 
 @DisplayName("Query message request mapper component tests")
@@ -44,6 +47,32 @@ class QueryMessageRequestMapperCT {
                             Response.class));
     }
 
+    static List<Arguments> showcaseQuery() {
+        return List.of(
+                argumentSet("Fetch Showcase List Query without Filters",
+                            FetchShowcaseListQuery.builder().build()),
+                argumentSet("Fetch Showcase List Query with Filters",
+                            FetchShowcaseListQuery
+                                    .builder()
+                                    .title(anAlphabeticString(12))
+                                    .status(aShowcaseStatus())
+                                    .afterId(aShowcaseConsistencyToken().showcaseId())
+                                    .size(50)
+                                    .consistencyToken(aShowcaseConsistencyToken())
+                                    .build()),
+                argumentSet("Fetch Showcase By ID Query",
+                            FetchShowcaseByIdQuery
+                                    .builder()
+                                    .showcaseId(aShowcaseConsistencyToken().showcaseId())
+                                    .build()),
+                argumentSet("Fetch Showcase By ID Query with Consistency Token",
+                            FetchShowcaseByIdQuery
+                                    .builder()
+                                    .showcaseId(aShowcaseConsistencyToken().showcaseId())
+                                    .consistencyToken(aShowcaseConsistencyToken())
+                                    .build()));
+    }
+
     private final Serializer messageSerializer = JacksonSerializer.defaultSerializer();
 
     @ParameterizedTest
@@ -100,4 +129,101 @@ class QueryMessageRequestMapperCT {
         assertThat(queryMessage.getMetaData()).isEqualTo(metaData);
         assertThat(queryMessage.getResponseType().getExpectedResponseType()).isEqualTo(responseType);
     }
+
+    @ParameterizedTest
+    @MethodSource("payloadAndMetaDataAndResponseType")
+    @DisplayName("Mapping a query message to a request, to its wire form, and back preserves its payload and metadata")
+    void requestToMessage_parsedRequest_roundTrips(Object payload, MetaData metaData, Class<?> responseType)
+            throws Exception {
+        val message = new GenericStreamingQueryMessage<>(payload, responseType).withMetaData(metaData);
+        val mapper = new QueryMessageRequestMapper(messageSerializer);
+
+        val queryRequest = QueryRequest.parseFrom(mapper.messageToRequest(message).toByteArray());
+
+        val queryMessage = mapper.requestToMessage(queryRequest);
+        assertThat(queryMessage.getPayload()).isEqualTo(payload);
+        assertThat(queryMessage.getMetaData()).isEqualTo(metaData);
+    }
+
+    @ParameterizedTest
+    @MethodSource("payloadAndMetaDataAndResponseType")
+    @DisplayName("Mapping a request whose payload and metadata are slices of larger arrays preserves them")
+    void requestToMessage_slicedBytes_isDeserialized(Object payload, MetaData metaData, Class<?> responseType)
+            throws Exception {
+        val serializedPayload = messageSerializer.serialize(payload, byte[].class);
+        val serializedMetaData = messageSerializer.serialize(metaData, byte[].class);
+
+        val queryRequestBuilder =
+                QueryRequest
+                        .newBuilder()
+                        .setQueryName(Payload.class.getName())
+                        .setQueryIdentifier(IdentifierFactory.getInstance().generateIdentifier())
+                        .setPayloadType(serializedPayload.getType().getName())
+                        .setSerializedPayload(sliced(serializedPayload.getData()))
+                        .setSerializedMetaData(sliced(serializedMetaData.getData()))
+                        .setResponseType(responseType.getName());
+        if (serializedPayload.getType().getRevision() != null) {
+            queryRequestBuilder.setPayloadRevision(serializedPayload.getType().getRevision());
+        }
+
+        val queryRequest = queryRequestBuilder.build();
+
+        val queryMessage = new QueryMessageRequestMapper(messageSerializer).requestToMessage(queryRequest);
+        assertThat(queryMessage.getPayload()).isEqualTo(payload);
+        assertThat(queryMessage.getMetaData()).isEqualTo(metaData);
+    }
+
+    private static ByteString sliced(byte[] bytes) {
+        return ByteString.copyFrom(new byte[1]).concat(ByteString.copyFrom(bytes)).substring(1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("showcaseQuery")
+    @DisplayName("Mapping a showcase query message to a request carries its payload as a typed message")
+    void messageToRequest_showcaseQuery_isTyped(Object query) {
+        val message = new GenericStreamingQueryMessage<>(query, Showcase.class);
+
+        val queryRequest = new QueryMessageRequestMapper(messageSerializer).messageToRequest(message);
+        assertThat(queryRequest.getPayloadCase()).isNotIn(PayloadCase.SERIALIZED_PAYLOAD, PayloadCase.PAYLOAD_NOT_SET);
+        assertThat(queryRequest.getPayloadType()).isEqualTo(query.getClass().getName());
+        assertThat(queryRequest.hasPayloadRevision()).isFalse();
+    }
+
+    @ParameterizedTest
+    @MethodSource("showcaseQuery")
+    @DisplayName("Mapping a showcase query message to a request and back preserves its payload and response type")
+    void requestToMessage_showcaseQuery_roundTrips(Object query) throws Exception {
+        val metaData = MetaData.with(anAlphabeticString(12), anAlphabeticString(12));
+        val message = new GenericStreamingQueryMessage<>(query, Showcase.class).withMetaData(metaData);
+        val mapper = new QueryMessageRequestMapper(messageSerializer);
+
+        val queryMessage = mapper.requestToMessage(mapper.messageToRequest(message));
+        assertThat(queryMessage.getQueryName()).isEqualTo(message.getQueryName());
+        assertThat(queryMessage.getIdentifier()).isEqualTo(message.getIdentifier());
+        assertThat(queryMessage.getPayload()).isEqualTo(query);
+        assertThat(queryMessage.getMetaData()).isEqualTo(metaData);
+        assertThat(queryMessage.getResponseType().getExpectedResponseType()).isEqualTo(Showcase.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("showcaseQuery")
+    @DisplayName("Mapping a request carrying a serialized showcase query to a query message preserves its payload")
+    void requestToMessage_serializedShowcaseQuery_isDeserialized(Object query) throws Exception {
+        val serializedPayload = messageSerializer.serialize(query, byte[].class);
+        val serializedMetaData = messageSerializer.serialize(MetaData.emptyInstance(), byte[].class);
+
+        val queryRequest =
+                QueryRequest
+                        .newBuilder()
+                        .setQueryName(query.getClass().getName())
+                        .setQueryIdentifier(IdentifierFactory.getInstance().generateIdentifier())
+                        .setPayloadType(serializedPayload.getType().getName())
+                        .setSerializedPayload(ByteString.copyFrom(serializedPayload.getData()))
+                        .setSerializedMetaData(ByteString.copyFrom(serializedMetaData.getData()))
+                        .setResponseType(Showcase.class.getName())
+                        .build();
+
+        val queryMessage = new QueryMessageRequestMapper(messageSerializer).requestToMessage(queryRequest);
+        assertThat(queryMessage.getPayload()).isEqualTo(query);
+    }
 }
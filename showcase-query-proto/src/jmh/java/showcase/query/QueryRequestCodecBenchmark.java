@@ -0,0 +1,101 @@
+package showcase.query;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the copying and the wrapping hand-over of the serialized payload and metadata of a query request, when
+ * encoding the request into a reused buffer, as the protobuf encoder does into a pooled buffer, and when decoding it
+ * back.
+ *
+ * <p>The gain is mostly in the allocation rate, reported by running the benchmark with the {@code gc} profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueryRequestCodecBenchmark {
+
+    /**
+     * The hand-over of the serialized bytes to and from the request.
+     */
+    public enum HandOver {
+        COPYING,
+        WRAPPING
+    }
+
+    @Param({ "COPYING", "WRAPPING" })
+    public HandOver handOver;
+
+    @Param({ "256", "16384" })
+    public int serializedSize;
+
+    private byte[] serializedPayload;
+
+    private byte[] serializedMetaData;
+
+    private byte[] encodedRequest;
+
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        serializedPayload = new byte[serializedSize];
+        random.nextBytes(serializedPayload);
+        serializedMetaData = new byte[serializedSize];
+        random.nextBytes(serializedMetaData);
+        encodedRequest = request().toByteArray();
+        buffer = new byte[encodedRequest.length];
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        QueryRequest request = request();
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+        request.writeTo(output);
+        return output.getTotalBytesWritten();
+    }
+
+    @Benchmark
+    public int decode() throws InvalidProtocolBufferException {
+        QueryRequest request = QueryRequest.parseFrom(encodedRequest);
+        return switch (handOver) {
+            case COPYING -> request.getSerializedPayload().toByteArray().length
+                                    + request.getSerializedMetaData().toByteArray().length;
+            case WRAPPING -> ByteStrings.unwrap(request.getSerializedPayload()).length
+                                     + ByteStrings.unwrap(request.getSerializedMetaData()).length;
+        };
+    }
+
+    private QueryRequest request() {
+        return QueryRequest
+                       .newBuilder()
+                       .setQueryName("showcase.query.Payload")
+                       .setQueryIdentifier("0b5c9ac4-5ff2-4bd4-9f3b-2bd2a1d3e5c7")
+                       .setPayloadType("showcase.query.Payload")
+                       .setSerializedPayload(handOver(serializedPayload))
+                       .setSerializedMetaData(handOver(serializedMetaData))
+                       .setResponseType("showcase.query.Showcase")
+                       .build();
+    }
+
+    private ByteString handOver(byte[] bytes) {
+        return switch (handOver) {
+            case COPYING -> ByteString.copyFrom(bytes);
+            case WRAPPING -> ByteStrings.wrap(bytes);
+        };
+    }
+}
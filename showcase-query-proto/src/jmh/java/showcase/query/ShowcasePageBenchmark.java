@@ -0,0 +1,137 @@
+package showcase.query;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares a page of showcases streamed by the query service as a JSON array and as length-delimited protobuf
+ * payloads.
+ *
+ * <p>Besides the throughput of the encoding and decoding of a page, the {@code encodedBytes} counter reports the rate
+ * of the written bytes: divided by the throughput of the encoding, it is the size of the page on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShowcasePageBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final TypeReference<List<Showcase>> SHOWCASE_LIST = new TypeReference<>() {
+    };
+
+    /**
+     * The format of the streamed showcases.
+     */
+    public enum ResponseFormat {
+        JSON,
+        PROTOBUF
+    }
+
+    @Param({ "JSON", "PROTOBUF" })
+    public ResponseFormat format;
+
+    private ObjectMapper objectMapper;
+
+    private ShowcasePayloadMapper showcasePayloadMapper;
+
+    private List<Showcase> showcases;
+
+    private byte[] encodedPage;
+
+    /**
+     * The counter of the bytes written by the encoding.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class WrittenBytes {
+        public long encodedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper =
+                new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        showcasePayloadMapper = new ShowcasePayloadMapper();
+        showcases =
+                IntStream.range(0, PAGE_SIZE)
+                         .mapToObj(index -> Showcase
+                                                    .builder()
+                                                    .showcaseId("%027d".formatted(index))
+                                                    .title("Axon Showcase benchmark " + index)
+                                                    .startTime(Instant.parse("2026-01-01T10:00:00Z"))
+                                                    .duration(Duration.ofMinutes(5))
+                                                    .status(ShowcaseStatus.STARTED)
+                                                    .scheduledAt(Instant.parse("2026-01-01T09:00:00Z"))
+                                                    .startedAt(Instant.parse("2026-01-01T10:00:00.123456Z"))
+                                                    .build())
+                         .toList();
+        encodedPage = encodePage();
+    }
+
+    @Benchmark
+    public byte[] encode(WrittenBytes writtenBytes) throws IOException {
+        byte[] encoded = encodePage();
+        writtenBytes.encodedBytes += encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public List<Showcase> decode() throws IOException {
+        return switch (format) {
+            case JSON -> objectMapper.readValue(encodedPage, SHOWCASE_LIST);
+            case PROTOBUF -> {
+                List<Showcase> decoded = new ArrayList<>(PAGE_SIZE);
+                ByteArrayInputStream input = new ByteArrayInputStream(encodedPage);
+                ShowcasePayload payload;
+                while ((payload = ShowcasePayload.parseDelimitedFrom(input)) != null) {
+                    decoded.add(showcasePayloadMapper.payloadToShowcase(payload));
+                }
+                yield decoded;
+            }
+        };
+    }
+
+    private byte[] encodePage() throws IOException {
+        return switch (format) {
+            case JSON -> objectMapper.writeValueAsBytes(showcases);
+            case PROTOBUF -> {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                for (Showcase showcase : showcases) {
+                    showcasePayloadMapper.showcaseToPayload(showcase).writeDelimitedTo(output);
+                }
+                yield output.toByteArray();
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package showcase.query;
+
+import com.google.protobuf.ByteOutput;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Hands serialized bytes over to and from Protobuf byte strings without copying them.
+ *
+ * <p>The arrays wrapped or unwrapped are shared with the byte strings, and must therefore never be modified: they are
+ * only ever produced or read by the message serializer.
+ */
+@UtilityClass
+class ByteStrings {
+
+    /**
+     * Wraps the given array in a byte string without copying it.
+     *
+     * @param bytes the array to wrap, never modified afterwards
+     * @return the byte string sharing the array
+     */
+    static ByteString wrap(byte[] bytes) {
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    /**
+     * Returns the bytes of the given byte string, without copying them when the byte string is backed by a whole array,
+     * as are the byte strings parsed from a message.
+     *
+     * @param byteString the byte string to unwrap
+     * @return the array backing the byte string, or a copy of its bytes
+     */
+    static byte[] unwrap(ByteString byteString) {
+        val arrayCapture = new ArrayCapture();
+        try {
+            UnsafeByteOperations.unsafeWriteTo(byteString, arrayCapture);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        val array = arrayCapture.array;
+        return array != null && !arrayCapture.fragmented ? array : byteString.toByteArray();
+    }
+
+    /**
+     * Byte output capturing the array a byte string is written from, if it is written from a single whole array.
+     */
+    private static final class ArrayCapture extends ByteOutput {
+
+        /**
+         * The whole array the byte string is written from, if any.
+         */
+        private byte @Nullable [] array;
+
+        /**
+         * Whether the byte string is written otherwise than from a single whole array.
+         */
+        private boolean fragmented;
+
+        @Override
+        public void write(byte value) {
+            fragmented = true;
+        }
+
+        @Override
+        public void write(byte[] value, int offset, int length) {
+            fragmented = true;
+        }
+
+        @Override
+        public void writeLazy(byte[] value, int offset, int length) {
+            if (array == null && offset == 0 && length == value.length) {
+                array = value;
+            } else {
+                fragmented = true;
+            }
+        }
+
+        @Override
+        public void write(ByteBuffer value) {
+            fragmented = true;
+        }
+
+        @Override
+        public void writeLazy(ByteBuffer value) {
+            fragmented = true;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package showcase.query;
 
-import com.google.protobuf.ByteString;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apache.commons.lang3.ClassUtils;
@@ -15,8 +14,18 @@ import org.axonframework.serialization.SimpleSerializedType;
 
 import java.util.Optional;
 
+import static showcase.query.ShowcasePayloadMapper.toStatus;
+import static showcase.query.ShowcasePayloadMapper.toStatusValue;
+
 /**
  * Maps between Axon streaming query messages and their Protobuf {@link QueryRequest} representations.
+ *
+ * <p>The payloads of the showcase queries, {@link FetchShowcaseListQuery} and {@link FetchShowcaseByIdQuery}, are
+ * mapped to their typed Protobuf messages, without going through the serializer nor resolving their type by name. The
+ * payloads of the other queries are serialized with the serializer, as is the metadata of all queries.
+ *
+ * <p>The serialized payloads and metadata are handed over to and from the requests without being copied, the arrays
+ * written by the serializer being wrapped as they are, and the arrays parsed with the requests being read in place.
  */
 @RequiredArgsConstructor
 @SuppressWarnings("ClassCanBeRecord")
@@ -33,19 +42,30 @@ public final class QueryMessageRequestMapper {
      * @return the serialized query request
      */
     public QueryRequest messageToRequest(StreamingQueryMessage<?, ?> message) {
-        val payload = message.serializePayload(messageSerializer, byte[].class);
         val metaData = message.serializeMetaData(messageSerializer, byte[].class);
         val requestBuilder =
                 QueryRequest
                         .newBuilder()
                         .setQueryName(message.getQueryName())
                         .setQueryIdentifier(message.getIdentifier())
-                        .setPayloadType(payload.getType().getName())
-                        .setSerializedPayload(ByteString.copyFrom(payload.getData()))
-                        .setSerializedMetaData(ByteString.copyFrom(metaData.getData()))
+                        .setSerializedMetaData(ByteStrings.wrap(metaData.getData()))
                         .setResponseType(message.getResponseType().getExpectedResponseType().getName());
-        if (payload.getType().getRevision() != null) {
-            requestBuilder.setPayloadRevision(payload.getType().getRevision());
+        switch (message.getPayload()) {
+            case FetchShowcaseListQuery query -> requestBuilder
+                                                         .setPayloadType(FetchShowcaseListQuery.class.getName())
+                                                         .setFetchShowcaseList(toPayload(query));
+            case FetchShowcaseByIdQuery query -> requestBuilder
+                                                         .setPayloadType(FetchShowcaseByIdQuery.class.getName())
+                                                         .setFetchShowcaseById(toPayload(query));
+            default -> {
+                val payload = message.serializePayload(messageSerializer, byte[].class);
+                requestBuilder
+                        .setPayloadType(payload.getType().getName())
+                        .setSerializedPayload(ByteStrings.wrap(payload.getData()));
+                if (payload.getType().getRevision() != null) {
+                    requestBuilder.setPayloadRevision(payload.getType().getRevision());
+                }
+            }
         }
         return requestBuilder.build();
     }
@@ -58,6 +78,30 @@ public final class QueryMessageRequestMapper {
      * @throws ClassNotFoundException if the response type class cannot be resolved
      */
     public StreamingQueryMessage<?, ?> requestToMessage(QueryRequest request) throws ClassNotFoundException {
+        val payload = switch (request.getPayloadCase()) {
+            case FETCH_SHOWCASE_LIST -> toQuery(request.getFetchShowcaseList());
+            case FETCH_SHOWCASE_BY_ID -> toQuery(request.getFetchShowcaseById());
+            default -> deserializePayload(request);
+        };
+        val metaData = messageSerializer.<byte[], MetaData>deserialize(
+                new SerializedMetaData<>(ByteStrings.unwrap(request.getSerializedMetaData()), byte[].class));
+        Class<?> responseType =
+                Showcase.class.getName().equals(request.getResponseType())
+                        ? Showcase.class
+                        : ClassUtils.getClass(request.getResponseType());
+        return new GenericStreamingQueryMessage<>(
+                new GenericMessage<>(request.getQueryIdentifier(), payload, metaData),
+                request.getQueryName(),
+                responseType);
+    }
+
+    /**
+     * Deserializes the serialized payload of the given request.
+     *
+     * @param request the request carrying a serialized payload
+     * @return the deserialized payload
+     */
+    private Object deserializePayload(QueryRequest request) {
         val payloadType =
                 new SimpleSerializedType(
                         request.getPayloadType(),
@@ -65,14 +109,106 @@ public final class QueryMessageRequestMapper {
                                 .filter(QueryRequest::hasPayloadRevision)
                                 .map(QueryRequest::getPayloadRevision)
                                 .orElse(null));
-        val payload = messageSerializer.deserialize(
-                new SimpleSerializedObject<>(request.getSerializedPayload().toByteArray(), byte[].class, payloadType));
-        val metaData = messageSerializer.<byte[], MetaData>deserialize(
-                new SerializedMetaData<>(request.getSerializedMetaData().toByteArray(), byte[].class));
-        val responseType = ClassUtils.getClass(request.getResponseType());
-        return new GenericStreamingQueryMessage<>(
-                new GenericMessage<>(request.getQueryIdentifier(), payload, metaData),
-                request.getQueryName(),
-                responseType);
+        val serializedPayload = ByteStrings.unwrap(request.getSerializedPayload());
+        return messageSerializer.deserialize(
+                new SimpleSerializedObject<>(serializedPayload, byte[].class, payloadType));
+    }
+
+    /**
+     * Converts the given showcase list query into its Protobuf payload.
+     *
+     * @param query the query to convert
+     * @return the Protobuf payload
+     */
+    private static FetchShowcaseListQueryPayload toPayload(FetchShowcaseListQuery query) {
+        val payloadBuilder = FetchShowcaseListQueryPayload.newBuilder().setSize(query.size());
+        if (query.title() != null) {
+            payloadBuilder.setTitle(query.title());
+        }
+        query.statuses().forEach(status -> payloadBuilder.addStatuses(toStatusValue(status)));
+        if (query.afterId() != null) {
+            payloadBuilder.setAfterId(query.afterId());
+        }
+        if (query.consistencyToken() != null) {
+            payloadBuilder.setConsistencyToken(toPayload(query.consistencyToken()));
+        }
+        return payloadBuilder.build();
+    }
+
+    /**
+     * Converts the given showcase by-ID query into its Protobuf payload.
+     *
+     * @param query the query to convert
+     * @return the Protobuf payload
+     */
+    private static FetchShowcaseByIdQueryPayload toPayload(FetchShowcaseByIdQuery query) {
+        val payloadBuilder = FetchShowcaseByIdQueryPayload.newBuilder().setShowcaseId(query.showcaseId());
+        if (query.consistencyToken() != null) {
+            payloadBuilder.setConsistencyToken(toPayload(query.consistencyToken()));
+        }
+        return payloadBuilder.build();
+    }
+
+    /**
+     * Converts the given consistency token into its Protobuf payload.
+     *
+     * @param consistencyToken the consistency token to convert
+     * @return the Protobuf payload
+     */
+    private static ConsistencyTokenPayload toPayload(ShowcaseConsistencyToken consistencyToken) {
+        return ConsistencyTokenPayload
+                       .newBuilder()
+                       .setShowcaseId(consistencyToken.showcaseId())
+                       .setSequenceNumber(consistencyToken.sequenceNumber())
+                       .build();
+    }
+
+    /**
+     * Converts the given showcase list query payload into its query.
+     *
+     * @param payload the Protobuf payload to convert
+     * @return the query
+     */
+    private static FetchShowcaseListQuery toQuery(FetchShowcaseListQueryPayload payload) {
+        val queryBuilder = FetchShowcaseListQuery.builder().size(payload.getSize());
+        if (payload.hasTitle()) {
+            queryBuilder.title(payload.getTitle());
+        }
+        payload.getStatusesList().forEach(statusValue -> queryBuilder.status(toStatus(statusValue)));
+        if (payload.hasAfterId()) {
+            queryBuilder.afterId(payload.getAfterId());
+        }
+        if (payload.hasConsistencyToken()) {
+            queryBuilder.consistencyToken(toConsistencyToken(payload.getConsistencyToken()));
+        }
+        return queryBuilder.build();
+    }
+
+    /**
+     * Converts the given showcase by-ID query payload into its query.
+     *
+     * @param payload the Protobuf payload to convert
+     * @return the query
+     */
+    private static FetchShowcaseByIdQuery toQuery(FetchShowcaseByIdQueryPayload payload) {
+        val queryBuilder = FetchShowcaseByIdQuery.builder().showcaseId(payload.getShowcaseId());
+        if (payload.hasConsistencyToken()) {
+            queryBuilder.consistencyToken(toConsistencyToken(payload.getConsistencyToken()));
+        }
+        return queryBuilder.build();
+    }
+
+    /**
+     * Converts the given consistency token payload into its token.
+     *
+     * @param payload the Protobuf payload to convert
+     * @return the consistency token
+     */
+    private static ShowcaseConsistencyToken toConsistencyToken(ConsistencyTokenPayload payload) {
+        return ShowcaseConsistencyToken
+                       .builder()
+                       .showcaseId(payload.getShowcaseId())
+                       .sequenceNumber(payload.getSequenceNumber())
+                       .build();
     }
 }
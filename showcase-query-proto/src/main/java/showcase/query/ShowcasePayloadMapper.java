@@ -0,0 +1,134 @@
+package showcase.query;
+
+import com.google.protobuf.Timestamp;
+import lombok.val;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Maps between showcases and their Protobuf {@link ShowcasePayload} representations, streamed by the query service to
+ * the clients accepting protobuf instead of JSON.
+ */
+public final class ShowcasePayloadMapper {
+
+    /**
+     * Converts the given showcase into its Protobuf payload.
+     *
+     * @param showcase the showcase to convert
+     * @return the Protobuf payload
+     */
+    public ShowcasePayload showcaseToPayload(Showcase showcase) {
+        val payloadBuilder =
+                ShowcasePayload
+                        .newBuilder()
+                        .setShowcaseId(showcase.showcaseId())
+                        .setTitle(showcase.title())
+                        .setStartTime(toTimestamp(showcase.startTime()))
+                        .setDuration(toDuration(showcase.duration()))
+                        .setStatus(toStatusValue(showcase.status()))
+                        .setScheduledAt(toTimestamp(showcase.scheduledAt()));
+        if (showcase.startedAt() != null) {
+            payloadBuilder.setStartedAt(toTimestamp(showcase.startedAt()));
+        }
+        if (showcase.finishedAt() != null) {
+            payloadBuilder.setFinishedAt(toTimestamp(showcase.finishedAt()));
+        }
+        return payloadBuilder.build();
+    }
+
+    /**
+     * Converts the given Protobuf payload into its showcase.
+     *
+     * @param payload the Protobuf payload to convert
+     * @return the showcase
+     * @throws IllegalArgumentException if the status of the payload is not a known status
+     */
+    public Showcase payloadToShowcase(ShowcasePayload payload) {
+        return Showcase
+                       .builder()
+                       .showcaseId(payload.getShowcaseId())
+                       .title(payload.getTitle())
+                       .startTime(toInstant(payload.getStartTime()))
+                       .duration(toDuration(payload.getDuration()))
+                       .status(toStatus(payload.getStatus()))
+                       .scheduledAt(toInstant(payload.getScheduledAt()))
+                       .startedAt(payload.hasStartedAt() ? toInstant(payload.getStartedAt()) : null)
+                       .finishedAt(payload.hasFinishedAt() ? toInstant(payload.getFinishedAt()) : null)
+                       .build();
+    }
+
+    /**
+     * Converts the given showcase status into its Protobuf value.
+     *
+     * @param status the status to convert
+     * @return the Protobuf value
+     */
+    static ShowcaseStatusValue toStatusValue(ShowcaseStatus status) {
+        return switch (status) {
+            case SCHEDULED -> ShowcaseStatusValue.SHOWCASE_STATUS_SCHEDULED;
+            case STARTED -> ShowcaseStatusValue.SHOWCASE_STATUS_STARTED;
+            case FINISHED -> ShowcaseStatusValue.SHOWCASE_STATUS_FINISHED;
+        };
+    }
+
+    /**
+     * Converts the given Protobuf status value into its showcase status.
+     *
+     * @param statusValue the Protobuf value to convert
+     * @return the showcase status
+     * @throws IllegalArgumentException if the value is not a known status
+     */
+    static ShowcaseStatus toStatus(ShowcaseStatusValue statusValue) {
+        return switch (statusValue) {
+            case SHOWCASE_STATUS_SCHEDULED -> ShowcaseStatus.SCHEDULED;
+            case SHOWCASE_STATUS_STARTED -> ShowcaseStatus.STARTED;
+            case SHOWCASE_STATUS_FINISHED -> ShowcaseStatus.FINISHED;
+            default -> throw new IllegalArgumentException("Unknown showcase status: " + statusValue);
+        };
+    }
+
+    /**
+     * Converts the given instant into its Protobuf timestamp.
+     *
+     * @param instant the instant to convert
+     * @return the Protobuf timestamp
+     */
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
+    }
+
+    /**
+     * Converts the given Protobuf timestamp into its instant.
+     *
+     * @param timestamp the Protobuf timestamp to convert
+     * @return the instant
+     */
+    private static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+
+    /**
+     * Converts the given duration into its Protobuf duration.
+     *
+     * @param duration the duration to convert
+     * @return the Protobuf duration
+     */
+    private static com.google.protobuf.Duration toDuration(Duration duration) {
+        return com.google.protobuf.Duration
+                       .newBuilder()
+                       .setSeconds(duration.getSeconds())
+                       .setNanos(duration.getNano())
+                       .build();
+    }
+
+    /**
+     * Converts the given Protobuf duration into its duration.
+     *
+     * @param duration the Protobuf duration to convert
+     * @return the duration
+     */
+    private static Duration toDuration(com.google.protobuf.Duration duration) {
+        return Duration.ofSeconds(duration.getSeconds(), duration.getNanos());
+    }
+}
@@ -15,6 +15,7 @@ dependencies {
     implementation(project(":showcase-projection-model"))
     implementation(project(":showcase-query-api"))
     implementation(project(":showcase-query-proto"))
+    implementation(project(":showcase-validation-extension"))
 
     implementation(libs.axon.springBoot.starter) {
         exclude(group = libs.axon.serverConnector.get().group, module = libs.axon.serverConnector.get().name)
@@ -0,0 +1,152 @@
+package showcase.query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.data.client.osc.ReactiveOpenSearchTemplate;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import showcase.projection.ShowcaseEntity;
+import showcase.projection.ShowcaseStatus;
+import showcase.query.ShowcaseQueryProperties.MultiGetBatch;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Showcase multi-get batcher component tests")
+class ShowcaseMultiGetBatcherCT {
+
+    private static final IndexCoordinates SHOWCASE_INDEX = IndexCoordinates.of("showcases");
+
+    private static final String SHOWCASE_ID = "33gkCN0UNn3Kzr3x7iuDaVT6sZi";
+
+    private static final String OTHER_SHOWCASE_ID = "33gkCN0UNn3Kzr3x7iuDaVT6sZj";
+
+    private static final String MISSING_SHOWCASE_ID = "33gkCN0UNn3Kzr3x7iuDaVT6sZk";
+
+    @Mock
+    private ReactiveOpenSearchTemplate openSearchTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("The showcases fetched within the window are fetched with a single multi-get")
+    void get_withinWindow_isCoalesced() {
+        val batcher = newBatcher(Duration.ofMillis(10), 64);
+        when(openSearchTemplate.multiGet(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Flux.just(
+                        MultiGetItem.of(anEntity(OTHER_SHOWCASE_ID), null),
+                        MultiGetItem.of(anEntity(SHOWCASE_ID), null)));
+
+        val results =
+                Mono.zip(batcher.get(SHOWCASE_ID),
+                         batcher.get(OTHER_SHOWCASE_ID),
+                         batcher.get(MISSING_SHOWCASE_ID).hasElement(),
+                         batcher.get(SHOWCASE_ID))
+                    .block(Duration.ofSeconds(5));
+
+        assertThat(results).isNotNull();
+        assertThat(results.getT1().showcaseId()).isEqualTo(SHOWCASE_ID);
+        assertThat(results.getT2().showcaseId()).isEqualTo(OTHER_SHOWCASE_ID);
+        assertThat(results.getT3()).isFalse();
+        assertThat(results.getT4().showcaseId()).isEqualTo(SHOWCASE_ID);
+        val query = ArgumentCaptor.forClass(Query.class);
+        verify(openSearchTemplate).multiGet(query.capture(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX));
+        assertThat(query.getValue().getIds()).containsExactly(SHOWCASE_ID, OTHER_SHOWCASE_ID, MISSING_SHOWCASE_ID);
+        assertThat(meterRegistry.get("showcaseMultiGetBatcher.batchSize").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("showcaseMultiGetBatcher.addedLatency").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("A batch holding the maximum number of fetches is sent before its window elapses")
+    void get_fullBatch_isSentBeforeWindow() {
+        val batcher = newBatcher(Duration.ofMillis(10), 2);
+        when(openSearchTemplate.multiGet(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Flux.just(
+                                    MultiGetItem.of(anEntity(SHOWCASE_ID), null),
+                                    MultiGetItem.of(anEntity(OTHER_SHOWCASE_ID), null)),
+                            Flux.just(MultiGetItem.of(anEntity(SHOWCASE_ID), null)));
+
+        val results =
+                Mono.zip(batcher.get(SHOWCASE_ID), batcher.get(OTHER_SHOWCASE_ID), batcher.get(SHOWCASE_ID))
+                    .block(Duration.ofSeconds(5));
+
+        assertThat(results).isNotNull();
+        assertThat(results.getT3().showcaseId()).isEqualTo(SHOWCASE_ID);
+        verify(openSearchTemplate, times(2)).multiGet(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX));
+        assertThat(meterRegistry.get("showcaseMultiGetBatcher.batchSize").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A failed fetch within the multi-get fails the fetches of its showcase only")
+    void get_failedItem_failsItsShowcaseOnly() {
+        val batcher = newBatcher(Duration.ofMillis(10), 64);
+        val failure = MultiGetItem.Failure.of("showcases", null, OTHER_SHOWCASE_ID, null, null);
+        when(openSearchTemplate.multiGet(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Flux.just(
+                        MultiGetItem.of(null, failure),
+                        MultiGetItem.of(anEntity(SHOWCASE_ID), null)));
+
+        val showcase = batcher.get(SHOWCASE_ID);
+        val otherShowcase = batcher.get(OTHER_SHOWCASE_ID);
+        val missingShowcase = batcher.get(MISSING_SHOWCASE_ID);
+        val results =
+                Mono.zip(showcase,
+                         otherShowcase.map(__ -> "found")
+                                      .onErrorReturn(DataRetrievalFailureException.class, "failed"),
+                         missingShowcase.hasElement())
+                    .block(Duration.ofSeconds(5));
+
+        assertThat(results).isNotNull();
+        assertThat(results.getT1().showcaseId()).isEqualTo(SHOWCASE_ID);
+        assertThat(results.getT2()).isEqualTo("failed");
+        assertThat(results.getT3()).isFalse();
+    }
+
+    @Test
+    @DisplayName("A failed multi-get fails the fetches of its batch")
+    void get_failedMultiGet_fails() {
+        val batcher = newBatcher(Duration.ofMillis(1), 64);
+        when(openSearchTemplate.multiGet(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Flux.error(new DataAccessResourceFailureException("OpenSearch unavailable")));
+
+        assertThatThrownBy(() -> batcher.get(SHOWCASE_ID).block(Duration.ofSeconds(5)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    private ShowcaseMultiGetBatcher newBatcher(Duration window, int maxBatchSize) {
+        return new ShowcaseMultiGetBatcher(
+                openSearchTemplate, SHOWCASE_INDEX, new MultiGetBatch(true, window, maxBatchSize), meterRegistry);
+    }
+
+    private static ShowcaseEntity anEntity(String showcaseId) {
+        return ShowcaseEntity
+                       .builder()
+                       .showcaseId(showcaseId)
+                       .title("My Showcase")
+                       .startTime(Instant.parse("2026-08-01T10:00:00Z"))
+                       .duration(Duration.ofMinutes(5))
+                       .status(ShowcaseStatus.SCHEDULED)
+                       .scheduledAt(Instant.parse("2026-08-01T09:00:00Z"))
+                       .build();
+    }
+}
@@ -1,5 +1,6 @@
 package showcase.query;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import showcase.projection.ShowcaseEntity;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +25,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,12 +40,16 @@ class ShowcaseQueryHandlerCT {
     @Mock
     private ReactiveOpenSearchTemplate openSearchTemplate;
 
+    private final ShowcaseQueryProperties queryProperties = new ShowcaseQueryProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private ShowcaseQueryHandler handler;
 
     @BeforeEach
     void setUp() {
         when(openSearchTemplate.getIndexCoordinatesFor(ShowcaseEntity.class)).thenReturn(SHOWCASE_INDEX);
-        handler = new ShowcaseQueryHandler(openSearchTemplate, new ShowcaseMapperImpl(), ObservationRegistry.create());
+        handler = newHandler();
     }
 
     @Test
@@ -114,4 +123,103 @@ class ShowcaseQueryHandlerCT {
                             .isEqualTo(ShowcaseQueryErrorCode.NOT_FOUND);
                 });
     }
+
+    @Test
+    @DisplayName("Handling the by-ID query with a consistency token waits until the showcase reaches it")
+    void handle_byIdQueryWithConsistencyToken_waitsUntilTokenReached() {
+        when(openSearchTemplate.get(eq(SHOWCASE_ID), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Mono.empty(),
+                            Mono.just(anEntity(showcase.projection.ShowcaseStatus.SCHEDULED, 0L)),
+                            Mono.just(anEntity(showcase.projection.ShowcaseStatus.STARTED, 1L)));
+
+        val query =
+                FetchShowcaseByIdQuery
+                        .builder()
+                        .showcaseId(SHOWCASE_ID)
+                        .consistencyToken(aConsistencyToken(1))
+                        .build();
+
+        val result = handler.handle(query).block();
+
+        assertThat(result).isNotNull();
+        assertThat(result.status()).isEqualTo(ShowcaseStatus.STARTED);
+        assertThat(meterRegistry.get("showcaseQueryHandler.consistencyWait").tag("outcome", "reached").timer().count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("Handling the by-ID query with a consistency token not reached in time returns the showcase as is")
+    void handle_byIdQueryWithConsistencyTokenNotReached_returnsShowcaseAsIs() {
+        queryProperties.getConsistencyWait().setMaxWait(Duration.ofMillis(100));
+        handler = newHandler();
+        when(openSearchTemplate.get(eq(SHOWCASE_ID), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Mono.just(anEntity(showcase.projection.ShowcaseStatus.SCHEDULED, 0L)));
+
+        val query =
+                FetchShowcaseByIdQuery
+                        .builder()
+                        .showcaseId(SHOWCASE_ID)
+                        .consistencyToken(aConsistencyToken(1))
+                        .build();
+
+        val result = handler.handle(query).block();
+
+        assertThat(result).isNotNull();
+        assertThat(result.status()).isEqualTo(ShowcaseStatus.SCHEDULED);
+        assertThat(meterRegistry.get("showcaseQueryHandler.consistencyWait").tag("outcome", "expired").timer().count())
+                .isOne();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Handling the list query with a consistency token searches once the showcase is searchable")
+    void handle_listQueryWithConsistencyToken_searchesOnceTokenSearchable() {
+        val hit = mock(SearchHit.class);
+        when(hit.getContent()).thenReturn(anEntity(showcase.projection.ShowcaseStatus.SCHEDULED, 0L));
+        when(openSearchTemplate.count(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Mono.just(0L), Mono.just(1L));
+        when(openSearchTemplate.search(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX)))
+                .thenReturn(Flux.just(hit));
+
+        val query =
+                FetchShowcaseListQuery
+                        .builder()
+                        .consistencyToken(aConsistencyToken(0))
+                        .build();
+
+        val result = handler.handle(query).collectList().block();
+
+        assertThat(result).hasSize(1);
+        verify(openSearchTemplate, times(2)).count(any(), eq(ShowcaseEntity.class), eq(SHOWCASE_INDEX));
+    }
+
+    private ShowcaseQueryHandler newHandler() {
+        return new ShowcaseQueryHandler(
+                openSearchTemplate,
+                new ShowcaseMapperImpl(),
+                queryProperties,
+                meterRegistry,
+                ObservationRegistry.create());
+    }
+
+    private static ShowcaseEntity anEntity(showcase.projection.ShowcaseStatus status, long sequenceNumber) {
+        return ShowcaseEntity
+                       .builder()
+                       .showcaseId(SHOWCASE_ID)
+                       .title("My Showcase")
+                       .startTime(Instant.parse("2026-08-01T10:00:00Z"))
+                       .duration(Duration.ofMinutes(5))
+                       .status(status)
+                       .scheduledAt(Instant.parse("2026-08-01T09:00:00Z"))
+                       .sequenceNumber(sequenceNumber)
+                       .build();
+    }
+
+    private static ShowcaseConsistencyToken aConsistencyToken(long sequenceNumber) {
+        return ShowcaseConsistencyToken
+                       .builder()
+                       .showcaseId(SHOWCASE_ID)
+                       .sequenceNumber(sequenceNumber)
+                       .build();
+    }
 }
@@ -14,6 +14,7 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.SystemEnvironmentPropertySource;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -40,6 +41,15 @@ class ShowcaseQueryPropertiesCT {
             assertThat(properties.isIndexInitializationEnabled()).isTrue();
             assertThat(properties.isExitAfterIndexInitialization()).isFalse();
             assertThat(properties.isValidationEnabled()).isTrue();
+            assertThat(properties.getConsistencyWait()).satisfies(consistencyWait -> {
+                assertThat(consistencyWait.getMaxWait()).isEqualTo(Duration.ofSeconds(2));
+                assertThat(consistencyWait.getCheckInterval()).isEqualTo(Duration.ofMillis(25));
+            });
+            assertThat(properties.getMultiGetBatch()).satisfies(multiGetBatch -> {
+                assertThat(multiGetBatch.isEnabled()).isFalse();
+                assertThat(multiGetBatch.getWindow()).isEqualTo(Duration.ofNanos(500_000));
+                assertThat(multiGetBatch.getMaxBatchSize()).isEqualTo(64);
+            });
         });
     }
 
@@ -51,6 +61,15 @@ class ShowcaseQueryPropertiesCT {
             assertThat(properties.isIndexInitializationEnabled()).isTrue();
             assertThat(properties.isExitAfterIndexInitialization()).isFalse();
             assertThat(properties.isValidationEnabled()).isTrue();
+            assertThat(properties.getConsistencyWait()).satisfies(consistencyWait -> {
+                assertThat(consistencyWait.getMaxWait()).isEqualTo(Duration.ofSeconds(2));
+                assertThat(consistencyWait.getCheckInterval()).isEqualTo(Duration.ofMillis(25));
+            });
+            assertThat(properties.getMultiGetBatch()).satisfies(multiGetBatch -> {
+                assertThat(multiGetBatch.isEnabled()).isFalse();
+                assertThat(multiGetBatch.getWindow()).isEqualTo(Duration.ofNanos(500_000));
+                assertThat(multiGetBatch.getMaxBatchSize()).isEqualTo(64);
+            });
         });
     }
 
@@ -81,6 +100,34 @@ class ShowcaseQueryPropertiesCT {
                             Map.of("SHOWCASE_QUERY_VALIDATION_ENABLED", "false"),
                             (Consumer<ShowcaseQueryProperties>) properties -> {
                                 assertThat(properties.isValidationEnabled()).isFalse();
+                            }),
+                argumentSet("SHOWCASE_QUERY_CONSISTENCY_WAIT_MAX_WAIT",
+                            Map.of("SHOWCASE_QUERY_CONSISTENCY_WAIT_MAX_WAIT", "PT5S"),
+                            (Consumer<ShowcaseQueryProperties>) properties -> {
+                                assertThat(properties.getConsistencyWait().getMaxWait())
+                                        .isEqualTo(Duration.ofSeconds(5));
+                            }),
+                argumentSet("SHOWCASE_QUERY_CONSISTENCY_WAIT_CHECK_INTERVAL",
+                            Map.of("SHOWCASE_QUERY_CONSISTENCY_WAIT_CHECK_INTERVAL", "PT0.1S"),
+                            (Consumer<ShowcaseQueryProperties>) properties -> {
+                                assertThat(properties.getConsistencyWait().getCheckInterval())
+                                        .isEqualTo(Duration.ofMillis(100));
+                            }),
+                argumentSet("SHOWCASE_QUERY_MULTI_GET_BATCH_ENABLED",
+                            Map.of("SHOWCASE_QUERY_MULTI_GET_BATCH_ENABLED", "true"),
+                            (Consumer<ShowcaseQueryProperties>) properties -> {
+                                assertThat(properties.getMultiGetBatch().isEnabled()).isTrue();
+                            }),
+                argumentSet("SHOWCASE_QUERY_MULTI_GET_BATCH_WINDOW",
+                            Map.of("SHOWCASE_QUERY_MULTI_GET_BATCH_WINDOW", "PT0.001S"),
+                            (Consumer<ShowcaseQueryProperties>) properties -> {
+                                assertThat(properties.getMultiGetBatch().getWindow())
+                                        .isEqualTo(Duration.ofMillis(1));
+                            }),
+                argumentSet("SHOWCASE_QUERY_MULTI_GET_BATCH_MAX_SIZE",
+                            Map.of("SHOWCASE_QUERY_MULTI_GET_BATCH_MAX_SIZE", "128"),
+                            (Consumer<ShowcaseQueryProperties>) properties -> {
+                                assertThat(properties.getMultiGetBatch().getMaxBatchSize()).isEqualTo(128);
                             })
         );
     }
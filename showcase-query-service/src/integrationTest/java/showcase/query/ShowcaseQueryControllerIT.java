@@ -112,6 +112,46 @@ class ShowcaseQueryControllerIT {
                                     .toList());
     }
 
+    @Test
+    @DisplayName("Fetching the list accepting protobuf responds with all showcases as length-delimited protobuf")
+    void fetchList_acceptingProtobuf_respondsWithAllShowcasesAsProtobuf() {
+        val showcases = showcases();
+
+        openSearchTemplate.save(
+                showcases.stream()
+                         .map(showcaseMapper::dtoToEntity)
+                         .toList(),
+                showcaseIndexOperations.getIndexCoordinates());
+
+        showcaseIndexOperations.refresh();
+
+        val query = FetchShowcaseListQuery.builder().build();
+
+        val showcasePayloads =
+                webClient
+                        .post()
+                        .uri("/streaming-query")
+                        .contentType(APPLICATION_PROTOBUF)
+                        .accept(APPLICATION_PROTOBUF)
+                        .bodyValue(queryMessageRequestMapper.messageToRequest(
+                                new GenericStreamingQueryMessage<>(query, Showcase.class)))
+                        .exchange()
+                        .expectStatus()
+                        .isOk()
+                        .expectHeader()
+                        .contentTypeCompatibleWith(APPLICATION_PROTOBUF)
+                        .returnResult(ShowcasePayload.class)
+                        .getResponseBody()
+                        .collectList()
+                        .block();
+
+        val showcasePayloadMapper = new ShowcasePayloadMapper();
+        assertThat(requireNonNull(showcasePayloads).stream().map(showcasePayloadMapper::payloadToShowcase))
+                .containsExactlyElementsOf(showcases.stream()
+                                                    .sorted(comparing(Showcase::showcaseId).reversed())
+                                                    .toList());
+    }
+
     @Test
     @DisplayName("Fetching the list with a title to filter by responds with the matching showcases")
     void fetchList_titleToFilterBy_respondsWithMatchingShowcasesSortedByShowcaseIdInReverseOrder() {
@@ -0,0 +1,278 @@
+package showcase.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jspecify.annotations.Nullable;
+import org.opensearch.data.client.osc.ReactiveOpenSearchTemplate;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import showcase.projection.ShowcaseEntity;
+import showcase.query.ShowcaseQueryProperties.MultiGetBatch;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the showcases fetched by ID concurrently into multi-gets, so that the by-ID queries arriving within the
+ * configured window share a single round trip to OpenSearch instead of issuing a get each.
+ *
+ * <p>A batch is sent once the window has elapsed since its first showcase was requested, or as soon as it holds the
+ * configured maximum number of requests. The showcases are fetched in real time, as with a get, and each requested
+ * showcase is answered from the multi-get, empty when it does not exist. A failure of the multi-get, or of the fetch of
+ * a showcase within it, fails the requests of the concerned showcases.
+ *
+ * <p>The number of showcases per multi-get is recorded as the {@code showcaseMultiGetBatcher.batchSize} distribution
+ * summary, and the time the requests waited for their batch to be sent as the
+ * {@code showcaseMultiGetBatcher.addedLatency} timer.
+ */
+@Slf4j
+final class ShowcaseMultiGetBatcher {
+
+    private static final String METER_NAME_PREFIX = "showcaseMultiGetBatcher";
+
+    /**
+     * The OpenSearch template used to run the multi-gets.
+     */
+    private final ReactiveOpenSearchTemplate openSearchTemplate;
+
+    /**
+     * The index coordinates of the showcase index.
+     */
+    private final IndexCoordinates showcaseIndex;
+
+    /**
+     * The time, in nanoseconds, after which a batch is sent.
+     */
+    private final long windowNanos;
+
+    /**
+     * The number of requests at which a batch is sent before its window elapses.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The scheduler sending the batches once their window elapses.
+     */
+    private final Scheduler scheduler = Schedulers.parallel();
+
+    /**
+     * The lock guarding the pending requests and the batch number.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The requests of the batch being gathered.
+     */
+    private List<PendingGet> pendingGets = new ArrayList<>();
+
+    /**
+     * The number of the batch being gathered, so that the window of a batch sent when full does not send the next one.
+     */
+    private long batchNumber;
+
+    /**
+     * The distribution of the number of showcases per multi-get.
+     */
+    private final DistributionSummary batchSizeSummary;
+
+    /**
+     * The timer of the time the requests waited for their batch to be sent.
+     */
+    private final Timer addedLatencyTimer;
+
+    /**
+     * Creates the batcher.
+     *
+     * @param openSearchTemplate      the OpenSearch template
+     * @param showcaseIndex           the index coordinates of the showcase index
+     * @param multiGetBatchProperties the multi-get batching configuration
+     * @param meterRegistry           the Micrometer meter registry
+     */
+    ShowcaseMultiGetBatcher(
+            ReactiveOpenSearchTemplate openSearchTemplate,
+            IndexCoordinates showcaseIndex,
+            MultiGetBatch multiGetBatchProperties,
+            MeterRegistry meterRegistry) {
+        this.openSearchTemplate = openSearchTemplate;
+        this.showcaseIndex = showcaseIndex;
+        this.windowNanos = multiGetBatchProperties.getWindow().toNanos();
+        this.maxBatchSize = multiGetBatchProperties.getMaxBatchSize();
+        this.batchSizeSummary =
+                DistributionSummary.builder(METER_NAME_PREFIX + ".batchSize")
+                                   .description("Number of showcases fetched per multi-get")
+                                   .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                                   .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                                   .register(meterRegistry);
+        this.addedLatencyTimer =
+                Timer.builder(METER_NAME_PREFIX + ".addedLatency")
+                     .description("Time the showcase fetches waited for their multi-get to be sent")
+                     .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                     .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                     .register(meterRegistry);
+    }
+
+    /**
+     * Fetches the showcase with the given ID with the next multi-get.
+     *
+     * @param showcaseId the ID of the showcase to fetch
+     * @return a mono of the showcase, empty if it does not exist
+     */
+    Mono<ShowcaseEntity> get(String showcaseId) {
+        return Mono.create(sink -> enqueue(new PendingGet(showcaseId, sink, System.nanoTime())));
+    }
+
+    /**
+     * Adds the request to the batch being gathered, sending the batch if it is full, or scheduling its sending if it is
+     * the first request of the batch.
+     *
+     * @param pendingGet the request to add
+     */
+    private void enqueue(PendingGet pendingGet) {
+        @Nullable List<PendingGet> fullBatch = null;
+        long firstOfBatch = -1;
+        synchronized (lock) {
+            pendingGets.add(pendingGet);
+            if (pendingGets.size() >= maxBatchSize) {
+                fullBatch = takeBatch();
+            } else if (pendingGets.size() == 1) {
+                firstOfBatch = batchNumber;
+            }
+        }
+
+        if (fullBatch != null) {
+            send(fullBatch);
+        } else if (firstOfBatch >= 0) {
+            val scheduledBatchNumber = firstOfBatch;
+            scheduler.schedule(() -> sendElapsed(scheduledBatchNumber), windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sends the batch whose window has elapsed, unless it has already been sent when full.
+     *
+     * @param scheduledBatchNumber the number of the batch whose window has elapsed
+     */
+    private void sendElapsed(long scheduledBatchNumber) {
+        List<PendingGet> batch;
+        synchronized (lock) {
+            if (batchNumber != scheduledBatchNumber || pendingGets.isEmpty()) {
+                return;
+            }
+            batch = takeBatch();
+        }
+        send(batch);
+    }
+
+    /**
+     * Takes the batch being gathered, starting the next one. Must be called with the lock held.
+     *
+     * @return the requests of the taken batch
+     */
+    private List<PendingGet> takeBatch() {
+        val batch = pendingGets;
+        pendingGets = new ArrayList<>();
+        batchNumber++;
+        return batch;
+    }
+
+    /**
+     * Fetches the showcases of the given batch with a multi-get, and answers its requests.
+     *
+     * @param batch the requests of the batch
+     */
+    private void send(List<PendingGet> batch) {
+        val sentNanos = System.nanoTime();
+        val pendingGetsById = new LinkedHashMap<String, List<PendingGet>>();
+        for (val pendingGet : batch) {
+            addedLatencyTimer.record(sentNanos - pendingGet.requestedNanos(), TimeUnit.NANOSECONDS);
+            pendingGetsById.computeIfAbsent(pendingGet.showcaseId(), __ -> new ArrayList<>()).add(pendingGet);
+        }
+        val showcaseIds = List.copyOf(pendingGetsById.keySet());
+        batchSizeSummary.record(showcaseIds.size());
+
+        val multiGetQuery = CriteriaQuery.builder(new Criteria()).withIds(showcaseIds).build();
+        Mono.defer(() -> openSearchTemplate.multiGet(multiGetQuery, ShowcaseEntity.class, showcaseIndex)
+                                           .collectList())
+            .subscribe(
+                    items -> answer(pendingGetsById, items),
+                    error -> {
+                        log.debug("Multi-get of {} showcases failed", showcaseIds.size(), error);
+                        batch.forEach(pendingGet -> pendingGet.sink().error(error));
+                    });
+    }
+
+    /**
+     * Answers the requests of a batch from the items of its multi-get, which holds the found showcases and the failed
+     * fetches only, the showcases that do not exist being left out.
+     *
+     * <p>The found showcases are matched by their ID, and the requested showcases without item are answered empty. A
+     * failed fetch fails the requests of the showcase whose ID it carries, or, when it carries none, the requests of
+     * all the showcases that were not found, as its showcase cannot be told apart from them.
+     *
+     * @param pendingGetsById the requests of the batch, by showcase ID
+     * @param items           the items of the multi-get
+     */
+    private static void answer(
+            Map<String, List<PendingGet>> pendingGetsById, List<MultiGetItem<ShowcaseEntity>> items) {
+        val entitiesById = new HashMap<String, ShowcaseEntity>();
+        val failedIds = new HashSet<String>();
+        var failedWithoutId = false;
+        for (val item : items) {
+            val entity = item.getItem();
+            val failure = item.getFailure();
+            if (item.isFailed()) {
+                val failedId = failure != null ? failure.getId() : null;
+                if (failedId != null) {
+                    failedIds.add(failedId);
+                } else {
+                    failedWithoutId = true;
+                }
+            } else if (entity != null) {
+                entitiesById.put(entity.showcaseId(), entity);
+            }
+        }
+
+        for (val showcasePendingGets : pendingGetsById.entrySet()) {
+            val showcaseId = showcasePendingGets.getKey();
+            val entity = entitiesById.get(showcaseId);
+            val failed = failedIds.contains(showcaseId) || (entity == null && failedWithoutId);
+            for (val pendingGet : showcasePendingGets.getValue()) {
+                if (failed) {
+                    pendingGet.sink().error(
+                            new DataRetrievalFailureException("Failed to fetch showcase " + showcaseId));
+                } else if (entity != null) {
+                    pendingGet.sink().success(entity);
+                } else {
+                    pendingGet.sink().success();
+                }
+            }
+        }
+    }
+
+    /**
+     * A showcase requested by ID, waiting for its batch to be sent.
+     *
+     * @param showcaseId     the ID of the requested showcase
+     * @param sink           the sink answering the request
+     * @param requestedNanos the time, in nanoseconds, at which the showcase was requested
+     */
+    private record PendingGet(String showcaseId, MonoSink<ShowcaseEntity> sink, long requestedNanos) {
+    }
+}
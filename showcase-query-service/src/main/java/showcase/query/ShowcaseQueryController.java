@@ -56,6 +56,11 @@ final class ShowcaseQueryController {
      */
     private final Printer queryRequestPrinter = TextFormat.debugFormatPrinter().emittingSingleLine(true);
 
+    /**
+     * The mapper converting showcases to their protobuf payloads.
+     */
+    private final ShowcasePayloadMapper showcasePayloadMapper = new ShowcasePayloadMapper();
+
     /**
      * Dispatches a query and returns the full response stream.
      *
@@ -69,6 +74,24 @@ final class ShowcaseQueryController {
                                queryRequestPrinter.printToString(queryRequest)));
     }
 
+    /**
+     * Dispatches a query and returns the full response stream as length-delimited protobuf showcases, for the clients
+     * accepting protobuf.
+     *
+     * @param queryRequest the query request
+     * @return the flux of showcase payloads
+     */
+    @PostMapping(
+            path = "/streaming-query",
+            consumes = APPLICATION_PROTOBUF_VALUE,
+            produces = APPLICATION_PROTOBUF_VALUE)
+    Flux<ShowcasePayload> streamingQueryAsProtobuf(@RequestBody QueryRequest queryRequest) {
+        return dispatchQuery(queryRequest)
+                       .map(this::toShowcasePayload)
+                       .checkpoint("ShowcaseQueryController.streamingQueryAsProtobuf(%s)".formatted(
+                               queryRequestPrinter.printToString(queryRequest)));
+    }
+
     /**
      * Dispatches a query and returns only the first response.
      *
@@ -105,6 +128,20 @@ final class ShowcaseQueryController {
                    .map(QueryResponseMessage::getPayload);
     }
 
+    /**
+     * Converts a query response into its protobuf payload.
+     *
+     * @param response the query response
+     * @return the showcase payload
+     * @throws ResponseStatusException if the response is not a showcase
+     */
+    private ShowcasePayload toShowcasePayload(Object response) {
+        if (response instanceof Showcase showcase) {
+            return showcasePayloadMapper.showcaseToPayload(showcase);
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Response type not available as protobuf");
+    }
+
     /**
      * Maps {@link ShowcaseQueryException} to structured problem details.
      *
@@ -1,8 +1,11 @@
 package showcase.query;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.val;
 import org.axonframework.queryhandling.QueryHandler;
+import org.jspecify.annotations.Nullable;
 import org.opensearch.data.client.osc.ReactiveOpenSearchTemplate;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
@@ -16,15 +19,29 @@ import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import showcase.projection.ShowcaseEntity;
+import showcase.query.ShowcaseQueryProperties.ConsistencyWait;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Handles showcase queries by searching the OpenSearch index.
+ *
+ * <p>A query carrying a consistency token is answered once the showcase of the token has reached it in the index, that
+ * is once the projection recorded on the showcase a sequence number at least equal to the token's one, so clients can
+ * read their writes without polling. The showcase is checked at the configured interval, and the query is answered as
+ * is once the configured maximum wait has elapsed. The waits are recorded as the
+ * {@code showcaseQueryHandler.consistencyWait} timer, tagged with whether the token was reached or the wait expired.
+ *
+ * <p>When enabled, the showcases fetched by ID are coalesced into multi-gets by a {@link ShowcaseMultiGetBatcher}.
  */
 @Component
 class ShowcaseQueryHandler {
+
+    private static final String METER_NAME_PREFIX = "showcaseQueryHandler";
+
     /**
      * The OpenSearch template used to run searches.
      */
@@ -45,26 +62,67 @@ class ShowcaseQueryHandler {
      */
     private final SignalListenerFactory<Showcase, ?> observationListenerFactory;
 
+    /**
+     * The configuration for waiting until the showcases reach the consistency token of a query.
+     */
+    private final ConsistencyWait consistencyWait;
+
+    /**
+     * The batcher coalescing the showcases fetched by ID into multi-gets, if enabled.
+     */
+    private final @Nullable ShowcaseMultiGetBatcher multiGetBatcher;
+
+    /**
+     * The registry to which the consistency wait timers are registered.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The timer of the waits ended by the showcase reaching the consistency token.
+     */
+    private final Timer reachedConsistencyWaitTimer;
+
+    /**
+     * The timer of the waits ended by the maximum wait elapsing.
+     */
+    private final Timer expiredConsistencyWaitTimer;
+
     /**
      * Creates the handler resolving index coordinates and observation listeners.
      *
      * @param openSearchTemplate the OpenSearch template
      * @param showcaseMapper the entity-to-DTO mapper
+     * @param queryProperties the query service properties
+     * @param meterRegistry the Micrometer meter registry
      * @param observationRegistry the Micrometer observation registry
      */
     ShowcaseQueryHandler(
             ReactiveOpenSearchTemplate openSearchTemplate,
             ShowcaseMapper showcaseMapper,
+            ShowcaseQueryProperties queryProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry) {
         this.openSearchTemplate = openSearchTemplate;
         this.showcaseMapper = showcaseMapper;
         this.showcaseIndex = openSearchTemplate.getIndexCoordinatesFor(ShowcaseEntity.class);
         this.observationListenerFactory = Micrometer.observation(observationRegistry);
+        this.consistencyWait = queryProperties.getConsistencyWait();
+        this.multiGetBatcher =
+                queryProperties.getMultiGetBatch().isEnabled()
+                        ? new ShowcaseMultiGetBatcher(
+                                openSearchTemplate, showcaseIndex, queryProperties.getMultiGetBatch(), meterRegistry)
+                        : null;
+        this.meterRegistry = meterRegistry;
+        this.reachedConsistencyWaitTimer = consistencyWaitTimer("reached");
+        this.expiredConsistencyWaitTimer = consistencyWaitTimer("expired");
     }
 
     /**
      * Handles the list query, filtering by title and status and sorting by showcase ID descending.
      *
+     * <p>With a consistency token, the search runs once the showcase of the token is searchable with a sequence number
+     * at least equal to the token's one, as the written showcases only become searchable once the index is refreshed.
+     *
      * @param query the list query to handle
      * @return a flux of matching showcases
      */
@@ -92,8 +150,10 @@ class ShowcaseQueryHandler {
                         .withMaxResults(query.size())
                         .withRequestCache(true)
                         .build();
-        return openSearchTemplate
-                       .search(criteriaQuery, ShowcaseEntity.class, showcaseIndex)
+        val consistencyToken = query.consistencyToken();
+        return (consistencyToken != null ? awaitSearchable(consistencyToken) : Mono.empty())
+                       .thenMany(Flux.defer(
+                               () -> openSearchTemplate.search(criteriaQuery, ShowcaseEntity.class, showcaseIndex)))
                        .name("fetch-showcase-list")
                        .map(SearchHit::getContent)
                        .map(showcaseMapper::entityToDto)
@@ -104,14 +164,20 @@ class ShowcaseQueryHandler {
     /**
      * Handles the by-ID query, erroring with {@link ShowcaseQueryErrorCode#NOT_FOUND} when the showcase is absent.
      *
+     * <p>The showcase is fetched with a real-time get, so it is checked against a consistency token of its own as soon
+     * as the projection has written it. A consistency token of another showcase is ignored.
+     *
      * @param query the by-ID query to handle
      * @return a mono of the matching showcase
      * @throws ShowcaseQueryException if no showcase with the given ID exists
      */
     @QueryHandler
     Mono<Showcase> handle(FetchShowcaseByIdQuery query) throws ShowcaseQueryException {
-        return openSearchTemplate
-                       .get(query.showcaseId(), ShowcaseEntity.class, showcaseIndex)
+        val fetch = Mono.defer(() -> fetchById(query.showcaseId()));
+        val consistencyToken = query.consistencyToken();
+        return (consistencyToken != null && consistencyToken.showcaseId().equals(query.showcaseId())
+                        ? awaitReached(fetch, consistencyToken)
+                        : fetch)
                        .name("fetch-showcase-by-id")
                        .map(showcaseMapper::entityToDto)
                        .tap(observationListenerFactory)
@@ -124,4 +190,98 @@ class ShowcaseQueryHandler {
                                                .build())))
                        .checkpoint("ShowcaseQueryHandler.handle(%s)".formatted(query));
     }
+
+    /**
+     * Fetches the showcase with the given ID in real time, with the next multi-get if enabled.
+     *
+     * @param showcaseId the ID of the showcase to fetch
+     * @return a mono of the showcase, empty if it does not exist
+     */
+    private Mono<ShowcaseEntity> fetchById(String showcaseId) {
+        val multiGetBatcher = this.multiGetBatcher;
+        return multiGetBatcher != null
+                       ? multiGetBatcher.get(showcaseId)
+                       : openSearchTemplate.get(showcaseId, ShowcaseEntity.class, showcaseIndex);
+    }
+
+    /**
+     * Waits until the fetched showcase has reached the given consistency token.
+     *
+     * @param fetch            the mono fetching the showcase
+     * @param consistencyToken the consistency token of the showcase to wait for
+     * @return a mono of the showcase once it has reached the token, or as is once the maximum wait has elapsed
+     */
+    private Mono<ShowcaseEntity> awaitReached(Mono<ShowcaseEntity> fetch, ShowcaseConsistencyToken consistencyToken) {
+        return awaitConsistency(fetch.filter(entity -> hasReached(entity, consistencyToken)), fetch);
+    }
+
+    /**
+     * Waits until the showcase of the given consistency token is searchable with the token reached.
+     *
+     * @param consistencyToken the consistency token to wait for
+     * @return a mono completing once the token is reached or the maximum wait has elapsed
+     */
+    private Mono<Void> awaitSearchable(ShowcaseConsistencyToken consistencyToken) {
+        val reachedQuery =
+                new CriteriaQuery(
+                        new Criteria("showcaseId").is(consistencyToken.showcaseId())
+                                                  .and("sequenceNumber")
+                                                  .greaterThanEqual(consistencyToken.sequenceNumber()));
+        return awaitConsistency(
+                Mono.defer(() -> openSearchTemplate.count(reachedQuery, ShowcaseEntity.class, showcaseIndex))
+                    .filter(count -> count > 0),
+                Mono.<Long>empty())
+                       .then();
+    }
+
+    /**
+     * Repeats the given check at the configured interval until it emits, and switches to the given fallback once the
+     * maximum wait has elapsed, recording the wait.
+     *
+     * @param check    the check emitting once the consistency token is reached, and completing empty otherwise
+     * @param fallback the mono answering the query as is once the maximum wait has elapsed
+     * @param <T>      the type of the checked value
+     * @return a mono of the value emitted by the check or the fallback
+     */
+    private <T> Mono<T> awaitConsistency(Mono<T> check, Mono<T> fallback) {
+        if (consistencyWait.getMaxWait().isZero()) {
+            return fallback;
+        }
+        return Mono.defer(() -> {
+            val sample = Timer.start(meterRegistry);
+            return check.repeatWhenEmpty(repeats -> repeats.delayElements(consistencyWait.getCheckInterval()))
+                        .doOnNext(__ -> sample.stop(reachedConsistencyWaitTimer))
+                        .timeout(consistencyWait.getMaxWait(), Mono.defer(() -> {
+                            sample.stop(expiredConsistencyWaitTimer);
+                            return fallback;
+                        }));
+        });
+    }
+
+    /**
+     * Returns whether the given showcase has reached the given consistency token.
+     *
+     * @param entity           the showcase
+     * @param consistencyToken the consistency token
+     * @return {@code true} if the sequence number recorded on the showcase is at least equal to the token's one
+     */
+    private static boolean hasReached(ShowcaseEntity entity, ShowcaseConsistencyToken consistencyToken) {
+        val sequenceNumber = entity.sequenceNumber();
+        return sequenceNumber != null && sequenceNumber >= consistencyToken.sequenceNumber();
+    }
+
+    /**
+     * Registers the timer of the consistency waits with the given outcome.
+     *
+     * @param outcome the outcome of the waits, {@code reached} or {@code expired}
+     * @return the registered timer
+     */
+    private Timer consistencyWaitTimer(String outcome) {
+        return Timer.builder(METER_NAME_PREFIX + ".consistencyWait")
+                    .description("Time waited for showcases to reach the consistency token of a query")
+                    .tag("outcome", outcome)
+                    .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                    .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                    .register(meterRegistry);
+    }
 }
@@ -2,6 +2,8 @@ package showcase.query;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import one.util.streamex.StreamEx;
@@ -12,6 +14,13 @@ import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.interceptors.BeanValidationInterceptor;
 import org.axonframework.messaging.interceptors.JSR303ViolationException;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.jspecify.annotations.Nullable;
+import showcase.identifier.KsuidValidator;
+import showcase.validation.CompiledValidators;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Intercepts query handling to translate validation failures into {@link ShowcaseQueryException}s.
@@ -21,9 +30,21 @@ import org.axonframework.messaging.unitofwork.UnitOfWork;
 @RequiredArgsConstructor
 final class ShowcaseQueryMessageInterceptor<T extends Message<?>> implements MessageHandlerInterceptor<T> {
     /**
-     * The interceptor performing bean validation on the query payload.
+     * The factory of the validators resolving the constraints of the query payloads.
+     */
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+    /**
+     * The validators compiled from the constraints of the query payload types.
+     */
+    private final CompiledValidators compiledValidators =
+            new CompiledValidators(validatorFactory, Set.of(KsuidValidator.class));
+
+    /**
+     * The interceptor performing reflective bean validation on the query payloads without a compiled validator.
      */
-    private final BeanValidationInterceptor<T> beanValidationInterceptor = new BeanValidationInterceptor<>();
+    private final BeanValidationInterceptor<T> beanValidationInterceptor =
+            new BeanValidationInterceptor<>(validatorFactory);
 
     /**
      * Whether bean validation is applied to query payloads.
@@ -45,7 +66,16 @@ final class ShowcaseQueryMessageInterceptor<T extends Message<?>> implements Mes
             throws Exception {
         try {
             if (validationEnabled) {
-                return beanValidationInterceptor.handle(unitOfWork, interceptorChain);
+                val payload = unitOfWork.getMessage().getPayload();
+                val compiledValidator = compiledValidators.forType(payload.getClass());
+                if (compiledValidator.isEmpty()) {
+                    return beanValidationInterceptor.handle(unitOfWork, interceptorChain);
+                }
+
+                val fieldErrors = compiledValidator.get().validate(payload);
+                if (!fieldErrors.isEmpty()) {
+                    throw invalidQuery(fieldErrors, null);
+                }
             }
             return interceptorChain.proceed();
         } catch (JSR303ViolationException e) {
@@ -56,14 +86,27 @@ final class ShowcaseQueryMessageInterceptor<T extends Message<?>> implements Mes
                             .mapKeys(Path::toString)
                             .collapseKeys()
                             .toMap();
-            throw new ShowcaseQueryException(
-                    ShowcaseQueryErrorDetails
-                            .builder()
-                            .errorCode(ShowcaseQueryErrorCode.INVALID_QUERY)
-                            .errorMessage("Given query is not valid")
-                            .metaData(MetaData.from(fieldErrors))
-                            .build(),
-                    e);
+            throw invalidQuery(fieldErrors, e);
         }
     }
+
+    /**
+     * Creates the exception reporting the given field errors of an invalid query.
+     *
+     * @param fieldErrors the messages of the violated constraints keyed by property path
+     * @param cause       the violation exception of the reflective validation, or {@code null} if compiled
+     * @return the {@link ShowcaseQueryErrorCode#INVALID_QUERY} exception
+     */
+    private static ShowcaseQueryException invalidQuery(
+            Map<String, List<String>> fieldErrors,
+            @Nullable Throwable cause) {
+        return new ShowcaseQueryException(
+                ShowcaseQueryErrorDetails
+                        .builder()
+                        .errorCode(ShowcaseQueryErrorCode.INVALID_QUERY)
+                        .errorMessage("Given query is not valid")
+                        .metaData(MetaData.from(fieldErrors))
+                        .build(),
+                cause);
+    }
 }
@@ -1,9 +1,18 @@
 package showcase.query;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for the query service.
  */
@@ -11,6 +20,56 @@ import org.springframework.validation.annotation.Validated;
 @Data
 @Validated
 final class ShowcaseQueryProperties {
+    /**
+     * Configuration for waiting until the fetched showcases reflect the consistency token of a query.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class ConsistencyWait {
+        /**
+         * The maximum time to wait for the showcase to reach the token, after which the query is answered as is.
+         */
+        @NotNull
+        @DurationMin(millis = 0)
+        @DurationMax(seconds = 10)
+        private Duration maxWait;
+
+        /**
+         * The interval between the checks of whether the showcase has reached the token.
+         */
+        @NotNull
+        @DurationMin(millis = 1)
+        @DurationMax(seconds = 1)
+        private Duration checkInterval;
+    }
+
+    /**
+     * Configuration for coalescing the showcases fetched by ID concurrently into multi-gets.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class MultiGetBatch {
+        /**
+         * Whether the showcases fetched by ID are coalesced into multi-gets, rather than fetched with a get each.
+         */
+        private boolean enabled;
+
+        /**
+         * The time after the first fetch of a batch at which the batch is sent.
+         */
+        @NotNull
+        @DurationMin(nanos = 1_000)
+        @DurationMax(millis = 10)
+        private Duration window;
+
+        /**
+         * The number of fetches at which a batch is sent before its window elapses.
+         */
+        @Min(2)
+        @Max(1_000)
+        private int maxBatchSize;
+    }
+
     /**
      * Whether to initialize the OpenSearch index on startup.
      */
@@ -25,4 +84,18 @@ final class ShowcaseQueryProperties {
      * Whether query payloads are validated against bean validation constraints before handling.
      */
     private boolean validationEnabled = true;
+
+    /**
+     * The configuration for waiting until the fetched showcases reflect the consistency token of a query.
+     */
+    @NotNull
+    @Valid
+    private ConsistencyWait consistencyWait = new ConsistencyWait(Duration.ofSeconds(2), Duration.ofMillis(25));
+
+    /**
+     * The configuration for coalescing the showcases fetched by ID concurrently into multi-gets.
+     */
+    @NotNull
+    @Valid
+    private MultiGetBatch multiGetBatch = new MultiGetBatch(false, Duration.ofNanos(500_000), 64);
 }
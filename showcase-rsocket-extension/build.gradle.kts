@@ -0,0 +1,20 @@
+plugins {
+    id("java-library-conventions")
+    id("code-coverage-conventions")
+}
+
+project.description = "Showcase RSocket Extension"
+
+dependencies {
+    implementation(platform(project(":platform")))
+
+    api(libs.axon.messaging)
+    api(libs.micrometer.core)
+    api(project(":showcase-serialization-extension"))
+
+    implementation(libs.jackson2.databind)
+    implementation(libs.rsocket.core)
+    implementation(libs.rsocket.transport.netty)
+
+    testImplementation(project(":showcase-test"))
+}
@@ -0,0 +1,47 @@
+package showcase.rsocket;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import org.jspecify.annotations.NullUnmarked;
+import showcase.serialization.SerializedValue;
+
+/**
+ * Request carrying a command sent to a remote member.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@Builder
+@Jacksonized
+@NullUnmarked
+@SuppressWarnings("ClassCanBeRecord")
+public class CommandRequest {
+    /**
+     * The identifier of the command message.
+     */
+    @NonNull
+    String messageIdentifier;
+
+    /**
+     * The name of the command.
+     */
+    @NonNull
+    String commandName;
+
+    /**
+     * The serialized payload of the command.
+     */
+    @NonNull
+    SerializedValue payload;
+
+    /**
+     * The serialized metadata of the command.
+     */
+    @NonNull
+    SerializedValue metaData;
+}
@@ -0,0 +1,44 @@
+package showcase.rsocket;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import org.jspecify.annotations.NullUnmarked;
+import showcase.serialization.SerializedValue;
+
+/**
+ * Response to a {@link CommandRequest}, carrying the result of the command.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@Builder
+@Jacksonized
+@NullUnmarked
+@SuppressWarnings("ClassCanBeRecord")
+public class CommandResponse {
+    /**
+     * Whether the command failed.
+     */
+    boolean exceptional;
+
+    /**
+     * The serialized result of the command, or the serialized details of its failure, if any.
+     */
+    SerializedValue payload;
+
+    /**
+     * The serialized metadata of the result.
+     */
+    @NonNull
+    SerializedValue metaData;
+
+    /**
+     * The message of the failure, if the command failed.
+     */
+    String exceptionMessage;
+}
@@ -0,0 +1,40 @@
+package showcase.rsocket;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import org.jspecify.annotations.NullUnmarked;
+import showcase.serialization.SerializedValue;
+
+/**
+ * Membership of a member in the consistent hash, as announced by the member itself.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@Builder
+@Jacksonized
+@NullUnmarked
+@SuppressWarnings("ClassCanBeRecord")
+public class Membership {
+    /**
+     * The name of the member, unique in the cluster.
+     */
+    @NonNull
+    String memberName;
+
+    /**
+     * The load factor of the member, or {@code 0} if the member takes no commands.
+     */
+    int loadFactor;
+
+    /**
+     * The serialized filter of the commands the member handles.
+     */
+    @NonNull
+    SerializedValue commandFilter;
+}
@@ -0,0 +1,1067 @@
+package showcase.rsocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.buffer.ByteBufUtil;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.SocketAcceptor;
+import io.rsocket.core.RSocketClient;
+import io.rsocket.core.RSocketConnector;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import io.rsocket.util.DefaultPayload;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandExecutionException;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.GenericCommandResultMessage;
+import org.axonframework.commandhandling.distributed.CommandBusConnector;
+import org.axonframework.commandhandling.distributed.CommandDispatchException;
+import org.axonframework.commandhandling.distributed.CommandMessageFilter;
+import org.axonframework.commandhandling.distributed.CommandRouter;
+import org.axonframework.commandhandling.distributed.ConsistentHash;
+import org.axonframework.commandhandling.distributed.ConsistentHashChangeListener;
+import org.axonframework.commandhandling.distributed.Member;
+import org.axonframework.commandhandling.distributed.RoutingStrategy;
+import org.axonframework.commandhandling.distributed.SimpleMember;
+import org.axonframework.commandhandling.distributed.commandfilter.DenyAll;
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.GenericMessage;
+import org.axonframework.messaging.HandlerExecutionException;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.jspecify.annotations.Nullable;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import showcase.serialization.SerializedValue;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+
+/**
+ * Command bus connector and command router exchanging commands between the members of a cluster over RSocket.
+ *
+ * <p>Plays the role the JGroups connector plays for the distributed command bus, with RSocket over TCP as the
+ * transport. Each member serving commands binds an RSocket server and announces its membership, that is its load
+ * factor and the filter of the commands it handles, on request. The connector periodically queries the members found
+ * by its {@link RSocketDiscovery} for their membership and builds the {@link ConsistentHash} routing the commands on
+ * their routing key, which the routing strategy derives from the aggregate identifier. A member may also run as a
+ * client only, without a server, in which case it routes commands to the other members but takes none itself.
+ *
+ * <p>A command sent to a remote member is a request-response exchange multiplexed on the single connection to that
+ * member. The exchanges in flight to a member are bounded by the maximum in-flight count: further commands wait in the
+ * bounded queue of the member, drained as responses come back, and are rejected with a
+ * {@link RejectedExecutionException} once it is full. Each exchange times out after the request timeout from the moment
+ * it is made, including the time it waited in the queue, and the exchanges still queued or in flight fail when the
+ * connection is closed. The membership queries bypass the queue. A member whose connection fails is suspected and left
+ * out of the routing until the next refresh finds it again. The receiving
+ * member dispatches the command on its local segment on a virtual thread, and replies with its result; the failure
+ * details are carried over, so a failed command reports a {@link CommandExecutionException} with the same details as
+ * over JGroups.
+ *
+ * <p>The round trip of the commands sent to remote members is recorded as the {@code showcaseRSocket.requestDuration}
+ * timer, and the number of remote members in the consistent hash as the {@code showcaseRSocket.members} gauge.
+ */
+@Slf4j
+public final class RSocketCommandBusConnector implements CommandBusConnector, CommandRouter {
+
+    private static final String METER_NAME_PREFIX = "showcaseRSocket";
+
+    /**
+     * The route of the requests carrying a command.
+     */
+    static final String COMMAND_ROUTE = "command";
+
+    /**
+     * The route of the requests querying the membership of a member.
+     */
+    static final String MEMBERSHIP_ROUTE = "membership";
+
+    /**
+     * The segment dispatching the commands handled by this member.
+     */
+    private final CommandBus localSegment;
+
+    /**
+     * The serializer of the exchanged messages.
+     */
+    private final Serializer serializer;
+
+    /**
+     * The strategy resolving the routing key of the commands.
+     */
+    private final RoutingStrategy routingStrategy;
+
+    /**
+     * The source of the addresses of the members.
+     */
+    private final RSocketDiscovery discovery;
+
+    /**
+     * The listener notified of the changes of the consistent hash.
+     */
+    private final ConsistentHashChangeListener consistentHashChangeListener;
+
+    /**
+     * The port the server of this member binds to, {@code 0} for an ephemeral port, or {@code null} to run without a
+     * server.
+     */
+    private final @Nullable Integer serverPort;
+
+    /**
+     * The host under which the other members reach this member, part of the member name, if it runs a server.
+     */
+    private final @Nullable String advertisedHost;
+
+    /**
+     * The interval at which the membership of the discovered members is refreshed.
+     */
+    private final Duration refreshInterval;
+
+    /**
+     * The maximum number of requests in flight to a single member.
+     */
+    private final int maxInFlight;
+
+    /**
+     * The maximum number of requests queued for an in-flight slot to a single member.
+     */
+    private final int queueCapacity;
+
+    /**
+     * The time after which a request to a member fails.
+     */
+    private final Duration requestTimeout;
+
+    /**
+     * The executor dispatching the commands received from other members.
+     */
+    private final ExecutorService dispatchExecutor;
+
+    /**
+     * The timer of the round trip of the commands sent to remote members.
+     */
+    private final Timer requestTimer;
+
+    /**
+     * The connections to the discovered members, keyed by their address.
+     */
+    private final Map<String, Peer> peers = new ConcurrentHashMap<>();
+
+    /**
+     * The lock guarding the publication of the consistent hash.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The consistent hash routing the commands.
+     */
+    private final AtomicReference<ConsistentHash> consistentHash = new AtomicReference<>(new ConsistentHash());
+
+    /**
+     * The remote members in the consistent hash, keyed by their name.
+     */
+    private volatile Map<String, RemoteMember> remoteMembers = Map.of();
+
+    /**
+     * The load factor of this member.
+     */
+    private volatile int loadFactor;
+
+    /**
+     * The filter of the commands handled by this member.
+     */
+    private volatile CommandMessageFilter commandFilter = DenyAll.INSTANCE;
+
+    /**
+     * Whether this member is shutting down, and thus announces it takes no more commands.
+     */
+    private volatile boolean shuttingDown;
+
+    /**
+     * The name of this member, once its server is bound.
+     */
+    private volatile @Nullable String localMemberName;
+
+    /**
+     * The server of this member, once bound.
+     */
+    private volatile @Nullable CloseableChannel server;
+
+    /**
+     * The scheduler refreshing the membership, once connected.
+     */
+    private volatile @Nullable ScheduledExecutorService refreshScheduler;
+
+    /**
+     * Creates a connector; {@link #connect()} must be called for it to serve and route commands.
+     *
+     * @param localSegment                 the segment dispatching the commands handled by this member
+     * @param serializer                   the serializer of the exchanged messages
+     * @param routingStrategy              the strategy resolving the routing key of the commands
+     * @param discovery                    the source of the addresses of the members
+     * @param consistentHashChangeListener the listener notified of the changes of the consistent hash, if any
+     * @param serverPort                   the port the server binds to, {@code 0} for an ephemeral port, or
+     *                                     {@code null} to run without a server
+     * @param advertisedHost               the host under which the other members reach this member, required with a
+     *                                     server
+     * @param refreshInterval              the interval at which the membership is refreshed
+     * @param maxInFlight                  the maximum number of requests in flight to a single member, at least one
+     * @param queueCapacity                the maximum number of requests queued for an in-flight slot to a single
+     *                                     member, at least one
+     * @param requestTimeout               the time after which a request to a member fails
+     * @param meterRegistry                the registry to which the connector metrics are registered
+     */
+    @Builder
+    private RSocketCommandBusConnector(
+            CommandBus localSegment,
+            Serializer serializer,
+            RoutingStrategy routingStrategy,
+            RSocketDiscovery discovery,
+            @Nullable ConsistentHashChangeListener consistentHashChangeListener,
+            @Nullable Integer serverPort,
+            @Nullable String advertisedHost,
+            Duration refreshInterval,
+            int maxInFlight,
+            int queueCapacity,
+            Duration requestTimeout,
+            MeterRegistry meterRegistry) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in-flight must be at least 1, but was " + maxInFlight);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1, but was " + queueCapacity);
+        }
+        if (serverPort != null && advertisedHost == null) {
+            throw new IllegalArgumentException("Advertised host is required to run a server");
+        }
+
+        this.localSegment = localSegment;
+        this.serializer = serializer;
+        this.routingStrategy = routingStrategy;
+        this.discovery = discovery;
+        this.consistentHashChangeListener =
+                requireNonNullElse(consistentHashChangeListener, ConsistentHashChangeListener.noOp());
+        this.serverPort = serverPort;
+        this.advertisedHost = advertisedHost;
+        this.refreshInterval = refreshInterval;
+        this.maxInFlight = maxInFlight;
+        this.queueCapacity = queueCapacity;
+        this.requestTimeout = requestTimeout;
+        this.dispatchExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("showcase-rsocket-command-", 0).factory());
+        this.requestTimer =
+                Timer.builder(METER_NAME_PREFIX + ".requestDuration")
+                     .description("Round trip of the commands sent to remote members over RSocket")
+                     .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                     .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                     .register(meterRegistry);
+        Gauge.builder(METER_NAME_PREFIX + ".members", this, connector -> connector.remoteMembers.size())
+             .description("Number of remote members in the consistent hash")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Binds the server, if any, and starts refreshing the membership at the configured interval, starting right away.
+     */
+    public void connect() {
+        lock.lock();
+        try {
+            if (refreshScheduler != null) {
+                return;
+            }
+
+            if (serverPort != null && advertisedHost != null) {
+                val channel =
+                        RSocketServer.create(SocketAcceptor.with(new Responder()))
+                                     .bind(TcpServerTransport.create("0.0.0.0", serverPort))
+                                     .block();
+                server = requireNonNull(channel, "RSocket server did not bind");
+                localMemberName = advertisedHost + ":" + channel.address().getPort();
+
+                log.info("Bound RSocket server of member {}", localMemberName);
+            }
+
+            val scheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofVirtual()
+                                  .name("showcase-rsocket-membership")
+                                  .factory());
+            scheduler.scheduleWithFixedDelay(
+                    this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+            refreshScheduler = scheduler;
+        } finally {
+            lock.unlock();
+        }
+        publishConsistentHash();
+    }
+
+    /**
+     * Stops refreshing the membership, closes the connections to the other members and the server, and stops
+     * dispatching the received commands.
+     */
+    public void disconnect() {
+        val scheduler = refreshScheduler;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        peers.values().forEach(Peer::dispose);
+        peers.clear();
+        val channel = server;
+        if (channel != null) {
+            channel.dispose();
+        }
+        dispatchExecutor.shutdown();
+    }
+
+    /**
+     * Returns the port the server of this member is bound to.
+     *
+     * @return the bound port, or {@code -1} if no server is bound
+     */
+    int boundPort() {
+        val channel = server;
+        return channel != null ? channel.address().getPort() : -1;
+    }
+
+    /**
+     * Sends the given command to the given member without expecting a reply.
+     *
+     * @param destination the member to send the command to
+     * @param command     the command to send
+     * @param <C>         the type of the command payload
+     */
+    @Override
+    public <C> void send(Member destination, CommandMessage<? extends C> command) {
+        if (destination.local()) {
+            localSegment.dispatch(command);
+            return;
+        }
+
+        peer(destination).fireAndForget(encode(serialize(command)))
+                         .subscribe(__ -> {
+                         }, e -> log.warn("Failed to send command {} to {}",
+                                          command.getCommandName(), destination.name(), e));
+    }
+
+    /**
+     * Sends the given command to the given member, notifying the callback of its result.
+     *
+     * @param destination the member to send the command to
+     * @param command     the command to send
+     * @param callback    the callback notified of the command result
+     * @param <C>         the type of the command payload
+     * @param <R>         the type of the command result
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <C, R> void send(Member destination, CommandMessage<C> command, CommandCallback<? super C, R> callback) {
+        if (destination.local()) {
+            localSegment.dispatch(command, callback);
+            return;
+        }
+
+        val start = System.nanoTime();
+        peer(destination)
+                .request(COMMAND_ROUTE, encode(serialize(command)))
+                .map(data -> deserialize(decode(data, CommandResponse.class)))
+                .subscribe(
+                        result -> {
+                            requestTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            callback.onResult(command, (CommandResultMessage<? extends R>) result);
+                        },
+                        e -> {
+                            if (!(e instanceof TimeoutException || e instanceof RejectedExecutionException)) {
+                                destination.suspect();
+                            }
+                            callback.onResult(command, asCommandResultMessage(new CommandDispatchException(
+                                    "Failed to send command to " + destination.name(), e)));
+                        });
+    }
+
+    /**
+     * Subscribes the given handler to the local segment.
+     *
+     * @param commandName the name of the commands to handle
+     * @param handler     the handler of the commands
+     * @return the handle to unsubscribe the handler
+     */
+    @Override
+    public Registration subscribe(String commandName, MessageHandler<? super CommandMessage<?>> handler) {
+        return localSegment.subscribe(commandName, handler);
+    }
+
+    /**
+     * Returns the local segment.
+     *
+     * @return the local segment
+     */
+    @Override
+    public Optional<CommandBus> localSegment() {
+        return Optional.of(localSegment);
+    }
+
+    /**
+     * Registers the given handler interceptor to the local segment.
+     *
+     * @param handlerInterceptor the interceptor to register
+     * @return the handle to unregister the interceptor
+     */
+    @Override
+    public Registration registerHandlerInterceptor(
+            MessageHandlerInterceptor<? super CommandMessage<?>> handlerInterceptor) {
+        return localSegment.registerHandlerInterceptor(handlerInterceptor);
+    }
+
+    /**
+     * Announces that this member takes no more commands, so the other members route around it from their next
+     * refresh, and stops routing commands to it locally.
+     *
+     * @return a completed future
+     */
+    @Override
+    public CompletableFuture<Void> initiateShutdown() {
+        shuttingDown = true;
+        publishConsistentHash();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Finds the member a command is routed to, based on its routing key.
+     *
+     * @param command the command to route
+     * @return the member handling the command, if any
+     */
+    @Override
+    public Optional<Member> findDestination(CommandMessage<?> command) {
+        return consistentHash.get().getMember(routingStrategy.getRoutingKey(command), command);
+    }
+
+    /**
+     * Updates the membership of this member, which the other members pick up on their next refresh.
+     *
+     * @param loadFactor    the load factor of this member
+     * @param commandFilter the filter of the commands handled by this member
+     */
+    @Override
+    public void updateMembership(int loadFactor, CommandMessageFilter commandFilter) {
+        this.loadFactor = loadFactor;
+        this.commandFilter = commandFilter;
+        publishConsistentHash();
+    }
+
+    /**
+     * Queries the discovered members for their membership, and republishes the consistent hash if it changed.
+     *
+     * <p>A member that does not answer within the request timeout is left out until the next refresh. The connections
+     * to the members no longer discovered are closed.
+     */
+    void refresh() {
+        try {
+            val addresses = discovery.discover();
+            val keys = new HashSet<String>();
+            for (val address : addresses) {
+                keys.add(key(address));
+            }
+
+            val memberships =
+                    Flux.fromIterable(addresses)
+                        .flatMap(address -> {
+                            val peer = peers.computeIfAbsent(key(address), __ -> new Peer(address));
+                            return peer.membership()
+                                       .map(data -> new RemoteMember(decode(data, Membership.class), peer))
+                                       .onErrorResume(e -> {
+                                           log.debug("Failed to query the membership of {}", peer.key, e);
+                                           return Mono.empty();
+                                       });
+                        })
+                        .collectList()
+                        .block(requestTimeout.multipliedBy(2));
+
+            peers.entrySet().removeIf(entry -> {
+                if (keys.contains(entry.getKey())) {
+                    return false;
+                }
+                entry.getValue().dispose();
+                return true;
+            });
+
+            val discovered = new HashMap<String, RemoteMember>();
+            for (val remoteMember : requireNonNullElse(memberships, List.<RemoteMember>of())) {
+                val membership = remoteMember.membership();
+                if (!membership.memberName().equals(localMemberName) && membership.loadFactor() > 0) {
+                    discovered.put(membership.memberName(), remoteMember);
+                }
+            }
+
+            if (!memberships(discovered).equals(memberships(remoteMembers))) {
+                log.info("Refreshed RSocket membership: {}", discovered.keySet());
+
+                remoteMembers = Map.copyOf(discovered);
+                publishConsistentHash();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh the RSocket membership", e);
+        }
+    }
+
+    /**
+     * Rebuilds the consistent hash from the membership of this member and of the remote members, and notifies the
+     * listener.
+     */
+    private void publishConsistentHash() {
+        lock.lock();
+        try {
+            var hash = new ConsistentHash();
+            val memberName = localMemberName;
+            if (memberName != null && !shuttingDown && loadFactor > 0) {
+                hash = hash.with(new SimpleMember<>(memberName, memberName, true, null), loadFactor, commandFilter);
+            }
+            for (val remoteMember : remoteMembers.values()) {
+                val membership = remoteMember.membership();
+                CommandMessageFilter remoteFilter =
+                        requireNonNull(membership.commandFilter().deserialize(serializer),
+                                       "Member announced no command filter");
+                hash = hash.with(
+                        new SimpleMember<>(membership.memberName(), remoteMember.peer().key, false, this::suspect),
+                        membership.loadFactor(),
+                        remoteFilter);
+            }
+            consistentHash.set(hash);
+            consistentHashChangeListener.onConsistentHashChanged(hash);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Leaves a member whose connection failed out of the consistent hash until the next refresh finds it again.
+     *
+     * @param member the suspected member
+     */
+    private void suspect(SimpleMember<String> member) {
+        val current = remoteMembers;
+        if (!current.containsKey(member.name())) {
+            return;
+        }
+
+        log.warn("Suspecting RSocket member {}", member.name());
+
+        val remaining = new HashMap<>(current);
+        remaining.remove(member.name());
+        remoteMembers = Map.copyOf(remaining);
+        publishConsistentHash();
+    }
+
+    /**
+     * Resolves the connection to the given remote member.
+     *
+     * @param destination the remote member
+     * @return the connection to the member
+     * @throws CommandDispatchException if the member is not in the consistent hash anymore
+     */
+    private Peer peer(Member destination) {
+        val remoteMember = remoteMembers.get(destination.name());
+        if (remoteMember == null) {
+            throw new CommandDispatchException("No connection to member " + destination.name());
+        }
+        return remoteMember.peer();
+    }
+
+    /**
+     * Returns the announced memberships of the given members.
+     *
+     * @param members the members keyed by their name
+     * @return the memberships keyed by member name
+     */
+    private static Map<String, Membership> memberships(Map<String, RemoteMember> members) {
+        val memberships = new HashMap<String, Membership>();
+        members.forEach((name, member) -> memberships.put(name, member.membership()));
+        return memberships;
+    }
+
+    /**
+     * Returns the key of the connection to the given address.
+     *
+     * @param address the address of a member
+     * @return the {@code host:port} key
+     */
+    private static String key(InetSocketAddress address) {
+        return address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * Returns the membership of this member.
+     *
+     * @return the membership, with a load factor of {@code 0} while shutting down
+     */
+    private Membership membership() {
+        return Membership
+                       .builder()
+                       .memberName(requireNonNull(localMemberName, "RSocket server not bound"))
+                       .loadFactor(shuttingDown ? 0 : loadFactor)
+                       .commandFilter(SerializedValue.serialize(commandFilter, serializer))
+                       .build();
+    }
+
+    /**
+     * Dispatches a received command on the local segment and serializes its result.
+     *
+     * @param data the serialized command request
+     * @return the serialized command response
+     */
+    private Mono<byte[]> handleCommand(byte[] data) {
+        return Mono.create(sink -> dispatchExecutor.execute(() -> {
+            try {
+                CommandCallback<Object, Object> callback =
+                        (message, result) -> sink.success(encode(serialize(result)));
+                localSegment.dispatch(deserialize(decode(data, CommandRequest.class)), callback);
+            } catch (RuntimeException e) {
+                sink.success(encode(serialize(asCommandResultMessage(e))));
+            }
+        }));
+    }
+
+    /**
+     * Encodes an exchanged message with the serializer.
+     *
+     * @param message the message to encode
+     * @return the encoded message
+     */
+    private byte[] encode(Object message) {
+        return serializer.serialize(message, byte[].class).getData();
+    }
+
+    /**
+     * Decodes an exchanged message with the serializer.
+     *
+     * @param data the encoded message
+     * @param type the type of the message
+     * @param <T>  the type of the message
+     * @return the decoded message
+     */
+    private <T> T decode(byte[] data, Class<T> type) {
+        T message = serializer.deserialize(new SimpleSerializedObject<>(data, byte[].class, type.getName(), null));
+        return requireNonNull(message, "Received an empty " + type.getSimpleName());
+    }
+
+    /**
+     * Serializes a command to be sent to a remote member.
+     *
+     * @param command the command to serialize
+     * @return the command request
+     */
+    private CommandRequest serialize(CommandMessage<?> command) {
+        return CommandRequest
+                       .builder()
+                       .messageIdentifier(command.getIdentifier())
+                       .commandName(command.getCommandName())
+                       .payload(SerializedValue.serialize(command.getPayload(), serializer))
+                       .metaData(SerializedValue.serialize(command.getMetaData(), serializer))
+                       .build();
+    }
+
+    /**
+     * Deserializes a command received from a remote member.
+     *
+     * @param request the command request
+     * @return the command message, with its original identifier and metadata
+     */
+    private CommandMessage<Object> deserialize(CommandRequest request) {
+        Object payload = request.payload().deserialize(serializer);
+        MetaData metaData = requireNonNullElse(request.metaData().deserialize(serializer), MetaData.emptyInstance());
+        return new GenericCommandMessage<>(
+                new GenericMessage<>(request.messageIdentifier(), payload, metaData), request.commandName());
+    }
+
+    /**
+     * Serializes a command result to be sent back to the sending member.
+     *
+     * @param result the result to serialize
+     * @return the command response, carrying the failure message and details if the command failed
+     */
+    private CommandResponse serialize(CommandResultMessage<?> result) {
+        val response =
+                CommandResponse
+                        .builder()
+                        .metaData(SerializedValue.serialize(result.getMetaData(), serializer));
+        if (result.isExceptional()) {
+            val exception = result.exceptionResult();
+            response.exceptional(true)
+                    .exceptionMessage(exception.getMessage());
+            HandlerExecutionException.resolveDetails(exception)
+                                     .ifPresent(details -> response.payload(
+                                             SerializedValue.serialize(details, serializer)));
+        } else if (result.getPayload() != null) {
+            response.payload(SerializedValue.serialize(result.getPayload(), serializer));
+        }
+        return response.build();
+    }
+
+    /**
+     * Deserializes a command result received from a remote member.
+     *
+     * @param response the command response
+     * @return the result message, exceptional with a {@link CommandExecutionException} if the command failed
+     */
+    private CommandResultMessage<?> deserialize(CommandResponse response) {
+        MetaData metaData = requireNonNullElse(response.metaData().deserialize(serializer), MetaData.emptyInstance());
+        Object payload = response.payload() != null ? response.payload().deserialize(serializer) : null;
+        if (response.exceptional()) {
+            return new GenericCommandResultMessage<Object>(
+                    new CommandExecutionException(response.exceptionMessage(), null, payload), metaData);
+        }
+        return new GenericCommandResultMessage<>(payload, metaData);
+    }
+
+    /**
+     * Copies the data of a received payload.
+     *
+     * @param payload the payload
+     * @return the data of the payload
+     */
+    private static byte[] data(Payload payload) {
+        try {
+            return ByteBufUtil.getBytes(payload.sliceData());
+        } finally {
+            payload.release();
+        }
+    }
+
+    /**
+     * A member in the consistent hash, with the connection to it.
+     *
+     * @param membership the membership announced by the member
+     * @param peer       the connection to the member
+     */
+    private record RemoteMember(Membership membership, Peer peer) {
+    }
+
+    /**
+     * The connection to a member, bounding the requests in flight to it and the requests queued for an in-flight slot.
+     */
+    private final class Peer {
+        /**
+         * The {@code host:port} key of the member address.
+         */
+        private final String key;
+
+        /**
+         * The client multiplexing the requests on the connection, reconnecting when it is lost.
+         */
+        private final RSocketClient client;
+
+        /**
+         * The lock guarding the requests in flight and queued, and the disposal.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * The requests in flight to the member.
+         */
+        private final Set<PendingExchange> inFlight = new HashSet<>();
+
+        /**
+         * The requests waiting for an in-flight slot, in the order they were made.
+         */
+        private final Deque<PendingExchange> queued = new ArrayDeque<>();
+
+        /**
+         * Whether the connection is closed, failing the requests made since.
+         */
+        private boolean disposed;
+
+        /**
+         * Creates a connection to the member at the given address, established on its first request.
+         *
+         * @param address the address of the member
+         */
+        private Peer(InetSocketAddress address) {
+            this.key = key(address);
+            this.client = RSocketClient.from(
+                    RSocketConnector.create()
+                                    .connect(TcpClientTransport.create(address.getHostString(), address.getPort())));
+        }
+
+        /**
+         * Queues a request-response exchange with the member.
+         *
+         * @param route the route of the request
+         * @param data  the data of the request
+         * @return the data of the response, emitted once the exchange completes
+         */
+        private Mono<byte[]> request(String route, byte[] data) {
+            return enqueue(
+                    client.requestResponse(Mono.fromSupplier(() -> DefaultPayload.create(data, route.getBytes(UTF_8))))
+                          .map(RSocketCommandBusConnector::data)
+                          .switchIfEmpty(Mono.error(
+                                  () -> new IllegalStateException("Empty response from member " + key))));
+        }
+
+        /**
+         * Queues a fire-and-forget exchange with the member.
+         *
+         * @param data the data of the command request
+         * @return the completion of the exchange
+         */
+        private Mono<Void> fireAndForget(byte[] data) {
+            return enqueue(
+                    client.fireAndForget(Mono.fromSupplier(() -> DefaultPayload.create(
+                                  data, COMMAND_ROUTE.getBytes(UTF_8))))
+                          .then(Mono.<byte[]>empty()))
+                    .then();
+        }
+
+        /**
+         * Queries the membership of the member, outside the queue of the commands, so that a member saturated with
+         * commands does not hold the refresh up.
+         *
+         * @return the data of the membership, failing if the member does not answer within the request timeout
+         */
+        private Mono<byte[]> membership() {
+            return client.requestResponse(Mono.fromSupplier(() -> DefaultPayload.create(
+                                 new byte[0], MEMBERSHIP_ROUTE.getBytes(UTF_8))))
+                         .map(RSocketCommandBusConnector::data)
+                         .timeout(requestTimeout);
+        }
+
+        /**
+         * Starts an exchange right away if an in-flight slot is free, or queues it until one is, timing it out after
+         * the request timeout from the moment it is made, queued or not.
+         *
+         * @param exchange the exchange
+         * @return the result of the exchange, failing with a {@link RejectedExecutionException} if the queue is full,
+         *         or with a {@link TimeoutException} if the exchange did not complete within the request timeout
+         */
+        private Mono<byte[]> enqueue(Mono<byte[]> exchange) {
+            return Mono.<byte[]>create(sink -> {
+                           val pendingExchange = new PendingExchange(exchange, sink);
+                           sink.onDispose(() -> release(pendingExchange));
+                           admit(pendingExchange);
+                       })
+                       .timeout(requestTimeout);
+        }
+
+        /**
+         * Starts the given exchange if an in-flight slot is free, queues it if the queue is not full, and fails it
+         * otherwise.
+         *
+         * @param pendingExchange the exchange
+         */
+        private void admit(PendingExchange pendingExchange) {
+            @Nullable RuntimeException rejection = null;
+            var start = false;
+            lock.lock();
+            try {
+                if (pendingExchange.released) {
+                    return;
+                }
+                if (disposed) {
+                    rejection = new CommandDispatchException("Connection to member " + key + " is closed");
+                } else if (inFlight.size() < maxInFlight) {
+                    inFlight.add(pendingExchange);
+                    start = true;
+                } else if (queued.size() < queueCapacity) {
+                    queued.addLast(pendingExchange);
+                } else {
+                    rejection = new RejectedExecutionException(
+                            "Queue of member " + key + " is full with " + queueCapacity + " requests");
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (rejection != null) {
+                pendingExchange.sink.error(rejection);
+            } else if (start) {
+                pendingExchange.start();
+            }
+        }
+
+        /**
+         * Releases the given exchange once it completed, failed, or was cancelled, starting the next queued exchange
+         * in its in-flight slot.
+         *
+         * @param pendingExchange the exchange
+         */
+        private void release(PendingExchange pendingExchange) {
+            @Nullable PendingExchange next = null;
+            lock.lock();
+            try {
+                pendingExchange.released = true;
+                if (inFlight.remove(pendingExchange)) {
+                    if (!disposed) {
+                        next = queued.pollFirst();
+                        if (next != null) {
+                            inFlight.add(next);
+                        }
+                    }
+                } else {
+                    queued.remove(pendingExchange);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            pendingExchange.cancel();
+            if (next != null) {
+                next.start();
+            }
+        }
+
+        /**
+         * Closes the connection and fails the requests in flight and queued.
+         */
+        private void dispose() {
+            List<PendingExchange> pendingExchanges;
+            lock.lock();
+            try {
+                disposed = true;
+                pendingExchanges = new ArrayList<>(inFlight);
+                pendingExchanges.addAll(queued);
+            } finally {
+                lock.unlock();
+            }
+
+            val closed = new CommandDispatchException("Connection to member " + key + " is closed");
+            pendingExchanges.forEach(pendingExchange -> pendingExchange.sink.error(closed));
+            client.dispose();
+        }
+    }
+
+    /**
+     * An exchange with a member, in flight or waiting for an in-flight slot.
+     */
+    private static final class PendingExchange {
+        /**
+         * The exchange, started once it takes an in-flight slot.
+         */
+        private final Mono<byte[]> exchange;
+
+        /**
+         * The sink notified of the result of the exchange.
+         */
+        private final MonoSink<byte[]> sink;
+
+        /**
+         * The subscription to the exchange, once started.
+         */
+        private volatile @Nullable Disposable subscription;
+
+        /**
+         * Whether the exchange was completed, failed, or cancelled.
+         */
+        private volatile boolean released;
+
+        /**
+         * Creates a pending exchange.
+         *
+         * @param exchange the exchange
+         * @param sink     the sink notified of the result of the exchange
+         */
+        private PendingExchange(Mono<byte[]> exchange, MonoSink<byte[]> sink) {
+            this.exchange = exchange;
+            this.sink = sink;
+        }
+
+        /**
+         * Starts the exchange, notifying the sink of its result, unless it was released meanwhile.
+         */
+        private void start() {
+            val started = exchange.subscribe(response -> sink.success(response), sink::error, () -> sink.success());
+            subscription = started;
+            if (released) {
+                started.dispose();
+            }
+        }
+
+        /**
+         * Cancels the exchange if it is still running.
+         */
+        private void cancel() {
+            val current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+
+    /**
+     * The responder serving the requests of the other members.
+     */
+    private final class Responder implements RSocket {
+        /**
+         * Serves a command or membership request.
+         *
+         * @param payload the request
+         * @return the response
+         */
+        @Override
+        public Mono<Payload> requestResponse(Payload payload) {
+            val route = payload.getMetadataUtf8();
+            val data = data(payload);
+            return switch (route) {
+                case COMMAND_ROUTE -> handleCommand(data).map(DefaultPayload::create);
+                case MEMBERSHIP_ROUTE -> Mono.fromSupplier(() -> DefaultPayload.create(encode(membership())));
+                default -> Mono.error(new IllegalArgumentException("Unknown route " + route));
+            };
+        }
+
+        /**
+         * Dispatches a command sent without expecting a reply.
+         *
+         * @param payload the command request
+         * @return the completion of the acceptance of the command
+         */
+        @Override
+        public Mono<Void> fireAndForget(Payload payload) {
+            val data = data(payload);
+            return Mono.fromRunnable(() -> dispatchExecutor.execute(() -> {
+                try {
+                    localSegment.dispatch(deserialize(decode(data, CommandRequest.class)));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to dispatch a command received without reply", e);
+                }
+            }));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package showcase.rsocket;
+
+import lombok.val;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Source of the addresses of the members of an {@link RSocketCommandBusConnector} cluster.
+ *
+ * <p>Discovery is queried on every membership refresh, so the returned addresses may change over time. The addresses
+ * may include the querying member itself, which recognizes and skips its own membership.
+ */
+@FunctionalInterface
+public interface RSocketDiscovery {
+    /**
+     * Discovers the addresses of the members.
+     *
+     * @return the addresses of the members
+     */
+    List<InetSocketAddress> discover();
+
+    /**
+     * Creates a discovery returning a fixed list of members.
+     *
+     * @param members the members, as {@code host:port} entries
+     * @return the discovery
+     * @throws IllegalArgumentException if an entry is not a valid {@code host:port} pair
+     */
+    static RSocketDiscovery staticMembers(List<String> members) {
+        val addresses = new ArrayList<InetSocketAddress>(members.size());
+        for (val member : members) {
+            addresses.add(parse(member));
+        }
+        val fixedAddresses = List.copyOf(addresses);
+        return () -> fixedAddresses;
+    }
+
+    /**
+     * Creates a discovery resolving Kubernetes headless services, whose DNS records list the addresses of their ready
+     * pods.
+     *
+     * <p>A service that fails to resolve is skipped, so a transient DNS failure empties the membership of that service
+     * until the next refresh instead of failing it altogether.
+     *
+     * @param services the headless services, as {@code host:port} entries, the port being the RSocket port of the pods
+     * @return the discovery
+     * @throws IllegalArgumentException if an entry is not a valid {@code host:port} pair
+     */
+    static RSocketDiscovery kubernetes(List<String> services) {
+        val serviceAddresses = staticMembers(services).discover();
+        return () -> {
+            val addresses = new ArrayList<InetSocketAddress>();
+            for (val serviceAddress : serviceAddresses) {
+                try {
+                    for (val podAddress : InetAddress.getAllByName(serviceAddress.getHostString())) {
+                        addresses.add(new InetSocketAddress(podAddress, serviceAddress.getPort()));
+                    }
+                } catch (UnknownHostException e) {
+                    // The service has no ready pod yet, or DNS is unavailable: retried on the next refresh.
+                }
+            }
+            return addresses;
+        };
+    }
+
+    /**
+     * Parses a {@code host:port} entry into an unresolved address.
+     *
+     * @param member the entry to parse
+     * @return the unresolved address
+     * @throws IllegalArgumentException if the entry is not a valid {@code host:port} pair
+     */
+    private static InetSocketAddress parse(String member) {
+        val separator = member.lastIndexOf(':');
+        if (separator <= 0 || separator == member.length() - 1) {
+            throw new IllegalArgumentException("Member must be a host:port pair, but was " + member);
+        }
+        try {
+            return InetSocketAddress.createUnresolved(
+                    member.substring(0, separator).trim(), Integer.parseInt(member.substring(separator + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Member must be a host:port pair, but was " + member, e);
+        }
+    }
+}
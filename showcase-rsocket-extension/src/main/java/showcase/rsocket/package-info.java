@@ -0,0 +1,7 @@
+/**
+ * RSocket extension: command bus connector and command router exchanging commands over RSocket.
+ */
+@NullMarked
+package showcase.rsocket;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,279 @@
+package showcase.rsocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.axonframework.commandhandling.CommandCallback;
+import org.axonframework.commandhandling.CommandExecutionException;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.commandhandling.distributed.CommandDispatchException;
+import org.axonframework.commandhandling.distributed.RoutingStrategy;
+import org.axonframework.commandhandling.distributed.commandfilter.AcceptAll;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("RSocket command bus connector tests")
+class RSocketCommandBusConnectorTests {
+
+    private final JacksonSerializer serializer = JacksonSerializer.defaultSerializer();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SimpleCommandBus serverSegment = SimpleCommandBus.builder().build();
+
+    private final RoutingStrategy routingStrategy = CommandMessage::getIdentifier;
+
+    private final List<InetSocketAddress> addresses = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger concurrentCommands = new AtomicInteger();
+
+    private final AtomicInteger maxConcurrentCommands = new AtomicInteger();
+
+    private final List<RSocketCommandBusConnector> connectors = new ArrayList<>();
+
+    private RSocketCommandBusConnector server;
+
+    @BeforeEach
+    void setUp() {
+        serverSegment.subscribe("echo", message -> "echo:" + message.getPayload());
+        serverSegment.subscribe("fail", message -> {
+            throw new CommandExecutionException("failed", null, "FAILED");
+        });
+        serverSegment.subscribe("slow", message -> {
+            maxConcurrentCommands.accumulateAndGet(concurrentCommands.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } finally {
+                concurrentCommands.decrementAndGet();
+            }
+            return message.getPayload();
+        });
+        serverSegment.subscribe("sleep", message -> {
+            Thread.sleep(1000);
+            return message.getPayload();
+        });
+
+        server = aConnector(serverSegment, 0, 256);
+        server.connect();
+        server.updateMembership(100, AcceptAll.INSTANCE);
+        addresses.add(InetSocketAddress.createUnresolved("localhost", server.boundPort()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectors.forEach(RSocketCommandBusConnector::disconnect);
+    }
+
+    @Test
+    @DisplayName("A max in-flight below one is rejected")
+    void build_maxInFlightBelowOne_isRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> aConnectorBuilder(serverSegment, null, 0).build());
+    }
+
+    @Test
+    @DisplayName("A queue capacity below one is rejected")
+    void build_queueCapacityBelowOne_isRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> aConnectorBuilder(serverSegment, null, 256).queueCapacity(0).build());
+    }
+
+    @Test
+    @DisplayName("A server without an advertised host is rejected")
+    void build_serverWithoutAdvertisedHost_isRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> aConnectorBuilder(serverSegment, 0, 256).advertisedHost(null).build());
+    }
+
+    @Test
+    @DisplayName("A command is routed to the discovered member and its result returned")
+    void send_discoveredMember_returnsResult() throws Exception {
+        val client = aClient(256);
+
+        val result = send(client, "echo", "a");
+
+        assertThat(result.get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("echo:a");
+        assertThat(meterRegistry.get("showcaseRSocket.requestDuration").timer().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("A command failed on the remote member reports its failure details")
+    void send_failedCommand_reportsFailureDetails() throws Exception {
+        val client = aClient(256);
+
+        val result = send(client, "fail", "a");
+
+        assertThat(result.get(5, TimeUnit.SECONDS).exceptionResult())
+                .isInstanceOfSatisfying(CommandExecutionException.class, e -> {
+                    assertThat(e).hasMessage("failed");
+                    assertThat(e.getDetails()).contains("FAILED");
+                });
+    }
+
+    @Test
+    @DisplayName("A command routed to the local member is dispatched on the local segment")
+    void send_localMember_isDispatchedLocally() throws Exception {
+        CommandMessage<Object> command = new GenericCommandMessage<>("a", "echo");
+
+        val destination = server.findDestination(command).orElseThrow();
+        val result = send(server, command);
+
+        assertThat(destination.local()).isTrue();
+        assertThat(result.get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("echo:a");
+        assertThat(meterRegistry.get("showcaseRSocket.requestDuration").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("The commands in flight to a member are bounded")
+    void send_moreCommandsThanMaxInFlight_areBounded() throws Exception {
+        val client = aClient(1);
+
+        val results = List.of(send(client, "slow", "a"),
+                              send(client, "slow", "b"),
+                              send(client, "slow", "c"),
+                              send(client, "slow", "d"));
+
+        assertThat(results).extracting(result -> result.get(5, TimeUnit.SECONDS).getPayload())
+                           .containsExactly("a", "b", "c", "d");
+        assertThat(maxConcurrentCommands).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("The commands beyond the in-flight and queued ones are rejected without suspecting the member")
+    void send_fullQueue_isRejected() throws Exception {
+        val client = aClient(aConnectorBuilder(SimpleCommandBus.builder().build(), null, 1).queueCapacity(1));
+
+        val results = List.of(send(client, "slow", "a"),
+                              send(client, "slow", "b"),
+                              send(client, "slow", "c"));
+
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS).exceptionResult())
+                .isInstanceOf(CommandDispatchException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("a");
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS).getPayload()).isEqualTo("b");
+        assertThat(client.findDestination(new GenericCommandMessage<>("a", "echo"))).isPresent();
+    }
+
+    @Test
+    @DisplayName("The time a command waits in the queue counts towards its request timeout")
+    void send_queuedCommand_timesOutFromEnqueue() throws Exception {
+        val requestTimeout = Duration.ofMillis(300);
+        val client = aClient(aConnectorBuilder(SimpleCommandBus.builder().build(), null, 1)
+                                     .requestTimeout(requestTimeout));
+
+        send(client, "sleep", "a");
+        Thread.sleep(150);
+        val start = System.nanoTime();
+        val result = send(client, "sleep", "b");
+
+        assertThat(result.get(5, TimeUnit.SECONDS).exceptionResult()).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(requestTimeout.plusMillis(100));
+    }
+
+    @Test
+    @DisplayName("Disconnecting fails the commands queued and in flight")
+    void disconnect_pendingCommands_areFailed() throws Exception {
+        val client = aClient(1);
+        val inFlight = send(client, "sleep", "a");
+        val queued = send(client, "echo", "b");
+
+        client.disconnect();
+
+        assertThat(inFlight.get(500, TimeUnit.MILLISECONDS).exceptionResult())
+                .isInstanceOf(CommandDispatchException.class);
+        assertThat(queued.get(500, TimeUnit.MILLISECONDS).exceptionResult())
+                .isInstanceOf(CommandDispatchException.class);
+    }
+
+    @Test
+    @DisplayName("A member no longer discovered is left out of the routing")
+    void refresh_vanishedMember_isLeftOut() {
+        val client = aClient(256);
+        addresses.clear();
+
+        client.refresh();
+
+        assertThat(client.findDestination(new GenericCommandMessage<>("a", "echo"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A member shutting down is left out of the routing")
+    void refresh_memberShuttingDown_isLeftOut() throws Exception {
+        val client = aClient(256);
+        server.initiateShutdown().get(5, TimeUnit.SECONDS);
+
+        client.refresh();
+
+        assertThat(client.findDestination(new GenericCommandMessage<>("a", "echo"))).isEmpty();
+    }
+
+    private RSocketCommandBusConnector aClient(int maxInFlight) {
+        return aClient(aConnectorBuilder(SimpleCommandBus.builder().build(), null, maxInFlight));
+    }
+
+    private RSocketCommandBusConnector aClient(RSocketCommandBusConnector.RSocketCommandBusConnectorBuilder builder) {
+        val client = builder.build();
+        connectors.add(client);
+        client.refresh();
+        assertThat(client.findDestination(new GenericCommandMessage<>("a", "echo"))).isPresent();
+        return client;
+    }
+
+    private RSocketCommandBusConnector aConnector(
+            SimpleCommandBus localSegment, @Nullable Integer serverPort, int maxInFlight) {
+        val connector = aConnectorBuilder(localSegment, serverPort, maxInFlight).build();
+        connectors.add(connector);
+        return connector;
+    }
+
+    private RSocketCommandBusConnector.RSocketCommandBusConnectorBuilder aConnectorBuilder(
+            SimpleCommandBus localSegment, @Nullable Integer serverPort, int maxInFlight) {
+        return RSocketCommandBusConnector
+                       .builder()
+                       .localSegment(localSegment)
+                       .serializer(serializer)
+                       .routingStrategy(routingStrategy)
+                       .discovery(() -> List.copyOf(addresses))
+                       .serverPort(serverPort)
+                       .advertisedHost("localhost")
+                       .refreshInterval(Duration.ofMinutes(1))
+                       .maxInFlight(maxInFlight)
+                       .queueCapacity(1024)
+                       .requestTimeout(Duration.ofSeconds(5))
+                       .meterRegistry(meterRegistry);
+    }
+
+    private CompletableFuture<CommandResultMessage<?>> send(
+            RSocketCommandBusConnector connector, String commandName, String payload) throws Exception {
+        return send(connector, new GenericCommandMessage<Object>(payload, commandName));
+    }
+
+    private CompletableFuture<CommandResultMessage<?>> send(
+            RSocketCommandBusConnector connector, CommandMessage<Object> command) throws Exception {
+        val future = new CompletableFuture<CommandResultMessage<?>>();
+        CommandCallback<Object, Object> callback = (message, result) -> future.complete(result);
+        connector.send(connector.findDestination(command).orElseThrow(), command, callback);
+        return future;
+    }
+}
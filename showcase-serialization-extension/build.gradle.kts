@@ -0,0 +1,26 @@
+plugins {
+    id("java-library-conventions")
+    id("code-coverage-conventions")
+    id("jmh-conventions")
+}
+
+project.description = "Showcase Serialization Extension"
+
+dependencies {
+    implementation(platform(project(":platform")))
+
+    api(libs.axon.messaging)
+    api(libs.jackson2.databind)
+    api(libs.micrometer.core)
+
+    implementation(libs.jackson2.dataformat.smile)
+    implementation(libs.lz4.java)
+
+    testImplementation(project(":showcase-test"))
+    testImplementation(project(":showcase-command-api"))
+    testImplementation(testFixtures(project(":showcase-command-api")))
+    testImplementation(libs.jackson2.jsr310)
+
+    jmhImplementation(project(":showcase-command-api"))
+    jmhImplementation(libs.jackson2.jsr310)
+}
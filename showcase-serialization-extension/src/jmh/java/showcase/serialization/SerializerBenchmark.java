@@ -0,0 +1,83 @@
+package showcase.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.axonframework.serialization.SerializedObject;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import showcase.command.ShowcaseScheduledEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON and the Smile serialization of a showcase scheduled event.
+ *
+ * <p>Besides the throughput of the serialization and deserialization, the {@code serializedBytes} counter reports the
+ * rate of the written bytes: divided by the throughput of the serialization, it is the size of the serialized event
+ * stored in the event store and sent to Kafka.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SerializerBenchmark {
+
+    @Param({ "JSON", "SMILE" })
+    public SerializationFormat format;
+
+    private SmileSerializer serializer;
+
+    private ShowcaseScheduledEvent event;
+
+    private SerializedObject<byte[]> serializedEvent;
+
+    /**
+     * The counter of the bytes written by the serialization.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class WrittenBytes {
+        public long serializedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serializedBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        serializer = new SmileSerializer(new ObjectMapper().registerModule(new JavaTimeModule()), format);
+        event =
+                ShowcaseScheduledEvent
+                        .builder()
+                        .showcaseId("2zGzBtXtGVpzOzbLXC5dJQQNNMm")
+                        .title("Axon Showcase benchmark")
+                        .startTime(Instant.parse("2026-01-01T10:00:00Z"))
+                        .duration(Duration.ofMinutes(5))
+                        .scheduledAt(Instant.parse("2026-01-01T09:00:00Z"))
+                        .build();
+        serializedEvent = serializer.serialize(event, byte[].class);
+    }
+
+    @Benchmark
+    public SerializedObject<byte[]> serialize(WrittenBytes writtenBytes) {
+        SerializedObject<byte[]> serialized = serializer.serialize(event, byte[].class);
+        writtenBytes.serializedBytes += serialized.getData().length;
+        return serialized;
+    }
+
+    @Benchmark
+    public ShowcaseScheduledEvent deserialize() {
+        return serializer.deserialize(serializedEvent);
+    }
+}
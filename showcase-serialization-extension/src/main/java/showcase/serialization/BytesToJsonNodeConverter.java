@@ -0,0 +1,47 @@
+package showcase.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.axonframework.serialization.CannotConvertBetweenTypesException;
+import org.axonframework.serialization.ContentTypeConverter;
+
+import java.io.IOException;
+
+/**
+ * Converter of serialized data in either the Smile or the JSON format to its {@code JsonNode} representation.
+ */
+final class BytesToJsonNodeConverter implements ContentTypeConverter<byte[], JsonNode> {
+    /**
+     * The object mapper reading the JSON format.
+     */
+    private final ObjectMapper jsonMapper;
+
+    /**
+     * The object mapper reading the Smile format.
+     */
+    private final ObjectMapper smileMapper;
+
+    BytesToJsonNodeConverter(ObjectMapper jsonMapper, ObjectMapper smileMapper) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = smileMapper;
+    }
+
+    @Override
+    public Class<byte[]> expectedSourceType() {
+        return byte[].class;
+    }
+
+    @Override
+    public Class<JsonNode> targetType() {
+        return JsonNode.class;
+    }
+
+    @Override
+    public JsonNode convert(byte[] original) {
+        try {
+            return (SmileSerializer.isSmile(original) ? smileMapper : jsonMapper).readTree(original);
+        } catch (IOException e) {
+            throw new CannotConvertBetweenTypesException("Unable to convert byte[] to JsonNode", e);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package showcase.serialization;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.val;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializer decorating another one to compress its binary data with LZ4 above a size threshold.
+ *
+ * <p>The data serialized to {@code byte[]} of at least the threshold size is compressed as an LZ4 block, prefixed with
+ * a format marker and its uncompressed size, unless compressing does not make it smaller. The marker starts with a zero
+ * byte, which neither JSON nor Smile data starts with, so the data stored uncompressed, before the compression was
+ * enabled or below the threshold, is read as is. The converter of the serializer decompresses the data before
+ * converting it, so the upcasters see the decompressed representation.
+ *
+ * <p>The serializer records the ratio of the uncompressed to the compressed size as the
+ * {@code showcaseSerializationCompression.ratio} distribution, and the time spent compressing and decompressing as
+ * the {@code showcaseSerializationCompression.compressionTime} and
+ * {@code showcaseSerializationCompression.decompressionTime} timers.
+ */
+public final class CompressingSerializer implements Serializer {
+    private static final String METER_NAME_PREFIX = "showcaseSerializationCompression";
+
+    /**
+     * The format marker of compressed data.
+     */
+    private static final byte[] MARKER = { 0, 'L', 'Z', '4' };
+
+    /**
+     * The size of the header of compressed data: the format marker and the uncompressed size.
+     */
+    private static final int HEADER_SIZE = MARKER.length + Integer.BYTES;
+
+    /**
+     * The decorated serializer.
+     */
+    private final Serializer delegate;
+
+    /**
+     * The size in bytes from which serialized data is compressed.
+     */
+    private final int threshold;
+
+    /**
+     * The LZ4 block compressor.
+     */
+    private final LZ4Compressor compressor;
+
+    /**
+     * The LZ4 block decompressor.
+     */
+    private final LZ4SafeDecompressor decompressor;
+
+    /**
+     * The converter decompressing the data before converting it.
+     */
+    private final Converter converter;
+
+    /**
+     * The distribution of the ratio of the uncompressed to the compressed size.
+     */
+    private final DistributionSummary ratioDistribution;
+
+    /**
+     * The timer of the compressions.
+     */
+    private final Timer compressionTimer;
+
+    /**
+     * The timer of the decompressions.
+     */
+    private final Timer decompressionTimer;
+
+    /**
+     * Creates a serializer compressing the binary data of the given one.
+     *
+     * @param delegate      the serializer whose data is compressed
+     * @param threshold     the size in bytes from which serialized data is compressed, at least zero
+     * @param meterRegistry the registry to which the compression metrics are registered
+     */
+    public CompressingSerializer(Serializer delegate, int threshold, MeterRegistry meterRegistry) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must be at least 0, but was " + threshold);
+        }
+
+        val lz4Factory = LZ4Factory.fastestInstance();
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.compressor = lz4Factory.fastCompressor();
+        this.decompressor = lz4Factory.safeDecompressor();
+        this.converter = new DecompressingConverter(delegate.getConverter());
+        this.ratioDistribution =
+                DistributionSummary
+                        .builder(METER_NAME_PREFIX + ".ratio")
+                        .description("Ratio of the uncompressed to the compressed size of serialized data")
+                        .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                        .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                        .register(meterRegistry);
+        this.compressionTimer =
+                Timer.builder(METER_NAME_PREFIX + ".compressionTime")
+                     .description("Time spent compressing serialized data")
+                     .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                     .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                     .register(meterRegistry);
+        this.decompressionTimer =
+                Timer.builder(METER_NAME_PREFIX + ".decompressionTime")
+                     .description("Time spent decompressing serialized data")
+                     .distributionStatisticExpiry(Duration.of(10, ChronoUnit.MINUTES))
+                     .publishPercentiles(0.5, 0.75, 0.95, 0.98, 0.99, 0.999)
+                     .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
+        if (!byte[].class.equals(expectedRepresentation)) {
+            return delegate.serialize(object, expectedRepresentation);
+        }
+
+        val serialized = delegate.serialize(object, byte[].class);
+        val data = serialized.getData();
+        if (data.length < threshold) {
+            return (SerializedObject<T>) serialized;
+        }
+        return (SerializedObject<T>) new SimpleSerializedObject<>(compress(data), byte[].class, serialized.getType());
+    }
+
+    @Override
+    public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+        return delegate.canSerializeTo(expectedRepresentation);
+    }
+
+    @Override
+    public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+        if (serializedObject.getData() instanceof byte[] bytes && isCompressed(bytes)) {
+            return delegate.deserialize(
+                    new SimpleSerializedObject<>(decompress(bytes), byte[].class, serializedObject.getType()));
+        }
+        return delegate.deserialize(serializedObject);
+    }
+
+    @Override
+    public Class classForType(SerializedType type) {
+        return delegate.classForType(type);
+    }
+
+    @Override
+    public SerializedType typeForClass(Class type) {
+        return delegate.typeForClass(type);
+    }
+
+    /**
+     * Returns the converter of the decorated serializer, decompressing the data before converting it.
+     *
+     * @return the decompressing converter
+     */
+    @Override
+    public Converter getConverter() {
+        return converter;
+    }
+
+    /**
+     * Compresses the given data, unless compressing does not make it smaller.
+     *
+     * @param data the data to compress
+     * @return the compressed data with its header, or the given data
+     */
+    private byte[] compress(byte[] data) {
+        val start = System.nanoTime();
+        val compressed = new byte[HEADER_SIZE + compressor.maxCompressedLength(data.length)];
+        val compressedLength =
+                compressor.compress(data, 0, data.length, compressed, HEADER_SIZE, compressed.length - HEADER_SIZE);
+        compressionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (HEADER_SIZE + compressedLength >= data.length) {
+            return data;
+        }
+
+        ByteBuffer.wrap(compressed).put(MARKER).putInt(data.length);
+        ratioDistribution.record((double) data.length / (HEADER_SIZE + compressedLength));
+        return Arrays.copyOf(compressed, HEADER_SIZE + compressedLength);
+    }
+
+    /**
+     * Decompresses the given compressed data.
+     *
+     * @param compressed the compressed data with its header
+     * @return the decompressed data
+     */
+    private byte[] decompress(byte[] compressed) {
+        val start = System.nanoTime();
+        val data = new byte[ByteBuffer.wrap(compressed, MARKER.length, Integer.BYTES).getInt()];
+        decompressor.decompress(compressed, HEADER_SIZE, compressed.length - HEADER_SIZE, data, 0, data.length);
+        decompressionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return data;
+    }
+
+    /**
+     * Returns whether the given data is compressed.
+     *
+     * @param bytes the serialized data
+     * @return {@code true} if the data starts with the format marker
+     */
+    static boolean isCompressed(byte[] bytes) {
+        return bytes.length >= HEADER_SIZE && Arrays.equals(bytes, 0, MARKER.length, MARKER, 0, MARKER.length);
+    }
+
+    /**
+     * Converter decompressing the compressed data before converting it with the converter of the decorated serializer.
+     */
+    private final class DecompressingConverter implements Converter {
+        /**
+         * The converter of the decorated serializer.
+         */
+        private final Converter delegateConverter;
+
+        DecompressingConverter(Converter delegateConverter) {
+            this.delegateConverter = delegateConverter;
+        }
+
+        @Override
+        public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+            return delegateConverter.canConvert(sourceType, targetType);
+        }
+
+        @Override
+        public <T> T convert(Object original, Class<?> sourceType, Class<T> targetType) {
+            if (original instanceof byte[] bytes && isCompressed(bytes)) {
+                return delegateConverter.convert(decompress(bytes), sourceType, targetType);
+            }
+            return delegateConverter.convert(original, sourceType, targetType);
+        }
+
+        @Override
+        public <S, T> SerializedObject<T> convert(SerializedObject<S> original, Class<T> targetType) {
+            if (original.getData() instanceof byte[] bytes && isCompressed(bytes)) {
+                return delegateConverter.convert(
+                        new SimpleSerializedObject<>(decompress(bytes), byte[].class, original.getType()), targetType);
+            }
+            return delegateConverter.convert(original, targetType);
+        }
+    }
+}
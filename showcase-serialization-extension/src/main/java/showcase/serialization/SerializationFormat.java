@@ -0,0 +1,16 @@
+package showcase.serialization;
+
+/**
+ * The format written by a {@link SmileSerializer}, which reads both regardless.
+ */
+public enum SerializationFormat {
+    /**
+     * The textual JSON format, written while the readers of the serialized data may not read Smile yet.
+     */
+    JSON,
+
+    /**
+     * The binary Smile format, which back-references the repeated property names and values.
+     */
+    SMILE
+}
@@ -0,0 +1,75 @@
+package showcase.serialization;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.jackson.Jacksonized;
+import lombok.val;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.jspecify.annotations.NullUnmarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A value serialized with the message serializer, carried in the frames the command bus connectors exchange between
+ * members.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Accessors(fluent = true)
+@Builder
+@Jacksonized
+@NullUnmarked
+@SuppressWarnings("ClassCanBeRecord")
+public class SerializedValue {
+    /**
+     * The name of the serialized type.
+     */
+    @NonNull
+    String type;
+
+    /**
+     * The revision of the serialized type, if any.
+     */
+    String revision;
+
+    /**
+     * The serialized data.
+     */
+    @NonNull
+    byte[] data;
+
+    /**
+     * Serializes the given value.
+     *
+     * @param value      the value to serialize
+     * @param serializer the serializer to use
+     * @return the serialized value
+     */
+    public static SerializedValue serialize(Object value, Serializer serializer) {
+        val serializedObject = serializer.serialize(value, byte[].class);
+        return SerializedValue
+                       .builder()
+                       .type(serializedObject.getType().getName())
+                       .revision(serializedObject.getType().getRevision())
+                       .data(serializedObject.getData())
+                       .build();
+    }
+
+    /**
+     * Deserializes the value.
+     *
+     * @param serializer the serializer to use
+     * @param <T>        the type of the value
+     * @return the deserialized value
+     */
+    public <T> @Nullable T deserialize(Serializer serializer) {
+        SerializedObject<byte[]> serializedObject =
+                new SimpleSerializedObject<>(data, byte[].class, type, revision);
+        return serializer.deserialize(serializedObject);
+    }
+}
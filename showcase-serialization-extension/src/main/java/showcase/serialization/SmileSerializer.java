@@ -0,0 +1,124 @@
+package showcase.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.val;
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+
+/**
+ * Serializer writing the Jackson Smile binary format, and reading both Smile and JSON.
+ *
+ * <p>Smile is the binary counterpart of JSON: it has the same data model, so the serialized types, their
+ * {@link org.axonframework.serialization.Revision revisions}, and the upcasters working on their {@code JsonNode}
+ * intermediate representation are the same for both formats, but it encodes numbers and lengths in binary and refers
+ * back to the property names already written instead of repeating them. The format of serialized data is told by the
+ * header Smile starts with, which no JSON document starts with, so data written in either format is read as such. The
+ * serializer can write JSON instead, until all the readers of its data read Smile.
+ */
+public final class SmileSerializer implements Serializer {
+    /**
+     * The first bytes of the header of Smile data, {@code ":)\n"}.
+     */
+    private static final byte[] SMILE_HEADER = { ':', ')', '\n' };
+
+    /**
+     * The serializer of the Smile format, whose converter reads both formats.
+     */
+    private final JacksonSerializer smileSerializer;
+
+    /**
+     * The serializer of the JSON format.
+     */
+    private final JacksonSerializer jsonSerializer;
+
+    /**
+     * The serializer of the written format.
+     */
+    private final JacksonSerializer writingSerializer;
+
+    /**
+     * Creates a serializer configured as the given JSON object mapper.
+     *
+     * @param objectMapper the object mapper of the JSON format, whose configuration and modules the Smile format uses
+     * @param format       the format written by the serializer
+     */
+    public SmileSerializer(ObjectMapper objectMapper, SerializationFormat format) {
+        val smileMapper = objectMapper.copyWith(new SmileFactory());
+        val converter = new ChainingConverter();
+        this.smileSerializer =
+                JacksonSerializer
+                        .builder()
+                        .objectMapper(smileMapper)
+                        .converter(converter)
+                        .build();
+        converter.registerConverter(new BytesToJsonNodeConverter(objectMapper, smileMapper));
+        this.jsonSerializer =
+                JacksonSerializer
+                        .builder()
+                        .objectMapper(objectMapper)
+                        .build();
+        this.writingSerializer = format == SerializationFormat.SMILE ? smileSerializer : jsonSerializer;
+    }
+
+    @Override
+    public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
+        return writingSerializer.serialize(object, expectedRepresentation);
+    }
+
+    @Override
+    public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+        return writingSerializer.canSerializeTo(expectedRepresentation);
+    }
+
+    @Override
+    public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+        if (serializedObject.getData() instanceof byte[] bytes && !isSmile(bytes)) {
+            return jsonSerializer.deserialize(serializedObject);
+        }
+        return smileSerializer.deserialize(serializedObject);
+    }
+
+    @Override
+    public Class classForType(SerializedType type) {
+        return smileSerializer.classForType(type);
+    }
+
+    @Override
+    public SerializedType typeForClass(Class type) {
+        return smileSerializer.typeForClass(type);
+    }
+
+    /**
+     * Returns the converter of the serialized data, which converts the data of both formats to their {@code JsonNode}
+     * intermediate representation for upcasting.
+     *
+     * @return the converter of the serialized data
+     */
+    @Override
+    public Converter getConverter() {
+        return smileSerializer.getConverter();
+    }
+
+    /**
+     * Returns whether the given data is in the Smile format.
+     *
+     * @param bytes the serialized data
+     * @return {@code true} if the data starts with the Smile header
+     */
+    static boolean isSmile(byte[] bytes) {
+        if (bytes.length < SMILE_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (bytes[i] != SMILE_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
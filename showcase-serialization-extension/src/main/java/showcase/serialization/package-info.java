@@ -0,0 +1,9 @@
+/**
+ * Serialization extension: Axon serializer writing the compact Jackson Smile binary format and reading both Smile and
+ * JSON, serializer decorator compressing the serialized data with LZ4, and serialized value carried in the frames of
+ * the command bus connectors.
+ */
+@NullMarked
+package showcase.serialization;
+
+import org.jspecify.annotations.NullMarked;
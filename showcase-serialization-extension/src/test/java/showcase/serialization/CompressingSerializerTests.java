@@ -0,0 +1,100 @@
+package showcase.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showcase.command.ShowcaseScheduledEvent;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static showcase.command.RandomCommandTestUtils.aShowcaseDuration;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+import static showcase.command.RandomCommandTestUtils.aShowcaseStartTime;
+
+@DisplayName("Compressing serializer tests")
+class CompressingSerializerTests {
+
+    private static final int THRESHOLD = 256;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SmileSerializer delegate =
+            new SmileSerializer(new ObjectMapper().registerModule(new JavaTimeModule()), SerializationFormat.JSON);
+
+    private final CompressingSerializer serializer = new CompressingSerializer(delegate, THRESHOLD, meterRegistry);
+
+    @Test
+    @DisplayName("A negative threshold is rejected")
+    void create_negativeThreshold_isRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CompressingSerializer(delegate, -1, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Data above the threshold is compressed and read back")
+    void serialize_aboveThreshold_isCompressedAndReadBack() {
+        val event = aShowcaseScheduledEvent("Showcase ".repeat(100));
+
+        val compressed = serializer.serialize(event, byte[].class);
+        val uncompressed = delegate.serialize(event, byte[].class);
+
+        assertThat(CompressingSerializer.isCompressed(compressed.getData())).isTrue();
+        assertThat(compressed.getData()).hasSizeLessThan(uncompressed.getData().length);
+        assertThat(compressed.getType()).isEqualTo(uncompressed.getType());
+        assertThat(serializer.<byte[], ShowcaseScheduledEvent>deserialize(compressed)).isEqualTo(event);
+        assertThat(meterRegistry.get("showcaseSerializationCompression.ratio").summary().mean()).isGreaterThan(1);
+        assertThat(meterRegistry.get("showcaseSerializationCompression.compressionTime").timer().count()).isOne();
+        assertThat(meterRegistry.get("showcaseSerializationCompression.decompressionTime").timer().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("Data below the threshold is stored uncompressed")
+    void serialize_belowThreshold_isNotCompressed() {
+        val event = aShowcaseScheduledEvent("Showcase");
+
+        val serialized = serializer.serialize(event, byte[].class);
+
+        assertThat(serialized.getData()).isEqualTo(delegate.serialize(event, byte[].class).getData());
+        assertThat(serializer.<byte[], ShowcaseScheduledEvent>deserialize(serialized)).isEqualTo(event);
+        assertThat(meterRegistry.get("showcaseSerializationCompression.compressionTime").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Data stored before the compression was enabled is read as is")
+    void deserialize_legacyData_isReadAsIs() {
+        val event = aShowcaseScheduledEvent("Showcase ".repeat(100));
+
+        val legacy = delegate.serialize(event, byte[].class);
+
+        assertThat(serializer.<byte[], ShowcaseScheduledEvent>deserialize(legacy)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Compressed data is decompressed for upcasting")
+    void convert_compressedData_isDecompressed() {
+        val event = aShowcaseScheduledEvent("Showcase ".repeat(100));
+
+        val compressed = serializer.serialize(event, byte[].class);
+        val node = serializer.getConverter().convert(compressed, JsonNode.class);
+
+        assertThat(node.getData().get("title").asText()).isEqualTo(event.title());
+    }
+
+    private static ShowcaseScheduledEvent aShowcaseScheduledEvent(String title) {
+        val now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        return ShowcaseScheduledEvent
+                       .builder()
+                       .showcaseId(aShowcaseId())
+                       .title(title)
+                       .startTime(aShowcaseStartTime(now))
+                       .duration(aShowcaseDuration())
+                       .scheduledAt(now)
+                       .build();
+    }
+}
@@ -0,0 +1,28 @@
+package showcase.serialization;
+
+import lombok.val;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Serialized value tests")
+class SerializedValueTests {
+
+    private final JacksonSerializer serializer = JacksonSerializer.defaultSerializer();
+
+    @Test
+    @DisplayName("A serialized value is read back unchanged")
+    void deserialize_serializedValue_isReadBack() {
+        val metaData = MetaData.from(Map.of("traceId", "a1b2c3"));
+
+        val serializedValue = SerializedValue.serialize(metaData, serializer);
+
+        assertThat(serializedValue.type()).isEqualTo(MetaData.class.getName());
+        assertThat(serializedValue.<MetaData>deserialize(serializer)).isEqualTo(metaData);
+    }
+}
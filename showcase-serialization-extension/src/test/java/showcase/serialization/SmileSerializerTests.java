@@ -0,0 +1,98 @@
+package showcase.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.val;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showcase.command.ShowcaseScheduledEvent;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static showcase.command.RandomCommandTestUtils.aShowcaseDuration;
+import static showcase.command.RandomCommandTestUtils.aShowcaseId;
+import static showcase.command.RandomCommandTestUtils.aShowcaseStartTime;
+import static showcase.command.RandomCommandTestUtils.aShowcaseTitle;
+
+@DisplayName("Smile serializer tests")
+class SmileSerializerTests {
+
+    private final SmileSerializer smileSerializer = new SmileSerializer(anObjectMapper(), SerializationFormat.SMILE);
+
+    private final SmileSerializer jsonSerializer = new SmileSerializer(anObjectMapper(), SerializationFormat.JSON);
+
+    @Test
+    @DisplayName("An event is written in Smile, smaller than in JSON, and read back")
+    void serialize_smileFormat_isSmallerAndReadBack() {
+        val event = aShowcaseScheduledEvent();
+
+        val smile = smileSerializer.serialize(event, byte[].class);
+        val json = jsonSerializer.serialize(event, byte[].class);
+
+        assertThat(SmileSerializer.isSmile(smile.getData())).isTrue();
+        assertThat(SmileSerializer.isSmile(json.getData())).isFalse();
+        assertThat(smile.getData()).hasSizeLessThan(json.getData().length);
+        assertThat(smile.getType()).isEqualTo(json.getType());
+        assertThat(smile.getType().getRevision()).isEqualTo("1.0");
+        assertThat(smileSerializer.<byte[], ShowcaseScheduledEvent>deserialize(smile)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("An event written in JSON is read by a serializer writing Smile")
+    void deserialize_jsonData_isReadBack() {
+        val event = aShowcaseScheduledEvent();
+
+        val json = jsonSerializer.serialize(event, byte[].class);
+
+        assertThat(smileSerializer.<byte[], ShowcaseScheduledEvent>deserialize(json)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("An event written in either format has the same upcasting representation")
+    void convert_eitherFormat_hasSameJsonNode() {
+        val event = aShowcaseScheduledEvent();
+        val smile = smileSerializer.serialize(event, byte[].class);
+        val json = jsonSerializer.serialize(event, byte[].class);
+
+        val smileNode = smileSerializer.getConverter().convert(smile, JsonNode.class);
+        val jsonNode = smileSerializer.getConverter().convert(json, JsonNode.class);
+
+        assertThat(smileNode.getData()).isEqualTo(jsonNode.getData());
+        ((ObjectNode) smileNode.getData()).put("title", "Upcasted");
+        val upcasted = new SimpleSerializedObject<>(smileNode.getData(), JsonNode.class, smile.getType());
+        assertThat(smileSerializer.<JsonNode, ShowcaseScheduledEvent>deserialize(upcasted).title())
+                .isEqualTo("Upcasted");
+    }
+
+    @Test
+    @DisplayName("Metadata is written in Smile and read back")
+    void serialize_metaData_isReadBack() {
+        val metaData = MetaData.with("traceId", "trace").and("count", 3);
+
+        val smile = smileSerializer.serialize(metaData, byte[].class);
+
+        assertThat(smileSerializer.<byte[], MetaData>deserialize(smile)).isEqualTo(metaData);
+    }
+
+    private static ShowcaseScheduledEvent aShowcaseScheduledEvent() {
+        val now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        return ShowcaseScheduledEvent
+                       .builder()
+                       .showcaseId(aShowcaseId())
+                       .title(aShowcaseTitle())
+                       .startTime(aShowcaseStartTime(now))
+                       .duration(aShowcaseDuration())
+                       .scheduledAt(now)
+                       .build();
+    }
+
+    private static ObjectMapper anObjectMapper() {
+        return new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+}
@@ -0,0 +1,23 @@
+plugins {
+    id("java-library-conventions")
+    id("code-coverage-conventions")
+    id("jmh-conventions")
+}
+
+project.description = "Showcase Validation Extension"
+
+dependencies {
+    implementation(platform(project(":platform")))
+
+    api(libs.jakarta.validation.api)
+
+    implementation(libs.hibernate.validator)
+
+    testImplementation(project(":showcase-test"))
+    testImplementation(project(":showcase-command-api"))
+    testImplementation(project(":showcase-query-api"))
+    testImplementation(testFixtures(project(":showcase-command-api")))
+
+    jmhImplementation(project(":showcase-command-api"))
+    jmhImplementation(project(":showcase-query-api"))
+}
@@ -0,0 +1,78 @@
+package showcase.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.axonframework.common.IdentifierFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import showcase.command.ScheduleShowcaseCommand;
+import showcase.identifier.KsuidValidator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the validation of a schedule showcase command by its compiled validator to the reflective validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private CompiledValidator compiledValidator;
+
+    private ScheduleShowcaseCommand command;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        compiledValidator =
+                new CompiledValidators(validatorFactory, Set.of(KsuidValidator.class))
+                        .forType(ScheduleShowcaseCommand.class)
+                        .orElseThrow();
+        command =
+                ScheduleShowcaseCommand
+                        .builder()
+                        .showcaseId(valid ? IdentifierFactory.getInstance().generateIdentifier() : "not-a-ksuid")
+                        .title(valid ? "Showcase" : "")
+                        .startTime(Instant.now().plus(valid ? Duration.ofDays(1) : Duration.ofDays(-1)))
+                        .duration(Duration.ofMinutes(valid ? 5 : 0))
+                        .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Map<String, List<String>> compiled() {
+        return compiledValidator.validate(command);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ScheduleShowcaseCommand>> reflective() {
+        return validator.validate(command);
+    }
+}
@@ -0,0 +1,109 @@
+package showcase.validation;
+
+import lombok.val;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Validator of a single type, compiled from its bean validation constraints into direct checks of its properties.
+ *
+ * <p>The compiled validator reads every constrained property through a method handle, checks it against predicates
+ * resolved once from the constraint attributes, and reports the messages interpolated once from the constraint
+ * message templates, so validating an instance involves neither constraint metadata lookups nor message
+ * interpolation.
+ */
+public final class CompiledValidator {
+    /**
+     * A constraint compiled into a check of the property value.
+     *
+     * @param check   the check of the property value, {@code true} if valid
+     * @param message the interpolated message reported when the check fails
+     */
+    record CompiledConstraint(Predicate<@Nullable Object> check, String message) {
+    }
+
+    /**
+     * A constrained property and its compiled constraints.
+     *
+     * @param name        the name of the property, reported as the path of its violations
+     * @param getter      the handle reading the property from an instance, typed {@code (Object)Object}
+     * @param constraints the compiled constraints of the property
+     */
+    record CompiledProperty(String name, MethodHandle getter, List<CompiledConstraint> constraints) {
+    }
+
+    /**
+     * The type validated by this validator.
+     */
+    private final Class<?> type;
+
+    /**
+     * The constrained properties of the type.
+     */
+    private final List<CompiledProperty> properties;
+
+    CompiledValidator(Class<?> type, List<CompiledProperty> properties) {
+        this.type = type;
+        this.properties = List.copyOf(properties);
+    }
+
+    /**
+     * Returns the type validated by this validator.
+     *
+     * @return the validated type
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Validates the given instance.
+     *
+     * @param instance the instance to validate, of the validated type
+     * @return the messages of the violated constraints keyed by property name, in declaration order, empty if valid
+     * @throws IllegalArgumentException if the instance is not of the validated type
+     */
+    public Map<String, List<String>> validate(Object instance) {
+        if (!type.isInstance(instance)) {
+            throw new IllegalArgumentException("Expected an instance of " + type.getName() + ", but was "
+                                               + instance.getClass().getName());
+        }
+
+        Map<String, List<String>> fieldErrors = Map.of();
+        for (val property : properties) {
+            val value = read(property, instance);
+            for (val constraint : property.constraints()) {
+                if (!constraint.check().test(value)) {
+                    if (fieldErrors.isEmpty()) {
+                        fieldErrors = new LinkedHashMap<>();
+                    }
+                    fieldErrors.computeIfAbsent(property.name(), name -> new ArrayList<>()).add(constraint.message());
+                }
+            }
+        }
+        return fieldErrors;
+    }
+
+    /**
+     * Reads the value of the given property.
+     *
+     * @param property the property to read
+     * @param instance the instance to read the property from
+     * @return the value of the property
+     */
+    private static @Nullable Object read(CompiledProperty property, Object instance) {
+        try {
+            return (Object) property.getter().invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to read property " + property.name(), e);
+        }
+    }
+}
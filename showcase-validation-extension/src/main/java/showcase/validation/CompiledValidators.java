@@ -0,0 +1,61 @@
+package showcase.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ValidatorFactory;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Validators compiled once per type from the bean validation constraints of the type.
+ *
+ * <p>The constraints of a type are compiled on its first validation, from the constraint metadata, clock, and message
+ * interpolator of the given validator factory, so the constraint annotations stay the single source of the validation
+ * rules. A type declaring a constraint the compiler does not support has no compiled validator, and is left to the
+ * reflective validation of the factory.
+ *
+ * <p>Custom constraints are compiled only if validated by a validator among the given context-free ones, that is
+ * validators neither using their validation context nor building custom violations.
+ */
+public final class CompiledValidators {
+    /**
+     * The compiler of the constraints of a type.
+     */
+    private final ConstraintCompiler compiler;
+
+    /**
+     * The compiled validators, empty for the types declaring unsupported constraints.
+     */
+    private final ClassValue<Optional<CompiledValidator>> validators = new ClassValue<>() {
+        @Override
+        protected Optional<CompiledValidator> computeValue(Class<?> type) {
+            try {
+                return Optional.of(compiler.compile(type));
+            } catch (UnsupportedConstraintException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    /**
+     * Creates the validators compiled from the constraints resolved by the given validator factory.
+     *
+     * @param validatorFactory      the factory resolving the constraints
+     * @param contextFreeValidators the custom constraint validators never using their validation context
+     */
+    public CompiledValidators(
+            ValidatorFactory validatorFactory,
+            Set<Class<? extends ConstraintValidator<?, ?>>> contextFreeValidators) {
+        this.compiler = new ConstraintCompiler(validatorFactory, contextFreeValidators);
+    }
+
+    /**
+     * Returns the compiled validator of the given type.
+     *
+     * @param type the type to validate
+     * @return the compiled validator, or empty if the type declares a constraint not supported by the compiler
+     */
+    public Optional<CompiledValidator> forType(Class<?> type) {
+        return validators.get(type);
+    }
+}
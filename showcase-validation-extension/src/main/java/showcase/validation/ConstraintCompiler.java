@@ -0,0 +1,353 @@
+package showcase.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import lombok.val;
+import org.hibernate.validator.constraints.ConstraintComposition;
+import org.hibernate.validator.constraints.Length;
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.jspecify.annotations.Nullable;
+import showcase.validation.CompiledValidator.CompiledConstraint;
+import showcase.validation.CompiledValidator.CompiledProperty;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Compiles the bean validation constraints of a type into a {@link CompiledValidator}.
+ *
+ * <p>The supported constraints are {@link NotNull}, {@link NotBlank}, {@link NotEmpty} and {@link Size} on character
+ * sequences, collections, and maps, {@link Length} on character sequences, {@link Min} and {@link Max} on integral
+ * numbers, {@link Future}, {@link FutureOrPresent}, {@link Past} and {@link PastOrPresent} on instants,
+ * {@link DurationMin} and {@link DurationMax} on durations, the constraints composed of supported ones, and the custom
+ * constraints validated by a single context-free validator. Only the constraints of the default group declared on
+ * fields are supported, without cascading, container element, or class-level constraints, and with messages not
+ * referring to the validated value. Any other constraint makes the compilation fail with an
+ * {@link UnsupportedConstraintException}.
+ */
+final class ConstraintCompiler {
+    /**
+     * The factory whose metadata, clock, and message interpolator the compiled constraints are resolved from.
+     */
+    private final ValidatorFactory validatorFactory;
+
+    /**
+     * The custom constraint validators never using their validation context.
+     */
+    private final Set<Class<? extends ConstraintValidator<?, ?>>> contextFreeValidators;
+
+    ConstraintCompiler(
+            ValidatorFactory validatorFactory,
+            Set<Class<? extends ConstraintValidator<?, ?>>> contextFreeValidators) {
+        this.validatorFactory = validatorFactory;
+        this.contextFreeValidators = Set.copyOf(contextFreeValidators);
+    }
+
+    /**
+     * Compiles the constraints of the given type.
+     *
+     * @param type the type to compile
+     * @return the compiled validator of the type
+     * @throws UnsupportedConstraintException if the type declares a constraint not supported by the compiler
+     */
+    CompiledValidator compile(Class<?> type) {
+        val beanDescriptor = validatorFactory.getValidator().getConstraintsForClass(type);
+        if (!beanDescriptor.getConstraintDescriptors().isEmpty()) {
+            throw new UnsupportedConstraintException("Class-level constraints of " + type.getName());
+        }
+
+        val lookup = privateLookup(type);
+        val properties = new ArrayList<CompiledProperty>();
+        for (val propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+            val name = propertyDescriptor.getPropertyName();
+            if (propertyDescriptor.isCascaded()
+                || !propertyDescriptor.getConstrainedContainerElementTypes().isEmpty()) {
+                throw new UnsupportedConstraintException("Cascaded or container element constraints of " + name);
+            }
+
+            val field = findField(type, name);
+            val constraints = new ArrayList<CompiledConstraint>();
+            for (val constraintDescriptor : propertyDescriptor.getConstraintDescriptors()) {
+                constraints.addAll(compile(constraintDescriptor, field.getType()));
+            }
+
+            try {
+                val getter =
+                        lookup.unreflectGetter(field)
+                              .asType(MethodType.methodType(Object.class, Object.class));
+                properties.add(new CompiledProperty(name, getter, constraints));
+            } catch (IllegalAccessException e) {
+                throw new UnsupportedConstraintException("Inaccessible field " + name, e);
+            }
+        }
+        return new CompiledValidator(type, properties);
+    }
+
+    /**
+     * Compiles the given constraint and its composing constraints.
+     *
+     * @param descriptor the descriptor of the constraint
+     * @param valueType  the type of the constrained value
+     * @return the compiled constraints, reported as a single violation if the constraint is
+     */
+    private List<CompiledConstraint> compile(ConstraintDescriptor<?> descriptor, Class<?> valueType) {
+        val annotation = descriptor.getAnnotation();
+        if (!descriptor.getGroups().equals(Set.of(Default.class))) {
+            throw new UnsupportedConstraintException("Non-default groups of " + annotation);
+        }
+        if (annotation.annotationType().isAnnotationPresent(ConstraintComposition.class)) {
+            throw new UnsupportedConstraintException("Non-conjunctive composition of " + annotation);
+        }
+
+        val checks = new ArrayList<Predicate<@Nullable Object>>();
+        val composing = new ArrayList<CompiledConstraint>();
+        ownCheck(descriptor, valueType).ifPresent(checks::add);
+        for (val composingDescriptor : descriptor.getComposingConstraints()) {
+            composing.addAll(compile(composingDescriptor, valueType));
+        }
+
+        if (descriptor.isReportAsSingleViolation()) {
+            composing.forEach(constraint -> checks.add(constraint.check()));
+            return List.of(new CompiledConstraint(allOf(checks), message(descriptor)));
+        }
+
+        val constraints = new ArrayList<CompiledConstraint>();
+        if (!checks.isEmpty()) {
+            constraints.add(new CompiledConstraint(checks.getFirst(), message(descriptor)));
+        }
+        constraints.addAll(composing);
+        return constraints;
+    }
+
+    /**
+     * Resolves the check of the given constraint itself, leaving its composing constraints out.
+     *
+     * @param descriptor the descriptor of the constraint
+     * @param valueType  the type of the constrained value
+     * @return the check of the constraint, or empty if it is only composed of other constraints
+     */
+    private Optional<Predicate<@Nullable Object>> ownCheck(ConstraintDescriptor<?> descriptor, Class<?> valueType) {
+        Predicate<@Nullable Object> check = switch (descriptor.getAnnotation()) {
+            case NotNull notNull -> value -> value != null;
+            case NotBlank notBlank when isCharSequence(valueType) ->
+                    value -> value != null && !value.toString().trim().isEmpty();
+            case NotEmpty notEmpty when isSized(valueType) -> value -> value != null && size(value) > 0;
+            case Size size when isSized(valueType) ->
+                    value -> value == null || isBetween(size(value), size.min(), size.max());
+            case Length length when isCharSequence(valueType) ->
+                    value -> value == null || isBetween(((CharSequence) value).length(), length.min(), length.max());
+            case Min min when isIntegral(valueType) ->
+                    value -> value == null || ((Number) value).longValue() >= min.value();
+            case Max max when isIntegral(valueType) ->
+                    value -> value == null || ((Number) value).longValue() <= max.value();
+            case Future future when valueType == Instant.class -> compareToNow(result -> result > 0);
+            case FutureOrPresent futureOrPresent when valueType == Instant.class -> compareToNow(result -> result >= 0);
+            case Past past when valueType == Instant.class -> compareToNow(result -> result < 0);
+            case PastOrPresent pastOrPresent when valueType == Instant.class -> compareToNow(result -> result <= 0);
+            case DurationMin durationMin when valueType == Duration.class -> {
+                val bound = duration(durationMin.days(), durationMin.hours(), durationMin.minutes(),
+                                     durationMin.seconds(), durationMin.millis(), durationMin.nanos());
+                yield value -> value == null || isAtLeast(((Duration) value).compareTo(bound), durationMin.inclusive());
+            }
+            case DurationMax durationMax when valueType == Duration.class -> {
+                val bound = duration(durationMax.days(), durationMax.hours(), durationMax.minutes(),
+                                     durationMax.seconds(), durationMax.millis(), durationMax.nanos());
+                yield value -> value == null || isAtLeast(bound.compareTo((Duration) value), durationMax.inclusive());
+            }
+            case Annotation annotation -> customCheck(descriptor, annotation);
+        };
+        return Optional.ofNullable(check);
+    }
+
+    /**
+     * Resolves the check of a custom constraint validated by a single context-free validator.
+     *
+     * @param descriptor the descriptor of the constraint
+     * @param annotation the constraint annotation
+     * @return the check of the constraint, or {@code null} if it is only composed of other constraints
+     * @throws UnsupportedConstraintException if the constraint is neither validated by a single context-free validator
+     *                                        nor only composed of other constraints
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private @Nullable Predicate<@Nullable Object> customCheck(
+            ConstraintDescriptor<?> descriptor,
+            Annotation annotation) {
+        val validatorClasses = descriptor.getConstraintValidatorClasses();
+        val constraint = annotation.annotationType().getAnnotation(Constraint.class);
+        if (validatorClasses.isEmpty() && constraint != null && constraint.validatedBy().length == 0
+            && !descriptor.getComposingConstraints().isEmpty()) {
+            return null;
+        }
+        if (validatorClasses.size() != 1 || !contextFreeValidators.contains(validatorClasses.getFirst())) {
+            throw new UnsupportedConstraintException("Validators of " + annotation);
+        }
+
+        ConstraintValidator validator =
+                validatorFactory.getConstraintValidatorFactory().getInstance(validatorClasses.getFirst());
+        validator.initialize(annotation);
+        return value -> validator.isValid(value, null);
+    }
+
+    /**
+     * Interpolates the message of the given constraint once, as it does not depend on the validated value.
+     *
+     * @param descriptor the descriptor of the constraint
+     * @return the interpolated message
+     * @throws UnsupportedConstraintException if the message refers to the validated value or fails to interpolate
+     */
+    private String message(ConstraintDescriptor<?> descriptor) {
+        val template = descriptor.getMessageTemplate();
+        if (template.contains("validatedValue")) {
+            throw new UnsupportedConstraintException("Message referring to the validated value: " + template);
+        }
+
+        try {
+            return validatorFactory.getMessageInterpolator().interpolate(template, new InterpolatorContext(descriptor));
+        } catch (ValidationException e) {
+            throw new UnsupportedConstraintException("Message failing to interpolate: " + template, e);
+        }
+    }
+
+    /**
+     * Creates the check comparing an instant to the current time of the validator factory clock.
+     *
+     * @param accepted the predicate accepting the result of the comparison of the instant to the current time
+     * @return the check of the instant
+     */
+    private Predicate<@Nullable Object> compareToNow(IntPredicate accepted) {
+        final Clock clock = validatorFactory.getClockProvider().getClock();
+        return value -> value == null || accepted.test(((Instant) value).compareTo(clock.instant()));
+    }
+
+    private static Predicate<@Nullable Object> allOf(List<Predicate<@Nullable Object>> checks) {
+        return switch (checks.size()) {
+            case 0 -> value -> true;
+            case 1 -> checks.getFirst();
+            default -> {
+                val array = checks.toArray(Predicate[]::new);
+                yield value -> {
+                    for (val check : array) {
+                        if (!check.test(value)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
+        };
+    }
+
+    private static boolean isAtLeast(int comparison, boolean inclusive) {
+        return inclusive ? comparison >= 0 : comparison > 0;
+    }
+
+    private static boolean isBetween(int value, int min, int max) {
+        return value >= min && value <= max;
+    }
+
+    private static Duration duration(long days, long hours, long minutes, long seconds, long millis, long nanos) {
+        return Duration.ofDays(days)
+                       .plusHours(hours)
+                       .plusMinutes(minutes)
+                       .plusSeconds(seconds)
+                       .plusMillis(millis)
+                       .plusNanos(nanos);
+    }
+
+    private static int size(Object value) {
+        return switch (value) {
+            case CharSequence charSequence -> charSequence.length();
+            case Collection<?> collection -> collection.size();
+            case Map<?, ?> map -> map.size();
+            default -> throw new IllegalArgumentException("Unsized value " + value.getClass().getName());
+        };
+    }
+
+    private static boolean isCharSequence(Class<?> valueType) {
+        return CharSequence.class.isAssignableFrom(valueType);
+    }
+
+    private static boolean isSized(Class<?> valueType) {
+        return isCharSequence(valueType)
+               || Collection.class.isAssignableFrom(valueType)
+               || Map.class.isAssignableFrom(valueType);
+    }
+
+    private static boolean isIntegral(Class<?> valueType) {
+        return valueType == int.class || valueType == Integer.class
+               || valueType == long.class || valueType == Long.class
+               || valueType == short.class || valueType == Short.class
+               || valueType == byte.class || valueType == Byte.class;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // looked up in the superclass
+            }
+        }
+        throw new UnsupportedConstraintException("Constraints declared on a getter without field: " + name);
+    }
+
+    private static MethodHandles.Lookup privateLookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedConstraintException("Inaccessible type " + type.getName(), e);
+        }
+    }
+
+    /**
+     * The context of the interpolation of a constraint message, independent of the validated value.
+     *
+     * @param constraintDescriptor the descriptor of the constraint
+     */
+    private record InterpolatorContext(ConstraintDescriptor<?> constraintDescriptor)
+            implements MessageInterpolator.Context {
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return constraintDescriptor;
+        }
+
+        @Override
+        public @Nullable Object getValidatedValue() {
+            return null;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new ValidationException("Unsupported unwrapping to " + type.getName());
+        }
+    }
+}
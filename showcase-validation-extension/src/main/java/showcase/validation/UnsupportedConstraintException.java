@@ -0,0 +1,14 @@
+package showcase.validation;
+
+/**
+ * Signals a constraint the {@link ConstraintCompiler} cannot compile, leaving its type to reflective validation.
+ */
+final class UnsupportedConstraintException extends RuntimeException {
+    UnsupportedConstraintException(String message) {
+        super(message);
+    }
+
+    UnsupportedConstraintException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
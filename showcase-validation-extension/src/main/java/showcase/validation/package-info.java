@@ -0,0 +1,8 @@
+/**
+ * Validation extension: bean validators compiled once per message type into direct checks, for the constraints they
+ * support.
+ */
+@NullMarked
+package showcase.validation;
+
+import org.jspecify.annotations.NullMarked;
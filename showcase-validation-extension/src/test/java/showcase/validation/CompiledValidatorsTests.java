@@ -0,0 +1,123 @@
+package showcase.validation;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Pattern;
+import lombok.val;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import showcase.command.ScheduleShowcaseCommand;
+import showcase.identifier.KsuidValidator;
+import showcase.query.FetchShowcaseListQuery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static showcase.command.RandomCommandTestUtils.aScheduleShowcaseCommand;
+import static showcase.command.RandomCommandTestUtils.aTooLongShowcaseTitle;
+import static showcase.command.RandomCommandTestUtils.aTooShortShowcaseDuration;
+import static showcase.command.RandomCommandTestUtils.anInvalidShowcaseId;
+
+@DisplayName("Compiled validators tests")
+class CompiledValidatorsTests {
+
+    private static final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+    private final CompiledValidators compiledValidators =
+            new CompiledValidators(validatorFactory, Set.of(KsuidValidator.class));
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("A valid command has no field errors")
+    void validate_validCommand_hasNoFieldErrors() {
+        val command = aScheduleShowcaseCommand();
+
+        val fieldErrors = compiledValidators.forType(ScheduleShowcaseCommand.class).orElseThrow().validate(command);
+
+        assertThat(fieldErrors).isEmpty();
+        assertThat(fieldErrors).isEqualTo(reflectiveFieldErrors(command));
+    }
+
+    @Test
+    @DisplayName("An invalid command has the same field errors as with reflective validation")
+    void validate_invalidCommand_hasReflectiveFieldErrors() {
+        val command =
+                aScheduleShowcaseCommand()
+                        .toBuilder()
+                        .showcaseId(anInvalidShowcaseId())
+                        .title(aTooLongShowcaseTitle())
+                        .startTime(Instant.now().minusSeconds(60))
+                        .duration(aTooShortShowcaseDuration())
+                        .build();
+
+        val fieldErrors = compiledValidators.forType(ScheduleShowcaseCommand.class).orElseThrow().validate(command);
+
+        assertThat(fieldErrors).containsOnlyKeys("showcaseId", "title", "startTime", "duration");
+        assertThat(fieldErrors).isEqualTo(reflectiveFieldErrors(command));
+    }
+
+    @Test
+    @DisplayName("A blank command title has the same field errors as with reflective validation")
+    void validate_blankTitle_hasReflectiveFieldErrors() {
+        val command = aScheduleShowcaseCommand().toBuilder().title(" ").build();
+
+        val fieldErrors = compiledValidators.forType(ScheduleShowcaseCommand.class).orElseThrow().validate(command);
+
+        assertThat(fieldErrors).containsOnlyKeys("title");
+        assertThat(fieldErrors).isEqualTo(reflectiveFieldErrors(command));
+    }
+
+    @Test
+    @DisplayName("An invalid query has the same field errors as with reflective validation")
+    void validate_invalidQuery_hasReflectiveFieldErrors() {
+        val query =
+                FetchShowcaseListQuery
+                        .builder()
+                        .afterId(anInvalidShowcaseId())
+                        .size(FetchShowcaseListQuery.MAX_SIZE + 1)
+                        .build();
+
+        val fieldErrors = compiledValidators.forType(FetchShowcaseListQuery.class).orElseThrow().validate(query);
+
+        assertThat(fieldErrors).containsOnlyKeys("afterId", "size");
+        assertThat(fieldErrors).isEqualTo(reflectiveFieldErrors(query));
+    }
+
+    @Test
+    @DisplayName("A type with an unsupported constraint has no compiled validator")
+    void forType_unsupportedConstraint_isEmpty() {
+        assertThat(compiledValidators.forType(PatternConstrained.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("An instance of another type is rejected")
+    void validate_otherType_isRejected() {
+        val validator = compiledValidators.forType(FetchShowcaseListQuery.class).orElseThrow();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> validator.validate(aScheduleShowcaseCommand()));
+    }
+
+    private static Map<String, List<String>> reflectiveFieldErrors(Object instance) {
+        return validatorFactory
+                       .getValidator()
+                       .validate(instance)
+                       .stream()
+                       .collect(groupingBy(violation -> violation.getPropertyPath().toString(),
+                                           mapping(violation -> violation.getMessage(), toList())));
+    }
+
+    private record PatternConstrained(@Pattern(regexp = "[a-z]+") String value) {
+    }
+}